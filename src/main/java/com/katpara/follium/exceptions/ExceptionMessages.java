@@ -38,4 +38,7 @@ public final class ExceptionMessages {
 
     // Matrix operational messages
     public static final String CHOLESKY_DECOMPOSITION_NOT_POSSIBLE_MESSAGE = "The cholesky decomposition is not possible.";
+
+    // Matrix input and output messages
+    public static final String INVALID_MATRIX_FORMAT_MESSAGE = "The data is not in a valid matrix format.";
 }
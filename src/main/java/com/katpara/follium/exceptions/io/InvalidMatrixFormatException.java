@@ -0,0 +1,35 @@
+package com.katpara.follium.exceptions.io;
+
+import com.katpara.follium.exceptions.ExceptionMessages;
+
+/**
+ * The exception is thrown when the data being read does not follow
+ * the expected matrix format, e.g. a wrong header or a truncated payload.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class InvalidMatrixFormatException extends RuntimeException {
+    private static final long serialVersionUID = 5316429021879470411L;
+
+    /**
+     * Constructs a new runtime exception with {@code null} as its
+     * detail message.  The cause is not initialized, and may subsequently be
+     * initialized by a call to {@link #initCause}.
+     */
+    public InvalidMatrixFormatException() {
+        super(ExceptionMessages.INVALID_MATRIX_FORMAT_MESSAGE);
+    }
+
+    /**
+     * Constructs a new runtime exception with the specified detail message.
+     * The cause is not initialized, and may subsequently be initialized by a
+     * call to {@link #initCause}.
+     *
+     * @param message the detail message. The detail message is saved for
+     *                later retrieval by the {@link #getMessage()} method.
+     */
+    public InvalidMatrixFormatException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,36 @@
+package com.katpara.follium.exceptions.linears;
+
+import com.katpara.follium.exceptions.ExceptionMessages;
+
+/**
+ * The exception is thrown when a cholesky factor is requested of a matrix
+ * which is not symmetric positive definite, i.e. a pivot of the
+ * factorization is not positive.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public class CholeskyDecompositionNotPossibleException extends RuntimeException {
+    private static final long serialVersionUID = -4630918824761570293L;
+
+    /**
+     * Constructs a new runtime exception with {@code null} as its
+     * detail message.  The cause is not initialized, and may subsequently be
+     * initialized by a call to {@link #initCause}.
+     */
+    public CholeskyDecompositionNotPossibleException() {
+        super(ExceptionMessages.CHOLESKY_DECOMPOSITION_NOT_POSSIBLE_MESSAGE);
+    }
+
+    /**
+     * Constructs a new runtime exception with the specified detail message.
+     * The cause is not initialized, and may subsequently be initialized by a
+     * call to {@link #initCause}.
+     *
+     * @param message the detail message. The detail message is saved for
+     *                later retrieval by the {@link #getMessage()} method.
+     */
+    public CholeskyDecompositionNotPossibleException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,236 @@
+package com.katpara.follium.io;
+
+import com.katpara.follium.exceptions.io.InvalidMatrixFormatException;
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The class reads and writes matrices in the library's binary format.
+ * <p>
+ * The format starts with a 16 byte header followed by the payload,
+ * everything in little-endian byte order:
+ * </p>
+ * <pre>
+ * offset  size  content
+ *      0     4  magic bytes "FLMX"
+ *      4     2  format version
+ *      6     1  storage kind (dense, diagonal, identity or zero)
+ *      7     1  reserved, always 0
+ *      8     4  number of rows
+ *     12     4  number of columns
+ *     16     -  payload
+ * </pre>
+ * <p>
+ * A dense payload holds all rows * columns elements in row-major order,
+ * a diagonal payload holds the n diagonal entries, and the identity and
+ * zero matrices have no payload at all.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class BinaryMatrixFormat {
+
+    /**
+     * The magic bytes "FLMX" read as a little-endian integer.
+     */
+    static final int MAGIC = 0x584D4C46;
+
+    /**
+     * The current version of the format.
+     */
+    static final short VERSION = 1;
+
+    /**
+     * The size of the header in bytes.
+     */
+    static final int HEADER_BYTES = 16;
+
+    /**
+     * The storage kinds.
+     */
+    static final byte DENSE = 0, DIAGONAL = 1, IDENTITY = 2, ZERO = 3;
+
+    /**
+     * The largest window of a file mapped at once, a multiple of a double.
+     */
+    private static final long MAX_WINDOW_BYTES = Integer.MAX_VALUE & ~7L;
+
+    private BinaryMatrixFormat() {
+    }
+
+    /**
+     * The method writes the matrix to the given file, replacing its content.
+     *
+     * @param m the matrix
+     * @param p the file path
+     *
+     * @throws IOException if the file can not be written
+     */
+    public static void write(final Matrix m, final Path p) throws IOException {
+        try (var ch = FileChannel.open(p, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(m, ch);
+        }
+    }
+
+    /**
+     * The method writes the matrix to the given channel.
+     *
+     * @param m  the matrix
+     * @param ch the channel
+     *
+     * @throws IOException if the channel can not be written
+     */
+    public static void write(final Matrix m, final WritableByteChannel ch) throws IOException {
+        final byte k;
+        final DoubleBuffer n;
+
+        if (m instanceof ZeroMatrix) {
+            k = ZERO;
+            n = DoubleBuffer.allocate(0);
+        } else if (m instanceof IdentityMatrix) {
+            k = IDENTITY;
+            n = DoubleBuffer.allocate(0);
+        } else if (m instanceof DiagonalMatrix) {
+            k = DIAGONAL;
+            n = DoubleBuffer.wrap(m.getDiagonalEntries());
+        } else {
+            k = DENSE;
+            n = m.asDoubleBuffer();
+        }
+
+        var h = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        h.putInt(MAGIC).putShort(VERSION).put(k).put((byte) 0).putInt(m.rows()).putInt(m.columns());
+        Storage.write(ch, h.flip(), n);
+    }
+
+    /**
+     * The method reads a matrix from the given file. The dense and diagonal
+     * payloads are mapped and moved into the element array with a bulk transfer.
+     *
+     * @param p the file path
+     *
+     * @return the matrix
+     *
+     * @throws IOException if the file can not be read
+     */
+    public static Matrix read(final Path p) throws IOException {
+        try (var ch = FileChannel.open(p, StandardOpenOption.READ)) {
+            return read(ch);
+        }
+    }
+
+    /**
+     * The method reads a matrix from the given channel. A file channel is
+     * mapped, every other channel is streamed through a direct buffer.
+     *
+     * @param ch the channel
+     *
+     * @return the matrix
+     *
+     * @throws IOException if the channel can not be read
+     */
+    public static Matrix read(final ReadableByteChannel ch) throws IOException {
+        var h = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        fill(ch, h);
+        h.flip();
+
+        if (h.getInt() != MAGIC || h.getShort() != VERSION)
+            throw new InvalidMatrixFormatException();
+
+        byte k = h.get();
+        h.get();
+        int r = h.getInt(), c = h.getInt();
+        if (r <= 0 || c <= 0)
+            throw new InvalidMatrixDimensionProvidedException();
+
+        switch (k) {
+            case ZERO:
+                return new ZeroMatrix(r, c);
+            case IDENTITY:
+                if (r != c) throw new InvalidMatrixFormatException();
+                return new IdentityMatrix(r);
+            case DIAGONAL:
+                if (r != c) throw new InvalidMatrixFormatException();
+                return new DiagonalMatrix(payload(ch, r));
+            case DENSE:
+                return Storage.dense(payload(ch, Storage.elements(r, c)), r, c);
+            default:
+                throw new InvalidMatrixFormatException();
+        }
+    }
+
+    /**
+     * The method reads the given number of doubles that follow the header.
+     *
+     * @param ch the channel positioned after the header
+     * @param l  the number of doubles
+     *
+     * @return the payload
+     *
+     * @throws IOException if the channel can not be read
+     */
+    private static double[] payload(final ReadableByteChannel ch, final int l) throws IOException {
+        var n = new double[l];
+        var t = (long) l * Double.BYTES;
+
+        if (ch instanceof FileChannel) {
+            var f = (FileChannel) ch;
+            var o = f.position();
+            if (f.size() - o < t)
+                throw new InvalidMatrixFormatException();
+
+            for (long w = 0; w < t; w += MAX_WINDOW_BYTES) {
+                var z = Math.min(MAX_WINDOW_BYTES, t - w);
+                f.map(FileChannel.MapMode.READ_ONLY, o + w, z)
+                 .order(ByteOrder.LITTLE_ENDIAN)
+                 .asDoubleBuffer()
+                 .get(n, (int) (w / Double.BYTES), (int) (z / Double.BYTES));
+            }
+            f.position(o + t);
+            return n;
+        }
+
+        var b = ByteBuffer.allocateDirect((int) Math.min(Storage.CHUNK_BYTES, t)).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < l; ) {
+            b.limit((int) Math.min(b.capacity(), (long) (l - i) * Double.BYTES));
+            fill(ch, b);
+            b.flip();
+
+            var c = b.remaining() / Double.BYTES;
+            b.asDoubleBuffer().get(n, i, c);
+            i += c;
+            b.clear();
+        }
+        return n;
+    }
+
+    /**
+     * The method fills the remaining space of the buffer from the channel.
+     *
+     * @param ch the channel
+     * @param b  the buffer
+     *
+     * @throws IOException if the channel can not be read
+     */
+    private static void fill(final ReadableByteChannel ch, final ByteBuffer b) throws IOException {
+        while (b.hasRemaining()) {
+            if (ch.read(b) < 0)
+                throw new InvalidMatrixFormatException();
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package com.katpara.follium.io;
+
+import com.katpara.follium.exceptions.io.InvalidMatrixFormatException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The class scans text numbers directly out of a byte buffer. It either
+ * works on a fixed buffer (e.g. a mapped region of a file) or refills its
+ * own buffer from a channel, so huge inputs are streamed with a constant
+ * amount of memory.
+ * <p>
+ * Numbers with up to 18 significant digits and a decimal exponent within
+ * &plusmn;22 are converted exactly without creating any object; longer
+ * mantissas fall back to {@link Double#parseDouble(String)}.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+final class ByteScanner {
+
+    /**
+     * The longest token the scanner accepts.
+     */
+    static final int MAX_TOKEN_BYTES = 512;
+
+    /**
+     * The powers of ten that are exactly representable as a double.
+     */
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Holds the channel to refill from, null for a fixed buffer
+     */
+    private final ReadableByteChannel ch;
+
+    /**
+     * Holds the bytes
+     */
+    private final ByteBuffer b;
+
+    /**
+     * Holds the current position and the end of the valid bytes
+     */
+    private int p, l;
+
+    /**
+     * Holds whether the channel is exhausted
+     */
+    private boolean eof;
+
+    /**
+     * The constructor streams the bytes of a channel.
+     *
+     * @param ch       the channel
+     * @param capacity the buffer capacity
+     */
+    ByteScanner(final ReadableByteChannel ch, final int capacity) {
+        this.ch = ch;
+        this.b = ByteBuffer.allocate(Math.max(capacity, MAX_TOKEN_BYTES));
+        this.p = 0;
+        this.l = 0;
+        this.eof = false;
+    }
+
+    /**
+     * The constructor scans the remaining bytes of a fixed buffer.
+     *
+     * @param b the buffer
+     */
+    ByteScanner(final ByteBuffer b) {
+        this.ch = null;
+        this.b = b;
+        this.p = b.position();
+        this.l = b.limit();
+        this.eof = true;
+    }
+
+    /**
+     * The method makes at least n bytes available, unless the input ends before.
+     *
+     * @param n the number of bytes
+     *
+     * @throws IOException if the channel can not be read
+     */
+    private void ensure(final int n) throws IOException {
+        if (l - p >= n || eof)
+            return;
+
+        var a = b.array();
+        System.arraycopy(a, p, a, 0, l - p);
+        l -= p;
+        p = 0;
+
+        while (l < n && !eof) {
+            b.limit(b.capacity()).position(l);
+            var r = ch.read(b);
+            if (r < 0)
+                eof = true;
+            else
+                l += r;
+        }
+    }
+
+    /**
+     * The method returns the next byte without consuming it.
+     *
+     * @return the next byte, or -1 at the end of the input
+     *
+     * @throws IOException if the channel can not be read
+     */
+    int peek() throws IOException {
+        if (p >= l) {
+            ensure(1);
+            if (p >= l) return -1;
+        }
+        return b.get(p);
+    }
+
+    /**
+     * The method consumes the next byte.
+     *
+     * @throws IOException if the channel can not be read
+     */
+    void skip() throws IOException {
+        if (peek() != -1)
+            p++;
+    }
+
+    /**
+     * The method skips spaces, tabs and carriage returns.
+     *
+     * @throws IOException if the channel can not be read
+     */
+    void skipBlanks() throws IOException {
+        for (int c = peek(); c == ' ' || c == '\t' || c == '\r'; c = peek())
+            p++;
+    }
+
+    /**
+     * The method skips all white spaces including line feeds.
+     *
+     * @throws IOException if the channel can not be read
+     */
+    void skipWhitespaces() throws IOException {
+        for (int c = peek(); c == ' ' || c == '\t' || c == '\r' || c == '\n'; c = peek())
+            p++;
+    }
+
+    /**
+     * The method skips the rest of the current line including its line feed.
+     *
+     * @return false if the input ended before a line feed
+     *
+     * @throws IOException if the channel can not be read
+     */
+    boolean skipLine() throws IOException {
+        for (int c = peek(); c != -1; c = peek()) {
+            p++;
+            if (c == '\n') return true;
+        }
+        return false;
+    }
+
+    /**
+     * The method consumes the end of the current line, allowing trailing blanks.
+     *
+     * @throws IOException if the channel can not be read
+     */
+    void endLine() throws IOException {
+        skipBlanks();
+        var c = peek();
+        if (c == '\n')
+            p++;
+        else if (c != -1)
+            throw new InvalidMatrixFormatException();
+    }
+
+    /**
+     * The method consumes the expected byte, allowing blanks before it.
+     *
+     * @param e the expected byte
+     *
+     * @throws IOException if the channel can not be read
+     */
+    void expect(final byte e) throws IOException {
+        skipBlanks();
+        if (peek() != e)
+            throw new InvalidMatrixFormatException();
+        p++;
+    }
+
+    /**
+     * The method returns the next white space separated word. It is meant
+     * for headers, the numeric data never goes through a string.
+     *
+     * @return the word
+     *
+     * @throws IOException if the channel can not be read
+     */
+    String nextWord() throws IOException {
+        skipBlanks();
+        ensure(MAX_TOKEN_BYTES);
+
+        var s = p;
+        for (int c = peek(); c > ' '; c = peek())
+            p++;
+
+        if (s == p)
+            throw new InvalidMatrixFormatException();
+
+        return text(s, p);
+    }
+
+    /**
+     * The method parses the next non-negative integer, skipping white spaces before it.
+     *
+     * @return the integer
+     *
+     * @throws IOException if the channel can not be read
+     */
+    long nextLong() throws IOException {
+        skipWhitespaces();
+        ensure(MAX_TOKEN_BYTES);
+
+        long n = 0;
+        int s = p, c;
+        while (p < l && (c = b.get(p) - '0') >= 0 && c <= 9) {
+            if (n > (Long.MAX_VALUE - c) / 10)
+                throw new InvalidMatrixFormatException();
+            n = n * 10 + c;
+            p++;
+        }
+
+        if (s == p)
+            throw new InvalidMatrixFormatException();
+        return n;
+    }
+
+    /**
+     * The method parses the next floating point number at the current position.
+     *
+     * @return the number
+     *
+     * @throws IOException if the channel can not be read
+     */
+    double nextDouble() throws IOException {
+        ensure(MAX_TOKEN_BYTES);
+
+        int s = p, q = p, c;
+        var neg = false;
+        if (q < l && ((c = b.get(q)) == '-' || c == '+')) {
+            neg = c == '-';
+            q++;
+        }
+
+        long m = 0;
+        int d = 0, x = 0, t = q;
+        var exact = true;
+
+        while (q < l && (c = b.get(q) - '0') >= 0 && c <= 9) {
+            if (d < 18) {
+                m = m * 10 + c;
+                if (m != 0) d++;
+            } else {
+                x++;
+                exact &= c == 0;
+            }
+            q++;
+        }
+
+        if (q < l && b.get(q) == '.') {
+            q++;
+            while (q < l && (c = b.get(q) - '0') >= 0 && c <= 9) {
+                if (d < 18) {
+                    m = m * 10 + c;
+                    if (m != 0) d++;
+                    x--;
+                } else {
+                    exact &= c == 0;
+                }
+                q++;
+            }
+        }
+
+        if (q == t || (q == t + 1 && b.get(t) == '.')) {
+            p = q;
+            return special(s, neg);
+        }
+
+        if (q < l && ((c = b.get(q)) == 'e' || c == 'E')) {
+            q++;
+            var en = false;
+            if (q < l && ((c = b.get(q)) == '-' || c == '+')) {
+                en = c == '-';
+                q++;
+            }
+
+            int y = 0, u = q;
+            while (q < l && (c = b.get(q) - '0') >= 0 && c <= 9) {
+                if (y < 100000) y = y * 10 + c;
+                q++;
+            }
+            if (u == q)
+                throw new InvalidMatrixFormatException();
+
+            x += en ? -y : y;
+        }
+
+        p = q;
+        if (m == 0)
+            return neg ? -0.0 : 0.0;
+
+        if (exact && m < (1L << 53) && x >= -22 && x <= 22) {
+            var v = x >= 0 ? m * POW10[x] : m / POW10[-x];
+            return neg ? -v : v;
+        }
+
+        return Double.parseDouble(text(s, q));
+    }
+
+    /**
+     * The method parses the not-a-number and infinity tokens.
+     *
+     * @param s   the start of the token
+     * @param neg true if the token was negative
+     *
+     * @return the number
+     */
+    private double special(final int s, final boolean neg) {
+        int c;
+        while (p < l && (((c = b.get(p) | 0x20) >= 'a' && c <= 'z')))
+            p++;
+
+        var w = text(s, p).toLowerCase();
+        if (neg || w.startsWith("+")) w = w.substring(1);
+
+        switch (w) {
+            case "nan":
+                return Double.NaN;
+            case "inf":
+            case "infinity":
+                return neg ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+            default:
+                throw new InvalidMatrixFormatException();
+        }
+    }
+
+    /**
+     * The method returns the bytes in the given range as a string.
+     *
+     * @param s the start, inclusive
+     * @param e the end, exclusive
+     *
+     * @return the string
+     */
+    private String text(final int s, final int e) {
+        var n = new byte[e - s];
+        for (int i = 0; i < n.length; i++)
+            n[i] = b.get(s + i);
+        return new String(n, StandardCharsets.US_ASCII);
+    }
+}
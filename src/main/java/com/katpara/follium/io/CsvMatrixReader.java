@@ -0,0 +1,372 @@
+package com.katpara.follium.io;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.exceptions.io.InvalidMatrixFormatException;
+import com.katpara.follium.linear.Matrix;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * The class reads a matrix from delimiter separated text, one row per line.
+ * <p>
+ * A file is mapped in chunks that end on line boundaries. A first pass
+ * counts the rows of every chunk, so the element array is allocated once
+ * with its final size, and a second pass parses every chunk straight into
+ * its rows. In the parallel mode both passes run the chunks concurrently.
+ * While parsing, the reader notes whether the data is all zero or diagonal
+ * and returns the matching representation.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class CsvMatrixReader {
+
+    /**
+     * The default delimiter.
+     */
+    public static final char COMMA = ',';
+
+    /**
+     * The largest chunk of a file mapped at once.
+     */
+    private static final long CHUNK_BYTES = 64L << 20;
+
+    /**
+     * The smallest chunk worth handing to another thread.
+     */
+    private static final long MIN_PARALLEL_CHUNK_BYTES = 1L << 20;
+
+    /**
+     * The buffer size used to stream a channel.
+     */
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    /**
+     * The structure flags collected while parsing.
+     */
+    private static final int NON_ZERO = 1, OFF_DIAGONAL = 2;
+
+    private CsvMatrixReader() {
+    }
+
+    /**
+     * The method reads a comma separated file.
+     *
+     * @param p the file path
+     *
+     * @return the matrix
+     *
+     * @throws IOException if the file can not be read
+     */
+    public static Matrix read(final Path p) throws IOException {
+        return read(p, COMMA, false);
+    }
+
+    /**
+     * The method reads a delimiter separated file.
+     *
+     * @param p        the file path
+     * @param d        the delimiter, which can not be a white space
+     * @param parallel true to parse the chunks of the file concurrently
+     *
+     * @return the matrix
+     *
+     * @throws IOException if the file can not be read
+     */
+    public static Matrix read(final Path p, final char d, final boolean parallel) throws IOException {
+        var b = delimiter(d);
+
+        try (var ch = FileChannel.open(p, StandardOpenOption.READ)) {
+            var z = ch.size();
+            var t = parallel
+                    ? Math.max(MIN_PARALLEL_CHUNK_BYTES,
+                    Math.min(CHUNK_BYTES, z / (4L * Runtime.getRuntime().availableProcessors()) + 1))
+                    : CHUNK_BYTES;
+
+            var o = new ArrayList<Long>();
+            o.add(0L);
+            for (long s = lineAfter(ch, t, z); s < z; s = lineAfter(ch, s + t, z))
+                o.add(s);
+            o.add(z);
+
+            var k = o.size() - 1;
+            var chunks = new ByteBuffer[k];
+            for (int i = 0; i < k; i++)
+                chunks[i] = ch.map(FileChannel.MapMode.READ_ONLY, o.get(i), o.get(i + 1) - o.get(i));
+
+            var c = columns(chunks, b);
+            var rows = new long[k + 1];
+            range(k, parallel).forEach(i -> rows[i + 1] = rows(chunks[i]));
+            for (int i = 0; i < k; i++)
+                rows[i + 1] += rows[i];
+
+            var r = (int) Math.min(rows[k], Integer.MAX_VALUE);
+            var e = new double[Storage.elements(rows[k], c)];
+            var nonZero = new boolean[k];
+            var offDiagonal = new boolean[k];
+
+            range(k, parallel).forEach(i -> {
+                try {
+                    var f = parse(new ByteScanner(chunks[i]), b, e, (int) rows[i], c);
+                    nonZero[i] = (f & NON_ZERO) != 0;
+                    offDiagonal[i] = (f & OFF_DIAGONAL) != 0;
+                } catch (IOException x) {
+                    throw new UncheckedIOException(x);
+                }
+            });
+
+            return Storage.structured(e, r, c, any(nonZero), any(offDiagonal));
+        }
+    }
+
+    /**
+     * The method reads delimiter separated text from a channel. As the number
+     * of rows is not known in advance, the element array grows while reading.
+     *
+     * @param ch the channel
+     * @param d  the delimiter, which can not be a white space
+     *
+     * @return the matrix
+     *
+     * @throws IOException if the channel can not be read
+     */
+    public static Matrix read(final ReadableByteChannel ch, final char d) throws IOException {
+        var b = delimiter(d);
+        var s = new ByteScanner(ch, BUFFER_BYTES);
+
+        var e = new double[1024];
+        int r = 0, c = 0, l = 0, f = 0;
+
+        while (true) {
+            s.skipBlanks();
+            var h = s.peek();
+            if (h == -1) break;
+            if (h == '\n') {
+                s.skip();
+                continue;
+            }
+
+            var j = 0;
+            while (true) {
+                if (l == e.length)
+                    e = Arrays.copyOf(e, Storage.elements(2L * l, 1));
+
+                s.skipBlanks();
+                var v = s.nextDouble();
+                e[l++] = v;
+                f |= flags(v, r, j++);
+
+                s.skipBlanks();
+                h = s.peek();
+                if (h == b) {
+                    s.skip();
+                } else if (h == '\n' || h == -1) {
+                    s.skip();
+                    break;
+                } else {
+                    throw new InvalidMatrixFormatException();
+                }
+            }
+
+            if (r == 0)
+                c = j;
+            else if (j != c)
+                throw new InvalidMatrixFormatException();
+            r++;
+        }
+
+        Storage.elements(r, c);
+        return Storage.structured(l == e.length ? e : Arrays.copyOf(e, l), r, c,
+                (f & NON_ZERO) != 0, (f & OFF_DIAGONAL) != 0);
+    }
+
+    /**
+     * The method returns the structure flags of a single element.
+     *
+     * @param v the element
+     * @param r the row index
+     * @param c the column index
+     *
+     * @return the flags
+     */
+    private static int flags(final double v, final int r, final int c) {
+        if (v == 0) return 0;
+        return r == c ? NON_ZERO : NON_ZERO | OFF_DIAGONAL;
+    }
+
+    /**
+     * The method parses all rows of a chunk into the element array.
+     *
+     * @param s the scanner over the chunk
+     * @param d the delimiter
+     * @param e the element array
+     * @param r the index of the first row of the chunk
+     * @param c a number of columns
+     *
+     * @return the structure flags of the chunk
+     *
+     * @throws IOException never for a mapped chunk
+     */
+    private static int parse(final ByteScanner s, final byte d, final double[] e,
+                             final int r, final int c) throws IOException {
+        int f = 0;
+
+        for (int i = r; ; ) {
+            s.skipBlanks();
+            var h = s.peek();
+            if (h == -1) return f;
+            if (h == '\n') {
+                s.skip();
+                continue;
+            }
+
+            var o = i * c;
+            for (int j = 0; j < c; j++) {
+                if (j > 0)
+                    s.expect(d);
+                s.skipBlanks();
+
+                var v = s.nextDouble();
+                e[o + j] = v;
+                f |= flags(v, i, j);
+            }
+            s.endLine();
+            i++;
+        }
+    }
+
+    /**
+     * The method counts the non-blank lines of a chunk.
+     *
+     * @param b the chunk
+     *
+     * @return the number of rows
+     */
+    private static long rows(final ByteBuffer b) {
+        long n = 0;
+        var blank = true;
+
+        for (int i = b.position(), l = b.limit(); i < l; i++) {
+            var c = b.get(i);
+            if (c == '\n') {
+                if (!blank) n++;
+                blank = true;
+            } else if (c != ' ' && c != '\t' && c != '\r') {
+                blank = false;
+            }
+        }
+
+        return blank ? n : n + 1;
+    }
+
+    /**
+     * The method counts the values of the first non-blank line.
+     *
+     * @param chunks the chunks of the file
+     * @param d      the delimiter
+     *
+     * @return the number of columns
+     */
+    private static int columns(final ByteBuffer[] chunks, final byte d) {
+        for (final ByteBuffer b : chunks) {
+            int n = 1;
+            var blank = true;
+
+            for (int i = b.position(), l = b.limit(); i < l; i++) {
+                var c = b.get(i);
+                if (c == '\n') {
+                    if (!blank) return n;
+                } else if (c == d) {
+                    n++;
+                    blank = false;
+                } else if (c != ' ' && c != '\t' && c != '\r') {
+                    blank = false;
+                }
+            }
+
+            if (!blank) return n;
+        }
+
+        throw new InvalidMatrixFormatException();
+    }
+
+    /**
+     * The method returns the offset of the line that starts after the given offset.
+     *
+     * @param ch the file
+     * @param o  the offset
+     * @param z  the file size
+     *
+     * @return the offset following the next line feed, or the file size
+     *
+     * @throws IOException if the file can not be read
+     */
+    private static long lineAfter(final FileChannel ch, final long o, final long z) throws IOException {
+        var b = ByteBuffer.allocate(4096);
+
+        for (long s = o; s < z; ) {
+            b.clear();
+            var n = ch.read(b, s);
+            if (n <= 0) break;
+
+            for (int i = 0; i < n; i++) {
+                if (b.get(i) == '\n')
+                    return s + i + 1;
+            }
+            s += n;
+        }
+
+        return z;
+    }
+
+    /**
+     * The method validates the delimiter.
+     *
+     * @param d the delimiter
+     *
+     * @return the delimiter byte
+     */
+    private static byte delimiter(final char d) {
+        if (d > 0x7f || d == ' ' || d == '\t' || d == '\r' || d == '\n' || d == '.' || d == '-' || d == '+'
+                    || Character.isLetterOrDigit(d))
+            throw new InvalidParameterProvidedException();
+
+        return (byte) d;
+    }
+
+    /**
+     * The method returns the chunk indices, in parallel if requested.
+     *
+     * @param k        the number of chunks
+     * @param parallel true for a parallel stream
+     *
+     * @return the chunk indices
+     */
+    private static IntStream range(final int k, final boolean parallel) {
+        var r = IntStream.range(0, k);
+        return parallel ? r.parallel() : r;
+    }
+
+    /**
+     * The method returns true if any of the flags is set.
+     *
+     * @param f the flags
+     *
+     * @return true if any flag is set
+     */
+    private static boolean any(final boolean[] f) {
+        for (final boolean _f: f)
+            if (_f) return true;
+        return false;
+    }
+}
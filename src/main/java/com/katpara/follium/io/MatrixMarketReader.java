@@ -0,0 +1,242 @@
+package com.katpara.follium.io;
+
+import com.katpara.follium.exceptions.io.InvalidMatrixFormatException;
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The class reads a matrix from the Matrix Market exchange format. Both the
+ * coordinate and the array formats are supported with the real, integer and
+ * pattern fields and the general, symmetric and skew-symmetric symmetries.
+ * <p>
+ * The input is streamed through a fixed size buffer and every entry is
+ * written straight into the final storage. Coordinate entries on the
+ * diagonal are collected into a diagonal array first; the dense array is
+ * only allocated once an off-diagonal entry shows up, so diagonal data
+ * never pays for dense storage.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class MatrixMarketReader {
+
+    /**
+     * The buffer size used to stream the input.
+     */
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    private MatrixMarketReader() {
+    }
+
+    /**
+     * The method reads a Matrix Market file.
+     *
+     * @param p the file path
+     *
+     * @return the matrix
+     *
+     * @throws IOException if the file can not be read
+     */
+    public static Matrix read(final Path p) throws IOException {
+        try (var ch = FileChannel.open(p, StandardOpenOption.READ)) {
+            return read(ch);
+        }
+    }
+
+    /**
+     * The method reads Matrix Market data from a channel.
+     *
+     * @param ch the channel
+     *
+     * @return the matrix
+     *
+     * @throws IOException if the channel can not be read
+     */
+    public static Matrix read(final ReadableByteChannel ch) throws IOException {
+        var s = new ByteScanner(ch, BUFFER_BYTES);
+
+        if (!s.nextWord().equalsIgnoreCase("%%MatrixMarket") || !s.nextWord().equalsIgnoreCase("matrix"))
+            throw new InvalidMatrixFormatException();
+
+        var format = s.nextWord().toLowerCase();
+        var field = s.nextWord().toLowerCase();
+        var symmetry = s.nextWord().toLowerCase();
+        s.skipLine();
+
+        if (!field.equals("real") && !field.equals("integer") && !field.equals("double")
+                    && !field.equals("pattern"))
+            throw new InvalidMatrixFormatException();
+
+        final int k;
+        switch (symmetry) {
+            case "general":
+                k = 0;
+                break;
+            case "symmetric":
+            case "hermitian":
+                k = 1;
+                break;
+            case "skew-symmetric":
+                k = -1;
+                break;
+            default:
+                throw new InvalidMatrixFormatException();
+        }
+
+        for (int c = peekLine(s); c == '%' || c == '\n'; c = peekLine(s))
+            s.skipLine();
+
+        long r = s.nextLong(), c = s.nextLong();
+        if (r <= 0 || c <= 0 || r > Integer.MAX_VALUE || c > Integer.MAX_VALUE)
+            throw new InvalidMatrixDimensionProvidedException();
+        if (k != 0 && r != c)
+            throw new InvalidMatrixFormatException();
+
+        switch (format) {
+            case "coordinate":
+                var n = s.nextLong();
+                s.skipLine();
+                return coordinate(s, (int) r, (int) c, n, k, field.equals("pattern"));
+            case "array":
+                s.skipLine();
+                if (field.equals("pattern"))
+                    throw new InvalidMatrixFormatException();
+                return array(s, (int) r, (int) c, Storage.elements(r, c), k);
+            default:
+                throw new InvalidMatrixFormatException();
+        }
+    }
+
+    /**
+     * The method reads the entries of the coordinate format.
+     *
+     * @param s       the scanner positioned at the first entry
+     * @param r       a number of rows
+     * @param c       a number of columns
+     * @param n       a number of entries
+     * @param k       1 for symmetric, -1 for skew-symmetric and 0 for general
+     * @param pattern true if the entries have no values
+     *
+     * @return the matrix
+     *
+     * @throws IOException if the channel can not be read
+     */
+    private static Matrix coordinate(final ByteScanner s, final int r, final int c, final long n,
+                                     final int k, final boolean pattern) throws IOException {
+        var d = new double[Math.min(r, c)];
+        double[] e = null;
+
+        for (long x = 0; x < n; x++) {
+            long i = s.nextLong() - 1, j = s.nextLong() - 1;
+            if (i < 0 || i >= r || j < 0 || j >= c)
+                throw new InvalidMatrixFormatException();
+
+            double v = 1;
+            if (!pattern) {
+                s.skipBlanks();
+                v = s.nextDouble();
+            }
+
+            if (i == j) {
+                if (e == null)
+                    d[(int) i] += v;
+                else
+                    e[(int) (i * c + i)] += v;
+                continue;
+            }
+
+            if (e == null) {
+                e = new double[Storage.elements(r, c)];
+                for (int y = 0; y < d.length; y++)
+                    e[y * (c + 1)] = d[y];
+            }
+
+            e[(int) (i * c + j)] += v;
+            if (k != 0)
+                e[(int) (j * c + i)] += k * v;
+        }
+
+        if (e != null)
+            return Storage.dense(e, r, c);
+
+        var zero = true;
+        var identity = r == c;
+        for (final double _d: d) {
+            zero &= _d == 0;
+            identity &= _d == 1;
+        }
+
+        if (zero)
+            return new ZeroMatrix(r, c);
+        if (identity)
+            return new IdentityMatrix(r);
+        if (r == c)
+            return new DiagonalMatrix(d);
+
+        e = new double[Storage.elements(r, c)];
+        for (int y = 0; y < d.length; y++)
+            e[y * (c + 1)] = d[y];
+        return Storage.dense(e, r, c);
+    }
+
+    /**
+     * The method reads the column-major values of the array format.
+     *
+     * @param s the scanner positioned at the first value
+     * @param r a number of rows
+     * @param c a number of columns
+     * @param l a number of elements
+     * @param k 1 for symmetric, -1 for skew-symmetric and 0 for general
+     *
+     * @return the matrix
+     *
+     * @throws IOException if the channel can not be read
+     */
+    private static Matrix array(final ByteScanner s, final int r, final int c, final int l,
+                                final int k) throws IOException {
+        var e = new double[l];
+        boolean nonZero = false, offDiagonal = false;
+
+        for (int j = 0; j < c; j++) {
+            for (int i = (k == 0) ? 0 : (k == 1) ? j : j + 1; i < r; i++) {
+                s.skipWhitespaces();
+                var v = s.nextDouble();
+                e[i * c + j] = v;
+
+                if (v != 0) {
+                    nonZero = true;
+                    offDiagonal |= i != j;
+                }
+
+                if (k != 0 && i != j)
+                    e[j * c + i] = k * v;
+            }
+        }
+
+        return Storage.structured(e, r, c, nonZero, offDiagonal);
+    }
+
+    /**
+     * The method returns the first non-blank byte of the current line.
+     *
+     * @param s the scanner
+     *
+     * @return the byte, or -1 at the end of the input
+     *
+     * @throws IOException if the channel can not be read
+     */
+    private static int peekLine(final ByteScanner s) throws IOException {
+        s.skipBlanks();
+        return s.peek();
+    }
+}
@@ -0,0 +1,438 @@
+package com.katpara.follium.io;
+
+import com.katpara.follium.exceptions.io.InvalidMatrixFormatException;
+import com.katpara.follium.linear.Matrix;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipFile;
+
+/**
+ * The class reads and writes matrices in the NumPy {@code .npy} format and
+ * reads the {@code .npz} archives holding several of them.
+ * <p>
+ * The reader supports float64 and float32 arrays of either byte order in
+ * C or Fortran order. A one dimensional array becomes a row vector and a
+ * scalar a 1 x 1 matrix. Float64 data in C order is moved with a single
+ * bulk transfer from the mapped file into the element array of the
+ * resulting {@code AnySquareMatrix} or {@code AnyRectangularMatrix}; every
+ * other layout is converted while copying, without staging the payload.
+ * </p>
+ * <p>
+ * The writer always produces a version 1.0 file with little-endian float64
+ * data in C order, which is what {@code numpy.save} writes for such arrays.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class NumpyFormat {
+
+    /**
+     * The magic bytes that start every file.
+     */
+    private static final byte[] MAGIC = {(byte) 0x93, 'N', 'U', 'M', 'P', 'Y'};
+
+    /**
+     * The header alignment of the written files.
+     */
+    private static final int ALIGNMENT = 64;
+
+    /**
+     * The largest window of a file mapped at once, a multiple of a double.
+     */
+    private static final long MAX_WINDOW_BYTES = Integer.MAX_VALUE & ~7L;
+
+    /**
+     * The number of elements converted at once.
+     */
+    private static final int BLOCK_ELEMENTS = 8192;
+
+    /**
+     * The file extension of the archive entries.
+     */
+    private static final String EXTENSION = ".npy";
+
+    private NumpyFormat() {
+    }
+
+    /**
+     * The method writes the matrix to the given file, replacing its content.
+     *
+     * @param m the matrix
+     * @param p the file path
+     *
+     * @throws IOException if the file can not be written
+     */
+    public static void write(final Matrix m, final Path p) throws IOException {
+        try (var ch = FileChannel.open(p, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(m, ch);
+        }
+    }
+
+    /**
+     * The method writes the matrix to the given channel.
+     *
+     * @param m  the matrix
+     * @param ch the channel
+     *
+     * @throws IOException if the channel can not be written
+     */
+    public static void write(final Matrix m, final WritableByteChannel ch) throws IOException {
+        var d = "{'descr': '<f8', 'fortran_order': False, 'shape': (" + m.rows() + ", " + m.columns() + "), }";
+        var l = d.length() + 1;
+        l += (ALIGNMENT - (MAGIC.length + 4 + l) % ALIGNMENT) % ALIGNMENT;
+
+        var h = ByteBuffer.allocate(MAGIC.length + 4 + l).order(ByteOrder.LITTLE_ENDIAN);
+        h.put(MAGIC).put((byte) 1).put((byte) 0).putShort((short) l);
+        h.put(d.getBytes(StandardCharsets.US_ASCII));
+        while (h.position() < h.limit() - 1)
+            h.put((byte) ' ');
+        h.put((byte) '\n');
+
+        Storage.write(ch, h.flip(), m.asDoubleBuffer());
+    }
+
+    /**
+     * The method reads a matrix from the given file. The payload is mapped
+     * and moved into the element array without an intermediate copy.
+     *
+     * @param p the file path
+     *
+     * @return the matrix
+     *
+     * @throws IOException if the file can not be read
+     */
+    public static Matrix read(final Path p) throws IOException {
+        try (var ch = FileChannel.open(p, StandardOpenOption.READ)) {
+            return read(ch);
+        }
+    }
+
+    /**
+     * The method reads a matrix from the given channel. A file channel is
+     * mapped, every other channel is streamed through a fixed size buffer.
+     *
+     * @param ch the channel
+     *
+     * @return the matrix
+     *
+     * @throws IOException if the channel can not be read
+     */
+    public static Matrix read(final ReadableByteChannel ch) throws IOException {
+        var h = header(ch);
+        var o = h.order;
+        int r = h.r, c = h.c, w = h.w;
+        var e = new double[Storage.elements(r, c)];
+        var t = (long) e.length * w;
+
+        if (ch instanceof FileChannel) {
+            var f = (FileChannel) ch;
+            var z = f.position();
+            if (f.size() - z < t)
+                throw new InvalidMatrixFormatException();
+
+            for (long k = 0; k < t; k += MAX_WINDOW_BYTES) {
+                var b = f.map(FileChannel.MapMode.READ_ONLY, z + k, Math.min(MAX_WINDOW_BYTES, t - k));
+                load(b.order(o), w, h.fortran, e, k / w, r, c);
+            }
+            f.position(z + t);
+        } else {
+            var b = ByteBuffer.allocate((int) Math.min(Storage.CHUNK_BYTES, t)).order(o);
+            for (long k = 0; k < t; ) {
+                b.limit((int) Math.min(b.capacity(), t - k));
+                fill(ch, b);
+                load(b.flip(), w, h.fortran, e, k / w, r, c);
+                k += b.limit();
+                b.clear();
+            }
+        }
+
+        return Storage.dense(e, r, c);
+    }
+
+    /**
+     * The method reads all arrays of a {@code .npz} archive, compressed or
+     * not. The arrays are keyed by their names without the file extension
+     * and kept in the order of the archive.
+     *
+     * @param p the file path
+     *
+     * @return the matrices by name
+     *
+     * @throws IOException if the file can not be read
+     */
+    public static Map<String, Matrix> readArchive(final Path p) throws IOException {
+        var n = new LinkedHashMap<String, Matrix>();
+
+        try (var z = new ZipFile(p.toFile())) {
+            var entries = z.entries();
+            while (entries.hasMoreElements()) {
+                var x = entries.nextElement();
+                if (x.isDirectory())
+                    continue;
+
+                var k = x.getName();
+                if (k.endsWith(EXTENSION))
+                    k = k.substring(0, k.length() - EXTENSION.length());
+
+                try (var ch = Channels.newChannel(z.getInputStream(x))) {
+                    n.put(k, read(ch));
+                }
+            }
+        }
+
+        return n;
+    }
+
+    /**
+     * The method moves the elements of a buffer into their row-major place.
+     *
+     * @param b       the buffer holding whole elements
+     * @param w       the element width in bytes
+     * @param fortran true if the elements are in column-major order
+     * @param e       the element array
+     * @param k       the index of the first element of the buffer in the file
+     * @param r       a number of rows
+     * @param c       a number of columns
+     */
+    private static void load(final ByteBuffer b, final int w, final boolean fortran,
+                             final double[] e, final long k, final int r, final int c) {
+        var l = b.remaining() / w;
+
+        if (w == Double.BYTES && !fortran) {
+            b.asDoubleBuffer().get(e, (int) k, l);
+            return;
+        }
+
+        var d = b.asDoubleBuffer();
+        var f = b.asFloatBuffer();
+        var n = new double[Math.min(l, BLOCK_ELEMENTS)];
+        var m = (w == Float.BYTES) ? new float[n.length] : null;
+
+        int i = (int) (k % r), j = (int) (k / r);
+        for (int x = 0; x < l; x += n.length) {
+            var y = Math.min(n.length, l - x);
+
+            if (m == null) {
+                d.get(n, 0, y);
+            } else {
+                f.get(m, 0, y);
+                for (int u = 0; u < y; u++)
+                    n[u] = m[u];
+            }
+
+            if (!fortran) {
+                System.arraycopy(n, 0, e, (int) k + x, y);
+                continue;
+            }
+
+            for (int u = 0; u < y; u++) {
+                e[i * c + j] = n[u];
+                if (++i == r) {
+                    i = 0;
+                    j++;
+                }
+            }
+        }
+    }
+
+    /**
+     * The method reads and validates the header of an array.
+     *
+     * @param ch the channel positioned at the magic bytes
+     *
+     * @return the header
+     *
+     * @throws IOException if the channel can not be read
+     */
+    private static Header header(final ReadableByteChannel ch) throws IOException {
+        var b = ByteBuffer.allocate(MAGIC.length + 2).order(ByteOrder.LITTLE_ENDIAN);
+        fill(ch, b);
+        b.flip();
+
+        for (final byte _m : MAGIC)
+            if (b.get() != _m) throw new InvalidMatrixFormatException();
+
+        var v = b.get();
+        b.get();
+
+        final long l;
+        if (v == 1) {
+            b = ByteBuffer.allocate(2).order(ByteOrder.LITTLE_ENDIAN);
+            fill(ch, b);
+            l = b.flip().getShort() & 0xffff;
+        } else if (v == 2 || v == 3) {
+            b = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+            fill(ch, b);
+            l = b.flip().getInt() & 0xffffffffL;
+        } else {
+            throw new InvalidMatrixFormatException();
+        }
+
+        if (l > Storage.CHUNK_BYTES)
+            throw new InvalidMatrixFormatException();
+
+        b = ByteBuffer.allocate((int) l);
+        fill(ch, b);
+        return new Header(new String(b.array(), v == 3 ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * The method fills the remaining space of the buffer from the channel.
+     *
+     * @param ch the channel
+     * @param b  the buffer
+     *
+     * @throws IOException if the channel can not be read
+     */
+    private static void fill(final ReadableByteChannel ch, final ByteBuffer b) throws IOException {
+        while (b.hasRemaining()) {
+            if (ch.read(b) < 0)
+                throw new InvalidMatrixFormatException();
+        }
+    }
+
+    /**
+     * The class holds the parsed header dictionary of an array.
+     */
+    private static final class Header {
+
+        /**
+         * Holds the byte order of the elements
+         */
+        private final ByteOrder order;
+
+        /**
+         * Holds the element width in bytes
+         */
+        private final int w;
+
+        /**
+         * Holds whether the elements are in column-major order
+         */
+        private final boolean fortran;
+
+        /**
+         * Holds the number of rows and columns
+         */
+        private final int r, c;
+
+        /**
+         * The constructor parses the header dictionary, e.g.
+         * {@code {'descr': '<f8', 'fortran_order': False, 'shape': (3, 4), }}.
+         *
+         * @param h the header text
+         */
+        private Header(final String h) {
+            var d = value(h, "descr");
+            if (d.length() != 5 || d.charAt(0) != d.charAt(4) || (d.charAt(0) != '\'' && d.charAt(0) != '"'))
+                throw new InvalidMatrixFormatException();
+
+            switch (d.charAt(1)) {
+                case '<':
+                    order = ByteOrder.LITTLE_ENDIAN;
+                    break;
+                case '>':
+                    order = ByteOrder.BIG_ENDIAN;
+                    break;
+                case '=':
+                    order = ByteOrder.nativeOrder();
+                    break;
+                default:
+                    throw new InvalidMatrixFormatException();
+            }
+
+            switch (d.substring(2, 4)) {
+                case "f8":
+                    w = Double.BYTES;
+                    break;
+                case "f4":
+                    w = Float.BYTES;
+                    break;
+                default:
+                    throw new InvalidMatrixFormatException();
+            }
+
+            switch (value(h, "fortran_order")) {
+                case "True":
+                    fortran = true;
+                    break;
+                case "False":
+                    fortran = false;
+                    break;
+                default:
+                    throw new InvalidMatrixFormatException();
+            }
+
+            var s = value(h, "shape");
+            if (!s.startsWith("(") || !s.endsWith(")"))
+                throw new InvalidMatrixFormatException();
+
+            var n = new long[3];
+            var k = 0;
+            for (final String _s : s.substring(1, s.length() - 1).split(",")) {
+                var t = _s.trim();
+                if (t.isEmpty()) continue;
+                if (k == 2) throw new InvalidMatrixFormatException();
+                try {
+                    n[k++] = Long.parseLong(t.endsWith("L") ? t.substring(0, t.length() - 1) : t);
+                } catch (NumberFormatException x) {
+                    throw new InvalidMatrixFormatException();
+                }
+            }
+
+            var _r = (k == 2) ? n[0] : 1;
+            var _c = (k == 0) ? 1 : n[k - 1];
+            Storage.elements(_r, _c);
+            r = (int) _r;
+            c = (int) _c;
+        }
+
+        /**
+         * The method returns the literal stored under the key of the dictionary.
+         *
+         * @param h the header text
+         * @param k the key
+         *
+         * @return the literal, quotes and parentheses included
+         */
+        private static String value(final String h, final String k) {
+            var i = h.indexOf("'" + k + "'");
+            if (i < 0) i = h.indexOf("\"" + k + "\"");
+            if (i < 0) throw new InvalidMatrixFormatException();
+
+            var s = h.indexOf(':', i + k.length() + 2) + 1;
+            if (s == 0) throw new InvalidMatrixFormatException();
+            while (s < h.length() && h.charAt(s) == ' ')
+                s++;
+            if (s == h.length()) throw new InvalidMatrixFormatException();
+
+            var q = h.charAt(s);
+            final int e;
+            if (q == '\'' || q == '"')
+                e = h.indexOf(q, s + 1) + 1;
+            else if (q == '(')
+                e = h.indexOf(')', s) + 1;
+            else {
+                var x = s;
+                while (x < h.length() && h.charAt(x) != ',' && h.charAt(x) != '}') x++;
+                e = x;
+            }
+
+            if (e <= s) throw new InvalidMatrixFormatException();
+            return h.substring(s, e).trim();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.katpara.follium.io;
+
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * The class holds the helpers shared by the readers to check the size of
+ * the storage before allocating it and to turn it into a matrix.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+final class Storage {
+
+    /**
+     * The largest array the virtual machine can reliably allocate.
+     */
+    private static final int MAX_ELEMENTS = Integer.MAX_VALUE - 8;
+
+    /**
+     * The size of the buffer used to stream a payload through a channel.
+     */
+    static final int CHUNK_BYTES = 1 << 20;
+
+    private Storage() {
+    }
+
+    /**
+     * The method returns the number of elements of a matrix with the given
+     * dimensions, checking that it fits into a single array.
+     *
+     * @param r a number of rows
+     * @param c a number of columns
+     *
+     * @return the number of elements
+     */
+    static int elements(final long r, final long c) {
+        if (r <= 0 || c <= 0 || r * c > MAX_ELEMENTS)
+            throw new InvalidMatrixDimensionProvidedException();
+
+        return (int) (r * c);
+    }
+
+    /**
+     * The method returns the dense matrix of the row-major elements.
+     *
+     * @param e the element array
+     * @param r a number of rows
+     * @param c a number of columns
+     *
+     * @return the dense matrix
+     */
+    static Matrix dense(final double[] e, final int r, final int c) {
+        return (r == c) ? new AnySquareMatrix(e) : new AnyRectangularMatrix(e, r, c);
+    }
+
+    /**
+     * The method picks the cheapest representation for the elements using
+     * the structure the reader observed while filling them.
+     *
+     * @param e           the element array
+     * @param r           a number of rows
+     * @param c           a number of columns
+     * @param nonZero     true if any element is non-zero
+     * @param offDiagonal true if any element off the diagonal is non-zero
+     *
+     * @return the matrix
+     */
+    static Matrix structured(final double[] e, final int r, final int c,
+                             final boolean nonZero, final boolean offDiagonal) {
+        if (!nonZero)
+            return new ZeroMatrix(r, c);
+
+        if (r != c || offDiagonal)
+            return dense(e, r, c);
+
+        var n = new double[r];
+        var identity = true;
+        for (int i = 0; i < r; i++) {
+            n[i] = e[i * (c + 1)];
+            identity &= n[i] == 1;
+        }
+
+        return identity ? new IdentityMatrix(r) : new DiagonalMatrix(n);
+    }
+
+    /**
+     * The method writes the header followed by the elements in little-endian
+     * byte order, streaming them through a reusable direct buffer.
+     *
+     * @param ch the channel
+     * @param h  the header, ready to be read
+     * @param n  the elements, read from the position to the limit
+     *
+     * @throws IOException if the channel can not be written
+     */
+    static void write(final WritableByteChannel ch, final ByteBuffer h, final DoubleBuffer n) throws IOException {
+        while (h.hasRemaining())
+            ch.write(h);
+
+        if (!n.hasRemaining())
+            return;
+
+        var b = ByteBuffer.allocateDirect((int) Math.min(CHUNK_BYTES, (long) n.remaining() * Double.BYTES))
+                          .order(ByteOrder.LITTLE_ENDIAN);
+        while (n.hasRemaining()) {
+            var c = Math.min(n.remaining(), b.capacity() / Double.BYTES);
+            b.asDoubleBuffer().put(n.slice().limit(c));
+            b.limit(c * Double.BYTES);
+            n.position(n.position() + c);
+
+            while (b.hasRemaining())
+                ch.write(b);
+            b.clear();
+        }
+    }
+}
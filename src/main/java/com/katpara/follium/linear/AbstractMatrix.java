@@ -3,8 +3,12 @@ package com.katpara.follium.linear;
 import com.katpara.follium.exceptions.linears.*;
 import com.katpara.follium.linear.constants.IdentityMatrix;
 import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.decompositions.RankRevealingQR;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+import com.katpara.follium.linear.squares.PermutationMatrix;
 import com.katpara.follium.util.Rounding;
 
+import java.nio.DoubleBuffer;
 import java.util.Arrays;
 import java.util.HashMap;
 
@@ -12,6 +16,23 @@ import java.util.HashMap;
  * The class is an abstract class that provides implementation to some
  * of the common method that is shared between Square and Rectangular
  * matrices.
+ * <p>
+ * A matrix owns its array and never hands it out, the elements are read
+ * through {@link #get(int, int)}, a copy or a read-only buffer. The public
+ * constructors of the matrices copy the array they are given, only the
+ * operations of the library hand over a new array without copying it. As
+ * the array is held in a final field, a matrix can be shared between
+ * threads without copying or synchronization.
+ * </p>
+ * <p>
+ * For the same reason the derived properties, i.e. the symmetry, the
+ * triangular and diagonal forms and the rank, are computed once on first
+ * use and cached. The cache is published without a lock; two threads may
+ * compute a property at the same time, but both compute the same value. The
+ * operations hand the properties known on their operands to the result, e.g.
+ * the sum of two upper triangular matrices is known to be upper triangular
+ * without looking at its elements.
+ * </p>
  *
  * @author Mehul Katpara
  * @since 1.0.0
@@ -28,6 +49,47 @@ public abstract class AbstractMatrix implements Matrix {
      */
     protected final int[] s;
 
+    /**
+     * Holds the lazily computed fingerprint, 0 until it is computed
+     */
+    private volatile long f;
+
+    /**
+     * Holds the property of being symmetric
+     */
+    protected static final int SYMMETRIC = 1;
+
+    /**
+     * Holds the property of being lower triangular
+     */
+    protected static final int LOWER_TRIANGULAR = 2;
+
+    /**
+     * Holds the property of being upper triangular
+     */
+    protected static final int UPPER_TRIANGULAR = 4;
+
+    /**
+     * Holds the property of being diagonal
+     */
+    protected static final int DIAGONAL = 8;
+
+    /**
+     * Holds all the properties
+     */
+    private static final int ALL = SYMMETRIC | LOWER_TRIANGULAR | UPPER_TRIANGULAR | DIAGONAL;
+
+    /**
+     * Holds the properties known to hold in the low bits and the properties
+     * known not to hold in the next four bits
+     */
+    private volatile int p;
+
+    /**
+     * Holds the lazily computed rank plus one, 0 until it is computed
+     */
+    private volatile int k;
+
     /**
      * This constructor is specifically used for square matrices.
      *
@@ -97,6 +159,26 @@ public abstract class AbstractMatrix implements Matrix {
         return Arrays.copyOf(s, 2);
     }
 
+    /**
+     * The method returns the number of rows of the matrix.
+     *
+     * @return the number of rows
+     */
+    @Override
+    public final int rows() {
+        return s[0];
+    }
+
+    /**
+     * The method returns the number of columns of the matrix.
+     *
+     * @return the number of columns
+     */
+    @Override
+    public final int columns() {
+        return s[1];
+    }
+
     /**
      * The method returns all elements of the matrix.
      *
@@ -104,7 +186,51 @@ public abstract class AbstractMatrix implements Matrix {
      */
     @Override
     public final double[] toArray() {
-        return e;
+        return Arrays.copyOf(e, e.length);
+    }
+
+    /**
+     * The method returns the element at the given position.
+     *
+     * @param r the row index
+     * @param c the column index
+     *
+     * @return the element
+     */
+    @Override
+    public final double get(final int r, final int c) {
+        if (r < 0 || r >= s[0])
+            throw new RowOutOfBoundException();
+        if (c < 0 || c >= s[1])
+            throw new ColumnOutOfBoundException();
+
+        return e[r * s[1] + c];
+    }
+
+    /**
+     * The method copies all elements of the matrix in row-major order into
+     * the destination, starting at the offset.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    @Override
+    public final void copyTo(final double[] dst, final int o) {
+        if (o < 0 || o > dst.length - s[0] * s[1])
+            throw new InvalidMatrixDimensionProvidedException();
+
+        System.arraycopy(e, 0, dst, o, e.length);
+    }
+
+    /**
+     * The method returns a read-only buffer sharing the elements of the
+     * matrix, so the matrix can be handed out without a copy.
+     *
+     * @return the read-only buffer of the elements
+     */
+    @Override
+    public final DoubleBuffer asDoubleBuffer() {
+        return DoubleBuffer.wrap(e).asReadOnlyBuffer();
     }
 
     /**
@@ -114,14 +240,148 @@ public abstract class AbstractMatrix implements Matrix {
      */
     @Override
     public final boolean isDiagonal() {
-        var _t = s[1] + 1;
-        for (int i = 0; i < e.length; i++) {
-            if (i % _t != 0 && e[i] != 0)
+        return is(DIAGONAL);
+    }
+
+    /**
+     * The method returns true if the matrix has the property. The property is
+     * looked up in the cache first, and only scanned for once it is unknown.
+     *
+     * @param property one of the properties
+     *
+     * @return true if the matrix has the property
+     */
+    protected final boolean is(final int property) {
+        var _p = p;
+        if ((_p & (property | property << 4)) == 0) {
+            if (scan(property))
+                _p = learn(property, 0);
+            else
+                _p = learn(0, property);
+        }
+
+        return (_p & property) != 0;
+    }
+
+    /**
+     * The method returns the rank of the matrix, found by a QR decomposition
+     * with column pivoting on the first call and cached.
+     *
+     * @return the rank of the matrix
+     */
+    protected final int rank() {
+        var _k = k;
+        if (_k == 0)
+            k = _k = RankRevealingQR.rank(this) + 1;
+
+        return _k - 1;
+    }
+
+    /**
+     * The method scans the elements for a property.
+     *
+     * @param property one of the properties
+     *
+     * @return true if the matrix has the property
+     */
+    private boolean scan(final int property) {
+        int r = s[0], c = s[1];
+        if (property == SYMMETRIC) {
+            if (r != c)
                 return false;
+
+            for (int i = 1; i < r; i++) {
+                for (int j = 0; j < i; j++) {
+                    if (e[i * c + j] != e[j * c + i])
+                        return false;
+                }
+            }
+        } else {
+            var lower = property != UPPER_TRIANGULAR;
+            var upper = property != LOWER_TRIANGULAR;
+            for (int i = 0; i < r; i++) {
+                var o = i * c;
+                if (upper) {
+                    for (int j = 0, _t = Math.min(i, c); j < _t; j++) {
+                        if (e[o + j] != 0)
+                            return false;
+                    }
+                }
+                if (lower) {
+                    for (int j = i + 1; j < c; j++) {
+                        if (e[o + j] != 0)
+                            return false;
+                    }
+                }
+            }
         }
+
         return true;
     }
 
+    /**
+     * The method adds the properties known to hold and not to hold to the
+     * cache, together with the properties implied by them, e.g. a diagonal
+     * matrix is both lower and upper triangular.
+     *
+     * @param t the properties known to hold
+     * @param f the properties known not to hold
+     *
+     * @return the cached properties
+     */
+    final int learn(final int t, final int f) {
+        var _p = p;
+        int _t = (_p | t) & ALL, _f = ((_p >>> 4) | f) & ALL;
+        var square = s[0] == s[1];
+
+        if ((_t & (LOWER_TRIANGULAR | UPPER_TRIANGULAR)) == (LOWER_TRIANGULAR | UPPER_TRIANGULAR))
+            _t |= DIAGONAL;
+        if (square && (_t & SYMMETRIC) != 0 && (_t & (LOWER_TRIANGULAR | UPPER_TRIANGULAR)) != 0)
+            _t |= DIAGONAL;
+        if ((_t & DIAGONAL) != 0)
+            _t |= LOWER_TRIANGULAR | UPPER_TRIANGULAR | (square ? SYMMETRIC : 0);
+        if (!square)
+            _f |= SYMMETRIC;
+        if ((_f & (LOWER_TRIANGULAR | UPPER_TRIANGULAR)) != 0)
+            _f |= DIAGONAL;
+
+        p = _p = _t | _f << 4;
+        return _p;
+    }
+
+    /**
+     * The method returns the properties known to hold on a matrix without
+     * scanning it. The zero, identity and diagonal matrices have all of them.
+     *
+     * @param m the matrix
+     *
+     * @return the properties known to hold
+     */
+    private static int known(final Matrix m) {
+        if (m instanceof AbstractMatrix)
+            return ((AbstractMatrix) m).p & ALL;
+        if (m instanceof ZeroMatrix || m instanceof IdentityMatrix || m instanceof DiagonalMatrix)
+            return (m.rows() == m.columns()) ? ALL : ALL & ~SYMMETRIC;
+
+        return 0;
+    }
+
+    /**
+     * The method hands the properties known to hold to the result of an
+     * operation, if the result is a new matrix.
+     *
+     * @param m the result
+     * @param t the properties known to hold
+     *
+     * @return the result
+     */
+    private Matrix inherit(final Matrix m, final int t) {
+        if (t != 0 && m != this && m instanceof AbstractMatrix)
+            ((AbstractMatrix) m).learn(t, 0);
+
+        return m;
+    }
+
     /**
      * The method returns the row elements of the Matrix.
      *
@@ -167,18 +427,17 @@ public abstract class AbstractMatrix implements Matrix {
      */
     @Override
     public final Matrix add(final Matrix m) {
-        var _s = m.size();
-        if (!Arrays.equals(_s, size()))
+        if (s[0] != m.rows() || s[1] != m.columns())
             throw new MatrixDimensionMismatchException();
 
         if (m instanceof ZeroMatrix)
             return this;
 
-        double[] n = Arrays.copyOf(m.toArray(), _s[0] * _s[1]);
+        var n = m.toArray();
         for (int i = 0; i < e.length; i++)
             n[i] += e[i];
 
-        return doAdd(n);
+        return inherit(doAdd(n), known(this) & known(m));
     }
 
     /**
@@ -199,20 +458,26 @@ public abstract class AbstractMatrix implements Matrix {
      */
     @Override
     public final Matrix subtract(final Matrix m) {
-        if (!Arrays.equals(size(), m.size()))
+        if (s[0] != m.rows() || s[1] != m.columns())
             throw new MatrixDimensionMismatchException();
 
-        if (this.equals(m))
+        if (this == m)
             return new ZeroMatrix(s[0], s[1]);
 
         if (m instanceof ZeroMatrix)
             return this;
 
-        double[] n = Arrays.copyOf(e, e.length), _e = m.toArray();
-        for (int i = 0; i < e.length; i++)
+        double[] n = Arrays.copyOf(e, e.length), _e = Elements.elements(m);
+        var zero = true;
+        for (int i = 0; i < e.length; i++) {
             n[i] -= _e[i];
+            zero &= n[i] == 0;
+        }
 
-        return doSubtract(n);
+        if (zero)
+            return new ZeroMatrix(s[0], s[1]);
+
+        return inherit(doSubtract(n), known(this) & known(m));
     }
 
     /**
@@ -231,13 +496,18 @@ public abstract class AbstractMatrix implements Matrix {
      */
     @Override
     public final Matrix getAdditiveInverse() {
-        var n = Arrays.copyOf(e, s[0] * s[1]);
+        var n = new double[e.length];
+        for (int i = 0; i < e.length; i++)
+            n[i] = -e[i];
 
-        for (int i = 0; i < e.length; i++) {
-            n[i] = (i == 0) ? 0 : -n[i];
+        var _m = doAdditiveInverse(n);
+        if (_m instanceof AbstractMatrix) {
+            var _a = (AbstractMatrix) _m;
+            _a.p = p;
+            _a.k = k;
         }
 
-        return doAdditiveInverse(n);
+        return _m;
     }
 
     /**
@@ -258,17 +528,16 @@ public abstract class AbstractMatrix implements Matrix {
      */
     @Override
     public final Matrix multiply(final Matrix m) {
-        var _s = m.size();
-        if (s[1] != _s[0])
+        if (s[1] != m.rows())
             throw new MatrixDimensionMismatchException();
 
         if(m instanceof ZeroMatrix)
-            return new ZeroMatrix(s[0], _s[1]);
+            return new ZeroMatrix(s[0], m.columns());
 
         if(m instanceof IdentityMatrix)
             return this;
 
-        return multiply(_s, m);
+        return multiply(m.columns(), m);
     }
 
     /**
@@ -291,53 +560,83 @@ public abstract class AbstractMatrix implements Matrix {
      */
     @Override
     public final Matrix divide(final Matrix m) {
-        var _s = m.size();
-        if (s[1] != _s[0])
+        if (s[1] != m.rows())
             throw new MatrixDimensionMismatchException();
 
         if(m instanceof IdentityMatrix)
             return this;
 
-        return multiply(_s, m.getMultiplicativeInverse());
+        return multiply(m.columns(), m.getMultiplicativeInverse());
     }
 
     /**
-     * The method multiplies two matrix data.
+     * The method multiplies two matrix data. A permutation matrix only moves
+     * the columns, the column i going to the column p[i].
      *
-     * @param m the multiplying matrix
-     * @param _s the size of multiplying matrix
+     * @param _c the number of columns of multiplying matrix
+     * @param m  the multiplying matrix
      *
      * @return the multiplicative inverse
      */
-    private Matrix multiply(final int[] _s, final Matrix m) {
-        double[] n = new double[s[0] * _s[1]],
-                _e = m.toArray();
-
-        for (int i = 0; i < n.length; i++) {
-            int _r = i / _s[1], _c = i % _s[1];
-
-            for (int j = 0; j < s[1]; j++) {
-                n[i] += e[(_r * s[1]) + j] * _e[(_s[1] * j) + _c];
+    private Matrix multiply(final int _c, final Matrix m) {
+        var n = new double[s[0] * _c];
+        if (m instanceof PermutationMatrix) {
+            var q = ((PermutationMatrix) m).getPermutation();
+            for (int r = 0; r < s[0]; r++) {
+                var o = r * _c;
+                for (int i = 0; i < _c; i++)
+                    n[o + q[i]] = e[o + i];
             }
+
+            return doMultiply(n, m);
         }
 
-        return doMultiply(n, m);
+        MatrixOperations.multiply(e, s[0], s[1], Elements.elements(m), _c, n);
+
+        return inherit(doMultiply(n, m), known(this) & known(m) & ~SYMMETRIC);
     }
 
     /**
-     * The method returns the transposed matrix.
+     * The method returns the transposed matrix. A matrix known to be
+     * symmetric is its own transpose, and the transpose of a lower triangular
+     * matrix is upper triangular and vice versa.
      *
      * @return the transposed matrix
      */
     @Override
     public final Matrix getTransposed() {
+        var _p = p;
+        if ((_p & SYMMETRIC) != 0)
+            return this;
+
         var n = new double[e.length];
+        MatrixOperations.transpose(e, s[0], s[1], n);
 
-        for (int i = 0; i < e.length; i++) {
-            n[i] = e[((i % s[0]) * s[1]) + (i / s[0])];
+        var _m = doTranspose(n);
+        if (_m instanceof AbstractMatrix) {
+            var _a = (AbstractMatrix) _m;
+            _a.p = swap(_p) | swap(_p >>> 4) << 4;
+            _a.k = k;
         }
 
-        return doTranspose(n);
+        return _m;
+    }
+
+    /**
+     * The method swaps the lower and the upper triangular properties.
+     *
+     * @param t the properties
+     *
+     * @return the properties of the transposed matrix
+     */
+    private static int swap(final int t) {
+        var _t = t & (SYMMETRIC | DIAGONAL);
+        if ((t & LOWER_TRIANGULAR) != 0)
+            _t |= UPPER_TRIANGULAR;
+        if ((t & UPPER_TRIANGULAR) != 0)
+            _t |= LOWER_TRIANGULAR;
+
+        return _t;
     }
 
     /**
@@ -364,6 +663,22 @@ public abstract class AbstractMatrix implements Matrix {
         return n;
     }
 
+    /**
+     * The method returns a 64-bit fingerprint of the shape and the content
+     * of the matrix. It is computed on the first call and cached, as the
+     * elements of a matrix never change.
+     *
+     * @return the fingerprint of the matrix
+     */
+    @Override
+    public final long fingerprint() {
+        var _f = f;
+        if (_f == 0)
+            f = _f = Elements.fingerprint(e, s[0], s[1]);
+
+        return _f;
+    }
+
     /**
      * Returns a string representation of the object. In general, the
      * {@code toString} method returns a string that
@@ -432,6 +747,37 @@ public abstract class AbstractMatrix implements Matrix {
         return sb.toString();
     }
 
+    /**
+     * The method returns true if the other matrix has the same dimension and
+     * every pair of elements a, b satisfies
+     * |a - b| &lt;= max(absolute, relative * max(|a|, |b|)).
+     *
+     * @param m        the other matrix
+     * @param absolute the absolute tolerance
+     * @param relative the relative tolerance
+     *
+     * @return true if the matrices are approximately equal
+     */
+    @Override
+    public final boolean approximatelyEquals(final Matrix m, final double absolute, final double relative) {
+        return Elements.approximatelyEqual(this, m, absolute, relative);
+    }
+
+    /**
+     * The method returns true if the other matrix has the same dimension and
+     * every pair of elements is at most the given number of representable
+     * doubles apart.
+     *
+     * @param m    the other matrix
+     * @param ulps the maximum distance in units in the last place
+     *
+     * @return true if the matrices are approximately equal
+     */
+    @Override
+    public final boolean approximatelyEquals(final Matrix m, final int ulps) {
+        return Elements.approximatelyEqual(this, m, ulps);
+    }
+
     /**
      * Returns a hash code value for the object. This method is
      * supported for the benefit of hash tables such as those provided by
@@ -463,7 +809,7 @@ public abstract class AbstractMatrix implements Matrix {
      */
     @Override
     public final int hashCode() {
-        return Arrays.hashCode(e);
+        return Long.hashCode(fingerprint());
     }
 
     /**
@@ -516,13 +862,9 @@ public abstract class AbstractMatrix implements Matrix {
      */
     @Override
     public final boolean equals(final Object obj) {
-        if (obj == null) return false;
-
         if (this == obj) return true;
-        if (this.hashCode() == obj.hashCode()) return true;
+        if (!(obj instanceof Matrix)) return false;
 
-        final Matrix that = (Matrix) obj;
-        if (!Arrays.equals(size(), that.size())) return false;
-        return Arrays.equals(e, that.toArray());
+        return Elements.equal(this, (Matrix) obj);
     }
 }
@@ -0,0 +1,370 @@
+package com.katpara.follium.linear;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.util.Rounding;
+
+import java.util.Arrays;
+
+/**
+ * The class is a dense vector whose elements can be changed in place. It is
+ * the operand and the destination of the matrix-vector products of
+ * {@link MatrixOperations}, and its in-place methods reuse its own storage,
+ * so an iterative solver allocates nothing once its vectors are created.
+ * <p>
+ * The reductions, i.e. the dot product and the norms, keep four independent
+ * partial sums, so consecutive additions do not wait on each other.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class DenseVector {
+
+    /**
+     * Holds the elements
+     */
+    final double[] e;
+
+    /**
+     * The constructor creates a vector holding zeros.
+     *
+     * @param n the number of elements
+     */
+    public DenseVector(final int n) {
+        if (n <= 0)
+            throw new InvalidMatrixDimensionProvidedException();
+
+        this.e = new double[n];
+    }
+
+    /**
+     * The constructor creates a vector on top of the elements, without
+     * copying them.
+     *
+     * @param e the elements
+     */
+    public DenseVector(final double... e) {
+        if (e.length == 0)
+            throw new InvalidMatrixDimensionProvidedException();
+
+        this.e = e;
+    }
+
+    /**
+     * The method returns a vector holding a copy of the elements of a row or
+     * a column vector.
+     *
+     * @param m the matrix with a single row or column
+     *
+     * @return the vector
+     */
+    public static DenseVector of(final Matrix m) {
+        if (m.rows() != 1 && m.columns() != 1)
+            throw new InvalidMatrixDimensionProvidedException();
+
+        return new DenseVector(m.toArray());
+    }
+
+    /**
+     * The method returns the number of elements.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return e.length;
+    }
+
+    /**
+     * The method returns the element at the given index.
+     *
+     * @param i the index
+     *
+     * @return the element
+     */
+    public double get(final int i) {
+        checkIndex(i);
+        return e[i];
+    }
+
+    /**
+     * The method sets the element at the given index.
+     *
+     * @param i the index
+     * @param v the element
+     */
+    public void set(final int i, final double v) {
+        checkIndex(i);
+        e[i] = v;
+    }
+
+    /**
+     * The method returns a copy of the elements.
+     *
+     * @return the elements
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(e, e.length);
+    }
+
+    /**
+     * The method returns a copy of the vector.
+     *
+     * @return the copy
+     */
+    public DenseVector copy() {
+        return new DenseVector(toArray());
+    }
+
+    /**
+     * The method returns the vector as a matrix with a single column.
+     *
+     * @return the column matrix
+     */
+    public Matrix toColumnMatrix() {
+        return MutableMatrix.immutable(toArray(), e.length, 1);
+    }
+
+    /**
+     * The method returns true if the other vector holds the same elements
+     * array, so writing one changes the other.
+     *
+     * @param x the other vector
+     *
+     * @return true if the storage is shared
+     */
+    public boolean shares(final DenseVector x) {
+        return e == x.e;
+    }
+
+    /**
+     * The method copies the elements of the other vector into this vector.
+     *
+     * @param x the other vector of the same size
+     *
+     * @return this vector
+     */
+    public DenseVector assign(final DenseVector x) {
+        checkSize(x);
+        System.arraycopy(x.e, 0, e, 0, e.length);
+        return this;
+    }
+
+    /**
+     * The method sets every element to the value.
+     *
+     * @param v the value
+     *
+     * @return this vector
+     */
+    public DenseVector fill(final double v) {
+        Arrays.fill(e, v);
+        return this;
+    }
+
+    /**
+     * The method adds the other vector multiplied by a scalar to this
+     * vector, i.e. this += a * x.
+     *
+     * @param a the scalar
+     * @param x the other vector of the same size
+     *
+     * @return this vector
+     */
+    public DenseVector axpy(final double a, final DenseVector x) {
+        checkSize(x);
+        for (int i = 0; i < e.length; i++)
+            e[i] += a * x.e[i];
+
+        return this;
+    }
+
+    /**
+     * The method replaces this vector by x + b * this.
+     *
+     * @param x the other vector of the same size
+     * @param b the scalar
+     *
+     * @return this vector
+     */
+    public DenseVector xpby(final DenseVector x, final double b) {
+        checkSize(x);
+        for (int i = 0; i < e.length; i++)
+            e[i] = x.e[i] + b * e[i];
+
+        return this;
+    }
+
+    /**
+     * The method multiplies every element by a scalar.
+     *
+     * @param a the scalar
+     *
+     * @return this vector
+     */
+    public DenseVector scale(final double a) {
+        for (int i = 0; i < e.length; i++)
+            e[i] *= a;
+
+        return this;
+    }
+
+    /**
+     * The method returns the dot product with the other vector.
+     *
+     * @param x the other vector of the same size
+     *
+     * @return the dot product
+     */
+    public double dot(final DenseVector x) {
+        checkSize(x);
+        return dot(e, 0, x.e, e.length);
+    }
+
+    /**
+     * The method returns the sum of the absolute values of the elements.
+     *
+     * @return the 1-norm
+     */
+    public double norm1() {
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        var i = 0;
+        for (; i + 3 < e.length; i += 4) {
+            s0 += Math.abs(e[i]);
+            s1 += Math.abs(e[i + 1]);
+            s2 += Math.abs(e[i + 2]);
+            s3 += Math.abs(e[i + 3]);
+        }
+        for (; i < e.length; i++)
+            s0 += Math.abs(e[i]);
+
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * The method returns the euclidean length of the vector. If the sum of
+     * the squares overflows or underflows, the elements are scaled by the
+     * largest one first.
+     *
+     * @return the 2-norm
+     */
+    public double norm2() {
+        var s = dot(e, 0, e, e.length);
+        if (s > Double.MIN_NORMAL && s < Double.POSITIVE_INFINITY)
+            return Math.sqrt(s);
+
+        var m = normInf();
+        if (m == 0 || Double.isInfinite(m) || Double.isNaN(s))
+            return (Double.isNaN(s)) ? s : m;
+
+        s = 0;
+        for (final double _e : e) {
+            var t = _e / m;
+            s += t * t;
+        }
+
+        return m * Math.sqrt(s);
+    }
+
+    /**
+     * The method returns the largest absolute value of the elements.
+     *
+     * @return the infinity norm
+     */
+    public double normInf() {
+        var m = 0.0;
+        for (final double _e : e)
+            m = Math.max(m, Math.abs(_e));
+
+        return m;
+    }
+
+    /**
+     * The method returns the dot product of n elements of two arrays, with
+     * four independent partial sums.
+     *
+     * @param a the elements
+     * @param o the offset of the first element of a
+     * @param b the other elements, from the index 0
+     * @param n the number of elements
+     *
+     * @return the dot product
+     */
+    static double dot(final double[] a, final int o, final double[] b, final int n) {
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        var j = 0;
+        for (; j + 3 < n; j += 4) {
+            s0 += a[o + j] * b[j];
+            s1 += a[o + j + 1] * b[j + 1];
+            s2 += a[o + j + 2] * b[j + 2];
+            s3 += a[o + j + 3] * b[j + 3];
+        }
+        for (; j < n; j++)
+            s0 += a[o + j] * b[j];
+
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * The method checks the index of an element.
+     *
+     * @param i the index
+     */
+    private void checkIndex(final int i) {
+        if (i < 0 || i >= e.length)
+            throw new InvalidParameterProvidedException();
+    }
+
+    /**
+     * The method checks that the other vector has the same size.
+     *
+     * @param x the other vector
+     */
+    private void checkSize(final DenseVector x) {
+        if (x.e.length != e.length)
+            throw new MatrixDimensionMismatchException();
+    }
+
+    /**
+     * Returns a hash code value for the current elements of the vector.
+     *
+     * @return a hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(Elements.fingerprint(e, e.length, 1));
+    }
+
+    /**
+     * Indicates whether the other vector holds the same elements.
+     *
+     * @param obj the reference object with which to compare.
+     *
+     * @return {@code true} if this object is the same as the obj
+     *         argument; {@code false} otherwise.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof DenseVector)) return false;
+
+        return Elements.equal(e, ((DenseVector) obj).e);
+    }
+
+    /**
+     * Returns a string representation of the vector with four decimals.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("|");
+        for (int i = 0; i < e.length; i++) {
+            sb.append(Rounding.round(e[i], Rounding.Decimals.FOUR));
+            if (i != e.length - 1)
+                sb.append(" ");
+        }
+        return sb.append("|").toString();
+    }
+}
@@ -0,0 +1,514 @@
+package com.katpara.follium.linear;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+/**
+ * The class holds the content fingerprint and the equality shared by all
+ * matrix representations.
+ * <p>
+ * The fingerprint is a 64-bit hash of the shape and of every non-zero
+ * element, combined by its row-major index. As the elements are summed up,
+ * the order they are visited in does not matter and the zeros a structured
+ * matrix leaves out do not contribute, so the dense, diagonal, identity and
+ * zero representations of the same content share the same fingerprint.
+ * Elements are equal when they are numerically equal, so a negative zero
+ * equals a positive zero, or when both are not a number.
+ * </p>
+ * <p>
+ * The approximate comparisons walk the elements in fixed size blocks with
+ * a branch-free body the compiler can vectorize and only test for a
+ * mismatch between the blocks, so a difference stops the walk early.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class Elements {
+
+    /**
+     * The golden ratio increment of the mixing sequence.
+     */
+    private static final long GOLDEN = 0x9e3779b97f4a7c15L;
+
+    /**
+     * The number of elements compared between two mismatch checks.
+     */
+    private static final int BLOCK = 256;
+
+    private Elements() {
+    }
+
+    /**
+     * The method returns the fingerprint of the row-major elements.
+     *
+     * @param e the elements
+     * @param r a number of rows
+     * @param c a number of columns
+     *
+     * @return the fingerprint
+     */
+    public static long fingerprint(final double[] e, final int r, final int c) {
+        var f = fingerprint(r, c);
+        for (int i = 0; i < e.length; i++)
+            f += element(i, e[i]);
+
+        return f;
+    }
+
+    /**
+     * The method returns the fingerprint of a square matrix with the given
+     * diagonal entries and zeros everywhere else.
+     *
+     * @param d the diagonal entries
+     *
+     * @return the fingerprint
+     */
+    public static long diagonalFingerprint(final double[] d) {
+        var f = fingerprint(d.length, d.length);
+        for (int i = 0; i < d.length; i++)
+            f += element((long) i * (d.length + 1), d[i]);
+
+        return f;
+    }
+
+    /**
+     * The method returns the fingerprint of a triangular matrix, whose lower
+     * triangle is packed row by row, or whose upper triangle is packed column
+     * by column.
+     *
+     * @param p     the packed elements
+     * @param n     the dimension
+     * @param upper true if the upper triangle is packed
+     *
+     * @return the fingerprint
+     */
+    public static long triangularFingerprint(final double[] p, final int n, final boolean upper) {
+        var f = fingerprint(n, n);
+        for (int i = 0, k = 0; i < n; i++) {
+            for (int j = 0; j <= i; j++, k++)
+                f += element(upper ? (long) j * n + i : (long) i * n + j, p[k]);
+        }
+
+        return f;
+    }
+
+    /**
+     * The method returns the fingerprint of a symmetric matrix, whose lower
+     * triangle is packed row by row.
+     *
+     * @param p the packed elements
+     * @param n the dimension
+     *
+     * @return the fingerprint
+     */
+    public static long symmetricFingerprint(final double[] p, final int n) {
+        var f = fingerprint(n, n);
+        for (int i = 0, k = 0; i < n; i++) {
+            for (int j = 0; j <= i; j++, k++) {
+                f += element((long) i * n + j, p[k]);
+                if (j < i)
+                    f += element((long) j * n + i, p[k]);
+            }
+        }
+
+        return f;
+    }
+
+    /**
+     * The method returns the fingerprint of a band matrix, whose rows hold
+     * the kl + ku + 1 elements of their band, from the column i - kl.
+     *
+     * @param b  the band elements
+     * @param n  the dimension
+     * @param kl the number of diagonals below the diagonal
+     * @param ku the number of diagonals above the diagonal
+     *
+     * @return the fingerprint
+     */
+    public static long bandFingerprint(final double[] b, final int n, final int kl, final int ku) {
+        var f = fingerprint(n, n);
+        var w = kl + ku + 1;
+        for (int i = 0; i < n; i++) {
+            for (int j = Math.max(0, i - kl), _t = Math.min(n - 1, i + ku); j <= _t; j++)
+                f += element((long) i * n + j, b[i * w + j - i + kl]);
+        }
+
+        return f;
+    }
+
+    /**
+     * The method returns the fingerprint of a permutation matrix, whose row
+     * i holds a one at the column p[i].
+     *
+     * @param p the permutation
+     *
+     * @return the fingerprint
+     */
+    public static long permutationFingerprint(final int[] p) {
+        var f = fingerprint(p.length, p.length);
+        for (int i = 0; i < p.length; i++)
+            f += element((long) i * p.length + p[i], 1);
+
+        return f;
+    }
+
+    /**
+     * The method returns the fingerprint of a matrix holding only zeros.
+     *
+     * @param r a number of rows
+     * @param c a number of columns
+     *
+     * @return the fingerprint
+     */
+    public static long fingerprint(final int r, final int c) {
+        return mix(((long) r << 32 | c) + GOLDEN);
+    }
+
+    /**
+     * The method returns true if both matrices have the same shape and the
+     * same elements. The elements are only compared when the fingerprints
+     * match, and no structured matrix is expanded into a dense array.
+     *
+     * @param a a matrix
+     * @param b another matrix
+     *
+     * @return true if the matrices are equal
+     */
+    public static boolean equal(final Matrix a, final Matrix b) {
+        if (a == b) return true;
+
+        if (a.rows() != b.rows() || a.columns() != b.columns()) return false;
+        if (a.fingerprint() != b.fingerprint()) return false;
+
+        double[] da = diagonal(a), db = diagonal(b);
+        if (da != null && db != null) return equal(da, db);
+        if (da != null) return equal(elements(b), b.columns(), da);
+        if (db != null) return equal(elements(a), a.columns(), db);
+
+        return equal(elements(a), elements(b));
+    }
+
+    /**
+     * The method returns true if both arrays hold the same elements. The
+     * arrays are scanned with the intrinsic {@link Arrays#mismatch}, which
+     * only stops at a not bit-identical pair, e.g. a negative and a positive zero.
+     *
+     * @param x the elements
+     * @param y the other elements
+     *
+     * @return true if the elements are equal
+     */
+    public static boolean equal(final double[] x, final double[] y) {
+        if (x.length != y.length) return false;
+
+        for (int k = 0; k < x.length; k++) {
+            var i = Arrays.mismatch(x, k, x.length, y, k, y.length);
+            if (i < 0) return true;
+
+            k += i;
+            if (x[k] != y[k]) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * The method returns true if both matrices have the same shape and every
+     * pair of elements a, b satisfies
+     * |a - b| &lt;= max(absolute, relative * max(|a|, |b|)). Equal infinities
+     * are close, a not-a-number is never close to anything.
+     *
+     * @param a        a matrix
+     * @param b        another matrix
+     * @param absolute the absolute tolerance
+     * @param relative the relative tolerance
+     *
+     * @return true if the matrices are approximately equal
+     */
+    public static boolean approximatelyEqual(final Matrix a, final Matrix b,
+                                             final double absolute, final double relative) {
+        if (!(absolute >= 0) || !(relative >= 0))
+            throw new InvalidParameterProvidedException();
+
+        return approximatelyEqual(a, b, absolute, relative, -1);
+    }
+
+    /**
+     * The method returns true if both matrices have the same shape and every
+     * pair of elements is at most the given number of representable doubles
+     * apart. A positive and a negative zero are 0 units apart, a not-a-number
+     * is never close to anything.
+     *
+     * @param a    a matrix
+     * @param b    another matrix
+     * @param ulps the maximum distance in units in the last place
+     *
+     * @return true if the matrices are approximately equal
+     */
+    public static boolean approximatelyEqual(final Matrix a, final Matrix b, final int ulps) {
+        if (ulps < 0)
+            throw new InvalidParameterProvidedException();
+
+        return approximatelyEqual(a, b, 0, 0, ulps);
+    }
+
+    /**
+     * The method compares the matrices representation by representation,
+     * without expanding a structured matrix into a dense array.
+     *
+     * @param a        a matrix
+     * @param b        another matrix
+     * @param absolute the absolute tolerance
+     * @param relative the relative tolerance
+     * @param ulps     the maximum distance in units in the last place, or
+     *                 a negative value to use the tolerances
+     *
+     * @return true if the matrices are approximately equal
+     */
+    private static boolean approximatelyEqual(final Matrix a, final Matrix b, final double absolute,
+                                              final double relative, final long ulps) {
+        if (a.rows() != b.rows() || a.columns() != b.columns()) return false;
+
+        double[] da = diagonal(a), db = diagonal(b);
+        if (da != null && db != null) return close(da, db, absolute, relative, ulps);
+        if (da != null) return close(elements(b), b.columns(), da, absolute, relative, ulps);
+        if (db != null) return close(elements(a), a.columns(), db, absolute, relative, ulps);
+
+        return close(elements(a), elements(b), absolute, relative, ulps);
+    }
+
+    /**
+     * The method compares two arrays of the same length block by block.
+     *
+     * @param x        the elements
+     * @param y        the other elements
+     * @param absolute the absolute tolerance
+     * @param relative the relative tolerance
+     * @param ulps     the maximum distance in units in the last place, or negative
+     *
+     * @return true if all elements are close
+     */
+    private static boolean close(final double[] x, final double[] y, final double absolute,
+                                 final double relative, final long ulps) {
+        if (ulps >= 0) {
+            for (int s = 0; s < x.length; s += BLOCK) {
+                var ok = true;
+                for (int i = s, l = Math.min(x.length, s + BLOCK); i < l; i++)
+                    ok &= close(x[i], y[i], ulps);
+
+                if (!ok) return false;
+            }
+
+            return true;
+        }
+
+        for (int s = 0; s < x.length; s += BLOCK) {
+            var ok = true;
+            for (int i = s, l = Math.min(x.length, s + BLOCK); i < l; i++)
+                ok &= close(x[i], y[i], absolute, relative);
+
+            if (!ok) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * The method compares row-major elements with a diagonal matrix, row by
+     * row, against the diagonal entry and zeros everywhere else.
+     *
+     * @param e        the elements
+     * @param c        a number of columns
+     * @param d        the diagonal entries
+     * @param absolute the absolute tolerance
+     * @param relative the relative tolerance
+     * @param ulps     the maximum distance in units in the last place, or negative
+     *
+     * @return true if all elements are close
+     */
+    private static boolean close(final double[] e, final int c, final double[] d, final double absolute,
+                                 final double relative, final long ulps) {
+        for (int i = 0, k = 0; k < e.length; i++, k += c) {
+            var ok = true;
+            var v = (i < d.length) ? d[i] : 0.0;
+            if (ulps >= 0) {
+                for (int j = 0; j < c; j++)
+                    ok &= close(e[k + j], (j == i) ? v : 0.0, ulps);
+            } else {
+                for (int j = 0; j < c; j++)
+                    ok &= close(e[k + j], (j == i) ? v : 0.0, absolute, relative);
+            }
+
+            if (!ok) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * The method compares two elements within the given tolerances.
+     *
+     * @param x        an element
+     * @param y        another element
+     * @param absolute the absolute tolerance
+     * @param relative the relative tolerance
+     *
+     * @return true if the elements are close
+     */
+    private static boolean close(final double x, final double y, final double absolute, final double relative) {
+        var t = Math.max(absolute, relative * Math.max(Math.abs(x), Math.abs(y)));
+        return (x == y) | (Math.abs(x - y) <= t);
+    }
+
+    /**
+     * The method compares two elements within the given distance in units
+     * in the last place.
+     *
+     * @param x    an element
+     * @param y    another element
+     * @param ulps the maximum distance in units in the last place
+     *
+     * @return true if the elements are close
+     */
+    private static boolean close(final double x, final double y, final long ulps) {
+        return (x == y) | (ulps(x, y) <= ulps);
+    }
+
+    /**
+     * The method returns the number of representable doubles between two
+     * elements.
+     *
+     * @param x an element
+     * @param y another element
+     *
+     * @return the distance, or {@link Long#MAX_VALUE} if either is not a number
+     */
+    private static long ulps(final double x, final double y) {
+        if (x != x || y != y)
+            return Long.MAX_VALUE;
+
+        long a = Double.doubleToRawLongBits(x), b = Double.doubleToRawLongBits(y);
+        if (a < 0) a = Long.MIN_VALUE - a;
+        if (b < 0) b = Long.MIN_VALUE - b;
+
+        var d = a - b;
+        return ((a ^ b) < 0 && (a ^ d) < 0) ? Long.MAX_VALUE : Math.abs(d);
+    }
+
+    /**
+     * The method returns true if the row-major elements hold the diagonal
+     * entries on the diagonal and zeros everywhere else.
+     *
+     * @param e the elements
+     * @param c a number of columns
+     * @param d the diagonal entries
+     *
+     * @return true if the elements match
+     */
+    private static boolean equal(final double[] e, final int c, final double[] d) {
+        for (int i = 0, k = 0; k < e.length; i++) {
+            for (int j = 0; j < c; j++, k++) {
+                var v = (i == j && i < d.length) ? d[i] : 0.0;
+                if (e[k] != v && (e[k] == e[k] || v == v))
+                    return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * The method returns the row-major elements of a matrix, without a copy
+     * for the dense matrices. The elements must not be changed.
+     *
+     * @param m the matrix
+     *
+     * @return the elements
+     */
+    static double[] elements(final Matrix m) {
+        var _e = array(m);
+        return (_e != null) ? _e : m.toArray();
+    }
+
+    /**
+     * The method returns the array holding the elements of a dense matrix.
+     *
+     * @param m the matrix
+     *
+     * @return the array, or null for any other matrix
+     */
+    static double[] array(final Matrix m) {
+        if (m instanceof MutableMatrix)
+            return ((MutableMatrix) m).e;
+        if (m instanceof AbstractMatrix)
+            return ((AbstractMatrix) m).e;
+
+        return null;
+    }
+
+    /**
+     * The method returns the diagonal entries of a zero, identity or
+     * diagonal matrix, read in place for a diagonal matrix.
+     *
+     * @param m the matrix
+     *
+     * @return the read-only buffer of the diagonal entries
+     */
+    static DoubleBuffer diagonalView(final Matrix m) {
+        if (m instanceof DiagonalMatrix)
+            return ((DiagonalMatrix) m).getDiagonalBuffer();
+
+        return DoubleBuffer.wrap(m.getDiagonalEntries());
+    }
+
+    /**
+     * The method returns the diagonal entries of a matrix that is stored
+     * by its diagonal only.
+     *
+     * @param m the matrix
+     *
+     * @return the diagonal entries, or null for any other matrix
+     */
+    private static double[] diagonal(final Matrix m) {
+        if (m instanceof ZeroMatrix) {
+            return new double[Math.min(m.rows(), m.columns())];
+        }
+
+        if (m instanceof IdentityMatrix || m instanceof DiagonalMatrix)
+            return m.getDiagonalEntries();
+
+        return null;
+    }
+
+    /**
+     * The method returns the contribution of an element to the fingerprint.
+     *
+     * @param i the row-major index
+     * @param v the element
+     *
+     * @return the contribution, zero for either zero
+     */
+    private static long element(final long i, final double v) {
+        var b = Double.doubleToLongBits(v + 0.0);
+        return (b == 0) ? 0 : mix(mix(i + GOLDEN) ^ b);
+    }
+
+    /**
+     * The method scrambles the bits of the value, the finalizer of SplitMix64.
+     *
+     * @param z the value
+     *
+     * @return the scrambled value
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
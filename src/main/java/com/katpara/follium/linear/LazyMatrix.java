@@ -0,0 +1,669 @@
+package com.katpara.follium.linear;
+
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+import com.katpara.follium.util.Rounding;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * The class is a matrix expression that is evaluated only when its elements
+ * are needed. The addition, subtraction, additive inverse and scaling of
+ * a lazy matrix return another lazy matrix instead of computing a result,
+ * so a chain like {@code LazyMatrix.of(a).add(b).subtract(c).getAdditiveInverse()}
+ * allocates no intermediate arrays.
+ * <p>
+ * As all these operations are linear, the expression is kept flattened as a
+ * sum of its operands with a coefficient each, and the same operand appearing
+ * twice is merged. The evaluation walks the dense operands together in
+ * blocks that fit in the cache, so every operand is read once and the result
+ * is written once. The zero, identity and diagonal operands only touch the
+ * diagonal of the result.
+ * </p>
+ * <p>
+ * The other operations evaluate the expression first. The evaluation happens
+ * once and is cached, a mutable operand is read at that moment.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class LazyMatrix implements Matrix {
+
+    /**
+     * Holds the number of elements combined between two passes over the operands
+     */
+    private static final int BLOCK = 2048;
+
+    /**
+     * Holds the operands
+     */
+    private final Matrix[] m;
+
+    /**
+     * Holds the coefficient of every operand
+     */
+    private final double[] k;
+
+    /**
+     * Holds the number of rows
+     */
+    private final int r;
+
+    /**
+     * Holds the number of columns
+     */
+    private final int c;
+
+    /**
+     * Holds the evaluated matrix, null until it is evaluated
+     */
+    private volatile Matrix v;
+
+    /**
+     * The constructor creates an expression.
+     *
+     * @param m the operands
+     * @param k the coefficient of every operand
+     * @param r a number of rows
+     * @param c a number of columns
+     */
+    private LazyMatrix(final Matrix[] m, final double[] k, final int r, final int c) {
+        this.m = m;
+        this.k = k;
+        this.r = r;
+        this.c = c;
+    }
+
+    /**
+     * The method returns a lazy matrix standing for the given matrix.
+     *
+     * @param m the matrix
+     *
+     * @return the lazy matrix
+     */
+    public static LazyMatrix of(final Matrix m) {
+        if (m instanceof LazyMatrix)
+            return (LazyMatrix) m;
+        if (m instanceof ZeroMatrix)
+            return new LazyMatrix(new Matrix[0], new double[0], m.rows(), m.columns());
+
+        return new LazyMatrix(new Matrix[]{m}, new double[]{1}, m.rows(), m.columns());
+    }
+
+    /**
+     * The method returns the expression multiplied by a scalar.
+     *
+     * @param s the scalar
+     *
+     * @return the lazy matrix
+     */
+    public LazyMatrix scale(final double s) {
+        var _k = new double[k.length];
+        for (int i = 0; i < k.length; i++)
+            _k[i] = s * k[i];
+
+        return new LazyMatrix(m, _k, r, c);
+    }
+
+    /**
+     * The method returns the expression this + s * o.
+     *
+     * @param s the coefficient of the other matrix
+     * @param o the other matrix
+     *
+     * @return the lazy matrix
+     */
+    public LazyMatrix add(final double s, final Matrix o) {
+        if (r != o.rows() || c != o.columns())
+            throw new MatrixDimensionMismatchException();
+
+        var _o = of(o);
+        Matrix[] _m = new Matrix[m.length + _o.m.length];
+        double[] _k = new double[_m.length];
+        System.arraycopy(m, 0, _m, 0, m.length);
+        System.arraycopy(k, 0, _k, 0, k.length);
+
+        var l = m.length;
+        for (int j = 0; j < _o.m.length; j++) {
+            var i = 0;
+            while (i < l && !same(_m[i], _o.m[j])) i++;
+
+            if (i == l) _m[l++] = _o.m[j];
+            _k[i] += s * _o.k[j];
+        }
+
+        var n = 0;
+        for (int i = 0; i < l; i++) {
+            if (_k[i] == 0 || _m[i] instanceof ZeroMatrix) continue;
+            _m[n] = _m[i];
+            _k[n++] = _k[i];
+        }
+
+        return new LazyMatrix(Arrays.copyOf(_m, n), Arrays.copyOf(_k, n), r, c);
+    }
+
+    /**
+     * The method returns the evaluated expression. The result is computed on
+     * the first call and cached.
+     *
+     * @return the matrix
+     */
+    public Matrix evaluate() {
+        var _v = v;
+        if (_v == null)
+            v = _v = compute();
+
+        return _v;
+    }
+
+    /**
+     * The method evaluates the expression into the destination instead of a
+     * new array. The destination may be one of the operands.
+     *
+     * @param dst the destination of the same dimension
+     *
+     * @return the destination
+     */
+    public MutableMatrix evaluateInto(final MutableMatrix dst) {
+        if (r != dst.rows() || c != dst.columns())
+            throw new MatrixDimensionMismatchException();
+
+        fuse(dst.e);
+        return dst;
+    }
+
+    /**
+     * The method computes the expression.
+     *
+     * @return the matrix
+     */
+    private Matrix compute() {
+        boolean dense = false, zeros = true;
+        for (final Matrix _m : m) {
+            dense |= !structured(_m);
+            zeros &= _m instanceof ZeroMatrix;
+        }
+
+        if (zeros)
+            return new ZeroMatrix(r, c);
+
+        if (!dense && r == c) {
+            var d = new double[r];
+            for (int j = 0; j < m.length; j++) {
+                if (m[j] instanceof ZeroMatrix) continue;
+
+                var _d = m[j].getDiagonalEntries();
+                for (int i = 0; i < d.length; i++)
+                    d[i] += k[j] * _d[i];
+            }
+            return new DiagonalMatrix(d);
+        }
+
+        var n = new double[r * c];
+        fuse(n);
+        return MutableMatrix.immutable(n, r, c);
+    }
+
+    /**
+     * The method writes the expression into the row-major elements. The dense
+     * operands are combined block by block, the operand sharing the elements
+     * first, then the structured operands are added to the diagonal.
+     *
+     * @param n the elements
+     */
+    private void fuse(final double[] n) {
+        var a = new double[m.length][];
+        var _k = new double[m.length];
+        var l = 0;
+        for (int j = 0; j < m.length; j++) {
+            if (structured(m[j])) continue;
+
+            var _a = Elements.elements(m[j]);
+            var i = l++;
+            if (_a == n) {
+                a[i] = a[0];
+                _k[i] = _k[0];
+                i = 0;
+            }
+            a[i] = _a;
+            _k[i] = k[j];
+        }
+
+        for (int s = 0; s < n.length; s += BLOCK) {
+            var e = Math.min(n.length, s + BLOCK);
+            if (l == 0) {
+                Arrays.fill(n, s, e, 0);
+                continue;
+            }
+
+            double[] a0 = a[0];
+            var k0 = _k[0];
+            for (int i = s; i < e; i++)
+                n[i] = k0 * a0[i];
+
+            for (int j = 1; j < l; j++) {
+                double[] aj = a[j];
+                var kj = _k[j];
+                for (int i = s; i < e; i++)
+                    n[i] += kj * aj[i];
+            }
+        }
+
+        for (int j = 0; j < m.length; j++) {
+            if (!structured(m[j]) || m[j] instanceof ZeroMatrix) continue;
+
+            var d = m[j].getDiagonalEntries();
+            for (int i = 0; i < d.length; i++)
+                n[i * c + i] += k[j] * d[i];
+        }
+    }
+
+    /**
+     * The method returns true if the matrix is stored by its diagonal only.
+     *
+     * @param m the matrix
+     *
+     * @return true if it is structured
+     */
+    private static boolean structured(final Matrix m) {
+        return m instanceof ZeroMatrix || m instanceof IdentityMatrix || m instanceof DiagonalMatrix;
+    }
+
+    /**
+     * The method returns true if both matrices are the same operand.
+     *
+     * @param a a matrix
+     * @param b another matrix
+     *
+     * @return true if they share their elements
+     */
+    private static boolean same(final Matrix a, final Matrix b) {
+        if (a == b) return true;
+
+        var _a = Elements.array(a);
+        return _a != null && _a == Elements.array(b);
+    }
+
+    /**
+     * The method returns the evaluated matrix of a lazy matrix, or the
+     * matrix itself.
+     *
+     * @param m the matrix
+     *
+     * @return the matrix
+     */
+    private static Matrix unwrap(final Matrix m) {
+        return (m instanceof LazyMatrix) ? ((LazyMatrix) m).evaluate() : m;
+    }
+
+    /**
+     * The method returns the dimension of a matrix.
+     *
+     * @return the dimension of the matrix
+     */
+    @Override
+    public int[] size() {
+        return new int[]{r, c};
+    }
+
+    /**
+     * The method returns the number of rows of the matrix.
+     *
+     * @return the number of rows
+     */
+    @Override
+    public int rows() {
+        return r;
+    }
+
+    /**
+     * The method returns the number of columns of the matrix.
+     *
+     * @return the number of columns
+     */
+    @Override
+    public int columns() {
+        return c;
+    }
+
+    /**
+     * The method returns true if the matrix is a
+     * row vector, i.e. the dimension is 1 x n.
+     *
+     * @return true if it is a row vector, otherwise false
+     */
+    @Override
+    public boolean isRowVector() {
+        return r == 1 && c > 1;
+    }
+
+    /**
+     * The method returns true if the matrix is a
+     * column vector, i.e. the dimension is n x 1.
+     *
+     * @return true if it is a column vector, otherwise false
+     */
+    @Override
+    public boolean isColumnVector() {
+        return r > 1 && c == 1;
+    }
+
+    /**
+     * The method returns true if the matrix is a square matrix.
+     *
+     * @return true if it is a square matrix, otherwise false
+     */
+    @Override
+    public boolean isSquareMatrix() {
+        return r == c;
+    }
+
+    /**
+     * The method returns true if the matrix is diagonal.
+     *
+     * @return true if the matrix is diagonal
+     */
+    @Override
+    public boolean isDiagonal() {
+        return evaluate().isDiagonal();
+    }
+
+    /**
+     * The method returns all elements of the matrix.
+     *
+     * @return the matrix elements
+     */
+    @Override
+    public double[] toArray() {
+        return evaluate().toArray();
+    }
+
+    /**
+     * The method returns the element at the given position, computed from
+     * the operands without evaluating the expression.
+     *
+     * @param r the row index
+     * @param c the column index
+     *
+     * @return the element
+     */
+    @Override
+    public double get(final int r, final int c) {
+        var _v = v;
+        if (_v != null)
+            return _v.get(r, c);
+
+        var n = 0.0;
+        for (int j = 0; j < m.length; j++)
+            n += k[j] * m[j].get(r, c);
+
+        return n;
+    }
+
+    /**
+     * The method copies all elements of the matrix in row-major order into
+     * the destination, starting at the offset.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    @Override
+    public void copyTo(final double[] dst, final int o) {
+        evaluate().copyTo(dst, o);
+    }
+
+    /**
+     * The method returns a read-only buffer of all elements of the matrix.
+     *
+     * @return the read-only buffer of the elements
+     */
+    @Override
+    public DoubleBuffer asDoubleBuffer() {
+        return evaluate().asDoubleBuffer();
+    }
+
+    /**
+     * The method returns the row elements of the Matrix.
+     *
+     * @param row the row index
+     *
+     * @return the matrix row elements
+     */
+    @Override
+    public double[] getRow(final int row) {
+        return evaluate().getRow(row);
+    }
+
+    /**
+     * The method returns the column elements of a Matrix.
+     *
+     * @param column the column index
+     *
+     * @return the matrix column elements
+     */
+    @Override
+    public double[] getColumn(final int column) {
+        return evaluate().getColumn(column);
+    }
+
+    /**
+     * A rank of a matrix is independent rows of a matrix. That shows that how many
+     * rows of a matrix are totally independent, or co-dependent on other rows.
+     *
+     * @return the rank of matrix
+     */
+    @Override
+    public int getRank() {
+        return evaluate().getRank();
+    }
+
+    /**
+     * The method returns the transposed matrix.
+     *
+     * @return the transposed matrix
+     */
+    @Override
+    public Matrix getTransposed() {
+        return evaluate().getTransposed();
+    }
+
+    /**
+     * The method returns the diagonal entries of the matrix.
+     *
+     * @return the diagonal entries
+     */
+    @Override
+    public double[] getDiagonalEntries() {
+        return evaluate().getDiagonalEntries();
+    }
+
+    /**
+     * The method returns the expression of the sum, without evaluating it.
+     *
+     * @param o the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public LazyMatrix add(final Matrix o) {
+        return add(1, o);
+    }
+
+    /**
+     * The method returns the expression of the difference, without
+     * evaluating it.
+     *
+     * @param o the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public LazyMatrix subtract(final Matrix o) {
+        return add(-1, o);
+    }
+
+    /**
+     * A field can multiply with another of the same type. The expression is
+     * evaluated first.
+     *
+     * @param o the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix multiply(final Matrix o) {
+        return evaluate().multiply(unwrap(o));
+    }
+
+    /**
+     * A field can divided by another field of the same type. The expression
+     * is evaluated first.
+     *
+     * @param o the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix divide(final Matrix o) {
+        return evaluate().divide(unwrap(o));
+    }
+
+    /**
+     * The method returns the field with the given power. The expression is
+     * evaluated first.
+     *
+     * @param p the power
+     *
+     * @return the powered field
+     */
+    @Override
+    public Matrix power(final int p) {
+        return evaluate().power(p);
+    }
+
+    /**
+     * The method returns the expression of the additive inverse, without
+     * evaluating it.
+     *
+     * @return the additive inverse field
+     */
+    @Override
+    public LazyMatrix getAdditiveInverse() {
+        return scale(-1);
+    }
+
+    /**
+     * The method returns the multiplicative inverse of the field. The
+     * expression is evaluated first.
+     *
+     * @return the multiplicative inverse field
+     */
+    @Override
+    public Matrix getMultiplicativeInverse() {
+        return evaluate().getMultiplicativeInverse();
+    }
+
+    /**
+     * The method returns a 64-bit fingerprint of the shape and the content
+     * of the evaluated matrix.
+     *
+     * @return the fingerprint of the matrix
+     */
+    @Override
+    public long fingerprint() {
+        return evaluate().fingerprint();
+    }
+
+    /**
+     * The method returns true if the other matrix has the same dimension and
+     * every pair of elements a, b satisfies
+     * |a - b| &lt;= max(absolute, relative * max(|a|, |b|)).
+     *
+     * @param o        the other matrix
+     * @param absolute the absolute tolerance
+     * @param relative the relative tolerance
+     *
+     * @return true if the matrices are approximately equal
+     */
+    @Override
+    public boolean approximatelyEquals(final Matrix o, final double absolute, final double relative) {
+        return Elements.approximatelyEqual(evaluate(), unwrap(o), absolute, relative);
+    }
+
+    /**
+     * The method returns true if the other matrix has the same dimension and
+     * every pair of elements is at most the given number of representable
+     * doubles apart.
+     *
+     * @param o    the other matrix
+     * @param ulps the maximum distance in units in the last place
+     *
+     * @return true if the matrices are approximately equal
+     */
+    @Override
+    public boolean approximatelyEquals(final Matrix o, final int ulps) {
+        return Elements.approximatelyEqual(evaluate(), unwrap(o), ulps);
+    }
+
+    /**
+     * Returns a hash code value for the object, derived from the
+     * fingerprint, for the benefit of hash tables such as those
+     * provided by {@link HashMap}.
+     *
+     * @return a hash code value for this object.
+     *
+     * @see Object#equals(Object)
+     */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(fingerprint());
+    }
+
+    /**
+     * Indicates whether some other matrix of any representation holds
+     * the same elements.
+     *
+     * @param obj the reference object with which to compare.
+     *
+     * @return {@code true} if this object is the same as the obj
+     *         argument; {@code false} otherwise.
+     *
+     * @see #hashCode()
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof Matrix)) return false;
+
+        return Elements.equal(evaluate(), unwrap((Matrix) obj));
+    }
+
+    /**
+     * Returns a string representation of the evaluated matrix with four
+     * decimals.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return evaluate().toString();
+    }
+
+    /**
+     * The method returns a string representing the field upto
+     * specified decimal points.
+     *
+     * @param decimals the decimal precision
+     *
+     * @return the string representing the field
+     */
+    @Override
+    public String toString(final Rounding.Decimals decimals) {
+        return evaluate().toString(decimals);
+    }
+}
@@ -2,6 +2,8 @@ package com.katpara.follium.linear;
 
 import com.katpara.follium.Field;
 
+import java.nio.DoubleBuffer;
+
 /**
  * The interface defines a Matrix in the system, and it's operations.
  * Mathematically A matrix is an rectangular object of numbers, which
@@ -23,6 +25,22 @@ public interface Matrix extends Field<Matrix> {
      */
     int[] size();
 
+    /**
+     * The method returns the number of rows of the matrix. Unlike
+     * {@link #size()}, it does not allocate.
+     *
+     * @return the number of rows
+     */
+    int rows();
+
+    /**
+     * The method returns the number of columns of the matrix. Unlike
+     * {@link #size()}, it does not allocate.
+     *
+     * @return the number of columns
+     */
+    int columns();
+
     /**
      * The method returns true if the matrix is a
      * row vector, i.e. the dimension is 1 x n.
@@ -54,12 +72,41 @@ public interface Matrix extends Field<Matrix> {
     boolean isDiagonal();
 
     /**
-     * The method returns all elements of the matrix.
+     * The method returns a copy of all elements of the matrix in row-major
+     * order. Changing the copy never changes the matrix.
      *
      * @return the matrix elements
      */
     double[] toArray();
 
+    /**
+     * The method returns the element at the given position.
+     *
+     * @param r the row index
+     * @param c the column index
+     *
+     * @return the element
+     */
+    double get(final int r, final int c);
+
+    /**
+     * The method copies all elements of the matrix in row-major order into
+     * the destination, starting at the offset.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    void copyTo(final double[] dst, final int o);
+
+    /**
+     * The method returns a read-only buffer of all elements of the matrix
+     * in row-major order. A dense matrix shares its elements with the
+     * buffer, so the buffer can be handed out without copying the matrix.
+     *
+     * @return the read-only buffer of the elements
+     */
+    DoubleBuffer asDoubleBuffer();
+
     /**
      * The method returns the row elements of the Matrix.
      *
@@ -99,4 +146,48 @@ public interface Matrix extends Field<Matrix> {
      * @return the diagonal entries
      */
     double[] getDiagonalEntries();
+
+    /**
+     * The method returns a 64-bit fingerprint of the shape and the content
+     * of the matrix. Equal matrices have the same fingerprint regardless of
+     * their representation, and the fingerprint is the source of the hash code.
+     *
+     * @return the fingerprint of the matrix
+     */
+    long fingerprint();
+
+    /**
+     * The method returns true if the other matrix has the same dimension and
+     * every pair of elements a, b satisfies
+     * |a - b| &lt;= max(absolute, relative * max(|a|, |b|)).
+     *
+     * @param m        the other matrix
+     * @param absolute the absolute tolerance
+     * @param relative the relative tolerance
+     *
+     * @return true if the matrices are approximately equal
+     */
+    boolean approximatelyEquals(final Matrix m, final double absolute, final double relative);
+
+    /**
+     * The method returns true if the other matrix has the same dimension and
+     * every pair of elements is at most the given number of representable
+     * doubles apart.
+     *
+     * @param m    the other matrix
+     * @param ulps the maximum distance in units in the last place
+     *
+     * @return true if the matrices are approximately equal
+     */
+    boolean approximatelyEquals(final Matrix m, final int ulps);
+
+    /**
+     * The method returns the matrix in its cheapest representation, e.g. a
+     * dense matrix holding only a diagonal as a diagonal matrix.
+     *
+     * @return the matrix in its cheapest representation
+     */
+    default Matrix compact() {
+        return MatrixFactory.compact(this);
+    }
 }
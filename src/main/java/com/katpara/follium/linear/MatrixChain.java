@@ -0,0 +1,323 @@
+package com.katpara.follium.linear;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+
+import java.util.Arrays;
+
+/**
+ * The class is a product of a chain of matrices, which is evaluated in the
+ * order of the least work instead of from left to right. For example,
+ * A * B * C * v with n x n matrices and a column vector v costs n^3
+ * operations from the left, but only n^2 from the right.
+ * <p>
+ * The order is found by dynamic programming over the shapes and the
+ * structure of the operands. A product with a zero matrix is free, so is a
+ * product with an identity matrix. A product with a diagonal matrix costs one
+ * operation per element of the other operand, and a product of two dense
+ * matrices of p x q and q x r costs p * q * r operations. The structure of
+ * every partial product is known in advance, e.g. a product of diagonal
+ * matrices is diagonal, so it is accounted for as well.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class MatrixChain {
+
+    /**
+     * Holds the structure of a matrix holding only zeros
+     */
+    private static final int ZERO = 0;
+
+    /**
+     * Holds the structure of an identity matrix
+     */
+    private static final int IDENTITY = 1;
+
+    /**
+     * Holds the structure of a diagonal matrix
+     */
+    private static final int DIAGONAL = 2;
+
+    /**
+     * Holds the structure of any other matrix
+     */
+    private static final int DENSE = 3;
+
+    /**
+     * Holds the operands
+     */
+    private final Matrix[] m;
+
+    /**
+     * Holds the dimensions, the operand i is p[i] x p[i + 1]
+     */
+    private final int[] p;
+
+    /**
+     * Holds the structure of the product of the operands i to j at [i][j]
+     */
+    private final int[][] kind;
+
+    /**
+     * Holds the least number of operations of the product of the operands i to j at [i][j]
+     */
+    private final long[][] cost;
+
+    /**
+     * Holds the operand the product of the operands i to j is split after at [i][j]
+     */
+    private final int[][] split;
+
+    /**
+     * The constructor creates the chain and finds its order.
+     *
+     * @param m the operands
+     */
+    private MatrixChain(final Matrix[] m) {
+        if (m.length == 0)
+            throw new InvalidParameterProvidedException();
+
+        var n = m.length;
+        this.m = m;
+        this.p = new int[n + 1];
+        this.kind = new int[n][n];
+        this.cost = new long[n][n];
+        this.split = new int[n][n];
+
+        p[0] = m[0].rows();
+        for (int i = 0; i < n; i++) {
+            if (m[i].rows() != p[i])
+                throw new MatrixDimensionMismatchException();
+
+            p[i + 1] = m[i].columns();
+            kind[i][i] = kind(m[i]);
+        }
+
+        for (int l = 1; l < n; l++) {
+            for (int i = 0; i + l < n; i++) {
+                var j = i + l;
+                kind[i][j] = product(kind[i][j - 1], kind[j][j]);
+                cost[i][j] = Long.MAX_VALUE;
+
+                for (int k = i; k < j; k++) {
+                    var c = cost[i][k] + cost[k + 1][j] + cost(kind[i][k], kind[k + 1][j], p[i], p[k + 1], p[j + 1]);
+                    if (c < cost[i][j]) {
+                        cost[i][j] = c;
+                        split[i][j] = k;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The method returns the chain of the product of the given matrices.
+     *
+     * @param m the operands, from left to right
+     *
+     * @return the chain
+     */
+    public static MatrixChain of(final Matrix... m) {
+        return new MatrixChain(m.clone());
+    }
+
+    /**
+     * The method returns the chain with another operand on the right.
+     *
+     * @param o the operand
+     *
+     * @return the chain
+     */
+    public MatrixChain multiply(final Matrix o) {
+        var _m = Arrays.copyOf(m, m.length + 1);
+        _m[m.length] = o;
+        return new MatrixChain(_m);
+    }
+
+    /**
+     * The method returns the product of the chain, evaluated in the order
+     * of the least work.
+     *
+     * @return the product
+     */
+    public Matrix evaluate() {
+        return evaluate(0, m.length - 1);
+    }
+
+    /**
+     * The method returns the estimated floating point operations of the
+     * product in the order of the least work, two per multiply-add.
+     *
+     * @return the number of floating point operations
+     */
+    public long estimatedFlops() {
+        return 2 * cost[0][m.length - 1];
+    }
+
+    /**
+     * The method returns the estimated floating point operations of the
+     * product evaluated from left to right, two per multiply-add.
+     *
+     * @return the number of floating point operations
+     */
+    public long leftToRightFlops() {
+        long c = 0;
+        var k = kind[0][0];
+        for (int j = 1; j < m.length; j++) {
+            c += cost(k, kind[j][j], p[0], p[j], p[j + 1]);
+            k = product(k, kind[j][j]);
+        }
+
+        return 2 * c;
+    }
+
+    /**
+     * The method returns the estimated floating point operations saved by
+     * the order of the least work over the order from left to right.
+     *
+     * @return the number of floating point operations saved
+     */
+    public long estimatedSavings() {
+        return leftToRightFlops() - estimatedFlops();
+    }
+
+    /**
+     * The method returns the order of the product, with the operands named
+     * by their position, e.g. {@code (M0 (M1 M2))}.
+     *
+     * @return the parenthesized product
+     */
+    public String parenthesization() {
+        return parenthesization(0, m.length - 1);
+    }
+
+    /**
+     * Returns a string representation of the chain, its order and its
+     * estimated cost.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return parenthesization() + " [" + estimatedFlops() + " flops, " + estimatedSavings() + " saved]";
+    }
+
+    /**
+     * The method returns the order of the product of the operands i to j.
+     *
+     * @param i the first operand
+     * @param j the last operand
+     *
+     * @return the parenthesized product
+     */
+    private String parenthesization(final int i, final int j) {
+        if (i == j) return "M" + i;
+
+        var k = split[i][j];
+        return "(" + parenthesization(i, k) + " " + parenthesization(k + 1, j) + ")";
+    }
+
+    /**
+     * The method evaluates the product of the operands i to j.
+     *
+     * @param i the first operand
+     * @param j the last operand
+     *
+     * @return the product
+     */
+    private Matrix evaluate(final int i, final int j) {
+        if (i == j) return m[i];
+
+        var k = split[i][j];
+        return product(evaluate(i, k), evaluate(k + 1, j));
+    }
+
+    /**
+     * The method multiplies two matrices, keeping the structure of the
+     * zero, identity and diagonal matrices.
+     *
+     * @param a the left matrix
+     * @param b the right matrix
+     *
+     * @return the product
+     */
+    private static Matrix product(final Matrix a, final Matrix b) {
+        int ka = kind(a), kb = kind(b);
+        if (ka == ZERO || kb == ZERO)
+            return new ZeroMatrix(a.rows(), b.columns());
+        if (ka == IDENTITY)
+            return b;
+        if (kb == IDENTITY)
+            return a;
+
+        if (ka == DIAGONAL && kb == DIAGONAL) {
+            double[] n = a.getDiagonalEntries(), _d = b.getDiagonalEntries();
+            for (int i = 0; i < n.length; i++)
+                n[i] *= _d[i];
+
+            return new DiagonalMatrix(n);
+        }
+
+        var n = MatrixOperations.multiplyInto(a, b, new MutableMatrix(a.rows(), b.columns()));
+        return MutableMatrix.immutable(n.e, n.rows(), n.columns());
+    }
+
+    /**
+     * The method returns the structure of a matrix.
+     *
+     * @param m the matrix
+     *
+     * @return the structure
+     */
+    private static int kind(final Matrix m) {
+        if (m instanceof ZeroMatrix) return ZERO;
+        if (m instanceof IdentityMatrix) return IDENTITY;
+        if (m instanceof DiagonalMatrix) return DIAGONAL;
+
+        return DENSE;
+    }
+
+    /**
+     * The method returns the structure of the product of two structures.
+     *
+     * @param a the structure of the left matrix
+     * @param b the structure of the right matrix
+     *
+     * @return the structure of the product
+     */
+    private static int product(final int a, final int b) {
+        if (a == ZERO || b == ZERO) return ZERO;
+
+        return Math.max(a, b);
+    }
+
+    /**
+     * The method returns the number of multiply-adds of the product of a
+     * p x q matrix and a q x r matrix of the given structures.
+     *
+     * @param a the structure of the left matrix
+     * @param b the structure of the right matrix
+     * @param p the number of rows of the left matrix
+     * @param q the number of columns of the left matrix
+     * @param r the number of columns of the right matrix
+     *
+     * @return the number of multiply-adds
+     */
+    private static long cost(final int a, final int b, final long p, final long q, final long r) {
+        if (a == ZERO || b == ZERO || a == IDENTITY || b == IDENTITY)
+            return 0;
+        if (a == DIAGONAL && b == DIAGONAL)
+            return p;
+        if (a == DIAGONAL)
+            return q * r;
+        if (b == DIAGONAL)
+            return p * q;
+
+        return p * q * r;
+    }
+}
@@ -0,0 +1,201 @@
+package com.katpara.follium.linear;
+
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import com.katpara.follium.linear.squares.BandMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+import com.katpara.follium.linear.squares.LowerTriangularMatrix;
+import com.katpara.follium.linear.squares.PermutationMatrix;
+import com.katpara.follium.linear.squares.SymmetricMatrix;
+import com.katpara.follium.linear.squares.TriangularMatrix;
+import com.katpara.follium.linear.squares.TridiagonalMatrix;
+import com.katpara.follium.linear.squares.UpperTriangularMatrix;
+import com.katpara.follium.linear.squares.fixed.FixedSquareMatrix;
+
+/**
+ * The class creates a matrix in the cheapest representation of its
+ * elements. The elements are scanned once, in row-major order, for the
+ * number of non-zero elements, the distance of the farthest non-zero element
+ * below and above the diagonal and whether the diagonal holds only ones. From
+ * these a matrix holding only zeros becomes a {@link ZeroMatrix}, a diagonal
+ * one an {@link IdentityMatrix} or a {@link DiagonalMatrix}, one whose band
+ * holds less than half of the elements a {@link BandMatrix}, a triangular
+ * one a packed {@link LowerTriangularMatrix} or {@link UpperTriangularMatrix},
+ * and any other stays dense, with its triangular form handed to its property
+ * cache, so it is never scanned for again.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class MatrixFactory {
+
+    /**
+     * The private constructor to stop instantiation.
+     */
+    private MatrixFactory() {
+    }
+
+    /**
+     * The method returns a matrix of the elements in row-major order, in its
+     * cheapest representation. The elements are copied, so the caller may
+     * reuse the array.
+     *
+     * @param e the elements
+     * @param r the number of rows
+     * @param c the number of columns
+     *
+     * @return the matrix
+     */
+    public static Matrix of(final double[] e, final int r, final int c) {
+        if (r <= 0 || c <= 0 || e.length != r * c)
+            throw new InvalidMatrixDimensionProvidedException();
+
+        return classify(e, r, c, null);
+    }
+
+    /**
+     * The method returns a matrix of the two-dimensional elements, in its
+     * cheapest representation.
+     *
+     * @param e the two-dimensional elements
+     *
+     * @return the matrix
+     */
+    public static Matrix of(final double[][] e) {
+        if (e.length == 0 || e[0].length == 0)
+            throw new InvalidMatrixDimensionProvidedException();
+
+        int r = e.length, c = e[0].length;
+        var n = new double[r * c];
+        for (int i = 0; i < r; i++) {
+            if (e[i].length != c)
+                throw new InvalidMatrixDimensionProvidedException();
+
+            System.arraycopy(e[i], 0, n, i * c, c);
+        }
+
+        return classify(n, r, c, null);
+    }
+
+    /**
+     * The method returns the matrix in its cheapest representation, e.g. the
+     * result of an operation that turned out to be diagonal or triangular. A
+     * packed symmetric, triangular, band or permutation matrix is already
+     * compact and is returned as it is, without being expanded. A matrix
+     * that stays dense is returned as it is, unless its elements can change.
+     *
+     * @param m the matrix
+     *
+     * @return the matrix in its cheapest representation
+     */
+    public static Matrix compact(final Matrix m) {
+        if (m instanceof ZeroMatrix || m instanceof IdentityMatrix || m instanceof SymmetricMatrix
+                || m instanceof TriangularMatrix || m instanceof BandMatrix || m instanceof PermutationMatrix)
+            return m;
+
+        if (m instanceof DiagonalMatrix) {
+            boolean zeros = true, ones = true;
+            for (final double _d : m.getDiagonalEntries()) {
+                zeros &= _d == 0;
+                ones &= _d == 1;
+            }
+
+            if (zeros)
+                return new ZeroMatrix(m.rows(), m.columns());
+
+            return ones ? new IdentityMatrix(m.rows()) : m;
+        }
+
+        if (m instanceof AbstractMatrix)
+            return classify(((AbstractMatrix) m).e, m.rows(), m.columns(), m);
+        if (m instanceof FixedSquareMatrix && !((FixedSquareMatrix) m).isView())
+            return classify(m.toArray(), m.rows(), m.columns(), m);
+
+        return classify(m.toArray(), m.rows(), m.columns(), null);
+    }
+
+    /**
+     * The method scans the elements once and returns the matrix in its
+     * cheapest representation.
+     *
+     * @param e the elements
+     * @param r the number of rows
+     * @param c the number of columns
+     * @param m the immutable matrix of the elements, or null if there is none
+     *
+     * @return the matrix
+     */
+    private static Matrix classify(final double[] e, final int r, final int c, final Matrix m) {
+        int nonZeros = 0, below = 0, above = 0;
+        var ones = r == c;
+        for (int i = 0; i < r; i++) {
+            var o = i * c;
+            for (int j = 0; j < c; j++) {
+                if (e[o + j] != 0) {
+                    nonZeros++;
+                    if (j < i)
+                        below = Math.max(below, i - j);
+                    else if (j > i)
+                        above = Math.max(above, j - i);
+                }
+            }
+            if (ones && e[o + i] != 1)
+                ones = false;
+        }
+
+        if (nonZeros == 0)
+            return new ZeroMatrix(r, c);
+
+        if (r == c && below == 0 && above == 0) {
+            if (ones)
+                return new IdentityMatrix(r);
+
+            var d = new double[r];
+            for (int i = 0; i < r; i++)
+                d[i] = e[i * (c + 1)];
+
+            return new DiagonalMatrix(d);
+        }
+
+        if (r == c && 2 * (below + above + 1) < r) {
+            var w = below + above + 1;
+            var b = new double[r * w];
+            for (int i = 0; i < r; i++) {
+                for (int j = Math.max(0, i - below), _t = Math.min(r - 1, i + above); j <= _t; j++)
+                    b[i * w + j - i + below] = e[i * c + j];
+            }
+
+            return (below == 1 && above == 1) ? new TridiagonalMatrix(b) : new BandMatrix(b, below, above);
+        }
+
+        if (r == c && (below == 0 || above == 0)) {
+            var p = new double[r * (r + 1) / 2];
+            for (int i = 0, k = 0; i < r; i++) {
+                for (int j = 0; j <= i; j++, k++)
+                    p[k] = (above == 0) ? e[i * c + j] : e[j * c + i];
+            }
+
+            return (above == 0) ? new LowerTriangularMatrix(p) : new UpperTriangularMatrix(p);
+        }
+
+        var _m = (m != null) ? m : (r == c) ? new AnySquareMatrix(e) : new AnyRectangularMatrix(e, r, c);
+        if (_m instanceof AbstractMatrix) {
+            int t = 0, f = 0;
+            if (above == 0)
+                t |= AbstractMatrix.LOWER_TRIANGULAR;
+            else
+                f |= AbstractMatrix.LOWER_TRIANGULAR;
+            if (below == 0)
+                t |= AbstractMatrix.UPPER_TRIANGULAR;
+            else
+                f |= AbstractMatrix.UPPER_TRIANGULAR;
+
+            ((AbstractMatrix) _m).learn(t, f);
+        }
+
+        return _m;
+    }
+}
@@ -0,0 +1,493 @@
+package com.katpara.follium.linear;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.squares.BandMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+import com.katpara.follium.linear.squares.PermutationMatrix;
+import com.katpara.follium.linear.squares.SymmetricMatrix;
+import com.katpara.follium.linear.squares.TriangularMatrix;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * The class holds the matrix operations writing their result into a
+ * caller owned {@link MutableMatrix}, so an iterative algorithm can reuse
+ * the same storage and allocate nothing in its loop.
+ * <p>
+ * The operands are read in place when they are dense. The zero, identity
+ * and diagonal matrices are applied by their diagonal without being
+ * expanded. Any other representation is read through a copy of its
+ * elements.
+ * </p>
+ * <p>
+ * A product with a vector, either a {@link DenseVector} or a matrix with a
+ * single row or column, runs a matrix-vector kernel which streams the
+ * matrix row by row exactly once. A packed symmetric or triangular matrix
+ * is applied by its packed triangle, a band matrix by its band and a
+ * permutation matrix by moving the elements of the vector.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class MatrixOperations {
+
+    /**
+     * Holds the edge of the square tiles of a transpose
+     */
+    private static final int TILE = 32;
+
+    /**
+     * Holds the number of rows of a task of a parallel matrix-vector product
+     */
+    private static final int ROW_BLOCK = 256;
+
+    private MatrixOperations() {
+    }
+
+    /**
+     * The method writes the product of two matrices into the destination.
+     * The destination must not share its elements with an operand.
+     *
+     * @param a   the left matrix
+     * @param b   the right matrix
+     * @param dst the destination of a.rows() x b.columns()
+     *
+     * @return the destination
+     */
+    public static MutableMatrix multiplyInto(final Matrix a, final Matrix b, final MutableMatrix dst) {
+        if (a.columns() != b.rows())
+            throw new MatrixDimensionMismatchException();
+        checkShape(dst, a.rows(), b.columns());
+
+        var d = dst.e;
+        if (d == Elements.array(a) || d == Elements.array(b))
+            throw new InvalidParameterProvidedException();
+
+        if (a instanceof ZeroMatrix || b instanceof ZeroMatrix) {
+            Arrays.fill(d, 0);
+        } else if (a instanceof IdentityMatrix) {
+            copy(b, d);
+        } else if (b instanceof IdentityMatrix) {
+            copy(a, d);
+        } else if (a instanceof DiagonalMatrix) {
+            copy(b, d);
+            var _d = Elements.diagonalView(a);
+            for (int i = 0, c = b.columns(), n = _d.limit(); i < n; i++)
+                for (int j = i * c, l = j + c; j < l; j++)
+                    d[j] *= _d.get(i);
+        } else if (b instanceof DiagonalMatrix) {
+            copy(a, d);
+            var _d = Elements.diagonalView(b);
+            for (int k = 0, n = _d.limit(); k < d.length; k += n)
+                for (int j = 0; j < n; j++)
+                    d[k + j] *= _d.get(j);
+        } else {
+            multiply(Elements.elements(a), a.rows(), a.columns(), Elements.elements(b), b.columns(), d);
+        }
+
+        return dst;
+    }
+
+    /**
+     * The method writes the product of the matrix and the vector into the
+     * destination, i.e. y = A * x. The destination must not be the vector.
+     *
+     * @param a the matrix
+     * @param x the vector of a.columns() elements
+     * @param y the destination of a.rows() elements
+     *
+     * @return the destination
+     */
+    public static DenseVector multiplyInto(final Matrix a, final DenseVector x, final DenseVector y) {
+        return multiplyInto(a, x, y, false);
+    }
+
+    /**
+     * The method writes the product of the matrix and the vector into the
+     * destination, i.e. y = A * x. The destination must not be the vector.
+     * If parallel, blocks of rows are computed by the common pool.
+     *
+     * @param a        the matrix
+     * @param x        the vector of a.columns() elements
+     * @param y        the destination of a.rows() elements
+     * @param parallel true to compute blocks of rows in parallel
+     *
+     * @return the destination
+     */
+    public static DenseVector multiplyInto(final Matrix a, final DenseVector x, final DenseVector y,
+                                           final boolean parallel) {
+        int r = a.rows(), c = a.columns();
+        checkVectors(x, c, y, r);
+
+        if (a instanceof SymmetricMatrix)
+            return ((SymmetricMatrix) a).multiplyInto(x, y);
+        if (a instanceof BandMatrix)
+            return ((BandMatrix) a).multiplyInto(x, y);
+        if (a instanceof PermutationMatrix)
+            return ((PermutationMatrix) a).multiplyInto(x, y);
+        if (a instanceof TriangularMatrix)
+            return ((TriangularMatrix) a).multiplyInto(x, y);
+
+        if (!multiplyStructured(a, x.e, y.e)) {
+            var _e = Elements.elements(a);
+            if (parallel && r > ROW_BLOCK) {
+                IntStream.range(0, (r + ROW_BLOCK - 1) / ROW_BLOCK).parallel().forEach(
+                        t -> gemv(_e, c, x.e, y.e, t * ROW_BLOCK, Math.min(r, (t + 1) * ROW_BLOCK)));
+            } else {
+                gemv(_e, c, x.e, y.e, 0, r);
+            }
+        }
+
+        return y;
+    }
+
+    /**
+     * The method writes the product of the transposed matrix and the vector
+     * into the destination, i.e. y = A^T * x, without transposing the
+     * matrix. The destination must not be the vector.
+     *
+     * @param a the matrix
+     * @param x the vector of a.rows() elements
+     * @param y the destination of a.columns() elements
+     *
+     * @return the destination
+     */
+    public static DenseVector multiplyTransposedInto(final Matrix a, final DenseVector x, final DenseVector y) {
+        int r = a.rows(), c = a.columns();
+        checkVectors(x, r, y, c);
+
+        if (a instanceof SymmetricMatrix)
+            return ((SymmetricMatrix) a).multiplyInto(x, y);
+        if (a instanceof BandMatrix)
+            return ((BandMatrix) a).multiplyTransposedInto(x, y);
+        if (a instanceof PermutationMatrix)
+            return ((PermutationMatrix) a).multiplyTransposedInto(x, y);
+        if (a instanceof TriangularMatrix)
+            return ((TriangularMatrix) a).multiplyTransposedInto(x, y);
+
+        if (!multiplyStructured(a, x.e, y.e))
+            gemvTransposed(Elements.elements(a), r, c, x.e, y.e);
+
+        return y;
+    }
+
+    /**
+     * The method writes the sum of two matrices into the destination. The
+     * destination may be an operand.
+     *
+     * @param a   a matrix
+     * @param b   another matrix
+     * @param dst the destination of the same dimension
+     *
+     * @return the destination
+     */
+    public static MutableMatrix addInto(final Matrix a, final Matrix b, final MutableMatrix dst) {
+        checkShape(a, b.rows(), b.columns());
+        checkShape(dst, a.rows(), a.columns());
+
+        var d = dst.e;
+        if (d == Elements.array(b)) {
+            accumulate(a, 1, d);
+        } else {
+            copy(a, d);
+            accumulate(b, 1, d);
+        }
+
+        return dst;
+    }
+
+    /**
+     * The method writes the difference of two matrices into the destination.
+     * The destination may be an operand.
+     *
+     * @param a   a matrix
+     * @param b   the subtracted matrix
+     * @param dst the destination of the same dimension
+     *
+     * @return the destination
+     */
+    public static MutableMatrix subtractInto(final Matrix a, final Matrix b, final MutableMatrix dst) {
+        checkShape(a, b.rows(), b.columns());
+        checkShape(dst, a.rows(), a.columns());
+
+        var d = dst.e;
+        if (d == Elements.array(b)) {
+            for (int i = 0; i < d.length; i++)
+                d[i] = -d[i];
+            accumulate(a, 1, d);
+        } else {
+            copy(a, d);
+            accumulate(b, -1, d);
+        }
+
+        return dst;
+    }
+
+    /**
+     * The method writes the matrix multiplied by a scalar into the
+     * destination. The destination may be the operand.
+     *
+     * @param a   the matrix
+     * @param k   the scalar
+     * @param dst the destination of the same dimension
+     *
+     * @return the destination
+     */
+    public static MutableMatrix scaleInto(final Matrix a, final double k, final MutableMatrix dst) {
+        checkShape(dst, a.rows(), a.columns());
+
+        var d = dst.e;
+        copy(a, d);
+        for (int i = 0; i < d.length; i++)
+            d[i] *= k;
+
+        return dst;
+    }
+
+    /**
+     * The method writes the additive inverse of the matrix into the
+     * destination. The destination may be the operand.
+     *
+     * @param a   the matrix
+     * @param dst the destination of the same dimension
+     *
+     * @return the destination
+     */
+    public static MutableMatrix negateInto(final Matrix a, final MutableMatrix dst) {
+        checkShape(dst, a.rows(), a.columns());
+
+        var d = dst.e;
+        copy(a, d);
+        for (int i = 0; i < d.length; i++)
+            d[i] = -d[i];
+
+        return dst;
+    }
+
+    /**
+     * The method writes the transposed matrix into the destination. The
+     * destination may be the operand only if it is square.
+     *
+     * @param a   the matrix
+     * @param dst the destination of a.columns() x a.rows()
+     *
+     * @return the destination
+     */
+    public static MutableMatrix transposeInto(final Matrix a, final MutableMatrix dst) {
+        checkShape(dst, a.columns(), a.rows());
+
+        var d = dst.e;
+        if (d == Elements.array(a)) {
+            if (a.rows() != a.columns())
+                throw new InvalidParameterProvidedException();
+
+            var n = a.rows();
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    var _t = d[i * n + j];
+                    d[i * n + j] = d[j * n + i];
+                    d[j * n + i] = _t;
+                }
+            }
+        } else if (a instanceof ZeroMatrix || a instanceof IdentityMatrix || a instanceof DiagonalMatrix) {
+            copy(a, d);
+        } else {
+            transpose(Elements.elements(a), a.rows(), a.columns(), d);
+        }
+
+        return dst;
+    }
+
+    /**
+     * The method multiplies two row-major arrays in the i-k-j order, which
+     * walks the right operand and the product row by row. A product with a
+     * column vector on the right or a row vector on the left runs the
+     * matrix-vector kernels instead.
+     *
+     * @param a the left elements
+     * @param r the number of rows of the left elements
+     * @param k the number of columns of the left elements
+     * @param b the right elements
+     * @param c the number of columns of the right elements
+     * @param n the product elements, distinct from both operands
+     */
+    static void multiply(final double[] a, final int r, final int k, final double[] b, final int c,
+                         final double[] n) {
+        if (c == 1) {
+            gemv(a, k, b, n, 0, r);
+            return;
+        }
+        if (r == 1) {
+            gemvTransposed(b, k, c, a, n);
+            return;
+        }
+
+        for (int i = 0; i < r; i++) {
+            var o = i * c;
+            Arrays.fill(n, o, o + c, 0);
+            for (int p = 0; p < k; p++) {
+                var x = a[i * k + p];
+                for (int j = 0, _b = p * c; j < c; j++)
+                    n[o + j] += x * b[_b + j];
+            }
+        }
+    }
+
+    /**
+     * The method writes the products of the rows from one index up to
+     * another of a row-major array and a vector, one dot product per row.
+     *
+     * @param a    the elements
+     * @param c    the number of columns
+     * @param x    the vector of c elements
+     * @param y    the product, distinct from the vector
+     * @param from the first row
+     * @param to   the row after the last one
+     */
+    static void gemv(final double[] a, final int c, final double[] x, final double[] y,
+                     final int from, final int to) {
+        for (int i = from; i < to; i++)
+            y[i] = DenseVector.dot(a, i * c, x, c);
+    }
+
+    /**
+     * The method writes the product of the transpose of a row-major array
+     * and a vector, by adding every row multiplied by its element of the
+     * vector, so the array is still walked row by row.
+     *
+     * @param a the elements
+     * @param r the number of rows
+     * @param c the number of columns
+     * @param x the vector of r elements
+     * @param y the product of c elements, distinct from the vector
+     */
+    static void gemvTransposed(final double[] a, final int r, final int c, final double[] x, final double[] y) {
+        Arrays.fill(y, 0, c, 0);
+        for (int i = 0; i < r; i++) {
+            var _x = x[i];
+            for (int j = 0, o = i * c; j < c; j++)
+                y[j] += _x * a[o + j];
+        }
+    }
+
+    /**
+     * The method transposes a row-major array tile by tile, so both the
+     * source and the destination are walked within the cache.
+     *
+     * @param a the elements
+     * @param r the number of rows
+     * @param c the number of columns
+     * @param n the transposed elements, distinct from the elements
+     */
+    static void transpose(final double[] a, final int r, final int c, final double[] n) {
+        for (int _i = 0; _i < r; _i += TILE) {
+            for (int _j = 0; _j < c; _j += TILE) {
+                for (int i = _i, _r = Math.min(r, _i + TILE); i < _r; i++)
+                    for (int j = _j, _c = Math.min(c, _j + TILE); j < _c; j++)
+                        n[j * r + i] = a[i * c + j];
+            }
+        }
+    }
+
+    /**
+     * The method adds the matrix multiplied by a scalar to the row-major
+     * elements of the same dimension.
+     *
+     * @param m the matrix
+     * @param k the scalar
+     * @param d the elements
+     */
+    static void accumulate(final Matrix m, final double k, final double[] d) {
+        if (m instanceof ZeroMatrix)
+            return;
+
+        if (m instanceof IdentityMatrix || m instanceof DiagonalMatrix) {
+            var _d = Elements.diagonalView(m);
+            for (int i = 0, n = _d.limit(); i < n; i++)
+                d[i * n + i] += k * _d.get(i);
+            return;
+        }
+
+        var _e = Elements.elements(m);
+        for (int i = 0; i < d.length; i++)
+            d[i] += k * _e[i];
+    }
+
+    /**
+     * The method copies the elements of the matrix into the row-major
+     * elements of the same dimension.
+     *
+     * @param m the matrix
+     * @param d the elements
+     */
+    static void copy(final Matrix m, final double[] d) {
+        if (m instanceof ZeroMatrix || m instanceof IdentityMatrix || m instanceof DiagonalMatrix) {
+            Arrays.fill(d, 0);
+            accumulate(m, 1, d);
+            return;
+        }
+
+        var _e = Elements.elements(m);
+        if (_e != d)
+            System.arraycopy(_e, 0, d, 0, d.length);
+    }
+
+    /**
+     * The method writes the product of a zero, identity or diagonal matrix
+     * and a vector, which is the same as the product of its transpose.
+     *
+     * @param a the matrix
+     * @param x the vector
+     * @param y the product
+     *
+     * @return false if the matrix is none of them
+     */
+    private static boolean multiplyStructured(final Matrix a, final double[] x, final double[] y) {
+        if (a instanceof ZeroMatrix) {
+            Arrays.fill(y, 0);
+        } else if (a instanceof IdentityMatrix) {
+            System.arraycopy(x, 0, y, 0, y.length);
+        } else if (a instanceof DiagonalMatrix) {
+            var _d = Elements.diagonalView(a);
+            for (int i = 0; i < y.length; i++)
+                y[i] = _d.get(i) * x[i];
+        } else {
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * The method checks the sizes of the operand and the destination of a
+     * matrix-vector product.
+     *
+     * @param x  the operand
+     * @param nx the expected size of the operand
+     * @param y  the destination
+     * @param ny the expected size of the destination
+     */
+    private static void checkVectors(final DenseVector x, final int nx, final DenseVector y, final int ny) {
+        if (x.size() != nx || y.size() != ny)
+            throw new MatrixDimensionMismatchException();
+        if (x.shares(y))
+            throw new InvalidParameterProvidedException();
+    }
+
+    /**
+     * The method checks the dimension of a matrix.
+     *
+     * @param m the matrix
+     * @param r the expected number of rows
+     * @param c the expected number of columns
+     */
+    private static void checkShape(final Matrix m, final int r, final int c) {
+        if (m.rows() != r || m.columns() != c)
+            throw new MatrixDimensionMismatchException();
+    }
+}
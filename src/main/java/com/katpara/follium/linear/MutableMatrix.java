@@ -0,0 +1,639 @@
+package com.katpara.follium.linear;
+
+import com.katpara.follium.exceptions.linears.ColumnOutOfBoundException;
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.exceptions.linears.NotSquareMatrixException;
+import com.katpara.follium.exceptions.linears.RowOutOfBoundException;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import com.katpara.follium.util.Rounding;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * The class is a dense matrix whose elements can be changed in place. It is
+ * the destination of the {@link MatrixOperations}, and its in-place methods
+ * reuse its own storage, so an iterative algorithm allocates nothing once
+ * its matrices are created.
+ * <p>
+ * The {@link com.katpara.follium.Field} operations leave the matrix as it
+ * is and return a new immutable matrix. As the elements change, the
+ * fingerprint and the hash code change with them, so a mutable matrix
+ * should not be a key of a hash table while it is changed.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class MutableMatrix implements Matrix {
+
+    /**
+     * Holds the matrix elements
+     */
+    final double[] e;
+
+    /**
+     * Holds the number of rows
+     */
+    private final int r;
+
+    /**
+     * Holds the number of columns
+     */
+    private final int c;
+
+    /**
+     * The constructor creates a matrix holding zeros.
+     *
+     * @param r a number of rows
+     * @param c a number of columns
+     */
+    public MutableMatrix(final int r, final int c) {
+        if (r <= 0 || c <= 0 || (long) r * c > Integer.MAX_VALUE)
+            throw new InvalidMatrixDimensionProvidedException();
+
+        this.e = new double[r * c];
+        this.r = r;
+        this.c = c;
+    }
+
+    /**
+     * The constructor creates a matrix on top of the row-major elements,
+     * without copying them.
+     *
+     * @param e the element array
+     * @param r a number of rows
+     * @param c a number of columns
+     */
+    public MutableMatrix(final double[] e, final int r, final int c) {
+        if (r <= 0 || c <= 0 || e.length != (long) r * c)
+            throw new InvalidMatrixDimensionProvidedException();
+
+        this.e = e;
+        this.r = r;
+        this.c = c;
+    }
+
+    /**
+     * The constructor creates a matrix holding a copy of the elements of
+     * the given matrix.
+     *
+     * @param m the matrix
+     */
+    public MutableMatrix(final Matrix m) {
+        this(m.rows(), m.columns());
+        MatrixOperations.copy(m, e);
+    }
+
+    /**
+     * The method returns the element at the given position.
+     *
+     * @param r the row index
+     * @param c the column index
+     *
+     * @return the element
+     */
+    @Override
+    public double get(final int r, final int c) {
+        return e[index(r, c)];
+    }
+
+    /**
+     * The method sets the element at the given position.
+     *
+     * @param r the row index
+     * @param c the column index
+     * @param v the element
+     */
+    public void set(final int r, final int c, final double v) {
+        e[index(r, c)] = v;
+    }
+
+    /**
+     * The method copies the elements of the given matrix into this matrix.
+     *
+     * @param m the matrix of the same dimension
+     *
+     * @return this matrix
+     */
+    public MutableMatrix assign(final Matrix m) {
+        checkShape(m);
+        MatrixOperations.copy(m, e);
+        return this;
+    }
+
+    /**
+     * The method sets every element to the value.
+     *
+     * @param v the value
+     *
+     * @return this matrix
+     */
+    public MutableMatrix fill(final double v) {
+        Arrays.fill(e, v);
+        return this;
+    }
+
+    /**
+     * The method adds the given matrix to this matrix.
+     *
+     * @param m the matrix of the same dimension
+     *
+     * @return this matrix
+     */
+    public MutableMatrix addInPlace(final Matrix m) {
+        return addInPlace(1, m);
+    }
+
+    /**
+     * The method adds the given matrix multiplied by a scalar to this
+     * matrix, i.e. this += k * m.
+     *
+     * @param k the scalar
+     * @param m the matrix of the same dimension
+     *
+     * @return this matrix
+     */
+    public MutableMatrix addInPlace(final double k, final Matrix m) {
+        checkShape(m);
+        MatrixOperations.accumulate(m, k, e);
+        return this;
+    }
+
+    /**
+     * The method subtracts the given matrix from this matrix.
+     *
+     * @param m the matrix of the same dimension
+     *
+     * @return this matrix
+     */
+    public MutableMatrix subtractInPlace(final Matrix m) {
+        return addInPlace(-1, m);
+    }
+
+    /**
+     * The method multiplies every element by a scalar.
+     *
+     * @param k the scalar
+     *
+     * @return this matrix
+     */
+    public MutableMatrix scaleInPlace(final double k) {
+        for (int i = 0; i < e.length; i++)
+            e[i] *= k;
+
+        return this;
+    }
+
+    /**
+     * The method replaces this matrix by its additive inverse.
+     *
+     * @return this matrix
+     */
+    public MutableMatrix negateInPlace() {
+        for (int i = 0; i < e.length; i++)
+            e[i] = -e[i];
+
+        return this;
+    }
+
+    /**
+     * The method replaces this square matrix by its transpose.
+     *
+     * @return this matrix
+     */
+    public MutableMatrix transposeInPlace() {
+        if (r != c)
+            throw new NotSquareMatrixException();
+
+        return MatrixOperations.transposeInto(this, this);
+    }
+
+    /**
+     * The method returns an immutable copy of this matrix.
+     *
+     * @return the immutable matrix
+     */
+    public Matrix toImmutable() {
+        return immutable(e, r, c);
+    }
+
+    /**
+     * The method returns the dimension of a matrix.
+     *
+     * @return the dimension of the matrix
+     */
+    @Override
+    public int[] size() {
+        return new int[]{r, c};
+    }
+
+    /**
+     * The method returns the number of rows of the matrix.
+     *
+     * @return the number of rows
+     */
+    @Override
+    public int rows() {
+        return r;
+    }
+
+    /**
+     * The method returns the number of columns of the matrix.
+     *
+     * @return the number of columns
+     */
+    @Override
+    public int columns() {
+        return c;
+    }
+
+    /**
+     * The method returns true if the matrix is a
+     * row vector, i.e. the dimension is 1 x n.
+     *
+     * @return true if it is a row vector, otherwise false
+     */
+    @Override
+    public boolean isRowVector() {
+        return r == 1 && c > 1;
+    }
+
+    /**
+     * The method returns true if the matrix is a
+     * column vector, i.e. the dimension is n x 1.
+     *
+     * @return true if it is a column vector, otherwise false
+     */
+    @Override
+    public boolean isColumnVector() {
+        return r > 1 && c == 1;
+    }
+
+    /**
+     * The method returns true if the matrix is a square matrix.
+     *
+     * @return true if it is a square matrix, otherwise false
+     */
+    @Override
+    public boolean isSquareMatrix() {
+        return r == c;
+    }
+
+    /**
+     * The method returns true if the matrix is diagonal.
+     *
+     * @return true if the matrix is diagonal
+     */
+    @Override
+    public boolean isDiagonal() {
+        for (int i = 0; i < r; i++)
+            for (int j = 0; j < c; j++)
+                if (i != j && e[i * c + j] != 0) return false;
+
+        return true;
+    }
+
+    /**
+     * The method returns a copy of all elements of the matrix.
+     *
+     * @return the matrix elements
+     */
+    @Override
+    public double[] toArray() {
+        return Arrays.copyOf(e, e.length);
+    }
+
+    /**
+     * The method copies all elements of the matrix in row-major order into
+     * the destination, starting at the offset.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    @Override
+    public void copyTo(final double[] dst, final int o) {
+        if (o < 0 || o > dst.length - e.length)
+            throw new InvalidMatrixDimensionProvidedException();
+
+        System.arraycopy(e, 0, dst, o, e.length);
+    }
+
+    /**
+     * The method returns a read-only buffer sharing the elements of the
+     * matrix. The buffer shows the later changes of the matrix.
+     *
+     * @return the read-only buffer of the elements
+     */
+    @Override
+    public DoubleBuffer asDoubleBuffer() {
+        return DoubleBuffer.wrap(e).asReadOnlyBuffer();
+    }
+
+    /**
+     * The method returns the row elements of the Matrix.
+     *
+     * @param row the row index
+     *
+     * @return the matrix row elements
+     */
+    @Override
+    public double[] getRow(final int row) {
+        if (row < 0 || row >= r)
+            throw new RowOutOfBoundException();
+
+        return Arrays.copyOfRange(e, row * c, row * c + c);
+    }
+
+    /**
+     * The method returns the column elements of a Matrix.
+     *
+     * @param column the column index
+     *
+     * @return the matrix column elements
+     */
+    @Override
+    public double[] getColumn(final int column) {
+        if (column < 0 || column >= c)
+            throw new ColumnOutOfBoundException();
+
+        var n = new double[r];
+        for (int i = 0; i < r; i++)
+            n[i] = e[i * c + column];
+
+        return n;
+    }
+
+    /**
+     * A rank of a matrix is independent rows of a matrix. That shows that how many
+     * rows of a matrix are totally independent, or co-dependent on other rows.
+     *
+     * @return the rank of matrix
+     */
+    @Override
+    public int getRank() {
+        return toImmutable().getRank();
+    }
+
+    /**
+     * The method returns the transposed matrix.
+     *
+     * @return the transposed matrix
+     */
+    @Override
+    public Matrix getTransposed() {
+        var n = new double[e.length];
+        MatrixOperations.transpose(e, r, c, n);
+        return immutable(n, c, r);
+    }
+
+    /**
+     * The method returns the diagonal entries of the matrix.
+     *
+     * @return the diagonal entries
+     */
+    @Override
+    public double[] getDiagonalEntries() {
+        var n = new double[Math.min(r, c)];
+        for (int i = 0; i < n.length; i++)
+            n[i] = e[i * c + i];
+
+        return n;
+    }
+
+    /**
+     * A fields can be added to another field of the same type.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix add(final Matrix m) {
+        var n = new MutableMatrix(r, c);
+        return MatrixOperations.addInto(this, m, n).toImmutable();
+    }
+
+    /**
+     * A fields can be subtracted from another field of the same type.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix subtract(final Matrix m) {
+        var n = new MutableMatrix(r, c);
+        return MatrixOperations.subtractInto(this, m, n).toImmutable();
+    }
+
+    /**
+     * A field can multiply with another of the same type.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix multiply(final Matrix m) {
+        var n = new MutableMatrix(r, m.columns());
+        return MatrixOperations.multiplyInto(this, m, n).toImmutable();
+    }
+
+    /**
+     * A field can divided by another field of the same type.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix divide(final Matrix m) {
+        return toImmutable().divide(m);
+    }
+
+    /**
+     * The method returns the field with the given power.
+     *
+     * @param p the power
+     *
+     * @return the powered field
+     */
+    @Override
+    public Matrix power(final int p) {
+        return toImmutable().power(p);
+    }
+
+    /**
+     * The method returns the additive inverse of the field.
+     *
+     * @return the additive inverse field
+     */
+    @Override
+    public Matrix getAdditiveInverse() {
+        var n = new MutableMatrix(r, c);
+        return MatrixOperations.negateInto(this, n).toImmutable();
+    }
+
+    /**
+     * The method returns the multiplicative inverse of the field.
+     *
+     * @return the multiplicative inverse field
+     */
+    @Override
+    public Matrix getMultiplicativeInverse() {
+        return toImmutable().getMultiplicativeInverse();
+    }
+
+    /**
+     * The method returns a 64-bit fingerprint of the shape and the current
+     * content of the matrix. It is computed on every call.
+     *
+     * @return the fingerprint of the matrix
+     */
+    @Override
+    public long fingerprint() {
+        return Elements.fingerprint(e, r, c);
+    }
+
+    /**
+     * The method returns true if the other matrix has the same dimension and
+     * every pair of elements a, b satisfies
+     * |a - b| &lt;= max(absolute, relative * max(|a|, |b|)).
+     *
+     * @param m        the other matrix
+     * @param absolute the absolute tolerance
+     * @param relative the relative tolerance
+     *
+     * @return true if the matrices are approximately equal
+     */
+    @Override
+    public boolean approximatelyEquals(final Matrix m, final double absolute, final double relative) {
+        return Elements.approximatelyEqual(this, m, absolute, relative);
+    }
+
+    /**
+     * The method returns true if the other matrix has the same dimension and
+     * every pair of elements is at most the given number of representable
+     * doubles apart.
+     *
+     * @param m    the other matrix
+     * @param ulps the maximum distance in units in the last place
+     *
+     * @return true if the matrices are approximately equal
+     */
+    @Override
+    public boolean approximatelyEquals(final Matrix m, final int ulps) {
+        return Elements.approximatelyEqual(this, m, ulps);
+    }
+
+    /**
+     * Returns a hash code value for the object, derived from the
+     * current fingerprint, for the benefit of hash tables such as those
+     * provided by {@link HashMap}.
+     *
+     * @return a hash code value for this object.
+     *
+     * @see Object#equals(Object)
+     */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(fingerprint());
+    }
+
+    /**
+     * Indicates whether some other matrix of any representation holds
+     * the same elements.
+     *
+     * @param obj the reference object with which to compare.
+     *
+     * @return {@code true} if this object is the same as the obj
+     *         argument; {@code false} otherwise.
+     *
+     * @see #hashCode()
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof Matrix)) return false;
+
+        return Elements.equal(this, (Matrix) obj);
+    }
+
+    /**
+     * Returns a string representation of the matrix with four decimals.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return toString(Rounding.Decimals.FOUR);
+    }
+
+    /**
+     * The method returns a string representing the field upto
+     * specified decimal points.
+     *
+     * @param decimals the decimal precision
+     *
+     * @return the string representing the field
+     */
+    @Override
+    public String toString(final Rounding.Decimals decimals) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < r; i++) {
+            sb.append("|");
+            for (int j = 0; j < c; j++) {
+                sb.append(Rounding.round(e[i * c + j], decimals));
+                if (j != c - 1)
+                    sb.append(" ");
+            }
+            sb.append("|\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * The method returns the position of an element in the array.
+     *
+     * @param i the row index
+     * @param j the column index
+     *
+     * @return the position
+     */
+    private int index(final int i, final int j) {
+        if (i < 0 || i >= r)
+            throw new RowOutOfBoundException();
+        if (j < 0 || j >= c)
+            throw new ColumnOutOfBoundException();
+
+        return i * c + j;
+    }
+
+    /**
+     * The method checks that the matrix has the dimension of this matrix.
+     *
+     * @param m the matrix
+     */
+    private void checkShape(final Matrix m) {
+        if (m.rows() != r || m.columns() != c)
+            throw new MatrixDimensionMismatchException();
+    }
+
+    /**
+     * The method returns an immutable matrix of the row-major elements, which
+     * it copies.
+     *
+     * @param n the elements
+     * @param r a number of rows
+     * @param c a number of columns
+     *
+     * @return the immutable matrix
+     */
+    static Matrix immutable(final double[] n, final int r, final int c) {
+        return (r == c) ? new AnySquareMatrix(n) : new AnyRectangularMatrix(n, r, c);
+    }
+}
@@ -1,14 +1,18 @@
 package com.katpara.follium.linear.constants;
 
 import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.exceptions.linears.ColumnOutOfBoundException;
 import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
 import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.exceptions.linears.RowOutOfBoundException;
+import com.katpara.follium.linear.Elements;
 import com.katpara.follium.linear.Matrix;
 import com.katpara.follium.linear.squares.AnySquareMatrix;
 import com.katpara.follium.linear.squares.DiagonalMatrix;
 import com.katpara.follium.linear.squares.SquareMatrix;
 import com.katpara.follium.util.Rounding;
 
+import java.nio.DoubleBuffer;
 import java.util.Arrays;
 import java.util.HashMap;
 
@@ -25,6 +29,11 @@ public final class IdentityMatrix implements SquareMatrix {
      */
     protected final int[] s;
 
+    /**
+     * Holds the lazily computed fingerprint, 0 until it is computed
+     */
+    private volatile long f;
+
     public IdentityMatrix(final int r) {
         if (r <= 0)
             throw new InvalidMatrixDimensionProvidedException();
@@ -127,6 +136,26 @@ public final class IdentityMatrix implements SquareMatrix {
         return Arrays.copyOf(s, 2);
     }
 
+    /**
+     * The method returns the number of rows of the matrix.
+     *
+     * @return the number of rows
+     */
+    @Override
+    public int rows() {
+        return s[0];
+    }
+
+    /**
+     * The method returns the number of columns of the matrix.
+     *
+     * @return the number of columns
+     */
+    @Override
+    public int columns() {
+        return s[1];
+    }
+
     /**
      * The method returns true if the matrix is a
      * row vector, i.e. the dimension is 1 x n.
@@ -185,6 +214,53 @@ public final class IdentityMatrix implements SquareMatrix {
         return n;
     }
 
+    /**
+     * The method returns the element at the given position.
+     *
+     * @param r the row index
+     * @param c the column index
+     *
+     * @return the element
+     */
+    @Override
+    public double get(final int r, final int c) {
+        if (r < 0 || r >= s[0])
+            throw new RowOutOfBoundException();
+        if (c < 0 || c >= s[1])
+            throw new ColumnOutOfBoundException();
+
+        return (r == c) ? 1 : 0;
+    }
+
+    /**
+     * The method copies all elements of the matrix in row-major order into
+     * the destination, starting at the offset.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    @Override
+    public void copyTo(final double[] dst, final int o) {
+        if (o < 0 || o > dst.length - s[0] * s[1])
+            throw new InvalidMatrixDimensionProvidedException();
+
+        var n = s[0];
+        Arrays.fill(dst, o, o + n * n, 0);
+        for (int i = 0; i < n; i++)
+            dst[o + i * n + i] = 1;
+    }
+
+    /**
+     * The method returns a read-only buffer of the elements, expanded
+     * into a new array.
+     *
+     * @return the read-only buffer of the elements
+     */
+    @Override
+    public DoubleBuffer asDoubleBuffer() {
+        return DoubleBuffer.wrap(toArray()).asReadOnlyBuffer();
+    }
+
     /**
      * The method returns the row elements of the Matrix.
      *
@@ -261,7 +337,7 @@ public final class IdentityMatrix implements SquareMatrix {
      */
     @Override
     public Matrix add(final Matrix m) {
-        if (!Arrays.equals(s, m.size()))
+        if (s[0] != m.rows() || s[1] != m.columns())
             throw new MatrixDimensionMismatchException();
 
         if (m instanceof ZeroMatrix)
@@ -274,14 +350,14 @@ public final class IdentityMatrix implements SquareMatrix {
         }
 
         if (m instanceof DiagonalMatrix) {
-            var n = Arrays.copyOf(m.getDiagonalEntries(), s[0]);
+            var n = m.getDiagonalEntries();
             for (int i = 0; i < s[0]; i++) {
                 n[i] += 1;
             }
             return new DiagonalMatrix(n);
         }
 
-        var n = Arrays.copyOf(m.toArray(), s[0] * s[1]);
+        var n = m.toArray();
         for (int i = 0; i < s[0]; i++) {
             n[(i * s[0]) + i] += 1;
         }
@@ -298,7 +374,7 @@ public final class IdentityMatrix implements SquareMatrix {
      */
     @Override
     public Matrix subtract(final Matrix m) {
-        if (!Arrays.equals(s, m.size()))
+        if (s[0] != m.rows() || s[1] != m.columns())
             throw new MatrixDimensionMismatchException();
 
         if (m instanceof ZeroMatrix)
@@ -308,14 +384,14 @@ public final class IdentityMatrix implements SquareMatrix {
             return new ZeroMatrix(s[0], s[1]);
 
         if (m instanceof DiagonalMatrix) {
-            var n = Arrays.copyOf(m.getDiagonalEntries(), s[0]);
+            var n = m.getDiagonalEntries();
             for (int i = 0; i < s[0]; i++) {
                 n[i] = 1 - n[i];
             }
             return new DiagonalMatrix(n);
         }
 
-        var n = Arrays.copyOf(m.toArray(), s[0] * s[1]);
+        var n = m.toArray();
         for (int i = 0; i < s[0]; i++) {
             var t = (i * s[0]) + i;
             n[t] = 1 - n[t];
@@ -333,7 +409,7 @@ public final class IdentityMatrix implements SquareMatrix {
      */
     @Override
     public Matrix multiply(final Matrix m) {
-        if (s[1] != m.size()[0])
+        if (s[1] != m.rows())
             throw new MatrixDimensionMismatchException();
 
         return m;
@@ -413,6 +489,52 @@ public final class IdentityMatrix implements SquareMatrix {
         return sb.toString();
     }
 
+    /**
+     * The method returns a 64-bit fingerprint of the shape and the content
+     * of the matrix. It is computed on the first call and cached.
+     *
+     * @return the fingerprint of the matrix
+     */
+    @Override
+    public long fingerprint() {
+        var _f = f;
+        if (_f == 0)
+            f = _f = Elements.diagonalFingerprint(getDiagonalEntries());
+
+        return _f;
+    }
+
+    /**
+     * The method returns true if the other matrix has the same dimension and
+     * every pair of elements a, b satisfies
+     * |a - b| &lt;= max(absolute, relative * max(|a|, |b|)).
+     *
+     * @param m        the other matrix
+     * @param absolute the absolute tolerance
+     * @param relative the relative tolerance
+     *
+     * @return true if the matrices are approximately equal
+     */
+    @Override
+    public boolean approximatelyEquals(final Matrix m, final double absolute, final double relative) {
+        return Elements.approximatelyEqual(this, m, absolute, relative);
+    }
+
+    /**
+     * The method returns true if the other matrix has the same dimension and
+     * every pair of elements is at most the given number of representable
+     * doubles apart.
+     *
+     * @param m    the other matrix
+     * @param ulps the maximum distance in units in the last place
+     *
+     * @return true if the matrices are approximately equal
+     */
+    @Override
+    public boolean approximatelyEquals(final Matrix m, final int ulps) {
+        return Elements.approximatelyEqual(this, m, ulps);
+    }
+
     /**
      * Returns a hash code value for the object. This method is
      * supported for the benefit of hash tables such as those provided by
@@ -450,7 +572,7 @@ public final class IdentityMatrix implements SquareMatrix {
      */
     @Override
     public int hashCode() {
-        return Arrays.hashCode(s);
+        return Long.hashCode(fingerprint());
     }
 
     /**
@@ -503,15 +625,10 @@ public final class IdentityMatrix implements SquareMatrix {
      */
     @Override
     public boolean equals(final Object obj) {
-        if (obj == null) return false;
-
         if (this == obj) return true;
-        if (this.hashCode() == obj.hashCode()) return true;
-
-        final Matrix that = (Matrix) obj;
-        if (!Arrays.equals(size(), that.size())) return false;
+        if (!(obj instanceof Matrix)) return false;
 
-        return (obj instanceof IdentityMatrix) || Arrays.equals(this.toArray(), that.toArray());
+        return Elements.equal(this, (Matrix) obj);
     }
 
     /**
@@ -1,12 +1,16 @@
 package com.katpara.follium.linear.constants;
 
 import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.exceptions.linears.ColumnOutOfBoundException;
 import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
 import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
 import com.katpara.follium.exceptions.linears.NotInvertibleException;
+import com.katpara.follium.exceptions.linears.RowOutOfBoundException;
+import com.katpara.follium.linear.Elements;
 import com.katpara.follium.linear.Matrix;
 import com.katpara.follium.util.Rounding;
 
+import java.nio.DoubleBuffer;
 import java.util.Arrays;
 import java.util.HashMap;
 
@@ -66,6 +70,26 @@ public final class ZeroMatrix implements Matrix {
         return Arrays.copyOf(s, 2);
     }
 
+    /**
+     * The method returns the number of rows of the matrix.
+     *
+     * @return the number of rows
+     */
+    @Override
+    public int rows() {
+        return s[0];
+    }
+
+    /**
+     * The method returns the number of columns of the matrix.
+     *
+     * @return the number of columns
+     */
+    @Override
+    public int columns() {
+        return s[1];
+    }
+
     /**
      * The method returns true if the matrix is a
      * row vector, i.e. the dimension is 1 x n.
@@ -120,6 +144,50 @@ public final class ZeroMatrix implements Matrix {
         return n;
     }
 
+    /**
+     * The method returns the element at the given position.
+     *
+     * @param r the row index
+     * @param c the column index
+     *
+     * @return the element
+     */
+    @Override
+    public double get(final int r, final int c) {
+        if (r < 0 || r >= s[0])
+            throw new RowOutOfBoundException();
+        if (c < 0 || c >= s[1])
+            throw new ColumnOutOfBoundException();
+
+        return 0;
+    }
+
+    /**
+     * The method copies all elements of the matrix in row-major order into
+     * the destination, starting at the offset.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    @Override
+    public void copyTo(final double[] dst, final int o) {
+        if (o < 0 || o > dst.length - s[0] * s[1])
+            throw new InvalidMatrixDimensionProvidedException();
+
+        Arrays.fill(dst, o, o + s[0] * s[1], 0);
+    }
+
+    /**
+     * The method returns a read-only buffer of the elements, a new
+     * array of zeros.
+     *
+     * @return the read-only buffer of the elements
+     */
+    @Override
+    public DoubleBuffer asDoubleBuffer() {
+        return DoubleBuffer.wrap(toArray()).asReadOnlyBuffer();
+    }
+
     /**
      * The method returns the row elements of the Matrix.
      *
@@ -194,7 +262,7 @@ public final class ZeroMatrix implements Matrix {
      */
     @Override
     public Matrix add(final Matrix m) {
-        if (!Arrays.equals(s, m.size()))
+        if (s[0] != m.rows() || s[1] != m.columns())
             throw new MatrixDimensionMismatchException();
 
         return m;
@@ -209,7 +277,7 @@ public final class ZeroMatrix implements Matrix {
      */
     @Override
     public Matrix subtract(final Matrix m) {
-        if (!Arrays.equals(s, m.size()))
+        if (s[0] != m.rows() || s[1] != m.columns())
             throw new MatrixDimensionMismatchException();
 
         return m.getAdditiveInverse();
@@ -224,11 +292,10 @@ public final class ZeroMatrix implements Matrix {
      */
     @Override
     public Matrix multiply(final Matrix m) {
-        var _s = m.size();
-        if (s[1] != _s[0])
+        if (s[1] != m.rows())
             throw new MatrixDimensionMismatchException();
 
-        return new ZeroMatrix(s[0], _s[1]);
+        return new ZeroMatrix(s[0], m.columns());
     }
 
     /**
@@ -299,6 +366,48 @@ public final class ZeroMatrix implements Matrix {
         return sb.toString();
     }
 
+    /**
+     * The method returns a 64-bit fingerprint of the shape and the content
+     * of the matrix, which only depends on the shape.
+     *
+     * @return the fingerprint of the matrix
+     */
+    @Override
+    public long fingerprint() {
+        return Elements.fingerprint(s[0], s[1]);
+    }
+
+    /**
+     * The method returns true if the other matrix has the same dimension and
+     * every pair of elements a, b satisfies
+     * |a - b| &lt;= max(absolute, relative * max(|a|, |b|)).
+     *
+     * @param m        the other matrix
+     * @param absolute the absolute tolerance
+     * @param relative the relative tolerance
+     *
+     * @return true if the matrices are approximately equal
+     */
+    @Override
+    public boolean approximatelyEquals(final Matrix m, final double absolute, final double relative) {
+        return Elements.approximatelyEqual(this, m, absolute, relative);
+    }
+
+    /**
+     * The method returns true if the other matrix has the same dimension and
+     * every pair of elements is at most the given number of representable
+     * doubles apart.
+     *
+     * @param m    the other matrix
+     * @param ulps the maximum distance in units in the last place
+     *
+     * @return true if the matrices are approximately equal
+     */
+    @Override
+    public boolean approximatelyEquals(final Matrix m, final int ulps) {
+        return Elements.approximatelyEqual(this, m, ulps);
+    }
+
     /**
      * Returns a hash code value for the object. This method is
      * supported for the benefit of hash tables such as those provided by
@@ -336,7 +445,7 @@ public final class ZeroMatrix implements Matrix {
      */
     @Override
     public int hashCode() {
-        return Arrays.hashCode(s);
+        return Long.hashCode(fingerprint());
     }
 
     /**
@@ -389,15 +498,10 @@ public final class ZeroMatrix implements Matrix {
      */
     @Override
     public boolean equals(final Object obj) {
-        if (obj == null) return false;
-
         if (this == obj) return true;
-        if (this.hashCode() == obj.hashCode()) return true;
-
-        final Matrix that = (Matrix) obj;
-        if (!Arrays.equals(size(), that.size())) return false;
+        if (!(obj instanceof Matrix)) return false;
 
-        return (obj instanceof ZeroMatrix) || Arrays.equals(this.toArray(), that.toArray());
+        return Elements.equal(this, (Matrix) obj);
     }
 
     /**
@@ -0,0 +1,205 @@
+package com.katpara.follium.linear.decompositions;
+
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.exceptions.linears.NotInvertibleException;
+import com.katpara.follium.exceptions.linears.NotSquareMatrixException;
+import com.katpara.follium.linear.DenseVector;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.squares.PermutationMatrix;
+
+/**
+ * The class is the LU decomposition of a square matrix with partial
+ * pivoting, P * A = L * U, where L is unit lower triangular and U is upper
+ * triangular. The elimination subtracts whole rows, so it walks the
+ * row-major elements contiguously.
+ * <p>
+ * The determinant is the product of the diagonal of U with the sign of the
+ * permutation. Its logarithm is kept separately as a sum, so it is finite
+ * even when the determinant itself overflows or underflows.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class LUDecomposition {
+
+    /**
+     * Holds the dimension
+     */
+    private final int n;
+
+    /**
+     * Holds L below the diagonal and U on and above it
+     */
+    private final double[] lu;
+
+    /**
+     * Holds the row of A at every row of P * A
+     */
+    private final int[] p;
+
+    /**
+     * Holds the sign of the permutation
+     */
+    private final int parity;
+
+    /**
+     * The constructor decomposes the matrix.
+     *
+     * @param a the square matrix
+     */
+    private LUDecomposition(final Matrix a) {
+        if (a.rows() != a.columns())
+            throw new NotSquareMatrixException();
+
+        this.n = a.rows();
+        this.lu = a.toArray();
+        this.p = new int[n];
+        for (int i = 0; i < n; i++)
+            p[i] = i;
+
+        var _p = 1;
+        for (int k = 0; k < n; k++) {
+            var q = k;
+            for (int i = k + 1; i < n; i++)
+                if (Math.abs(lu[i * n + k]) > Math.abs(lu[q * n + k])) q = i;
+
+            if (q != k) {
+                for (int j = 0; j < n; j++) {
+                    var _t = lu[k * n + j];
+                    lu[k * n + j] = lu[q * n + j];
+                    lu[q * n + j] = _t;
+                }
+                var _t = p[k];
+                p[k] = p[q];
+                p[q] = _t;
+                _p = -_p;
+            }
+
+            var d = lu[k * n + k];
+            if (d == 0)
+                continue;
+
+            for (int i = k + 1; i < n; i++) {
+                var l = lu[i * n + k] / d;
+                lu[i * n + k] = l;
+                if (l == 0) continue;
+                for (int j = k + 1, _i = i * n, _k = k * n; j < n; j++)
+                    lu[_i + j] -= l * lu[_k + j];
+            }
+        }
+        this.parity = _p;
+    }
+
+    /**
+     * The method returns the LU decomposition of a square matrix.
+     *
+     * @param a the square matrix
+     *
+     * @return the decomposition
+     */
+    public static LUDecomposition of(final Matrix a) {
+        return new LUDecomposition(a);
+    }
+
+    /**
+     * The method returns true if a diagonal element of U is zero.
+     *
+     * @return true if the matrix is singular
+     */
+    public boolean isSingular() {
+        for (int k = 0; k < n; k++)
+            if (lu[k * n + k] == 0) return true;
+
+        return false;
+    }
+
+    /**
+     * The method returns the determinant.
+     *
+     * @return the determinant
+     */
+    public double getDeterminant() {
+        double d = parity;
+        for (int k = 0; k < n; k++)
+            d *= lu[k * n + k];
+
+        return d;
+    }
+
+    /**
+     * The method returns the natural logarithm of the absolute value of the
+     * determinant, negative infinity if the matrix is singular.
+     *
+     * @return the log of |det(A)|
+     */
+    public double getLogAbsDeterminant() {
+        var l = 0.0;
+        for (int k = 0; k < n; k++)
+            l += Math.log(Math.abs(lu[k * n + k]));
+
+        return l;
+    }
+
+    /**
+     * The method returns the sign of the determinant, 0 if the matrix is
+     * singular.
+     *
+     * @return -1, 0 or 1
+     */
+    public int getDeterminantSign() {
+        var s = parity;
+        for (int k = 0; k < n; k++)
+            s *= (int) Math.signum(lu[k * n + k]);
+
+        return s;
+    }
+
+    /**
+     * The method returns the rows of the matrix in the pivoted order.
+     *
+     * @return the row indices
+     */
+    public int[] getPivots() {
+        return p.clone();
+    }
+
+    /**
+     * The method returns the permutation matrix P of P * A = L * U.
+     *
+     * @return the permutation matrix
+     */
+    public PermutationMatrix getPermutation() {
+        return new PermutationMatrix(p);
+    }
+
+    /**
+     * The method solves A * x = b by a forward and a backward substitution.
+     *
+     * @param b the right-hand side
+     *
+     * @return the solution
+     */
+    public DenseVector solve(final DenseVector b) {
+        if (b.size() != n)
+            throw new MatrixDimensionMismatchException();
+        if (isSingular())
+            throw new NotInvertibleException();
+
+        var x = new double[n];
+        for (int i = 0; i < n; i++) {
+            var s = b.get(p[i]);
+            for (int j = 0, _i = i * n; j < i; j++)
+                s -= lu[_i + j] * x[j];
+            x[i] = s;
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            var s = x[i];
+            for (int j = i + 1, _i = i * n; j < n; j++)
+                s -= lu[_i + j] * x[j];
+            x[i] = s / lu[i * n + i];
+        }
+
+        return new DenseVector(x);
+    }
+}
@@ -0,0 +1,194 @@
+package com.katpara.follium.linear.decompositions;
+
+import com.katpara.follium.linear.DenseVector;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * The class finds the largest eigenvalues of a symmetric operator by the
+ * thick-restart Lanczos method. The operator is only applied to vectors, so
+ * the matrix behind it is never factored or copied.
+ * <p>
+ * Every basis vector is orthogonalized against all previous ones twice, so
+ * no spurious copies of converged eigenvalues appear. When the basis is full,
+ * the Ritz vectors of the largest Ritz values, more than requested, are kept
+ * as the start of the next basis, together with the last residual.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+final class Lanczos {
+
+    /**
+     * The interface is a symmetric operator of n x n.
+     */
+    @FunctionalInterface
+    interface Operator {
+
+        /**
+         * The method writes the product of the operator and a vector into
+         * the destination.
+         *
+         * @param x the vector
+         * @param y the destination, distinct from the vector
+         */
+        void apply(DenseVector x, DenseVector y);
+    }
+
+    /**
+     * Holds the largest eigenvalues in decreasing order
+     */
+    final double[] values;
+
+    /**
+     * Holds the unit eigenvectors of the eigenvalues
+     */
+    final DenseVector[] vectors;
+
+    /**
+     * Holds whether every eigenvalue reached the tolerance
+     */
+    final boolean converged;
+
+    /**
+     * The constructor runs the method.
+     *
+     * @param op          the operator
+     * @param n           the dimension of the operator
+     * @param k           the number of eigenvalues
+     * @param tolerance   the residual to reach, relative to the largest eigenvalue
+     * @param maxRestarts the maximum number of restarts
+     * @param random      the source of the start vector
+     */
+    Lanczos(final Operator op, final int n, final int k, final double tolerance, final int maxRestarts,
+            final Random random) {
+        var m = Math.min(n, Math.max(2 * k + 1, k + 20));
+        var v = new DenseVector[m + 1];
+        for (int i = 0; i <= m; i++)
+            v[i] = new DenseVector(n);
+        var h = new double[m + 1][m];
+        var w = new DenseVector(n);
+
+        randomize(v[0], v, 0, random);
+        var l = 0;
+        for (int restart = 0; ; restart++) {
+            var beta = 0.0;
+            for (int j = l; j < m; j++) {
+                op.apply(v[j], w);
+                orthogonalize(w, v, j + 1, h, j);
+                orthogonalize(w, v, j + 1, h, j);
+
+                beta = w.norm2();
+                h[j + 1][j] = beta;
+                if (beta > Math.ulp(1.0) * Math.abs(h[j][j]) && beta > Double.MIN_NORMAL) {
+                    v[j + 1].assign(w).scale(1 / beta);
+                } else {
+                    // an invariant subspace, the basis continues from any orthogonal vector
+                    beta = 0;
+                    h[j + 1][j] = 0;
+                    if (j + 1 < n)
+                        randomize(v[j + 1], v, j + 1, random);
+                }
+            }
+
+            // the eigen decomposition of the projection V^T * A * V
+            var s = new double[m * m];
+            for (int i = 0; i < m; i++)
+                for (int j = i; j < m; j++)
+                    s[i * m + j] = s[j * m + i] = h[i][j];
+            var ed = SymmetricEigenDecomposition.of(new AnySquareMatrix(s));
+            var theta = ed.getEigenvalues();
+
+            var scale = Math.max(Math.abs(theta[0]), Math.abs(theta[m - 1]));
+            var done = true;
+            for (int i = m - k; i < m; i++)
+                done &= Math.abs(beta * ed.getEigenvector(i).get(m - 1)) <= tolerance * scale;
+
+            if (done || restart >= maxRestarts || m == n) {
+                this.values = new double[k];
+                this.vectors = new DenseVector[k];
+                for (int i = 0; i < k; i++) {
+                    values[i] = theta[m - 1 - i];
+                    vectors[i] = ritz(v, m, ed.getEigenvector(m - 1 - i), new DenseVector(n));
+                }
+                this.converged = done || m == n;
+                return;
+            }
+
+            // keeps the Ritz vectors of the largest l Ritz values, then the residual
+            l = Math.min(m - 2, k + (m - k) / 2);
+            var kept = new DenseVector[l];
+            for (int i = 0; i < l; i++)
+                kept[i] = ritz(v, m, ed.getEigenvector(m - l + i), new DenseVector(n));
+
+            for (int i = 0; i < l; i++)
+                v[i].assign(kept[i]);
+            v[l].assign(v[m]);
+            for (double[] _h : h)
+                Arrays.fill(_h, 0);
+            for (int i = 0; i < l; i++)
+                h[i][i] = theta[m - l + i];
+        }
+    }
+
+    /**
+     * The method returns the Ritz vector V * y.
+     *
+     * @param v the basis
+     * @param m the number of basis vectors
+     * @param y the coefficients
+     * @param d the destination
+     *
+     * @return the destination
+     */
+    private static DenseVector ritz(final DenseVector[] v, final int m, final DenseVector y, final DenseVector d) {
+        d.fill(0);
+        for (int j = 0; j < m; j++)
+            d.axpy(y.get(j), v[j]);
+
+        return d;
+    }
+
+    /**
+     * The method removes the components of the first basis vectors from a
+     * vector, adding them to a column of the projection.
+     *
+     * @param w the vector
+     * @param v the basis
+     * @param m the number of basis vectors
+     * @param h the projection
+     * @param j the column of the projection
+     */
+    private static void orthogonalize(final DenseVector w, final DenseVector[] v, final int m, final double[][] h,
+                                      final int j) {
+        for (int i = 0; i < m; i++) {
+            var _h = w.dot(v[i]);
+            w.axpy(-_h, v[i]);
+            if (h != null)
+                h[i][j] += _h;
+        }
+    }
+
+    /**
+     * The method fills a vector with random elements orthogonal to the first
+     * basis vectors, of unit length.
+     *
+     * @param d      the vector
+     * @param v      the basis
+     * @param m      the number of basis vectors
+     * @param random the source
+     */
+    private static void randomize(final DenseVector d, final DenseVector[] v, final int m, final Random random) {
+        do {
+            for (int i = 0; i < d.size(); i++)
+                d.set(i, random.nextGaussian());
+            orthogonalize(d, v, m, null, 0);
+            orthogonalize(d, v, m, null, 0);
+        } while (d.norm2() == 0);
+
+        d.scale(1 / d.norm2());
+    }
+}
@@ -0,0 +1,139 @@
+package com.katpara.follium.linear.decompositions;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.exceptions.linears.NotSquareMatrixException;
+import com.katpara.follium.linear.DenseVector;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.MatrixOperations;
+import com.katpara.follium.linear.MutableMatrix;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * The class holds the k largest eigenvalues of a symmetric matrix and their
+ * eigenvectors, found by the thick-restart Lanczos method. The matrix is
+ * only multiplied by vectors through {@link MatrixOperations}, so a
+ * diagonal or constant matrix is never expanded, and the memory is a few
+ * times k vectors instead of a copy of the matrix.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class PartialEigenDecomposition {
+
+    /**
+     * Holds the default residual to reach, relative to the largest eigenvalue
+     */
+    public static final double DEFAULT_TOLERANCE = 1e-10;
+
+    /**
+     * Holds the default maximum number of restarts
+     */
+    public static final int DEFAULT_MAX_RESTARTS = 100;
+
+    /**
+     * Holds the outcome of the method
+     */
+    private final Lanczos l;
+
+    /**
+     * The constructor holds the outcome of the method.
+     *
+     * @param l the outcome
+     */
+    private PartialEigenDecomposition(final Lanczos l) {
+        this.l = l;
+    }
+
+    /**
+     * The method returns the k largest eigenvalues of a symmetric matrix and
+     * their eigenvectors.
+     *
+     * @param a the symmetric matrix
+     * @param k the number of eigenvalues
+     *
+     * @return the decomposition
+     */
+    public static PartialEigenDecomposition largest(final Matrix a, final int k) {
+        return largest(a, k, DEFAULT_TOLERANCE, DEFAULT_MAX_RESTARTS);
+    }
+
+    /**
+     * The method returns the k largest eigenvalues of a symmetric matrix and
+     * their eigenvectors.
+     *
+     * @param a           the symmetric matrix
+     * @param k           the number of eigenvalues
+     * @param tolerance   the residual to reach, relative to the largest eigenvalue
+     * @param maxRestarts the maximum number of restarts
+     *
+     * @return the decomposition
+     */
+    public static PartialEigenDecomposition largest(final Matrix a, final int k, final double tolerance,
+                                                    final int maxRestarts) {
+        if (a.rows() != a.columns())
+            throw new NotSquareMatrixException();
+        if (k <= 0 || k > a.rows() || !(tolerance >= 0) || maxRestarts < 0)
+            throw new InvalidParameterProvidedException();
+
+        return new PartialEigenDecomposition(new Lanczos((x, y) -> MatrixOperations.multiplyInto(a, x, y),
+                a.rows(), k, tolerance, maxRestarts, new Random(a.rows())));
+    }
+
+    /**
+     * The method returns the eigenvalues in decreasing order.
+     *
+     * @return the eigenvalues
+     */
+    public double[] getEigenvalues() {
+        return Arrays.copyOf(l.values, l.values.length);
+    }
+
+    /**
+     * The method returns the eigenvector of the i-th largest eigenvalue.
+     *
+     * @param i the index of the eigenvalue
+     *
+     * @return the unit eigenvector
+     */
+    public DenseVector getEigenvector(final int i) {
+        return l.vectors[i].copy();
+    }
+
+    /**
+     * The method returns the matrix whose columns are the eigenvectors.
+     *
+     * @return the n x k matrix
+     */
+    public Matrix getV() {
+        return columns(l.vectors);
+    }
+
+    /**
+     * The method returns true if every eigenvalue reached the tolerance
+     * within the maximum number of restarts.
+     *
+     * @return true if the method converged
+     */
+    public boolean isConverged() {
+        return l.converged;
+    }
+
+    /**
+     * The method returns the matrix whose columns are the vectors.
+     *
+     * @param v the vectors of the same size
+     *
+     * @return the matrix
+     */
+    static Matrix columns(final DenseVector[] v) {
+        int r = v[0].size(), c = v.length;
+        var m = new MutableMatrix(r, c);
+        for (int j = 0; j < c; j++)
+            for (int i = 0; i < r; i++)
+                m.set(i, j, v[j].get(i));
+
+        return m.toImmutable();
+    }
+}
@@ -0,0 +1,253 @@
+package com.katpara.follium.linear.decompositions;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.linear.DenseVector;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.MatrixOperations;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * The class holds the k largest singular values of a matrix and their
+ * singular vectors, A * v = s * u. The matrix is only multiplied by vectors
+ * through {@link MatrixOperations}, so a diagonal, constant or packed
+ * structured matrix is never expanded.
+ * <p>
+ * The Lanczos method runs on the smaller one of A^T * A and A * A^T without
+ * forming it, one product with A and one with A^T per step, and is accurate
+ * to the tolerance. The randomized method multiplies A by a block of random
+ * vectors, refines the range by a few power iterations, and decomposes the
+ * small projection of A onto it. It makes a fixed number of passes over A,
+ * which suits a large matrix whose singular values decay quickly.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class PartialSingularValueDecomposition {
+
+    /**
+     * Holds the default number of extra random vectors
+     */
+    public static final int DEFAULT_OVERSAMPLING = 10;
+
+    /**
+     * Holds the default number of power iterations
+     */
+    public static final int DEFAULT_POWER_ITERATIONS = 2;
+
+    /**
+     * Holds the singular values in decreasing order
+     */
+    private final double[] s;
+
+    /**
+     * Holds the left singular vectors
+     */
+    private final DenseVector[] u;
+
+    /**
+     * Holds the right singular vectors
+     */
+    private final DenseVector[] v;
+
+    /**
+     * The constructor holds the decomposition.
+     *
+     * @param s the singular values
+     * @param u the left singular vectors
+     * @param v the right singular vectors
+     */
+    private PartialSingularValueDecomposition(final double[] s, final DenseVector[] u, final DenseVector[] v) {
+        this.s = s;
+        this.u = u;
+        this.v = v;
+    }
+
+    /**
+     * The method returns the k largest singular values and vectors by the
+     * Lanczos method.
+     *
+     * @param a the matrix
+     * @param k the number of singular values
+     *
+     * @return the decomposition
+     */
+    public static PartialSingularValueDecomposition lanczos(final Matrix a, final int k) {
+        int r = a.rows(), c = a.columns();
+        check(a, k);
+
+        var tall = c <= r;
+        var t = new DenseVector(tall ? r : c);
+        Lanczos.Operator op = tall
+                              ? (x, y) -> MatrixOperations.multiplyTransposedInto(a, MatrixOperations.multiplyInto(a, x, t), y)
+                              : (x, y) -> MatrixOperations.multiplyInto(a, MatrixOperations.multiplyTransposedInto(a, x, t), y);
+        var l = new Lanczos(op, Math.min(r, c), k, PartialEigenDecomposition.DEFAULT_TOLERANCE,
+                PartialEigenDecomposition.DEFAULT_MAX_RESTARTS, new Random(r * 31L + c));
+
+        var s = new double[k];
+        var other = new DenseVector[k];
+        for (int i = 0; i < k; i++) {
+            s[i] = Math.sqrt(Math.max(l.values[i], 0));
+            other[i] = new DenseVector(tall ? r : c);
+            if (tall)
+                MatrixOperations.multiplyInto(a, l.vectors[i], other[i]);
+            else
+                MatrixOperations.multiplyTransposedInto(a, l.vectors[i], other[i]);
+            if (s[i] > 0)
+                other[i].scale(1 / s[i]);
+        }
+
+        return tall ? new PartialSingularValueDecomposition(s, other, l.vectors)
+                    : new PartialSingularValueDecomposition(s, l.vectors, other);
+    }
+
+    /**
+     * The method returns the k largest singular values and vectors by the
+     * randomized method, with the default oversampling and power iterations.
+     *
+     * @param a the matrix
+     * @param k the number of singular values
+     *
+     * @return the decomposition
+     */
+    public static PartialSingularValueDecomposition randomized(final Matrix a, final int k) {
+        return randomized(a, k, DEFAULT_OVERSAMPLING, DEFAULT_POWER_ITERATIONS, a.rows() * 31L + a.columns());
+    }
+
+    /**
+     * The method returns the k largest singular values and vectors by the
+     * randomized method.
+     *
+     * @param a            the matrix
+     * @param k            the number of singular values
+     * @param oversampling the number of extra random vectors
+     * @param power        the number of power iterations
+     * @param seed         the seed of the random vectors
+     *
+     * @return the decomposition
+     */
+    public static PartialSingularValueDecomposition randomized(final Matrix a, final int k, final int oversampling,
+                                                               final int power, final long seed) {
+        int r = a.rows(), c = a.columns();
+        check(a, k);
+        if (oversampling < 0 || power < 0)
+            throw new InvalidParameterProvidedException();
+
+        var l = Math.min(k + oversampling, Math.min(r, c));
+        var random = new Random(seed);
+
+        // the vectors q span the range of A * Omega, one column of Omega at a time
+        var omega = new DenseVector[l];
+        for (int j = 0; j < l; j++)
+            omega[j] = new DenseVector(c);
+        for (int i = 0; i < c; i++)
+            for (int j = 0; j < l; j++)
+                omega[j].set(i, random.nextGaussian());
+        var q = new DenseVector[l];
+        for (int j = 0; j < l; j++)
+            q[j] = MatrixOperations.multiplyInto(a, omega[j], new DenseVector(r));
+        orthonormalize(q);
+
+        var b = omega;
+        for (int p = 0; p < power; p++) {
+            for (int j = 0; j < l; j++)
+                MatrixOperations.multiplyTransposedInto(a, q[j], b[j]);
+            orthonormalize(b);
+            for (int j = 0; j < l; j++)
+                MatrixOperations.multiplyInto(a, b[j], q[j]);
+            orthonormalize(q);
+        }
+
+        // B = Q^T * A by rows, B * B^T = W * S^2 * W^T, U = Q * W, V = B^T * W / S
+        for (int j = 0; j < l; j++)
+            MatrixOperations.multiplyTransposedInto(a, q[j], b[j]);
+        var g = new double[l * l];
+        for (int i = 0; i < l; i++)
+            for (int j = 0; j <= i; j++)
+                g[i * l + j] = g[j * l + i] = b[i].dot(b[j]);
+        var ed = SymmetricEigenDecomposition.of(new AnySquareMatrix(g));
+        var lambda = ed.getEigenvalues();
+
+        var s = new double[k];
+        DenseVector[] u = new DenseVector[k], v = new DenseVector[k];
+        for (int i = 0; i < k; i++) {
+            var w = ed.getEigenvector(l - 1 - i);
+            s[i] = Math.sqrt(Math.max(lambda[l - 1 - i], 0));
+            u[i] = new DenseVector(r);
+            v[i] = new DenseVector(c);
+            for (int j = 0; j < l; j++) {
+                u[i].axpy(w.get(j), q[j]);
+                v[i].axpy(w.get(j), b[j]);
+            }
+            if (s[i] > 0)
+                v[i].scale(1 / s[i]);
+        }
+
+        return new PartialSingularValueDecomposition(s, u, v);
+    }
+
+    /**
+     * The method returns the singular values in decreasing order.
+     *
+     * @return the singular values
+     */
+    public double[] getSingularValues() {
+        return Arrays.copyOf(s, s.length);
+    }
+
+    /**
+     * The method returns the matrix whose columns are the left singular
+     * vectors.
+     *
+     * @return the rows x k matrix
+     */
+    public Matrix getU() {
+        return PartialEigenDecomposition.columns(u);
+    }
+
+    /**
+     * The method returns the matrix whose columns are the right singular
+     * vectors.
+     *
+     * @return the columns x k matrix
+     */
+    public Matrix getV() {
+        return PartialEigenDecomposition.columns(v);
+    }
+
+    /**
+     * The method checks the number of singular values.
+     *
+     * @param a the matrix
+     * @param k the number of singular values
+     */
+    private static void check(final Matrix a, final int k) {
+        if (k <= 0 || k > Math.min(a.rows(), a.columns()))
+            throw new InvalidParameterProvidedException();
+    }
+
+    /**
+     * The method makes the vectors orthonormal by the modified Gram-Schmidt
+     * process, applied twice. A vector depending on the previous ones
+     * becomes zero.
+     *
+     * @param q the vectors
+     */
+    private static void orthonormalize(final DenseVector[] q) {
+        for (int i = 0; i < q.length; i++) {
+            var n0 = q[i].norm2();
+            for (int pass = 0; pass < 2; pass++)
+                for (int j = 0; j < i; j++)
+                    q[i].axpy(-q[i].dot(q[j]), q[j]);
+
+            var n = q[i].norm2();
+            if (n > 1e-12 * n0)
+                q[i].scale(1 / n);
+            else
+                q[i].fill(0);
+        }
+    }
+}
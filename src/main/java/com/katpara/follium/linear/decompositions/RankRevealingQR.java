@@ -0,0 +1,295 @@
+package com.katpara.follium.linear.decompositions;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.MatrixOperations;
+import com.katpara.follium.linear.MutableMatrix;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * The class is the rank-revealing QR decomposition of a matrix with column
+ * pivoting, A * P = Q * R. At every step the remaining column of the largest
+ * norm is reflected onto the diagonal, so the diagonal of R decreases in
+ * magnitude and the numerical rank is the number of its elements above the
+ * tolerance. The decomposition stops as soon as the norms of all remaining
+ * columns are below the tolerance, so a matrix of a low rank costs about
+ * rank x rows x columns operations instead of a full decomposition.
+ * <p>
+ * The columns are held as contiguous rows of the transpose, and their norms
+ * are downdated after every reflection rather than recomputed, except when
+ * cancellation makes the downdate inaccurate.
+ * </p>
+ * <p>
+ * The randomized estimate multiplies the matrix by a few random vectors,
+ * doubling them until their product is rank deficient, and decomposes only
+ * that thin product. It is exact with probability one in exact arithmetic
+ * and much cheaper when the rank is small compared to the dimensions.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class RankRevealingQR {
+
+    /**
+     * Holds the number of random vectors the estimate starts with
+     */
+    private static final int SKETCH = 8;
+
+    /**
+     * Holds the relative downdate of a norm below which it is recomputed
+     */
+    private static final double DOWNDATE = Math.sqrt(Math.ulp(1.0));
+
+    /**
+     * Holds the diagonal of R, only as many elements as the rank
+     */
+    private final double[] d;
+
+    /**
+     * Holds the column of A at every column of A * P
+     */
+    private final int[] p;
+
+    /**
+     * Holds the tolerance of the rank
+     */
+    private final double tolerance;
+
+    /**
+     * The constructor decomposes the matrix up to its numerical rank.
+     *
+     * @param a        the matrix
+     * @param relative the tolerance relative to the largest column norm, or a
+     *                 negative value for the largest dimension times the machine epsilon
+     */
+    private RankRevealingQR(final Matrix a, final double relative) {
+        int r = a.rows(), c = a.columns(), k = Math.min(r, c);
+        var g = SingularValueDecomposition.transpose(a.toArray(), r, c);
+
+        this.p = new int[c];
+        var n1 = new double[c];
+        var n2 = new double[c];
+        var m = 0.0;
+        for (int j = 0; j < c; j++) {
+            p[j] = j;
+            n1[j] = n2[j] = Math.sqrt(dot(g, j * r, j * r, r));
+            m = Math.max(m, n1[j]);
+        }
+        this.tolerance = ((relative < 0) ? Math.max(r, c) * Math.ulp(1.0) : relative) * m;
+
+        var _d = new double[k];
+        var v = new double[r];
+        var rank = 0;
+        for (; rank < k; rank++) {
+            // the pivot is the remaining column of the largest norm
+            var q = rank;
+            for (int j = rank + 1; j < c; j++)
+                if (n1[j] > n1[q]) q = j;
+            if (!(n1[q] > tolerance))
+                break;
+
+            if (q != rank) {
+                swap(g, rank * r, q * r, r);
+                var _p = p[q];
+                p[q] = p[rank];
+                p[rank] = _p;
+                n1[q] = n1[rank];
+                n2[q] = n2[rank];
+            }
+
+            // the reflection of the pivot column below the diagonal onto the diagonal
+            var o = rank * r + rank;
+            var l = r - rank;
+            var x = g[o];
+            var norm = Math.sqrt(dot(g, o, o, l));
+            var alpha = (x <= 0) ? norm : -norm;
+            _d[rank] = alpha;
+            System.arraycopy(g, o, v, 0, l);
+            v[0] = x - alpha;
+            var vv = v[0] * v[0] + norm * norm - x * x;
+            if (vv == 0)
+                continue;
+            var tau = 2 / vv;
+
+            for (int j = rank + 1; j < c; j++) {
+                var _o = j * r + rank;
+                var f = 0.0;
+                for (int i = 0; i < l; i++)
+                    f += v[i] * g[_o + i];
+                f *= tau;
+                for (int i = 0; i < l; i++)
+                    g[_o + i] -= f * v[i];
+
+                // the norm of the column below the next diagonal element
+                if (n1[j] != 0) {
+                    var t = Math.abs(g[_o]) / n1[j];
+                    t = Math.max(0, (1 + t) * (1 - t));
+                    var _t = t * (n1[j] / n2[j]) * (n1[j] / n2[j]);
+                    if (_t <= DOWNDATE) {
+                        n1[j] = n2[j] = Math.sqrt(dot(g, _o + 1, _o + 1, l - 1));
+                    } else {
+                        n1[j] *= Math.sqrt(t);
+                    }
+                }
+            }
+        }
+
+        this.d = Arrays.copyOf(_d, rank);
+    }
+
+    /**
+     * The method decomposes the matrix up to its numerical rank, with the
+     * tolerance of the largest dimension times the machine epsilon times the
+     * largest column norm.
+     *
+     * @param a the matrix
+     *
+     * @return the decomposition
+     */
+    public static RankRevealingQR of(final Matrix a) {
+        return new RankRevealingQR(a, -1);
+    }
+
+    /**
+     * The method decomposes the matrix up to its numerical rank, with the
+     * given tolerance relative to the largest column norm.
+     *
+     * @param a        the matrix
+     * @param relative the relative tolerance
+     *
+     * @return the decomposition
+     */
+    public static RankRevealingQR of(final Matrix a, final double relative) {
+        if (!(relative >= 0))
+            throw new InvalidParameterProvidedException();
+
+        return new RankRevealingQR(a, relative);
+    }
+
+    /**
+     * The method returns the numerical rank of a matrix.
+     *
+     * @param a the matrix
+     *
+     * @return the rank
+     */
+    public static int rank(final Matrix a) {
+        return of(a).getRank();
+    }
+
+    /**
+     * The method estimates the numerical rank of a matrix from its product
+     * with random vectors.
+     *
+     * @param a the matrix
+     *
+     * @return the estimated rank
+     */
+    public static int estimateRank(final Matrix a) {
+        return estimateRank(a, a.rows() * 31L + a.columns());
+    }
+
+    /**
+     * The method estimates the numerical rank of a matrix from its product
+     * with random vectors.
+     *
+     * @param a    the matrix
+     * @param seed the seed of the random vectors
+     *
+     * @return the estimated rank
+     */
+    public static int estimateRank(final Matrix a, final long seed) {
+        int r = a.rows(), c = a.columns(), k = Math.min(r, c);
+        var random = new Random(seed);
+
+        for (int l = Math.min(SKETCH, k); ; l = Math.min(2 * l, k)) {
+            if (l == k && l > SKETCH)
+                return rank(a);
+
+            var omega = new double[c * l];
+            for (int i = 0; i < omega.length; i++)
+                omega[i] = random.nextGaussian();
+            var y = MatrixOperations.multiplyInto(a, new MutableMatrix(omega, c, l), new MutableMatrix(r, l));
+
+            var _r = new RankRevealingQR(y, Math.max(r, c) * Math.ulp(1.0)).getRank();
+            if (_r < l || l == k)
+                return _r;
+        }
+    }
+
+    /**
+     * The method returns the numerical rank.
+     *
+     * @return the rank
+     */
+    public int getRank() {
+        return d.length;
+    }
+
+    /**
+     * The method returns the absolute tolerance of the rank.
+     *
+     * @return the tolerance
+     */
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * The method returns the diagonal of R up to the rank, decreasing in
+     * magnitude.
+     *
+     * @return the diagonal elements
+     */
+    public double[] getRDiagonal() {
+        return Arrays.copyOf(d, d.length);
+    }
+
+    /**
+     * The method returns the columns of the matrix in the pivoted order; the
+     * first rank of them are linearly independent.
+     *
+     * @return the column indices
+     */
+    public int[] getPivots() {
+        return Arrays.copyOf(p, p.length);
+    }
+
+    /**
+     * The method returns the dot product of a range of elements with itself
+     * or another range.
+     *
+     * @param g the elements
+     * @param i the offset of a range
+     * @param j the offset of the other range
+     * @param n the number of elements
+     *
+     * @return the dot product
+     */
+    private static double dot(final double[] g, final int i, final int j, final int n) {
+        var s = 0.0;
+        for (int o = 0; o < n; o++)
+            s += g[i + o] * g[j + o];
+
+        return s;
+    }
+
+    /**
+     * The method swaps two ranges of elements.
+     *
+     * @param g the elements
+     * @param i the offset of a range
+     * @param j the offset of the other range
+     * @param n the number of elements
+     */
+    private static void swap(final double[] g, final int i, final int j, final int n) {
+        for (int o = 0; o < n; o++) {
+            var t = g[i + o];
+            g[i + o] = g[j + o];
+            g[j + o] = t;
+        }
+    }
+}
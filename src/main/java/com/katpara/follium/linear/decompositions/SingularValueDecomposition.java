@@ -0,0 +1,501 @@
+package com.katpara.follium.linear.decompositions;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+
+import java.util.Arrays;
+
+/**
+ * The class is the economy singular value decomposition of a matrix of
+ * r x c, A = U * S * V^T, where k = min(r, c), U is r x k and V is c x k with
+ * orthonormal columns, and S holds the singular values in decreasing order.
+ * The full U of a tall matrix, or the full V of a wide one, is never formed.
+ * <p>
+ * The singular values are found by the one-sided Jacobi method, which
+ * rotates pairs of columns until they are orthogonal and is accurate even
+ * for the small singular values. The columns are held as contiguous rows of
+ * the transpose. A matrix much taller than wide is first reduced to its
+ * triangular factor R by an orthogonal QR decomposition, so the rotations
+ * only run on k x k elements and the long columns are walked twice instead
+ * of once per sweep.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class SingularValueDecomposition {
+
+    /**
+     * Holds the largest cosine of the angle of two columns taken as orthogonal
+     */
+    private static final double EPSILON = 4 * Math.ulp(1.0);
+
+    /**
+     * Holds the maximum number of sweeps over all pairs of columns
+     */
+    private static final int MAX_SWEEPS = 60;
+
+    /**
+     * Holds the number of rows of the matrix
+     */
+    private final int r;
+
+    /**
+     * Holds the number of columns of the matrix
+     */
+    private final int c;
+
+    /**
+     * Holds the singular values in decreasing order
+     */
+    private final double[] s;
+
+    /**
+     * Holds the left singular vectors as rows, null if they were not computed
+     */
+    private final double[] ut;
+
+    /**
+     * Holds the right singular vectors as rows, null if they were not computed
+     */
+    private final double[] vt;
+
+    /**
+     * The constructor decomposes the matrix.
+     *
+     * @param a       the matrix
+     * @param vectors true to compute the singular vectors
+     */
+    private SingularValueDecomposition(final Matrix a, final boolean vectors) {
+        this.r = a.rows();
+        this.c = a.columns();
+
+        // the columns of the tall one of A and A^T, as rows
+        var wide = r < c;
+        int k = Math.min(r, c), l = Math.max(r, c);
+        var g = a.toArray();
+        if (!wide)
+            g = transpose(g, r, c);
+
+        double[] q = null, h = g;
+        var n = l;
+        if (l > 2 * k) {
+            q = g;
+            h = triangularize(q, k, l);
+            n = k;
+        }
+
+        var w = vectors ? identity(k) : null;
+        jacobi(h, k, n, w);
+
+        this.s = new double[k];
+        for (int i = 0; i < k; i++)
+            s[i] = Math.sqrt(dot(h, i * n, h, i * n, n));
+
+        var order = order(s);
+        double[] u = null;
+        if (vectors) {
+            // the left singular vectors of the tall one, Q * H / s when reduced
+            u = new double[k * l];
+            for (int i = 0; i < k; i++) {
+                var j = order[i];
+                if (s[i] == 0) continue;
+                if (q == null) {
+                    for (int p = 0; p < l; p++)
+                        u[i * l + p] = h[j * n + p] / s[i];
+                } else {
+                    for (int p = 0; p < k; p++) {
+                        var f = h[j * n + p] / s[i];
+                        for (int o = 0; o < l; o++)
+                            u[i * l + o] += f * q[p * l + o];
+                    }
+                }
+            }
+            w = permute(w, order, k);
+        }
+
+        this.ut = wide ? w : u;
+        this.vt = wide ? u : w;
+    }
+
+    /**
+     * The method returns the economy singular value decomposition of a
+     * matrix.
+     *
+     * @param a the matrix
+     *
+     * @return the decomposition
+     */
+    public static SingularValueDecomposition of(final Matrix a) {
+        return new SingularValueDecomposition(a, true);
+    }
+
+    /**
+     * The method returns the singular values of a matrix in decreasing
+     * order, without computing the singular vectors.
+     *
+     * @param a the matrix
+     *
+     * @return the singular values
+     */
+    public static double[] singularValues(final Matrix a) {
+        return new SingularValueDecomposition(a, false).s;
+    }
+
+    /**
+     * The method returns the numerical rank of a matrix, the number of its
+     * singular values above the default tolerance.
+     *
+     * @param a the matrix
+     *
+     * @return the rank
+     */
+    public static int rank(final Matrix a) {
+        return new SingularValueDecomposition(a, false).getRank();
+    }
+
+    /**
+     * The method returns the singular values in decreasing order.
+     *
+     * @return the singular values
+     */
+    public double[] getSingularValues() {
+        return Arrays.copyOf(s, s.length);
+    }
+
+    /**
+     * The method returns the singular values as a diagonal matrix.
+     *
+     * @return the k x k diagonal matrix S
+     */
+    public DiagonalMatrix getS() {
+        return new DiagonalMatrix(getSingularValues());
+    }
+
+    /**
+     * The method returns the matrix whose columns are the left singular
+     * vectors.
+     *
+     * @return the r x k matrix U
+     */
+    public Matrix getU() {
+        checkVectors();
+        return matrix(transpose(ut, s.length, r), r, s.length);
+    }
+
+    /**
+     * The method returns the matrix whose columns are the right singular
+     * vectors.
+     *
+     * @return the c x k matrix V
+     */
+    public Matrix getV() {
+        checkVectors();
+        return matrix(transpose(vt, s.length, c), c, s.length);
+    }
+
+    /**
+     * The method returns the default tolerance of the rank, the largest
+     * dimension times the largest singular value times the machine epsilon.
+     *
+     * @return the tolerance
+     */
+    public double getTolerance() {
+        return Math.max(r, c) * s[0] * Math.ulp(1.0);
+    }
+
+    /**
+     * The method returns the number of singular values above the default
+     * tolerance.
+     *
+     * @return the rank
+     */
+    public int getRank() {
+        return getRank(getTolerance());
+    }
+
+    /**
+     * The method returns the number of singular values above the tolerance.
+     *
+     * @param tolerance the tolerance
+     *
+     * @return the rank
+     */
+    public int getRank(final double tolerance) {
+        var k = 0;
+        while (k < s.length && s[k] > tolerance)
+            k++;
+
+        return k;
+    }
+
+    /**
+     * The method returns the ratio of the largest singular value to the
+     * smallest one, infinite if the matrix is rank deficient.
+     *
+     * @return the 2-norm condition number
+     */
+    public double getConditionNumber() {
+        return s[0] / s[s.length - 1];
+    }
+
+    /**
+     * The method returns the Moore-Penrose pseudo-inverse V * S^+ * U^T, where
+     * S^+ inverts the singular values above the default tolerance and drops
+     * the others.
+     *
+     * @return the c x r pseudo-inverse
+     */
+    public Matrix getPseudoInverse() {
+        return getPseudoInverse(getTolerance());
+    }
+
+    /**
+     * The method returns the Moore-Penrose pseudo-inverse V * S^+ * U^T, where
+     * S^+ inverts the singular values above the tolerance and drops the others.
+     *
+     * @param tolerance the tolerance
+     *
+     * @return the c x r pseudo-inverse
+     */
+    public Matrix getPseudoInverse(final double tolerance) {
+        checkVectors();
+        var p = new double[c * r];
+        for (int j = 0, k = getRank(tolerance); j < k; j++) {
+            for (int i = 0; i < c; i++) {
+                var f = vt[j * c + i] / s[j];
+                for (int o = 0, _p = i * r, _u = j * r; o < r; o++)
+                    p[_p + o] += f * ut[_u + o];
+            }
+        }
+
+        return matrix(p, c, r);
+    }
+
+    /**
+     * The method checks that the singular vectors were computed.
+     */
+    private void checkVectors() {
+        if (ut == null)
+            throw new InvalidParameterProvidedException();
+    }
+
+    /**
+     * The method rotates pairs of rows until every pair is orthogonal,
+     * rotating the rows of the accumulated transformation the same way.
+     *
+     * @param h the rows, k x n
+     * @param k the number of rows
+     * @param n the length of a row
+     * @param w the k x k transformation, or null
+     */
+    private static void jacobi(final double[] h, final int k, final int n, final double[] w) {
+        var norm = new double[k];
+        for (int sweep = 0; sweep < MAX_SWEEPS; sweep++) {
+            for (int i = 0; i < k; i++)
+                norm[i] = dot(h, i * n, h, i * n, n);
+
+            var rotated = false;
+            for (int p = 0; p < k - 1; p++) {
+                for (int q = p + 1; q < k; q++) {
+                    double alpha = norm[p], beta = norm[q];
+                    if (alpha == 0 || beta == 0) continue;
+
+                    var gamma = dot(h, p * n, h, q * n, n);
+                    if (Math.abs(gamma) <= EPSILON * Math.sqrt(alpha * beta)) continue;
+
+                    // the rotation making the rows p and q orthogonal
+                    var zeta = (beta - alpha) / (2 * gamma);
+                    var t = Math.copySign(1, zeta) / (Math.abs(zeta) + Math.sqrt(1 + zeta * zeta));
+                    var cs = 1 / Math.sqrt(1 + t * t);
+                    var sn = cs * t;
+                    rotate(h, p * n, q * n, n, cs, sn);
+                    if (w != null)
+                        rotate(w, p * k, q * k, k, cs, sn);
+
+                    norm[p] = alpha - t * gamma;
+                    norm[q] = beta + t * gamma;
+                    rotated = true;
+                }
+            }
+
+            if (!rotated) return;
+        }
+    }
+
+    /**
+     * The method makes the k rows of length l orthonormal, in place, by the
+     * Gram-Schmidt process applied twice, and returns the columns of the
+     * triangular factor as rows. A row depending on the previous ones
+     * becomes zero.
+     *
+     * @param q the rows, replaced by the orthonormal rows
+     * @param k the number of rows
+     * @param l the length of a row
+     *
+     * @return the k x k transposed triangular factor
+     */
+    private static double[] triangularize(final double[] q, final int k, final int l) {
+        var h = new double[k * k];
+        for (int i = 0; i < k; i++) {
+            var o = i * l;
+            var n0 = Math.sqrt(dot(q, o, q, o, l));
+            for (int pass = 0; pass < 2; pass++) {
+                for (int j = 0; j < i; j++) {
+                    var f = dot(q, o, q, j * l, l);
+                    h[i * k + j] += f;
+                    for (int p = 0; p < l; p++)
+                        q[o + p] -= f * q[j * l + p];
+                }
+            }
+
+            var n = Math.sqrt(dot(q, o, q, o, l));
+            if (n > 1e-14 * n0) {
+                h[i * k + i] = n;
+                for (int p = 0; p < l; p++)
+                    q[o + p] /= n;
+            } else {
+                Arrays.fill(q, o, o + l, 0);
+            }
+        }
+
+        return h;
+    }
+
+    /**
+     * The method returns the order of the rows by decreasing norm and sorts
+     * the norms.
+     *
+     * @param s the norms, sorted in place
+     *
+     * @return the row of every sorted norm
+     */
+    private static int[] order(final double[] s) {
+        var k = s.length;
+        var o = new int[k];
+        for (int i = 0; i < k; i++)
+            o[i] = i;
+
+        for (int i = 1; i < k; i++) {
+            double _s = s[i];
+            int _o = o[i], j = i - 1;
+            for (; j >= 0 && s[j] < _s; j--) {
+                s[j + 1] = s[j];
+                o[j + 1] = o[j];
+            }
+            s[j + 1] = _s;
+            o[j + 1] = _o;
+        }
+
+        return o;
+    }
+
+    /**
+     * The method returns the rows in the given order.
+     *
+     * @param w     the rows
+     * @param order the row of every result row
+     * @param k     the number and the length of the rows
+     *
+     * @return the ordered rows
+     */
+    private static double[] permute(final double[] w, final int[] order, final int k) {
+        var _w = new double[k * k];
+        for (int i = 0; i < k; i++)
+            System.arraycopy(w, order[i] * k, _w, i * k, k);
+
+        return _w;
+    }
+
+    /**
+     * The method rotates two rows.
+     *
+     * @param a  the elements
+     * @param p  the offset of a row
+     * @param q  the offset of the other row
+     * @param n  the length of a row
+     * @param cs the cosine
+     * @param sn the sine
+     */
+    private static void rotate(final double[] a, final int p, final int q, final int n, final double cs,
+                               final double sn) {
+        for (int i = 0; i < n; i++) {
+            double x = a[p + i], y = a[q + i];
+            a[p + i] = cs * x - sn * y;
+            a[q + i] = sn * x + cs * y;
+        }
+    }
+
+    /**
+     * The method returns the dot product of two ranges of elements.
+     *
+     * @param a the elements
+     * @param i the offset in a
+     * @param b the other elements
+     * @param j the offset in b
+     * @param n the number of elements
+     *
+     * @return the dot product
+     */
+    private static double dot(final double[] a, final int i, final double[] b, final int j, final int n) {
+        double s0 = 0, s1 = 0;
+        var p = 0;
+        for (; p + 1 < n; p += 2) {
+            s0 += a[i + p] * b[j + p];
+            s1 += a[i + p + 1] * b[j + p + 1];
+        }
+        if (p < n)
+            s0 += a[i + p] * b[j + p];
+
+        return s0 + s1;
+    }
+
+    /**
+     * The method returns the k x k identity elements.
+     *
+     * @param k the dimension
+     *
+     * @return the elements
+     */
+    private static double[] identity(final int k) {
+        var w = new double[k * k];
+        for (int i = 0; i < k; i++)
+            w[i * k + i] = 1;
+
+        return w;
+    }
+
+    /**
+     * The method returns the transpose of row-major elements.
+     *
+     * @param a the elements
+     * @param r the number of rows
+     * @param c the number of columns
+     *
+     * @return the transposed elements
+     */
+    static double[] transpose(final double[] a, final int r, final int c) {
+        var t = new double[a.length];
+        for (int i = 0; i < r; i++)
+            for (int j = 0; j < c; j++)
+                t[j * r + i] = a[i * c + j];
+
+        return t;
+    }
+
+    /**
+     * The method returns a matrix of row-major elements.
+     *
+     * @param e the elements
+     * @param r the number of rows
+     * @param c the number of columns
+     *
+     * @return the square or rectangular matrix
+     */
+    static Matrix matrix(final double[] e, final int r, final int c) {
+        return (r == c) ? new AnySquareMatrix(e) : new AnyRectangularMatrix(e, r, c);
+    }
+}
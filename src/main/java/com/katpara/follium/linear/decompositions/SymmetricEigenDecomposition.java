@@ -0,0 +1,409 @@
+package com.katpara.follium.linear.decompositions;
+
+import com.katpara.follium.exceptions.linears.NotSquareMatrixException;
+import com.katpara.follium.linear.DenseVector;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * The class is the eigen decomposition of a symmetric matrix, A = V * D * V^T,
+ * where D holds the eigenvalues in increasing order and the columns of the
+ * orthogonal V are the eigenvectors. Only the lower triangle of the matrix
+ * is read, the upper one is assumed to mirror it.
+ * <p>
+ * The matrix is reduced to a tridiagonal one by Householder reflections, and
+ * the tridiagonal matrix is diagonalized by the implicit QL method. The
+ * eigenvalues alone cost about 4/3 n^3 operations, the eigenvectors about
+ * three times as much.
+ * </p>
+ * <p>
+ * The eigenvectors are held as the rows of V^T, so both the reflections and
+ * the rotations walk contiguous rows. The updates of every reflection touch
+ * a whole trailing block and may be split across the common pool by rows.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class SymmetricEigenDecomposition {
+
+    /**
+     * Holds the number of rows of a task of a parallel update
+     */
+    private static final int ROW_BLOCK = 64;
+
+    /**
+     * Holds the least number of trailing rows to update in parallel
+     */
+    private static final int PARALLEL_ROWS = 256;
+
+    /**
+     * Holds the eigenvalues in increasing order
+     */
+    private final double[] d;
+
+    /**
+     * Holds the eigenvectors as rows, null if they were not computed
+     */
+    private final double[] w;
+
+    /**
+     * The constructor decomposes the matrix.
+     *
+     * @param a        the symmetric matrix
+     * @param vectors  true to compute the eigenvectors
+     * @param parallel true to split the updates across the common pool
+     */
+    private SymmetricEigenDecomposition(final Matrix a, final boolean vectors, final boolean parallel) {
+        if (a.rows() != a.columns())
+            throw new NotSquareMatrixException();
+
+        var n = a.rows();
+        var t = a.toArray();
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < i; j++)
+                t[j * n + i] = t[i * n + j];
+
+        var e = new double[n];
+        var tau = new double[n];
+        this.d = new double[n];
+        tridiagonalize(t, n, d, e, tau, parallel);
+        this.w = vectors ? accumulate(t, n, tau, parallel) : null;
+        diagonalize(d, e, w, n);
+        sort(d, w, n);
+    }
+
+    /**
+     * The method returns the eigenvalues and the eigenvectors of a symmetric
+     * matrix.
+     *
+     * @param a the symmetric matrix
+     *
+     * @return the decomposition
+     */
+    public static SymmetricEigenDecomposition of(final Matrix a) {
+        return new SymmetricEigenDecomposition(a, true, false);
+    }
+
+    /**
+     * The method returns the eigenvalues and the eigenvectors of a symmetric
+     * matrix, optionally updating the trailing blocks in parallel.
+     *
+     * @param a        the symmetric matrix
+     * @param parallel true to split the updates across the common pool
+     *
+     * @return the decomposition
+     */
+    public static SymmetricEigenDecomposition of(final Matrix a, final boolean parallel) {
+        return new SymmetricEigenDecomposition(a, true, parallel);
+    }
+
+    /**
+     * The method returns the eigenvalues of a symmetric matrix in increasing
+     * order, without computing the eigenvectors.
+     *
+     * @param a the symmetric matrix
+     *
+     * @return the eigenvalues
+     */
+    public static double[] eigenvalues(final Matrix a) {
+        return new SymmetricEigenDecomposition(a, false, false).d;
+    }
+
+    /**
+     * The method returns the eigenvalues in increasing order.
+     *
+     * @return the eigenvalues
+     */
+    public double[] getEigenvalues() {
+        return Arrays.copyOf(d, d.length);
+    }
+
+    /**
+     * The method returns the eigenvalues as a diagonal matrix.
+     *
+     * @return the diagonal matrix D
+     */
+    public DiagonalMatrix getD() {
+        return new DiagonalMatrix(getEigenvalues());
+    }
+
+    /**
+     * The method returns the eigenvector of the k-th smallest eigenvalue.
+     *
+     * @param k the index of the eigenvalue
+     *
+     * @return the unit eigenvector
+     */
+    public DenseVector getEigenvector(final int k) {
+        var n = d.length;
+        return new DenseVector(Arrays.copyOfRange(w, k * n, (k + 1) * n));
+    }
+
+    /**
+     * The method returns the matrix whose columns are the eigenvectors.
+     *
+     * @return the orthogonal matrix V
+     */
+    public Matrix getV() {
+        var n = d.length;
+        var v = new double[n * n];
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++)
+                v[j * n + i] = w[i * n + j];
+
+        return new AnySquareMatrix(v);
+    }
+
+    /**
+     * The method reduces the symmetric matrix held in full to a tridiagonal
+     * one. The vector of the k-th reflection is left in the row k, after the
+     * diagonal.
+     *
+     * @param a        the elements, overwritten
+     * @param n        the dimension
+     * @param d        the diagonal of the tridiagonal matrix
+     * @param e        the sub-diagonal of the tridiagonal matrix, e[i] next to d[i]
+     * @param tau      the scalars of the reflections
+     * @param parallel true to split the updates across the common pool
+     */
+    private static void tridiagonalize(final double[] a, final int n, final double[] d, final double[] e,
+                                       final double[] tau, final boolean parallel) {
+        var p = new double[n];
+        for (int k = 0; k < n - 2; k++) {
+            d[k] = a[k * n + k];
+
+            // the reflection of x = a[k][k + 1 ...] onto alpha * e1
+            int o = k * n + k + 1, m = n - k - 1;
+            var sigma = 0.0;
+            for (int j = 1; j < m; j++)
+                sigma += a[o + j] * a[o + j];
+
+            var x = a[o];
+            if (sigma == 0) {
+                e[k] = x;
+                tau[k] = 0;
+                continue;
+            }
+
+            var mu = Math.sqrt(x * x + sigma);
+            var alpha = (x <= 0) ? mu : -mu;
+            a[o] = x - alpha;
+            tau[k] = 2 / (a[o] * a[o] + sigma);
+            e[k] = alpha;
+
+            // p = tau * A22 * v, then w = p - (tau / 2) * (p . v) * v, held by p
+            var _t = tau[k];
+            var _k = k;
+            rows(k + 1, n, parallel, (f, l) -> {
+                for (int i = f; i < l; i++) {
+                    var _s = 0.0;
+                    for (int j = 0, r = i * n + _k + 1; j < m; j++)
+                        _s += a[r + j] * a[o + j];
+                    p[i] = _t * _s;
+                }
+            });
+            var pv = 0.0;
+            for (int j = 0; j < m; j++)
+                pv += p[k + 1 + j] * a[o + j];
+            var h = _t * pv / 2;
+            for (int j = 0; j < m; j++)
+                p[k + 1 + j] -= h * a[o + j];
+
+            // A22 -= v * w^T + w * v^T
+            rows(k + 1, n, parallel, (f, l) -> {
+                for (int i = f; i < l; i++) {
+                    double vi = a[o + i - _k - 1], wi = p[i];
+                    for (int j = 0, r = i * n + _k + 1; j < m; j++)
+                        a[r + j] -= vi * p[_k + 1 + j] + wi * a[o + j];
+                }
+            });
+        }
+
+        if (n > 1) {
+            d[n - 2] = a[(n - 2) * n + n - 2];
+            e[n - 2] = a[(n - 1) * n + n - 2];
+        }
+        d[n - 1] = a[n * n - 1];
+        e[n - 1] = 0;
+    }
+
+    /**
+     * The method forms V^T from the reflections, i.e. the product of the
+     * reflections from the last one to the first one.
+     *
+     * @param a        the elements holding the vectors of the reflections
+     * @param n        the dimension
+     * @param tau      the scalars of the reflections
+     * @param parallel true to split the updates across the common pool
+     *
+     * @return the rows of V^T
+     */
+    private static double[] accumulate(final double[] a, final int n, final double[] tau, final boolean parallel) {
+        var w = new double[n * n];
+        for (int i = 0; i < n; i++)
+            w[i * n + i] = 1;
+
+        // W = W * H(k), for k from the last reflection, touching the trailing block only
+        for (int k = n - 3; k >= 0; k--) {
+            if (tau[k] == 0) continue;
+
+            int o = k * n + k + 1, m = n - k - 1;
+            var _t = tau[k];
+            var _k = k;
+            rows(k + 1, n, parallel, (f, l) -> {
+                for (int i = f; i < l; i++) {
+                    var r = i * n + _k + 1;
+                    var _s = 0.0;
+                    for (int j = 0; j < m; j++)
+                        _s += w[r + j] * a[o + j];
+                    _s *= _t;
+                    for (int j = 0; j < m; j++)
+                        w[r + j] -= _s * a[o + j];
+                }
+            });
+        }
+
+        return w;
+    }
+
+    /**
+     * The method diagonalizes the symmetric tridiagonal matrix by the
+     * implicit QL method with shifts, rotating the rows of V^T if given.
+     *
+     * @param d the diagonal, replaced by the eigenvalues
+     * @param e the sub-diagonal, destroyed
+     * @param w the rows of V^T, or null
+     * @param n the dimension
+     */
+    private static void diagonalize(final double[] d, final double[] e, final double[] w, final int n) {
+        final var eps = Math.ulp(1.0);
+        double f = 0, tst1 = 0;
+
+        for (int l = 0; l < n; l++) {
+            tst1 = Math.max(tst1, Math.abs(d[l]) + Math.abs(e[l]));
+            var m = l;
+            while (m < n - 1 && Math.abs(e[m]) > eps * tst1)
+                m++;
+
+            if (m > l) {
+                do {
+                    // the shift of the 2 x 2 block at l
+                    var g = d[l];
+                    var p = (d[l + 1] - g) / (2 * e[l]);
+                    var r = Math.hypot(p, 1);
+                    if (p < 0) r = -r;
+                    d[l] = e[l] / (p + r);
+                    d[l + 1] = e[l] * (p + r);
+                    var dl1 = d[l + 1];
+                    var h = g - d[l];
+                    for (int i = l + 2; i < n; i++)
+                        d[i] -= h;
+                    f += h;
+
+                    // the chase of the bulge from m up to l
+                    p = d[m];
+                    double c = 1, c2 = 1, c3 = 1, s = 0, s2 = 0;
+                    var el1 = e[l + 1];
+                    for (int i = m - 1; i >= l; i--) {
+                        c3 = c2;
+                        c2 = c;
+                        s2 = s;
+                        g = c * e[i];
+                        h = c * p;
+                        r = Math.hypot(p, e[i]);
+                        e[i + 1] = s * r;
+                        s = e[i] / r;
+                        c = p / r;
+                        p = c * d[i] - s * g;
+                        d[i + 1] = h + s * (c * g + s * d[i]);
+
+                        if (w != null) {
+                            for (int k = 0, u = i * n, v = u + n; k < n; k++) {
+                                var _h = w[v + k];
+                                w[v + k] = s * w[u + k] + c * _h;
+                                w[u + k] = c * w[u + k] - s * _h;
+                            }
+                        }
+                    }
+                    p = -s * s2 * c3 * el1 * e[l] / dl1;
+                    e[l] = s * p;
+                    d[l] = c * p;
+                } while (Math.abs(e[l]) > eps * tst1);
+            }
+
+            d[l] += f;
+            e[l] = 0;
+        }
+    }
+
+    /**
+     * The method sorts the eigenvalues in increasing order, along with the
+     * rows of V^T if given.
+     *
+     * @param d the eigenvalues
+     * @param w the rows of V^T, or null
+     * @param n the dimension
+     */
+    private static void sort(final double[] d, final double[] w, final int n) {
+        if (w == null) {
+            Arrays.sort(d);
+            return;
+        }
+
+        var _r = new double[n];
+        for (int i = 0; i < n - 1; i++) {
+            var k = i;
+            for (int j = i + 1; j < n; j++)
+                if (d[j] < d[k]) k = j;
+
+            if (k != i) {
+                var _d = d[i];
+                d[i] = d[k];
+                d[k] = _d;
+                System.arraycopy(w, i * n, _r, 0, n);
+                System.arraycopy(w, k * n, w, i * n, n);
+                System.arraycopy(_r, 0, w, k * n, n);
+            }
+        }
+    }
+
+    /**
+     * The method runs a task over the rows from one index up to another,
+     * split into blocks across the common pool if parallel and there are
+     * enough of them.
+     *
+     * @param from     the first row
+     * @param to       the row after the last one
+     * @param parallel true to split the rows across the common pool
+     * @param task     the task over a range of rows
+     */
+    private static void rows(final int from, final int to, final boolean parallel, final RowTask task) {
+        if (!parallel || to - from < PARALLEL_ROWS) {
+            task.run(from, to);
+            return;
+        }
+
+        IntStream.range(0, (to - from + ROW_BLOCK - 1) / ROW_BLOCK).parallel().forEach(
+                b -> task.run(from + b * ROW_BLOCK, Math.min(to, from + (b + 1) * ROW_BLOCK)));
+    }
+
+    /**
+     * The interface is a task over a range of rows.
+     */
+    @FunctionalInterface
+    private interface RowTask {
+
+        /**
+         * The method runs the task.
+         *
+         * @param from the first row
+         * @param to   the row after the last one
+         */
+        void run(int from, int to);
+    }
+}
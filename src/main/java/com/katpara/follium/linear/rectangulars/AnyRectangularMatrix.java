@@ -5,28 +5,46 @@ import com.katpara.follium.exceptions.linears.NotRectangularMatrixException;
 import com.katpara.follium.exceptions.linears.NotSquareMatrixException;
 import com.katpara.follium.linear.AbstractMatrix;
 import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.decompositions.SingularValueDecomposition;
 import com.katpara.follium.linear.squares.AnySquareMatrix;
 
+import java.util.Arrays;
+
 public class AnyRectangularMatrix extends AbstractMatrix {
     /**
-     * The constructor is used for rectangular matrices.
+     * The constructor is used for rectangular matrices. The elements and
+     * the dimensions are copied, so the caller may reuse the arrays.
      *
      * @param e the element array
      * @param s the dimensions
      */
     public AnyRectangularMatrix(final double[] e, final int[] s) {
-        super(e, s);
+        super(Arrays.copyOf(e, e.length), Arrays.copyOf(s, s.length));
     }
 
     /**
-     * The constructor is used for rectangular matrices.
+     * The constructor is used for rectangular matrices. The elements are
+     * copied, so the caller may reuse the array.
      *
      * @param e the element array
      * @param r a number of rows
      * @param c a number of columns
      */
     public AnyRectangularMatrix(final double[] e, final int r, final int c) {
-        super(e, r, c);
+        this(e, r, c, true);
+    }
+
+    /**
+     * The constructor creates the matrix of the elements, copying them
+     * unless the array is handed over.
+     *
+     * @param e    the element array
+     * @param r    a number of rows
+     * @param c    a number of columns
+     * @param copy true to copy the elements
+     */
+    private AnyRectangularMatrix(final double[] e, final int r, final int c, final boolean copy) {
+        super(copy ? Arrays.copyOf(e, e.length) : e, r, c);
     }
 
     /**
@@ -41,6 +59,20 @@ public class AnyRectangularMatrix extends AbstractMatrix {
             throw new NotRectangularMatrixException();
     }
 
+    /**
+     * The method returns a matrix on top of the elements, without copying
+     * them. The caller hands the array over and must not write it again.
+     *
+     * @param e the element array
+     * @param r a number of rows
+     * @param c a number of columns
+     *
+     * @return the matrix
+     */
+    static AnyRectangularMatrix wrap(final double[] e, final int r, final int c) {
+        return new AnyRectangularMatrix(e, r, c, false);
+    }
+
     /**
      * The method returns true if the matrix is a
      * row vector, i.e. the dimension is 1 x n.
@@ -82,7 +114,7 @@ public class AnyRectangularMatrix extends AbstractMatrix {
      */
     @Override
     protected Matrix doAdd(final double[] n) {
-        return new AnyRectangularMatrix(n, s);
+        return wrap(n, s[0], s[1]);
     }
 
     /**
@@ -94,7 +126,7 @@ public class AnyRectangularMatrix extends AbstractMatrix {
      */
     @Override
     protected Matrix doSubtract(final double[] n) {
-        return new AnyRectangularMatrix(n, s);
+        return wrap(n, s[0], s[1]);
     }
 
     /**
@@ -106,7 +138,7 @@ public class AnyRectangularMatrix extends AbstractMatrix {
      */
     @Override
     protected Matrix doAdditiveInverse(final double[] n) {
-        return new AnyRectangularMatrix(n, s);
+        return wrap(n, s[0], s[1]);
     }
 
     /**
@@ -119,10 +151,10 @@ public class AnyRectangularMatrix extends AbstractMatrix {
      */
     @Override
     protected Matrix doMultiply(final double[] n, final Matrix m) {
-        var _s = m.size();
+        var _c = m.columns();
 
-        return (s[0] == _s[1]) ? new AnySquareMatrix(n)
-                       : new AnyRectangularMatrix(n, s[0], _s[1]);
+        return (s[0] == _c) ? new AnySquareMatrix(n)
+                       : wrap(n, s[0], _c);
     }
 
     /**
@@ -134,18 +166,21 @@ public class AnyRectangularMatrix extends AbstractMatrix {
      */
     @Override
     protected Matrix doTranspose(final double[] n) {
-        return new AnyRectangularMatrix(n, s[1], s[0]);
+        return wrap(n, s[1], s[0]);
     }
 
     /**
      * A rank of a matrix is independent rows of a matrix. That shows that how many
      * rows of a matrix are totally independent, or co-dependent on other rows.
+     * It is found by a QR decomposition with column pivoting, which stops once
+     * the remaining columns are below the largest dimension times the largest
+     * column norm times the machine epsilon. The result is computed once.
      *
      * @return the rank of matrix
      */
     @Override
     public int getRank() {
-        return 0;
+        return rank();
     }
 
     /**
@@ -169,4 +204,14 @@ public class AnyRectangularMatrix extends AbstractMatrix {
     public Matrix getMultiplicativeInverse() {
         throw new NotInvertibleException();
     }
+
+    /**
+     * The method returns the Moore-Penrose pseudo-inverse of the matrix, the
+     * least squares solver of A * x = b as x = A^+ * b.
+     *
+     * @return the pseudo-inverse of columns x rows
+     */
+    public Matrix getPseudoInverse() {
+        return SingularValueDecomposition.of(this).getPseudoInverse();
+    }
 }
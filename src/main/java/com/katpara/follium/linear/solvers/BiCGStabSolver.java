@@ -0,0 +1,108 @@
+package com.katpara.follium.linear.solvers;
+
+import com.katpara.follium.linear.DenseVector;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.MatrixOperations;
+
+/**
+ * The class solves a general, e.g. non-symmetric, system by the stabilized
+ * bi-conjugate gradient method, right preconditioned if a preconditioner is
+ * given. Every iteration costs two products of the matrix and a vector and
+ * two applications of the preconditioner.
+ * <p>
+ * If a scalar of the recurrence becomes zero, the method breaks down and
+ * the solve stops unconverged.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class BiCGStabSolver extends IterativeSolver {
+
+    /**
+     * The constructor creates an unpreconditioned solver.
+     *
+     * @param tolerance     the relative residual to reach
+     * @param maxIterations the maximum number of iterations
+     */
+    public BiCGStabSolver(final double tolerance, final int maxIterations) {
+        this(tolerance, maxIterations, null);
+    }
+
+    /**
+     * The constructor creates a preconditioned solver.
+     *
+     * @param tolerance      the relative residual to reach
+     * @param maxIterations  the maximum number of iterations
+     * @param preconditioner the preconditioner, null if none
+     */
+    public BiCGStabSolver(final double tolerance, final int maxIterations, final Preconditioner preconditioner) {
+        super(tolerance, maxIterations, preconditioner);
+    }
+
+    /**
+     * The method solves the system.
+     *
+     * @param a  the square matrix
+     * @param b  the right-hand side
+     * @param x  the initial guess and the solution
+     * @param bn the norm of the right-hand side, not zero
+     *
+     * @return the result
+     */
+    @Override
+    protected SolverResult doSolve(final Matrix a, final DenseVector b, final DenseVector x, final double bn) {
+        var n = b.size();
+        DenseVector r = new DenseVector(n), _r = new DenseVector(n), p = new DenseVector(n),
+                v = new DenseVector(n), t = new DenseVector(n), _p = new DenseVector(n), _s = new DenseVector(n);
+
+        residual(a, b, x, r);
+        var res = r.norm2() / bn;
+        if (res <= tolerance)
+            return new SolverResult(x, 0, res, true);
+
+        _r.assign(r);
+        double rho = 1, alpha = 1, omega = 1;
+
+        for (int k = 1; k <= maxIterations; k++) {
+            var _rho = _r.dot(r);
+            if (_rho == 0 || omega == 0)
+                return new SolverResult(x, k - 1, res, false);
+
+            // p = r + beta * (p - omega * v)
+            p.axpy(-omega, v).xpby(r, (_rho / rho) * (alpha / omega));
+            precondition(p, _p);
+            MatrixOperations.multiplyInto(a, _p, v);
+
+            var rv = _r.dot(v);
+            if (rv == 0)
+                return new SolverResult(x, k - 1, res, false);
+            alpha = _rho / rv;
+            rho = _rho;
+
+            // s = r - alpha * v, held by r
+            r.axpy(-alpha, v);
+            x.axpy(alpha, _p);
+
+            res = r.norm2() / bn;
+            if (res <= tolerance) {
+                report(k, res);
+                return new SolverResult(x, k, res, true);
+            }
+
+            precondition(r, _s);
+            MatrixOperations.multiplyInto(a, _s, t);
+            var tt = t.dot(t);
+            omega = (tt == 0) ? 0 : t.dot(r) / tt;
+            x.axpy(omega, _s);
+            r.axpy(-omega, t);
+
+            res = r.norm2() / bn;
+            var _g = report(k, res);
+            if (res <= tolerance || !_g)
+                return new SolverResult(x, k, res, res <= tolerance);
+        }
+
+        return new SolverResult(x, maxIterations, res, false);
+    }
+}
@@ -0,0 +1,94 @@
+package com.katpara.follium.linear.solvers;
+
+import com.katpara.follium.linear.DenseVector;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.MatrixOperations;
+
+/**
+ * The class solves a symmetric positive definite system by the conjugate
+ * gradient method, preconditioned if a preconditioner is given. Every
+ * iteration costs one product of the matrix and a vector, one application
+ * of the preconditioner and a few vector updates.
+ * <p>
+ * If the matrix turns out not to be positive definite, i.e. a search
+ * direction has no positive curvature, the solve stops unconverged.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class ConjugateGradientSolver extends IterativeSolver {
+
+    /**
+     * The constructor creates an unpreconditioned solver.
+     *
+     * @param tolerance     the relative residual to reach
+     * @param maxIterations the maximum number of iterations
+     */
+    public ConjugateGradientSolver(final double tolerance, final int maxIterations) {
+        this(tolerance, maxIterations, null);
+    }
+
+    /**
+     * The constructor creates a preconditioned solver. The preconditioner
+     * must be symmetric positive definite as well.
+     *
+     * @param tolerance      the relative residual to reach
+     * @param maxIterations  the maximum number of iterations
+     * @param preconditioner the preconditioner, null if none
+     */
+    public ConjugateGradientSolver(final double tolerance, final int maxIterations,
+                                   final Preconditioner preconditioner) {
+        super(tolerance, maxIterations, preconditioner);
+    }
+
+    /**
+     * The method solves the system.
+     *
+     * @param a  the square matrix
+     * @param b  the right-hand side
+     * @param x  the initial guess and the solution
+     * @param bn the norm of the right-hand side, not zero
+     *
+     * @return the result
+     */
+    @Override
+    protected SolverResult doSolve(final Matrix a, final DenseVector b, final DenseVector x, final double bn) {
+        var n = b.size();
+        DenseVector r = new DenseVector(n), p = new DenseVector(n), q = new DenseVector(n);
+        var z = (preconditioner == null) ? r : new DenseVector(n);
+
+        residual(a, b, x, r);
+        var res = r.norm2() / bn;
+        if (res <= tolerance)
+            return new SolverResult(x, 0, res, true);
+
+        precondition(r, z);
+        p.assign(z);
+        var rz = r.dot(z);
+
+        for (int k = 1; k <= maxIterations; k++) {
+            MatrixOperations.multiplyInto(a, p, q);
+            var pq = p.dot(q);
+            if (!(pq > 0))
+                return new SolverResult(x, k - 1, res, false);
+
+            var alpha = rz / pq;
+            x.axpy(alpha, p);
+            r.axpy(-alpha, q);
+
+            res = r.norm2() / bn;
+            var _g = report(k, res);
+            if (res <= tolerance || !_g)
+                return new SolverResult(x, k, res, res <= tolerance);
+
+            if (z != r)
+                precondition(r, z);
+            var _rz = r.dot(z);
+            p.xpby(z, _rz / rz);
+            rz = _rz;
+        }
+
+        return new SolverResult(x, maxIterations, res, false);
+    }
+}
@@ -0,0 +1,148 @@
+package com.katpara.follium.linear.solvers;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.linear.DenseVector;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.MatrixOperations;
+
+import java.util.Arrays;
+
+/**
+ * The class solves a general, e.g. non-symmetric, system by the generalized
+ * minimal residual method, restarted after a fixed number of iterations and
+ * right preconditioned if a preconditioner is given. Every iteration costs
+ * one product of the matrix and a vector, one application of the
+ * preconditioner and an orthogonalization against the previous basis
+ * vectors of the cycle.
+ * <p>
+ * The basis is orthogonalized by the modified Gram-Schmidt process and the
+ * least squares problem is updated by Givens rotations, so the norm of the
+ * residual is known at every iteration without forming the solution. The
+ * memory grows with the restart, one vector per iteration of a cycle.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class GmresSolver extends IterativeSolver {
+
+    /**
+     * Holds the number of iterations of a cycle
+     */
+    private final int restart;
+
+    /**
+     * The constructor creates an unpreconditioned solver.
+     *
+     * @param tolerance     the relative residual to reach
+     * @param maxIterations the maximum number of iterations
+     * @param restart       the number of iterations of a cycle
+     */
+    public GmresSolver(final double tolerance, final int maxIterations, final int restart) {
+        this(tolerance, maxIterations, restart, null);
+    }
+
+    /**
+     * The constructor creates a preconditioned solver.
+     *
+     * @param tolerance      the relative residual to reach
+     * @param maxIterations  the maximum number of iterations
+     * @param restart        the number of iterations of a cycle
+     * @param preconditioner the preconditioner, null if none
+     */
+    public GmresSolver(final double tolerance, final int maxIterations, final int restart,
+                       final Preconditioner preconditioner) {
+        super(tolerance, maxIterations, preconditioner);
+        if (restart <= 0)
+            throw new InvalidParameterProvidedException();
+
+        this.restart = restart;
+    }
+
+    /**
+     * The method solves the system.
+     *
+     * @param a  the square matrix
+     * @param b  the right-hand side
+     * @param x  the initial guess and the solution
+     * @param bn the norm of the right-hand side, not zero
+     *
+     * @return the result
+     */
+    @Override
+    protected SolverResult doSolve(final Matrix a, final DenseVector b, final DenseVector x, final double bn) {
+        int n = b.size(), m = Math.min(restart, n);
+        var v = new DenseVector[m + 1];
+        for (int i = 0; i <= m; i++)
+            v[i] = new DenseVector(n);
+        DenseVector w = new DenseVector(n), z = new DenseVector(n);
+        var h = new double[m + 1][m];
+        double[] cs = new double[m], sn = new double[m], g = new double[m + 1], y = new double[m];
+
+        var k = 0;
+        double res;
+        while (true) {
+            residual(a, b, x, v[0]);
+            var beta = v[0].norm2();
+            res = beta / bn;
+            if (res <= tolerance || k >= maxIterations)
+                return new SolverResult(x, k, res, res <= tolerance);
+
+            v[0].scale(1 / beta);
+            Arrays.fill(g, 0);
+            g[0] = beta;
+
+            var j = 0;
+            var stop = false;
+            while (j < m && k < maxIterations && !stop) {
+                precondition(v[j], z);
+                MatrixOperations.multiplyInto(a, z, w);
+                for (int i = 0; i <= j; i++) {
+                    h[i][j] = w.dot(v[i]);
+                    w.axpy(-h[i][j], v[i]);
+                }
+                h[j + 1][j] = w.norm2();
+                var lucky = h[j + 1][j] == 0;
+                if (!lucky)
+                    v[j + 1].assign(w).scale(1 / h[j + 1][j]);
+
+                for (int i = 0; i < j; i++) {
+                    var _t = cs[i] * h[i][j] + sn[i] * h[i + 1][j];
+                    h[i + 1][j] = -sn[i] * h[i][j] + cs[i] * h[i + 1][j];
+                    h[i][j] = _t;
+                }
+                var d = Math.hypot(h[j][j], h[j + 1][j]);
+                cs[j] = (d == 0) ? 1 : h[j][j] / d;
+                sn[j] = (d == 0) ? 0 : h[j + 1][j] / d;
+                h[j][j] = d;
+                h[j + 1][j] = 0;
+                g[j + 1] = -sn[j] * g[j];
+                g[j] = cs[j] * g[j];
+
+                j++;
+                k++;
+                res = Math.abs(g[j]) / bn;
+                stop = !report(k, res) || res <= tolerance || lucky || d == 0;
+            }
+
+            // x += M^-1 * V * y, where H * y = g
+            for (int i = j - 1; i >= 0; i--) {
+                var _s = g[i];
+                for (int l = i + 1; l < j; l++)
+                    _s -= h[i][l] * y[l];
+                y[i] = (h[i][i] == 0) ? 0 : _s / h[i][i];
+            }
+            w.fill(0);
+            for (int i = 0; i < j; i++)
+                w.axpy(y[i], v[i]);
+            precondition(w, z);
+            x.axpy(1, z);
+
+            if (stop && res > tolerance) {
+                residual(a, b, x, w);
+                res = w.norm2() / bn;
+                return new SolverResult(x, k, res, res <= tolerance);
+            }
+        }
+    }
+}
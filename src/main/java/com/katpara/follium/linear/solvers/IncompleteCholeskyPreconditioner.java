@@ -0,0 +1,141 @@
+package com.katpara.follium.linear.solvers;
+
+import com.katpara.follium.exceptions.linears.CholeskyDecompositionNotPossibleException;
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.exceptions.linears.NotSquareMatrixException;
+import com.katpara.follium.linear.DenseVector;
+import com.katpara.follium.linear.Matrix;
+
+/**
+ * The class is the incomplete cholesky preconditioner with no fill-in, which
+ * approximates a symmetric positive definite matrix by L * L^T, where the
+ * lower triangular L is only allowed to be non-zero where the matrix is.
+ * Applying it is a forward and a backward triangular solve.
+ * <p>
+ * Only the lower triangle of the matrix is read. The factor is held row by
+ * row as the column indices and values of its non-zero elements, so the
+ * solves cost one operation per non-zero element of the matrix. Both
+ * solves run in the destination, so the preconditioner holds no work array
+ * and may be applied by several threads at once.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class IncompleteCholeskyPreconditioner implements Preconditioner {
+
+    /**
+     * Holds the start of every row in the indices and values, and their end
+     */
+    private final int[] p;
+
+    /**
+     * Holds the column indices of the non-zero elements, the diagonal last in a row
+     */
+    private final int[] c;
+
+    /**
+     * Holds the values of the non-zero elements of the factor
+     */
+    private final double[] v;
+
+    /**
+     * The constructor factorizes a matrix.
+     *
+     * @param a the symmetric positive definite matrix
+     */
+    public IncompleteCholeskyPreconditioner(final Matrix a) {
+        if (a.rows() != a.columns())
+            throw new NotSquareMatrixException();
+
+        var n = a.rows();
+        var e = a.toArray();
+        this.p = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            p[i + 1] = p[i];
+            for (int j = 0; j <= i; j++)
+                if (e[i * n + j] != 0 || i == j)
+                    p[i + 1]++;
+        }
+
+        this.c = new int[p[n]];
+        this.v = new double[p[n]];
+
+        // l(i,j) = (a(i,j) - sum l(i,k) * l(j,k)) / l(j,j), over the pattern of row i
+        for (int i = 0; i < n; i++) {
+            var o = p[i];
+            for (int j = 0; j <= i; j++) {
+                var _a = e[i * n + j];
+                if (_a == 0 && i != j)
+                    continue;
+
+                var _s = _a - ((i == j) ? dot(p[i], o, p[i], o) : dot(p[i], o, p[j], p[j + 1] - 1));
+                c[o] = j;
+                if (i == j) {
+                    if (!(_s > 0))
+                        throw new CholeskyDecompositionNotPossibleException();
+                    v[o] = Math.sqrt(_s);
+                } else {
+                    v[o] = _s / v[p[j + 1] - 1];
+                }
+                o++;
+            }
+        }
+    }
+
+    /**
+     * The method solves L * L^T * z = r.
+     *
+     * @param r the residual
+     * @param z the destination of the same size, distinct from the residual
+     */
+    @Override
+    public void apply(final DenseVector r, final DenseVector z) {
+        var n = p.length - 1;
+        if (r.size() != n || z.size() != n)
+            throw new MatrixDimensionMismatchException();
+
+        for (int i = 0; i < n; i++) {
+            var _s = r.get(i);
+            var _l = p[i + 1] - 1;
+            for (int k = p[i]; k < _l; k++)
+                _s -= v[k] * z.get(c[k]);
+            z.set(i, _s / v[_l]);
+        }
+
+        // L^T is walked by rows of L, scattering every solved element
+        for (int i = n - 1; i >= 0; i--) {
+            var _l = p[i + 1] - 1;
+            var _z = z.get(i) / v[_l];
+            z.set(i, _z);
+            for (int k = p[i]; k < _l; k++)
+                z.set(c[k], z.get(c[k]) - v[k] * _z);
+        }
+    }
+
+    /**
+     * The method returns the sum of the products of the elements of two
+     * rows of the factor in the same columns. The columns of a row are in
+     * increasing order, so the rows are merged.
+     *
+     * @param i  the first element of a row
+     * @param li the element after the last one of the row
+     * @param j  the first element of the other row
+     * @param lj the element after the last one of the other row
+     *
+     * @return the sum
+     */
+    private double dot(int i, final int li, int j, final int lj) {
+        var _s = 0.0;
+        while (i < li && j < lj) {
+            if (c[i] == c[j])
+                _s += v[i++] * v[j++];
+            else if (c[i] < c[j])
+                i++;
+            else
+                j++;
+        }
+
+        return _s;
+    }
+}
@@ -0,0 +1,22 @@
+package com.katpara.follium.linear.solvers;
+
+/**
+ * An iteration listener is notified by an iterative solver after every
+ * iteration, e.g. to log the convergence or to stop a solve early.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface IterationListener {
+
+    /**
+     * The method is called after every iteration.
+     *
+     * @param iteration the number of iterations done so far
+     * @param residual  the norm of the residual relative to the norm of the right-hand side
+     *
+     * @return false to stop the solve
+     */
+    boolean onIteration(int iteration, double residual);
+}
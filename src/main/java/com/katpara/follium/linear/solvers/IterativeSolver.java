@@ -0,0 +1,164 @@
+package com.katpara.follium.linear.solvers;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.exceptions.linears.NotSquareMatrixException;
+import com.katpara.follium.linear.DenseVector;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.MatrixOperations;
+
+/**
+ * The class is the base of the iterative solvers of A * x = b. A solver
+ * only needs the product of the matrix and a vector, which is computed by
+ * {@link MatrixOperations}, so it works with any {@link Matrix} and applies
+ * the zero, identity and diagonal matrices by their diagonal.
+ * <p>
+ * The work vectors are created once per solve and reused by every
+ * iteration. A solve stops when the norm of the residual relative to the
+ * norm of the right-hand side reaches the tolerance, when the maximum number
+ * of iterations is done, when the listener asks it to, or when the method
+ * breaks down.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public abstract class IterativeSolver {
+
+    /**
+     * Holds the relative residual to reach
+     */
+    protected final double tolerance;
+
+    /**
+     * Holds the maximum number of iterations
+     */
+    protected final int maxIterations;
+
+    /**
+     * Holds the preconditioner, null if none
+     */
+    protected final Preconditioner preconditioner;
+
+    /**
+     * Holds the listener, null if none
+     */
+    private IterationListener listener;
+
+    /**
+     * The constructor creates a solver.
+     *
+     * @param tolerance      the relative residual to reach
+     * @param maxIterations  the maximum number of iterations
+     * @param preconditioner the preconditioner, null if none
+     */
+    protected IterativeSolver(final double tolerance, final int maxIterations,
+                              final Preconditioner preconditioner) {
+        if (!(tolerance >= 0) || maxIterations < 0)
+            throw new InvalidParameterProvidedException();
+
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+        this.preconditioner = preconditioner;
+    }
+
+    /**
+     * The method sets the listener notified after every iteration.
+     *
+     * @param listener the listener, null for none
+     *
+     * @return this solver
+     */
+    public IterativeSolver setIterationListener(final IterationListener listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    /**
+     * The method solves the system starting from zero.
+     *
+     * @param a the square matrix
+     * @param b the right-hand side
+     *
+     * @return the result, holding a new solution vector
+     */
+    public SolverResult solve(final Matrix a, final DenseVector b) {
+        return solve(a, b, new DenseVector(b.size()));
+    }
+
+    /**
+     * The method solves the system starting from the given vector, which is
+     * overwritten by the solution.
+     *
+     * @param a the square matrix
+     * @param b the right-hand side
+     * @param x the initial guess and the solution
+     *
+     * @return the result, holding the given vector as the solution
+     */
+    public SolverResult solve(final Matrix a, final DenseVector b, final DenseVector x) {
+        if (a.rows() != a.columns())
+            throw new NotSquareMatrixException();
+        if (b.size() != a.rows() || x.size() != a.rows())
+            throw new MatrixDimensionMismatchException();
+
+        var bn = b.norm2();
+        if (bn == 0) {
+            x.fill(0);
+            return new SolverResult(x, 0, 0, true);
+        }
+
+        return doSolve(a, b, x, bn);
+    }
+
+    /**
+     * The method is implemented by the solvers.
+     *
+     * @param a  the square matrix
+     * @param b  the right-hand side
+     * @param x  the initial guess and the solution
+     * @param bn the norm of the right-hand side, not zero
+     *
+     * @return the result
+     */
+    protected abstract SolverResult doSolve(final Matrix a, final DenseVector b, final DenseVector x,
+                                            final double bn);
+
+    /**
+     * The method writes the residual b - A * x into the destination.
+     *
+     * @param a the matrix
+     * @param b the right-hand side
+     * @param x the solution
+     * @param r the destination
+     */
+    protected static void residual(final Matrix a, final DenseVector b, final DenseVector x, final DenseVector r) {
+        MatrixOperations.multiplyInto(a, x, r).scale(-1).axpy(1, b);
+    }
+
+    /**
+     * The method applies the preconditioner, or copies the residual if there
+     * is none.
+     *
+     * @param r the residual
+     * @param z the destination
+     */
+    protected final void precondition(final DenseVector r, final DenseVector z) {
+        if (preconditioner == null)
+            z.assign(r);
+        else
+            preconditioner.apply(r, z);
+    }
+
+    /**
+     * The method notifies the listener of an iteration.
+     *
+     * @param iteration the number of iterations done so far
+     * @param residual  the relative residual
+     *
+     * @return false if the listener asks to stop
+     */
+    protected final boolean report(final int iteration, final double residual) {
+        return listener == null || listener.onIteration(iteration, residual);
+    }
+}
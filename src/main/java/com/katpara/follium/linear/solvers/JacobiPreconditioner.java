@@ -0,0 +1,57 @@
+package com.katpara.follium.linear.solvers;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.exceptions.linears.NotSquareMatrixException;
+import com.katpara.follium.linear.DenseVector;
+import com.katpara.follium.linear.Matrix;
+
+/**
+ * The class is the Jacobi preconditioner, which approximates a matrix by
+ * its diagonal. It is cheap to build and to apply, and it helps a system
+ * whose rows are badly scaled.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class JacobiPreconditioner implements Preconditioner {
+
+    /**
+     * Holds the inverse of the diagonal
+     */
+    private final double[] d;
+
+    /**
+     * The constructor creates the preconditioner of a matrix.
+     *
+     * @param a the square matrix with no zero on its diagonal
+     */
+    public JacobiPreconditioner(final Matrix a) {
+        if (a.rows() != a.columns())
+            throw new NotSquareMatrixException();
+
+        var _d = a.getDiagonalEntries();
+        for (int i = 0; i < _d.length; i++) {
+            if (_d[i] == 0)
+                throw new InvalidParameterProvidedException();
+            _d[i] = 1 / _d[i];
+        }
+
+        this.d = _d;
+    }
+
+    /**
+     * The method divides the residual by the diagonal.
+     *
+     * @param r the residual
+     * @param z the destination of the same size, distinct from the residual
+     */
+    @Override
+    public void apply(final DenseVector r, final DenseVector z) {
+        if (r.size() != d.length || z.size() != d.length)
+            throw new MatrixDimensionMismatchException();
+
+        for (int i = 0; i < d.length; i++)
+            z.set(i, d[i] * r.get(i));
+    }
+}
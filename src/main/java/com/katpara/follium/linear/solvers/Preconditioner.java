@@ -0,0 +1,23 @@
+package com.katpara.follium.linear.solvers;
+
+import com.katpara.follium.linear.DenseVector;
+
+/**
+ * A preconditioner approximates the inverse of the matrix of a system, so
+ * an iterative solver converges in fewer iterations. It is applied once or
+ * twice per iteration and must not allocate.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public interface Preconditioner {
+
+    /**
+     * The method writes the approximate solution of M * z = r into the
+     * destination, where M approximates the matrix of the system.
+     *
+     * @param r the residual
+     * @param z the destination of the same size, distinct from the residual
+     */
+    void apply(DenseVector r, DenseVector z);
+}
@@ -0,0 +1,96 @@
+package com.katpara.follium.linear.solvers;
+
+import com.katpara.follium.linear.DenseVector;
+
+/**
+ * The class holds the outcome of an iterative solve.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class SolverResult {
+
+    /**
+     * Holds the solution
+     */
+    private final DenseVector x;
+
+    /**
+     * Holds the number of iterations
+     */
+    private final int iterations;
+
+    /**
+     * Holds the relative norm of the residual
+     */
+    private final double residual;
+
+    /**
+     * Holds whether the tolerance was reached
+     */
+    private final boolean converged;
+
+    /**
+     * The constructor creates the result of a solve.
+     *
+     * @param x          the solution
+     * @param iterations the number of iterations
+     * @param residual   the relative norm of the residual
+     * @param converged  whether the tolerance was reached
+     */
+    SolverResult(final DenseVector x, final int iterations, final double residual, final boolean converged) {
+        this.x = x;
+        this.iterations = iterations;
+        this.residual = residual;
+        this.converged = converged;
+    }
+
+    /**
+     * The method returns the solution, which is the vector the solve
+     * started from.
+     *
+     * @return the solution
+     */
+    public DenseVector getSolution() {
+        return x;
+    }
+
+    /**
+     * The method returns the number of iterations.
+     *
+     * @return the number of iterations
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * The method returns the norm of the last residual relative to the norm
+     * of the right-hand side.
+     *
+     * @return the relative residual
+     */
+    public double getResidual() {
+        return residual;
+    }
+
+    /**
+     * The method returns true if the residual reached the tolerance.
+     *
+     * @return true if the solve converged
+     */
+    public boolean isConverged() {
+        return converged;
+    }
+
+    /**
+     * Returns a string representation of the result.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return (converged ? "converged" : "not converged") + " after " + iterations
+                       + " iterations, residual " + residual;
+    }
+}
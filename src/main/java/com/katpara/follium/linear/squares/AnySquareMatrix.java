@@ -4,6 +4,7 @@ import com.katpara.follium.exceptions.linears.NotSquareMatrixException;
 import com.katpara.follium.linear.AbstractMatrix;
 import com.katpara.follium.linear.Matrix;
 import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.decompositions.LUDecomposition;
 import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
 import com.katpara.follium.util.Rounding;
 
@@ -12,12 +13,30 @@ import java.util.Arrays;
 public class AnySquareMatrix extends AbstractMatrix implements SquareMatrix {
 
     /**
-     * This constructor is specifically used for square matrices.
+     * Holds the lazily computed determinant, its sign and the logarithm of its
+     * absolute value, null until they are computed
+     */
+    private volatile double[] d;
+
+    /**
+     * This constructor is specifically used for square matrices. The
+     * elements are copied, so the caller may reuse the array.
      *
      * @param e the element array
      */
     public AnySquareMatrix(final double[] e) {
-        super(e);
+        this(e, true);
+    }
+
+    /**
+     * The constructor creates the matrix of the elements, copying them
+     * unless the array is handed over.
+     *
+     * @param e    the element array
+     * @param copy true to copy the elements
+     */
+    private AnySquareMatrix(final double[] e, final boolean copy) {
+        super(copy ? Arrays.copyOf(e, e.length) : e);
     }
 
     /**
@@ -33,24 +52,26 @@ public class AnySquareMatrix extends AbstractMatrix implements SquareMatrix {
     }
 
     /**
-     * The method checks if the data is symmetric.
+     * The method returns a matrix on top of the elements, without copying
+     * them. The caller hands the array over and must not write it again.
+     *
+     * @param e the element array
+     *
+     * @return the matrix
+     */
+    static AnySquareMatrix wrap(final double[] e) {
+        return new AnySquareMatrix(e, false);
+    }
+
+    /**
+     * The method checks if the data is symmetric. The result is computed
+     * once.
      *
      * @return true if symmetric, otherwise false
      */
     @Override
     public boolean isSymmetric() {
-        int _r = s[1] - 1, _s = s[1] * _r / 2;
-
-        for (int i = 0, _c = 1; i < _s; i++, _c--) {
-            if (_c == 0)
-                _c = s[1] - --_r;
-
-            if (e[_r * s[1] - _c] !=
-                        e[((s[1] - _c) * s[1]) + (_r - 1)])
-                return false;
-        }
-
-        return true;
+        return is(SYMMETRIC);
     }
 
     /**
@@ -60,17 +81,7 @@ public class AnySquareMatrix extends AbstractMatrix implements SquareMatrix {
      */
     @Override
     public boolean isLowerTriangular() {
-        int _r = s[1] - 1, _s = s[1] * _r / 2;
-
-        for (int i = 0, _c = 1; i < _s; i++, _c--) {
-            if (_c == 0)
-                _c = s[1] - --_r;
-
-            if (e[_r * s[1] - _c] != 0)
-                return false;
-        }
-
-        return true;
+        return is(LOWER_TRIANGULAR);
     }
 
     /**
@@ -80,17 +91,7 @@ public class AnySquareMatrix extends AbstractMatrix implements SquareMatrix {
      */
     @Override
     public boolean isUpperTriangular() {
-        int _r = 1, _s = s[1] * (s[1] - 1) / 2;
-
-        for (int i = 0, _c = _r; i < _s; i++) {
-            if (_c == 0)
-                _c = ++_r;
-
-            if (e[_r * s[1] + --_c] != 0)
-                return false;
-        }
-
-        return true;
+        return is(UPPER_TRIANGULAR);
     }
 
     /**
@@ -98,11 +99,15 @@ public class AnySquareMatrix extends AbstractMatrix implements SquareMatrix {
      * encodes many properties of the linear algebra described by the matrix.
      * It is denoted as det(A), where A is a matrix or |A|.
      *
+     * The dimensions up to 4 use closed forms, a triangular matrix is the
+     * product of its diagonal, and any other is decomposed to LU. The result
+     * is computed once.
+     *
      * @return the determinant of the square matrix
      */
     @Override
     public double determinant() {
-        return 0;
+        return determinants()[0];
     }
 
     /**
@@ -117,7 +122,90 @@ public class AnySquareMatrix extends AbstractMatrix implements SquareMatrix {
      */
     @Override
     public double determinant(final Rounding.Decimals decimals) {
-        return 0;
+        return Double.parseDouble(Rounding.round(determinant(), decimals));
+    }
+
+    /**
+     * The method returns the natural logarithm of the absolute value of the
+     * determinant, which stays finite when the determinant itself overflows
+     * or underflows. It is negative infinity for a singular matrix.
+     *
+     * @return the log of |det(A)|
+     */
+    @Override
+    public double logAbsDeterminant() {
+        return determinants()[2];
+    }
+
+    /**
+     * The method returns the sign of the determinant, 0 for a singular
+     * matrix.
+     *
+     * @return -1, 0 or 1
+     */
+    @Override
+    public int determinantSign() {
+        return (int) determinants()[1];
+    }
+
+    /**
+     * The method returns the determinant, its sign and the logarithm of its
+     * absolute value, computing them on the first call.
+     *
+     * @return the determinant, the sign and the log
+     */
+    private double[] determinants() {
+        var _d = d;
+        if (_d != null)
+            return _d;
+
+        var n = s[0];
+        if (n <= 4) {
+            var det = closedForm(n);
+            _d = new double[]{det, Math.signum(det), Math.log(Math.abs(det))};
+        } else if (isUpperTriangular() || isLowerTriangular()) {
+            double det = 1, sign = 1, log = 0;
+            for (int i = 0; i < n; i++) {
+                var _e = e[i * n + i];
+                det *= _e;
+                sign *= Math.signum(_e);
+                log += Math.log(Math.abs(_e));
+            }
+            _d = new double[]{det, sign, log};
+        } else {
+            var lu = LUDecomposition.of(this);
+            _d = new double[]{lu.getDeterminant(), lu.getDeterminantSign(), lu.getLogAbsDeterminant()};
+        }
+
+        return d = _d;
+    }
+
+    /**
+     * The method returns the determinant of a matrix up to 4 x 4 in closed
+     * form, the 4 x 4 one by the products of complementary 2 x 2 minors.
+     *
+     * @param n the dimension
+     *
+     * @return the determinant
+     */
+    private double closedForm(final int n) {
+        switch (n) {
+            case 1:
+                return e[0];
+            case 2:
+                return e[0] * e[3] - e[1] * e[2];
+            case 3:
+                return e[0] * (e[4] * e[8] - e[5] * e[7])
+                               - e[1] * (e[3] * e[8] - e[5] * e[6])
+                               + e[2] * (e[3] * e[7] - e[4] * e[6]);
+            default:
+                return (e[0] * e[5] - e[4] * e[1]) * (e[10] * e[15] - e[14] * e[11])
+                               - (e[0] * e[6] - e[4] * e[2]) * (e[9] * e[15] - e[13] * e[11])
+                               + (e[0] * e[7] - e[4] * e[3]) * (e[9] * e[14] - e[13] * e[10])
+                               + (e[1] * e[6] - e[5] * e[2]) * (e[8] * e[15] - e[12] * e[11])
+                               - (e[1] * e[7] - e[5] * e[3]) * (e[8] * e[14] - e[12] * e[10])
+                               + (e[2] * e[7] - e[6] * e[3]) * (e[8] * e[13] - e[12] * e[9]);
+        }
     }
 
     /**
@@ -155,12 +243,15 @@ public class AnySquareMatrix extends AbstractMatrix implements SquareMatrix {
     /**
      * A rank of a matrix is independent rows of a matrix. That shows that how many
      * rows of a matrix are totally independent, or co-dependent on other rows.
+     * It is found by a QR decomposition with column pivoting, which stops once
+     * the remaining columns are below the largest dimension times the largest
+     * column norm times the machine epsilon. The result is computed once.
      *
      * @return the rank of matrix
      */
     @Override
     public int getRank() {
-        return 0;
+        return rank();
     }
 
     /**
@@ -172,7 +263,7 @@ public class AnySquareMatrix extends AbstractMatrix implements SquareMatrix {
      */
     @Override
     protected Matrix doAdd(final double[] n) {
-        return new AnySquareMatrix(n);
+        return wrap(n);
     }
 
     /**
@@ -184,7 +275,7 @@ public class AnySquareMatrix extends AbstractMatrix implements SquareMatrix {
      */
     @Override
     protected Matrix doSubtract(final double[] n) {
-        return new AnySquareMatrix(n);
+        return wrap(n);
     }
 
     /**
@@ -196,7 +287,7 @@ public class AnySquareMatrix extends AbstractMatrix implements SquareMatrix {
      */
     @Override
     protected Matrix doAdditiveInverse(final double[] n) {
-        return new AnySquareMatrix(n);
+        return wrap(n);
     }
 
     /**
@@ -209,10 +300,10 @@ public class AnySquareMatrix extends AbstractMatrix implements SquareMatrix {
      */
     @Override
     protected Matrix doMultiply(final double[] n, final Matrix m) {
-        var _s = m.size();
+        var _c = m.columns();
 
-        return (s[0] == _s[1]) ? new AnySquareMatrix(n)
-                       : new AnyRectangularMatrix(n, s[0], _s[1]);
+        return (s[0] == _c) ? wrap(n)
+                       : new AnyRectangularMatrix(n, s[0], _c);
     }
 
     /**
@@ -224,7 +315,7 @@ public class AnySquareMatrix extends AbstractMatrix implements SquareMatrix {
      */
     @Override
     protected Matrix doTranspose(final double[] n) {
-        return new AnySquareMatrix(n);
+        return wrap(n);
     }
 
     /**
@@ -259,7 +350,7 @@ public class AnySquareMatrix extends AbstractMatrix implements SquareMatrix {
             if (p < 0)
                 return getMultiplicativeInverse();      //TODO: FIX THIS ONCE I HAVE INVERSE IMPLEMENTED
 
-            return new AnySquareMatrix(n);
+            return wrap(n);
         }
     }
 
@@ -0,0 +1,1151 @@
+package com.katpara.follium.linear.squares;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.exceptions.linears.ColumnOutOfBoundException;
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.exceptions.linears.NotInvertibleException;
+import com.katpara.follium.exceptions.linears.RowOutOfBoundException;
+import com.katpara.follium.linear.DenseVector;
+import com.katpara.follium.linear.Elements;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.decompositions.RankRevealingQR;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.util.Rounding;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+/**
+ * The class is a band matrix, whose non-zero elements lie on the diagonal,
+ * the kl diagonals below it and the ku diagonals above it. It stores the
+ * band row by row, the band storage of LAPACK laid out by rows, i.e. the
+ * element at the row i and the column j is at i * (kl + ku + 1) + kl + j - i.
+ * The elements of the first and the last rows that fall outside the matrix
+ * are ignored.
+ * <p>
+ * The sums and the products with band, diagonal and identity matrices stay
+ * banded, and the products, the solves and the determinant take time and
+ * memory proportional to n times the bandwidth. A system is solved by a band
+ * LU decomposition with partial pivoting, which is computed once.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public class BandMatrix implements SquareMatrix {
+
+    /**
+     * Holds the band elements
+     */
+    protected final double[] e;
+
+    /**
+     * Holds the matrix size
+     */
+    protected final int[] s;
+
+    /**
+     * Holds the number of diagonals below the diagonal
+     */
+    protected final int kl;
+
+    /**
+     * Holds the number of diagonals above the diagonal
+     */
+    protected final int ku;
+
+    /**
+     * Holds the width of a row of the band
+     */
+    protected final int w;
+
+    /**
+     * Holds the lazily computed fingerprint, 0 until it is computed
+     */
+    private volatile long f;
+
+    /**
+     * Holds the lazily computed band LU decomposition, null until it is computed
+     */
+    private volatile Factors lu;
+
+    /**
+     * The constructor creates the matrix of the band elements, which are
+     * copied.
+     *
+     * @param e  the band elements, kl + ku + 1 per row
+     * @param kl the number of diagonals below the diagonal
+     * @param ku the number of diagonals above the diagonal
+     */
+    public BandMatrix(final double[] e, final int kl, final int ku) {
+        this(e, kl, ku, true);
+    }
+
+    /**
+     * The constructor creates the matrix of the band elements, copying them
+     * unless the array is handed over.
+     *
+     * @param e    the band elements, kl + ku + 1 per row
+     * @param kl   the number of diagonals below the diagonal
+     * @param ku   the number of diagonals above the diagonal
+     * @param copy true to copy the elements
+     */
+    BandMatrix(final double[] e, final int kl, final int ku, final boolean copy) {
+        if (kl < 0 || ku < 0 || e.length == 0 || e.length % (kl + ku + 1) != 0)
+            throw new InvalidMatrixDimensionProvidedException();
+
+        var n = e.length / (kl + ku + 1);
+        if (kl >= n || ku >= n)
+            throw new InvalidMatrixDimensionProvidedException();
+
+        this.e = copy ? Arrays.copyOf(e, e.length) : e;
+        this.s = new int[]{n, n};
+        this.kl = kl;
+        this.ku = ku;
+        this.w = kl + ku + 1;
+    }
+
+    /**
+     * The method returns the band matrix of the elements of a square matrix,
+     * whose elements outside the band must be zeros.
+     *
+     * @param m  the square matrix
+     * @param kl the number of diagonals below the diagonal
+     * @param ku the number of diagonals above the diagonal
+     *
+     * @return the band matrix
+     */
+    public static BandMatrix of(final Matrix m, final int kl, final int ku) {
+        if (m.rows() != m.columns() || kl < 0 || ku < 0)
+            throw new InvalidMatrixDimensionProvidedException();
+
+        int n = m.rows(), _w = kl + ku + 1;
+        var a = m.toArray();
+        var b = new double[n * _w];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (j >= i - kl && j <= i + ku)
+                    b[i * _w + j - i + kl] = a[i * n + j];
+                else if (a[i * n + j] != 0)
+                    throw new InvalidParameterProvidedException();
+            }
+        }
+
+        return band(b, kl, ku);
+    }
+
+    /**
+     * The method returns a band matrix on top of the band elements, without
+     * copying them, which is a tridiagonal matrix for one diagonal on each
+     * side. The caller hands the array over and must not write it again.
+     *
+     * @param b  the band elements
+     * @param kl the number of diagonals below the diagonal
+     * @param ku the number of diagonals above the diagonal
+     *
+     * @return the band matrix
+     */
+    static BandMatrix band(final double[] b, final int kl, final int ku) {
+        return (kl == 1 && ku == 1) ? TridiagonalMatrix.wrap(b) : new BandMatrix(b, kl, ku, false);
+    }
+
+    /**
+     * The method returns the number of diagonals below the diagonal.
+     *
+     * @return the lower bandwidth
+     */
+    public final int getLowerBandwidth() {
+        return kl;
+    }
+
+    /**
+     * The method returns the number of diagonals above the diagonal.
+     *
+     * @return the upper bandwidth
+     */
+    public final int getUpperBandwidth() {
+        return ku;
+    }
+
+    /**
+     * The method returns the element at the row i and the column j, which
+     * must be inside the matrix, without checking the indices.
+     *
+     * @param i the row index
+     * @param j the column index
+     *
+     * @return the element
+     */
+    final double at(final int i, final int j) {
+        var d = j - i;
+        return (d < -kl || d > ku) ? 0 : e[i * w + d + kl];
+    }
+
+    /**
+     * The method returns the diagonal entries of the matrix.
+     *
+     * @return the diagonal entries
+     */
+    @Override
+    public final double[] getDiagonalEntries() {
+        var n = new double[s[0]];
+        for (int i = 0; i < n.length; i++)
+            n[i] = e[i * w + kl];
+
+        return n;
+    }
+
+    /**
+     * The method checks if the data is symmetric, comparing the band with
+     * its mirror.
+     *
+     * @return true if symmetric, otherwise false
+     */
+    @Override
+    public final boolean isSymmetric() {
+        var n = s[0];
+        for (int i = 0; i < n; i++) {
+            for (int j = Math.max(0, i - kl), _t = Math.min(n - 1, i + ku); j <= _t; j++) {
+                if (at(i, j) != at(j, i))
+                    return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * the method returns true if the matrix is a lower triangular matrix
+     *
+     * @return true if it's a lower triangular
+     */
+    @Override
+    public final boolean isLowerTriangular() {
+        return zeros(1, ku);
+    }
+
+    /**
+     * the method returns true if the matrix is an upper triangular matrix
+     *
+     * @return true if it's a upper triangular
+     */
+    @Override
+    public final boolean isUpperTriangular() {
+        return zeros(-kl, -1);
+    }
+
+    /**
+     * The method returns true if the matrix is diagonal.
+     *
+     * @return true if the matrix is diagonal
+     */
+    @Override
+    public final boolean isDiagonal() {
+        return zeros(-kl, -1) && zeros(1, ku);
+    }
+
+    /**
+     * The method returns true if the diagonals from the offset a to the
+     * offset b hold only zeros.
+     *
+     * @param a the first offset, negative below the diagonal
+     * @param b the last offset
+     *
+     * @return true if the diagonals hold only zeros
+     */
+    private boolean zeros(final int a, final int b) {
+        var n = s[0];
+        for (int i = 0; i < n; i++) {
+            for (int d = Math.max(a, -i), _t = Math.min(b, n - 1 - i); d <= _t; d++) {
+                if (e[i * w + d + kl] != 0)
+                    return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * The method returns the band LU decomposition, computed once.
+     *
+     * @return the factors
+     */
+    private Factors lu() {
+        var _lu = lu;
+        if (_lu == null)
+            lu = _lu = new Factors(this);
+
+        return _lu;
+    }
+
+    /**
+     * A determinant is a scalar value computed for a square matrix; that
+     * encodes many properties of the linear algebra described by the matrix.
+     * It is denoted as det(A), where A is a matrix or |A|.
+     * It is found by the band LU decomposition.
+     *
+     * @return the determinant of the square matrix
+     */
+    @Override
+    public final double determinant() {
+        var _lu = lu();
+        if (_lu.singular)
+            return 0;
+
+        var det = (double) _lu.sign;
+        for (int i = 0; i < s[0]; i++)
+            det *= _lu.u[i * _lu.w + kl];
+
+        return det;
+    }
+
+    /**
+     * A determinant is a scalar value computed for a square matrix; that
+     * encodes many properties of the linear algebra described by the matrix.
+     * It is denoted as det(A), where A is a matrix or |A|.
+     * This method rounds up the determinant to the given decimal accuracy.
+     *
+     * @param decimals accuracy to defined decimal points
+     *
+     * @return the determinant of the square matrix
+     */
+    @Override
+    public final double determinant(final Rounding.Decimals decimals) {
+        return Double.parseDouble(Rounding.round(this.determinant(), decimals));
+    }
+
+    /**
+     * The method returns the natural logarithm of the absolute value of the
+     * determinant, as the sum of the logarithms of the diagonal of U.
+     *
+     * @return the log of |det(A)|
+     */
+    @Override
+    public final double logAbsDeterminant() {
+        var _lu = lu();
+        if (_lu.singular)
+            return Double.NEGATIVE_INFINITY;
+
+        var l = 0.0;
+        for (int i = 0; i < s[0]; i++)
+            l += Math.log(Math.abs(_lu.u[i * _lu.w + kl]));
+
+        return l;
+    }
+
+    /**
+     * The method returns the sign of the determinant, 0 for a singular
+     * matrix.
+     *
+     * @return -1, 0 or 1
+     */
+    @Override
+    public final int determinantSign() {
+        var _lu = lu();
+        if (_lu.singular)
+            return 0;
+
+        var sign = _lu.sign;
+        for (int i = 0; i < s[0]; i++)
+            sign *= (int) Math.signum(_lu.u[i * _lu.w + kl]);
+
+        return sign;
+    }
+
+    /**
+     * The method solves A x = b by the band LU decomposition with partial
+     * pivoting.
+     *
+     * @param b the right-hand side
+     *
+     * @return the solution
+     */
+    public DenseVector solve(final DenseVector b) {
+        if (b.size() != s[0])
+            throw new MatrixDimensionMismatchException();
+
+        var _lu = lu();
+        if (_lu.singular)
+            throw new NotInvertibleException();
+
+        var x = b.toArray();
+        _lu.solve(x);
+
+        return new DenseVector(x);
+    }
+
+    /**
+     * The method returns the dimension of a matrix.
+     *
+     * @return the dimension of the matrix
+     */
+    @Override
+    public final int[] size() {
+        return Arrays.copyOf(s, 2);
+    }
+
+    /**
+     * The method returns the number of rows of the matrix.
+     *
+     * @return the number of rows
+     */
+    @Override
+    public final int rows() {
+        return s[0];
+    }
+
+    /**
+     * The method returns the number of columns of the matrix.
+     *
+     * @return the number of columns
+     */
+    @Override
+    public final int columns() {
+        return s[1];
+    }
+
+    /**
+     * The method returns true if the matrix is a
+     * row vector, i.e. the dimension is 1 x n.
+     *
+     * @return true if it is a row vector, otherwise false
+     */
+    @Override
+    public final boolean isRowVector() {
+        return false;
+    }
+
+    /**
+     * The method returns true if the matrix is a
+     * column vector, i.e. the dimension is n x 1.
+     *
+     * @return true if it is a column vector, otherwise false
+     */
+    @Override
+    public final boolean isColumnVector() {
+        return false;
+    }
+
+    /**
+     * The method returns true if the matrix is a square matrix.
+     *
+     * @return true if it is a square matrix, otherwise false
+     */
+    @Override
+    public final boolean isSquareMatrix() {
+        return true;
+    }
+
+    /**
+     * The method returns all elements of the matrix, expanded from the band.
+     *
+     * @return the matrix elements
+     */
+    @Override
+    public final double[] toArray() {
+        var n = new double[s[0] * s[1]];
+        expand(n, 0);
+
+        return n;
+    }
+
+    /**
+     * The method writes the band into a row-major array, whose other
+     * elements must be zeros.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    private void expand(final double[] dst, final int o) {
+        var n = s[0];
+        for (int i = 0; i < n; i++) {
+            for (int j = Math.max(0, i - kl), _t = Math.min(n - 1, i + ku); j <= _t; j++)
+                dst[o + i * n + j] = e[i * w + j - i + kl];
+        }
+    }
+
+    /**
+     * The method returns the element at the given position.
+     *
+     * @param r the row index
+     * @param c the column index
+     *
+     * @return the element
+     */
+    @Override
+    public final double get(final int r, final int c) {
+        if (r < 0 || r >= s[0])
+            throw new RowOutOfBoundException();
+        if (c < 0 || c >= s[1])
+            throw new ColumnOutOfBoundException();
+
+        return at(r, c);
+    }
+
+    /**
+     * The method copies all elements of the matrix in row-major order into
+     * the destination, starting at the offset.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    @Override
+    public final void copyTo(final double[] dst, final int o) {
+        if (o < 0 || o > dst.length - s[0] * s[1])
+            throw new InvalidMatrixDimensionProvidedException();
+
+        Arrays.fill(dst, o, o + s[0] * s[1], 0);
+        expand(dst, o);
+    }
+
+    /**
+     * The method returns a read-only buffer of the elements, expanded
+     * from the band into a new array.
+     *
+     * @return the read-only buffer of the elements
+     */
+    @Override
+    public final DoubleBuffer asDoubleBuffer() {
+        return DoubleBuffer.wrap(toArray()).asReadOnlyBuffer();
+    }
+
+    /**
+     * The method returns the row elements of the Matrix.
+     *
+     * @param row the row index
+     *
+     * @return the matrix row elements
+     */
+    @Override
+    public final double[] getRow(final int row) {
+        if (row < 0 || row >= s[0])
+            throw new RowOutOfBoundException();
+
+        var n = new double[s[0]];
+        for (int j = Math.max(0, row - kl), _t = Math.min(s[0] - 1, row + ku); j <= _t; j++)
+            n[j] = e[row * w + j - row + kl];
+
+        return n;
+    }
+
+    /**
+     * The method returns the column elements of a Matrix.
+     *
+     * @param column the column index
+     *
+     * @return the matrix column elements
+     */
+    @Override
+    public final double[] getColumn(final int column) {
+        if (column < 0 || column >= s[1])
+            throw new ColumnOutOfBoundException();
+
+        var n = new double[s[0]];
+        for (int i = Math.max(0, column - ku), _t = Math.min(s[0] - 1, column + kl); i <= _t; i++)
+            n[i] = e[i * w + column - i + kl];
+
+        return n;
+    }
+
+    /**
+     * A rank of a matrix is independent rows of a matrix. That shows that how many
+     * rows of a matrix are totally independent, or co-dependent on other rows.
+     * It is found by a QR decomposition with column pivoting.
+     *
+     * @return the rank of matrix
+     */
+    @Override
+    public final int getRank() {
+        return RankRevealingQR.rank(this);
+    }
+
+    /**
+     * The method returns the transposed matrix, a band matrix with the
+     * bandwidths swapped.
+     *
+     * @return the transposed matrix
+     */
+    @Override
+    public final Matrix getTransposed() {
+        var n = s[0];
+        var b = new double[e.length];
+        for (int i = 0; i < n; i++) {
+            for (int j = Math.max(0, i - kl), _t = Math.min(n - 1, i + ku); j <= _t; j++)
+                b[j * w + i - j + ku] = e[i * w + j - i + kl];
+        }
+
+        return band(b, ku, kl);
+    }
+
+    /**
+     * A fields can be added to another field of the same type. The sum with
+     * a band, diagonal or identity matrix is a band matrix of the wider
+     * bandwidths.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public final Matrix add(final Matrix m) {
+        return add(m, 1);
+    }
+
+    /**
+     * A fields can be subtracted from another field of the same type. The
+     * difference with a band, diagonal or identity matrix is a band matrix of
+     * the wider bandwidths.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public final Matrix subtract(final Matrix m) {
+        if (this == m)
+            return new ZeroMatrix(s[0], s[1]);
+
+        return add(m, -1);
+    }
+
+    /**
+     * The method adds the other matrix multiplied by a sign.
+     *
+     * @param m    the other matrix
+     * @param sign 1 to add, -1 to subtract
+     *
+     * @return the resulting matrix
+     */
+    private Matrix add(final Matrix m, final double sign) {
+        if (s[0] != m.rows() || s[1] != m.columns())
+            throw new MatrixDimensionMismatchException();
+
+        if (m instanceof ZeroMatrix)
+            return this;
+
+        var n = s[0];
+        if (m instanceof BandMatrix || m instanceof DiagonalMatrix || m instanceof IdentityMatrix) {
+            var o = (m instanceof BandMatrix) ? (BandMatrix) m : null;
+            int _kl = (o != null) ? Math.max(kl, o.kl) : kl, _ku = (o != null) ? Math.max(ku, o.ku) : ku;
+            var _w = _kl + _ku + 1;
+            var b = new double[n * _w];
+            for (int i = 0; i < n; i++) {
+                for (int j = Math.max(0, i - kl), _t = Math.min(n - 1, i + ku); j <= _t; j++)
+                    b[i * _w + j - i + _kl] = e[i * w + j - i + kl];
+            }
+
+            if (o != null) {
+                for (int i = 0; i < n; i++) {
+                    for (int j = Math.max(0, i - o.kl), _t = Math.min(n - 1, i + o.ku); j <= _t; j++)
+                        b[i * _w + j - i + _kl] += sign * o.e[i * o.w + j - i + o.kl];
+                }
+            } else {
+                var d = m.getDiagonalEntries();
+                for (int i = 0; i < n; i++)
+                    b[i * _w + _kl] += sign * d[i];
+            }
+
+            return band(b, _kl, _ku);
+        }
+
+        var a = m.toArray();
+        for (int i = 0; i < a.length; i++)
+            a[i] *= sign;
+        expandAdd(a);
+
+        return AnySquareMatrix.wrap(a);
+    }
+
+    /**
+     * The method adds the band to a row-major array.
+     *
+     * @param dst the destination array
+     */
+    private void expandAdd(final double[] dst) {
+        var n = s[0];
+        for (int i = 0; i < n; i++) {
+            for (int j = Math.max(0, i - kl), _t = Math.min(n - 1, i + ku); j <= _t; j++)
+                dst[i * n + j] += e[i * w + j - i + kl];
+        }
+    }
+
+    /**
+     * A field can multiply with another of the same type. The product with a
+     * band matrix is a band matrix of the summed bandwidths, the product with
+     * a diagonal matrix keeps the band, and the product with any other matrix
+     * only reads the band.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public final Matrix multiply(final Matrix m) {
+        if (s[1] != m.rows())
+            throw new MatrixDimensionMismatchException();
+
+        if (m instanceof ZeroMatrix)
+            return new ZeroMatrix(s[0], m.columns());
+
+        if (m instanceof IdentityMatrix)
+            return this;
+
+        var n = s[0];
+        if (m instanceof DiagonalMatrix) {
+            var d = m.getDiagonalEntries();
+            var b = new double[e.length];
+            for (int i = 0; i < n; i++) {
+                for (int j = Math.max(0, i - kl), _t = Math.min(n - 1, i + ku); j <= _t; j++)
+                    b[i * w + j - i + kl] = e[i * w + j - i + kl] * d[j];
+            }
+
+            return band(b, kl, ku);
+        }
+
+        if (m instanceof BandMatrix) {
+            var o = (BandMatrix) m;
+            int _kl = Math.min(n - 1, kl + o.kl), _ku = Math.min(n - 1, ku + o.ku), _w = _kl + _ku + 1;
+            var b = new double[n * _w];
+            for (int i = 0; i < n; i++) {
+                for (int k = Math.max(0, i - kl), _t = Math.min(n - 1, i + ku); k <= _t; k++) {
+                    var a = e[i * w + k - i + kl];
+                    if (a == 0)
+                        continue;
+
+                    for (int j = Math.max(0, k - o.kl), _u = Math.min(n - 1, k + o.ku); j <= _u; j++)
+                        b[i * _w + j - i + _kl] += a * o.e[k * o.w + j - k + o.kl];
+                }
+            }
+
+            return band(b, _kl, _ku);
+        }
+
+        var c = m.columns();
+        double[] x = m.toArray(), y = new double[n * c];
+        for (int i = 0; i < n; i++) {
+            for (int k = Math.max(0, i - kl), _t = Math.min(n - 1, i + ku); k <= _t; k++) {
+                var a = e[i * w + k - i + kl];
+                if (a == 0)
+                    continue;
+
+                for (int l = 0; l < c; l++)
+                    y[i * c + l] += a * x[k * c + l];
+            }
+        }
+
+        return (n == c) ? AnySquareMatrix.wrap(y) : new AnyRectangularMatrix(y, n, c);
+    }
+
+    /**
+     * The method writes the product of the matrix and the vector into the
+     * destination, i.e. y = A * x, reading only the band. The destination
+     * must not share the storage of the vector.
+     *
+     * @param x the vector of columns() elements
+     * @param y the destination of rows() elements
+     *
+     * @return the destination
+     */
+    public final DenseVector multiplyInto(final DenseVector x, final DenseVector y) {
+        return multiplyInto(x, y, false);
+    }
+
+    /**
+     * The method writes the product of the transposed matrix and the vector
+     * into the destination, i.e. y = A^T * x, reading only the band. The
+     * destination must not share the storage of the vector.
+     *
+     * @param x the vector of rows() elements
+     * @param y the destination of columns() elements
+     *
+     * @return the destination
+     */
+    public final DenseVector multiplyTransposedInto(final DenseVector x, final DenseVector y) {
+        return multiplyInto(x, y, true);
+    }
+
+    /**
+     * The method writes the product of the matrix or its transpose and the
+     * vector into the destination, without any temporary.
+     *
+     * @param x          the vector
+     * @param y          the destination
+     * @param transposed true for the transpose
+     *
+     * @return the destination
+     */
+    private DenseVector multiplyInto(final DenseVector x, final DenseVector y, final boolean transposed) {
+        var n = s[0];
+        if (x.size() != n || y.size() != n)
+            throw new MatrixDimensionMismatchException();
+        if (x.shares(y))
+            throw new InvalidParameterProvidedException();
+
+        if (transposed) {
+            y.fill(0);
+            for (int i = 0; i < n; i++) {
+                var _x = x.get(i);
+                for (int j = Math.max(0, i - kl), _t = Math.min(n - 1, i + ku); j <= _t; j++)
+                    y.set(j, y.get(j) + e[i * w + j - i + kl] * _x);
+            }
+        } else {
+            for (int i = 0; i < n; i++) {
+                var t = 0.0;
+                for (int j = Math.max(0, i - kl), _t = Math.min(n - 1, i + ku); j <= _t; j++)
+                    t += e[i * w + j - i + kl] * x.get(j);
+                y.set(i, t);
+            }
+        }
+
+        return y;
+    }
+
+    /**
+     * A field can divided by another field of the same type.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public final Matrix divide(final Matrix m) {
+        if (s[1] != m.rows())
+            throw new MatrixDimensionMismatchException();
+
+        if (m instanceof IdentityMatrix)
+            return this;
+
+        return multiply(m.getMultiplicativeInverse());
+    }
+
+    /**
+     * The method returns the field with the given power. The powers stay
+     * banded and are found by repeated squaring.
+     *
+     * @param p the power
+     *
+     * @return the powered field
+     */
+    @Override
+    public final Matrix power(final int p) {
+        if (p == 0)
+            return new IdentityMatrix(s[0]);
+        if (p < 0)
+            return getMultiplicativeInverse().power(-p);
+
+        Matrix r = null, b = this;
+        for (int _p = p; _p > 0; _p >>= 1) {
+            if ((_p & 1) == 1)
+                r = (r == null) ? b : r.multiply(b);
+            if (_p > 1)
+                b = b.multiply(b);
+        }
+
+        return r;
+    }
+
+    /**
+     * The method returns the additive inverse of the field.
+     *
+     * @return the additive inverse field
+     */
+    @Override
+    public final Matrix getAdditiveInverse() {
+        var b = new double[e.length];
+        for (int i = 0; i < e.length; i++)
+            b[i] = -e[i];
+
+        return band(b, kl, ku);
+    }
+
+    /**
+     * The method returns the multiplicative inverse of the field, which is
+     * dense in general. It is found column by column from the band LU
+     * decomposition.
+     *
+     * @return the multiplicative inverse field
+     */
+    @Override
+    public final Matrix getMultiplicativeInverse() {
+        var _lu = lu();
+        if (_lu.singular)
+            throw new NotInvertibleException();
+
+        var n = s[0];
+        var a = new double[n * n];
+        var x = new double[n];
+        for (int j = 0; j < n; j++) {
+            Arrays.fill(x, 0);
+            x[j] = 1;
+            _lu.solve(x);
+
+            for (int i = 0; i < n; i++)
+                a[i * n + j] = x[i];
+        }
+
+        return AnySquareMatrix.wrap(a);
+    }
+
+    /**
+     * The method returns a 64-bit fingerprint of the shape and the content
+     * of the matrix. It is computed from the band on the first call and
+     * cached.
+     *
+     * @return the fingerprint of the matrix
+     */
+    @Override
+    public final long fingerprint() {
+        var _f = f;
+        if (_f == 0)
+            f = _f = Elements.bandFingerprint(e, s[0], kl, ku);
+
+        return _f;
+    }
+
+    /**
+     * The method returns true if the other matrix has the same dimension and
+     * every pair of elements a, b satisfies
+     * |a - b| &lt;= max(absolute, relative * max(|a|, |b|)).
+     *
+     * @param m        the other matrix
+     * @param absolute the absolute tolerance
+     * @param relative the relative tolerance
+     *
+     * @return true if the matrices are approximately equal
+     */
+    @Override
+    public final boolean approximatelyEquals(final Matrix m, final double absolute, final double relative) {
+        return Elements.approximatelyEqual(this, m, absolute, relative);
+    }
+
+    /**
+     * The method returns true if the other matrix has the same dimension and
+     * every pair of elements is at most the given number of representable
+     * doubles apart.
+     *
+     * @param m    the other matrix
+     * @param ulps the maximum distance in units in the last place
+     *
+     * @return true if the matrices are approximately equal
+     */
+    @Override
+    public final boolean approximatelyEquals(final Matrix m, final int ulps) {
+        return Elements.approximatelyEqual(this, m, ulps);
+    }
+
+    /**
+     * Returns a hash code value for the elements of the matrix, equal to
+     * the one of any other representation of the same elements.
+     *
+     * @return a hash code value for this object.
+     */
+    @Override
+    public final int hashCode() {
+        return Long.hashCode(fingerprint());
+    }
+
+    /**
+     * Indicates whether the other matrix holds the same elements, in any
+     * representation. A band, diagonal, identity or zero matrix is compared
+     * along the bands only, without expanding either matrix.
+     *
+     * @param obj the reference object with which to compare.
+     *
+     * @return {@code true} if this object is the same as the obj
+     *         argument; {@code false} otherwise.
+     */
+    @Override
+    public final boolean equals(final Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof Matrix)) return false;
+
+        var m = (Matrix) obj;
+        if (!(m instanceof BandMatrix || m instanceof DiagonalMatrix || m instanceof IdentityMatrix
+                      || m instanceof ZeroMatrix))
+            return Elements.equal(this, m);
+
+        if (m.rows() != s[0] || m.columns() != s[1] || m.fingerprint() != fingerprint())
+            return false;
+
+        var o = (m instanceof BandMatrix) ? (BandMatrix) m : null;
+        int n = s[0], _kl = (o != null) ? Math.max(kl, o.kl) : kl, _ku = (o != null) ? Math.max(ku, o.ku) : ku;
+        var d = (o == null) ? m.getDiagonalEntries() : null;
+        for (int i = 0; i < n; i++) {
+            for (int j = Math.max(0, i - _kl), _t = Math.min(n - 1, i + _ku); j <= _t; j++) {
+                double a = at(i, j), b = (o != null) ? o.at(i, j) : (i == j) ? d[i] : 0;
+                if (a != b && (a == a || b == b))
+                    return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns a string representation of the matrix with four decimals.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public final String toString() {
+        return this.toString(Rounding.Decimals.FOUR);
+    }
+
+    /**
+     * The method returns a string representing the field upto
+     * specified decimal points.
+     *
+     * @param decimals the decimal precision
+     *
+     * @return the string representing the field
+     */
+    @Override
+    public final String toString(final Rounding.Decimals decimals) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < s[0]; i++) {
+            sb.append("|");
+            for (int j = 0; j < s[1]; j++) {
+                sb.append(Rounding.round(at(i, j), decimals));
+                if (j != s[1] - 1)
+                    sb.append(" ");
+            }
+            sb.append("|\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * The class holds a band LU decomposition with partial pivoting, P A = L U.
+     * As the rows are swapped, U has kl + ku diagonals above its diagonal,
+     * and the multipliers of L are kept per column, kl at most.
+     */
+    private static final class Factors {
+
+        /**
+         * Holds the rows of U, kl + (kl + ku) + 1 elements per row from the column i - kl
+         */
+        private final double[] u;
+
+        /**
+         * Holds the width of a row of U
+         */
+        private final int w;
+
+        /**
+         * Holds the multipliers of L, kl per column
+         */
+        private final double[] l;
+
+        /**
+         * Holds the row swapped with the row of the same index at each step
+         */
+        private final int[] p;
+
+        /**
+         * Holds the number of diagonals below the diagonal
+         */
+        private final int kl;
+
+        /**
+         * Holds the number of diagonals of U above the diagonal
+         */
+        private final int ku;
+
+        /**
+         * Holds the sign of the row permutation
+         */
+        private int sign = 1;
+
+        /**
+         * Holds true if a pivot was zero
+         */
+        private boolean singular;
+
+        /**
+         * The constructor decomposes the band matrix.
+         *
+         * @param a the band matrix
+         */
+        private Factors(final BandMatrix a) {
+            int n = a.s[0];
+            this.kl = a.kl;
+            this.ku = a.kl + a.ku;
+            this.w = kl + ku + 1;
+            this.u = new double[n * w];
+            this.l = new double[Math.max(1, n * kl)];
+            this.p = new int[n];
+
+            for (int i = 0; i < n; i++)
+                System.arraycopy(a.e, i * a.w, u, i * w, a.w);
+
+            for (int k = 0; k < n; k++) {
+                int _b = Math.min(n - 1, k + kl), _r = Math.min(n - 1, k + ku);
+
+                var q = k;
+                for (int i = k + 1; i <= _b; i++) {
+                    if (Math.abs(u[i * w + k - i + kl]) > Math.abs(u[q * w + k - q + kl]))
+                        q = i;
+                }
+                p[k] = q;
+
+                if (q != k) {
+                    sign = -sign;
+                    for (int j = k; j <= _r; j++) {
+                        int x = k * w + j - k + kl, y = q * w + j - q + kl;
+                        var t = u[x];
+                        u[x] = u[y];
+                        u[y] = t;
+                    }
+                }
+
+                var d = u[k * w + kl];
+                if (d == 0) {
+                    singular = true;
+                    continue;
+                }
+
+                for (int i = k + 1; i <= _b; i++) {
+                    var o = i * w - i + kl;
+                    var m = u[o + k] / d;
+                    l[k * kl + i - k - 1] = m;
+                    u[o + k] = 0;
+                    if (m == 0)
+                        continue;
+
+                    for (int j = k + 1, _o = k * w - k + kl; j <= _r; j++)
+                        u[o + j] -= m * u[_o + j];
+                }
+            }
+        }
+
+        /**
+         * The method overwrites the right-hand side by the solution.
+         *
+         * @param x the right-hand side
+         */
+        private void solve(final double[] x) {
+            var n = p.length;
+            for (int k = 0; k < n; k++) {
+                if (p[k] != k) {
+                    var t = x[k];
+                    x[k] = x[p[k]];
+                    x[p[k]] = t;
+                }
+                for (int i = k + 1, _b = Math.min(n - 1, k + kl); i <= _b; i++)
+                    x[i] -= l[k * kl + i - k - 1] * x[k];
+            }
+
+            for (int i = n - 1; i >= 0; i--) {
+                var o = i * w - i + kl;
+                var v = x[i];
+                for (int j = i + 1, _r = Math.min(n - 1, i + ku); j <= _r; j++)
+                    v -= u[o + j] * x[j];
+
+                x[i] = v / u[o + i];
+            }
+        }
+    }
+}
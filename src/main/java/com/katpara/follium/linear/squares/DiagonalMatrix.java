@@ -1,12 +1,19 @@
 package com.katpara.follium.linear.squares;
 
 import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.exceptions.linears.ColumnOutOfBoundException;
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
 import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
 import com.katpara.follium.exceptions.linears.NotSquareMatrixException;
+import com.katpara.follium.exceptions.linears.RowOutOfBoundException;
+import com.katpara.follium.linear.Elements;
 import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.constants.IdentityMatrix;
 import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
 import com.katpara.follium.util.Rounding;
 
+import java.nio.DoubleBuffer;
 import java.util.Arrays;
 import java.util.HashMap;
 
@@ -23,12 +30,28 @@ public final class DiagonalMatrix implements SquareMatrix {
     protected final int[] s;
 
     /**
-     * The diagonal matrix construction from an array
+     * Holds the lazily computed fingerprint, 0 until it is computed
+     */
+    private volatile long f;
+
+    /**
+     * The diagonal matrix construction from an array, which is copied.
      *
      * @param e the diagonal array
      */
     public DiagonalMatrix(final double[] e) {
-        this.e = e;
+        this(e, true);
+    }
+
+    /**
+     * The constructor creates the matrix of the diagonal, copying it unless
+     * the array is handed over.
+     *
+     * @param e    the diagonal array
+     * @param copy true to copy the diagonal
+     */
+    private DiagonalMatrix(final double[] e, final boolean copy) {
+        this.e = copy ? Arrays.copyOf(e, e.length) : e;
         this.s = new int[]{e.length, e.length};
     }
 
@@ -56,6 +79,18 @@ public final class DiagonalMatrix implements SquareMatrix {
         this.s = new int[]{e.length, e.length};
     }
 
+    /**
+     * The method returns a matrix on top of the diagonal, without copying
+     * it. The caller hands the array over and must not write it again.
+     *
+     * @param e the diagonal array
+     *
+     * @return the matrix
+     */
+    static DiagonalMatrix wrap(final double[] e) {
+        return new DiagonalMatrix(e, false);
+    }
+
     /**
      * The method returns the diagonal entries of the matrix.
      *
@@ -63,7 +98,17 @@ public final class DiagonalMatrix implements SquareMatrix {
      */
     @Override
     public final double[] getDiagonalEntries() {
-        return e;
+        return Arrays.copyOf(e, e.length);
+    }
+
+    /**
+     * The method returns a read-only view of the diagonal entries, without
+     * copying them.
+     *
+     * @return the read-only buffer of the diagonal entries
+     */
+    public final DoubleBuffer getDiagonalBuffer() {
+        return DoubleBuffer.wrap(e).asReadOnlyBuffer();
     }
 
     /**
@@ -127,6 +172,36 @@ public final class DiagonalMatrix implements SquareMatrix {
         return Double.parseDouble(Rounding.round(this.determinant(), decimals));
     }
 
+    /**
+     * The method returns the natural logarithm of the absolute value of the
+     * determinant, as the sum of the logarithms of the diagonal.
+     *
+     * @return the log of |det(A)|
+     */
+    @Override
+    public double logAbsDeterminant() {
+        var l = 0.0;
+        for (double _e : e)
+            l += Math.log(Math.abs(_e));
+
+        return l;
+    }
+
+    /**
+     * The method returns the sign of the determinant, as the product of the
+     * signs of the diagonal, so it survives an underflowing determinant.
+     *
+     * @return -1, 0 or 1
+     */
+    @Override
+    public int determinantSign() {
+        var sign = 1;
+        for (double _e : e)
+            sign *= (int) Math.signum(_e);
+
+        return sign;
+    }
+
     /**
      * The method returns the dimension of a matrix.
      *
@@ -137,6 +212,26 @@ public final class DiagonalMatrix implements SquareMatrix {
         return Arrays.copyOf(s, 2);
     }
 
+    /**
+     * The method returns the number of rows of the matrix.
+     *
+     * @return the number of rows
+     */
+    @Override
+    public final int rows() {
+        return s[0];
+    }
+
+    /**
+     * The method returns the number of columns of the matrix.
+     *
+     * @return the number of columns
+     */
+    @Override
+    public final int columns() {
+        return s[1];
+    }
+
     /**
      * The method returns true if the matrix is a
      * row vector, i.e. the dimension is 1 x n.
@@ -195,6 +290,53 @@ public final class DiagonalMatrix implements SquareMatrix {
         return n;
     }
 
+    /**
+     * The method returns the element at the given position.
+     *
+     * @param r the row index
+     * @param c the column index
+     *
+     * @return the element
+     */
+    @Override
+    public double get(final int r, final int c) {
+        if (r < 0 || r >= s[0])
+            throw new RowOutOfBoundException();
+        if (c < 0 || c >= s[1])
+            throw new ColumnOutOfBoundException();
+
+        return (r == c) ? e[r] : 0;
+    }
+
+    /**
+     * The method copies all elements of the matrix in row-major order into
+     * the destination, starting at the offset.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    @Override
+    public void copyTo(final double[] dst, final int o) {
+        if (o < 0 || o > dst.length - s[0] * s[1])
+            throw new InvalidMatrixDimensionProvidedException();
+
+        var n = s[0];
+        Arrays.fill(dst, o, o + n * n, 0);
+        for (int i = 0; i < n; i++)
+            dst[o + i * n + i] = e[i];
+    }
+
+    /**
+     * The method returns a read-only buffer of the elements, expanded
+     * from the diagonal into a new array.
+     *
+     * @return the read-only buffer of the elements
+     */
+    @Override
+    public DoubleBuffer asDoubleBuffer() {
+        return DoubleBuffer.wrap(toArray()).asReadOnlyBuffer();
+    }
+
     /**
      * The method returns the row elements of the Matrix.
      *
@@ -232,12 +374,23 @@ public final class DiagonalMatrix implements SquareMatrix {
     /**
      * A rank of a matrix is independent rows of a matrix. That shows that how many
      * rows of a matrix are totally independent, or co-dependent on other rows.
+     * It is the number of singular values above the largest dimension times the
+     * largest singular value times the machine epsilon.
      *
      * @return the rank of matrix
      */
     @Override
     public final int getRank() {
-        return s[0];
+        var m = 0.0;
+        for (final double _e : e)
+            m = Math.max(m, Math.abs(_e));
+
+        var t = s[0] * m * Math.ulp(1.0);
+        var r = 0;
+        for (final double _e : e)
+            if (Math.abs(_e) > t) r++;
+
+        return r;
     }
 
     /**
@@ -259,29 +412,28 @@ public final class DiagonalMatrix implements SquareMatrix {
      */
     @Override
     public Matrix add(final Matrix m) {
-        var _s = m.size();
-        if (!Arrays.equals(this.size(), _s))
+        if (s[0] != m.rows() || s[1] != m.columns())
             throw new MatrixDimensionMismatchException();
 
         if (m instanceof ZeroMatrix)
             return this;
 
         if (m instanceof DiagonalMatrix) {
-            double[] n = Arrays.copyOf(m.getDiagonalEntries(), s[0]);
+            double[] n = m.getDiagonalEntries();
 
             for (int i = 0; i < s[0]; i++) {
                 n[i] += e[i];
             }
 
-            return new DiagonalMatrix(n);
+            return wrap(n);
         }
 
-        double[] n = Arrays.copyOf(m.toArray(), _s[0] * _s[1]);
+        double[] n = m.toArray();
         for (int i = 0; i < s[0]; i++) {
             n[(i * s[0]) + i] += e[i];
         }
 
-        return new AnySquareMatrix(n);
+        return AnySquareMatrix.wrap(n);
     }
 
     /**
@@ -293,8 +445,7 @@ public final class DiagonalMatrix implements SquareMatrix {
      */
     @Override
     public Matrix subtract(final Matrix m) {
-        var _s = m.size();
-        if (!Arrays.equals(this.size(), _s))
+        if (s[0] != m.rows() || s[1] != m.columns())
             throw new MatrixDimensionMismatchException();
 
 //        if (this == m)
@@ -311,7 +462,7 @@ public final class DiagonalMatrix implements SquareMatrix {
                 n[i] -= _e[i];
             }
 
-            return new DiagonalMatrix(n);
+            return wrap(n);
         }
 
         double[] n = toArray(), _e = m.toArray();
@@ -319,19 +470,49 @@ public final class DiagonalMatrix implements SquareMatrix {
             n[i] -= _e[i];
         }
 
-        return new AnySquareMatrix(n);
+        return AnySquareMatrix.wrap(n);
     }
 
     /**
-     * A field can multiply with another of the same type.
+     * A field can multiply with another of the same type. The product with
+     * a diagonal matrix is diagonal, and the product with any other matrix
+     * scales its rows by the diagonal.
      *
-     * @param matrix the other field
+     * @param m the other field
      *
      * @return the resulting field
      */
     @Override
-    public Matrix multiply(final Matrix matrix) {
-        return null;
+    public Matrix multiply(final Matrix m) {
+        if (s[1] != m.rows())
+            throw new MatrixDimensionMismatchException();
+
+        if (m instanceof ZeroMatrix)
+            return new ZeroMatrix(s[0], m.columns());
+
+        if (m instanceof IdentityMatrix)
+            return this;
+
+        if (m instanceof DiagonalMatrix) {
+            double[] n = m.getDiagonalEntries();
+
+            for (int i = 0; i < s[0]; i++) {
+                n[i] *= e[i];
+            }
+
+            return wrap(n);
+        }
+
+        double[] n = m.toArray();
+        var _c = m.columns();
+        for (int i = 0; i < s[0]; i++) {
+            for (int j = i * _c, _t = j + _c; j < _t; j++) {
+                n[j] *= e[i];
+            }
+        }
+
+        return (s[0] == _c) ? AnySquareMatrix.wrap(n)
+                       : new AnyRectangularMatrix(n, s[0], _c);
     }
 
     /**
@@ -365,7 +546,12 @@ public final class DiagonalMatrix implements SquareMatrix {
      */
     @Override
     public Matrix getAdditiveInverse() {
-        return null;
+        var n = new double[e.length];
+        for (int i = 0; i < e.length; i++) {
+            n[i] = -e[i];
+        }
+
+        return wrap(n);
     }
 
     /**
@@ -378,6 +564,53 @@ public final class DiagonalMatrix implements SquareMatrix {
         return null;
     }
 
+    /**
+     * The method returns a 64-bit fingerprint of the shape and the content
+     * of the matrix. It is computed from the diagonal entries on the first
+     * call and cached.
+     *
+     * @return the fingerprint of the matrix
+     */
+    @Override
+    public long fingerprint() {
+        var _f = f;
+        if (_f == 0)
+            f = _f = Elements.diagonalFingerprint(e);
+
+        return _f;
+    }
+
+    /**
+     * The method returns true if the other matrix has the same dimension and
+     * every pair of elements a, b satisfies
+     * |a - b| &lt;= max(absolute, relative * max(|a|, |b|)).
+     *
+     * @param m        the other matrix
+     * @param absolute the absolute tolerance
+     * @param relative the relative tolerance
+     *
+     * @return true if the matrices are approximately equal
+     */
+    @Override
+    public boolean approximatelyEquals(final Matrix m, final double absolute, final double relative) {
+        return Elements.approximatelyEqual(this, m, absolute, relative);
+    }
+
+    /**
+     * The method returns true if the other matrix has the same dimension and
+     * every pair of elements is at most the given number of representable
+     * doubles apart.
+     *
+     * @param m    the other matrix
+     * @param ulps the maximum distance in units in the last place
+     *
+     * @return true if the matrices are approximately equal
+     */
+    @Override
+    public boolean approximatelyEquals(final Matrix m, final int ulps) {
+        return Elements.approximatelyEqual(this, m, ulps);
+    }
+
     /**
      * Returns a hash code value for the object. This method is
      * supported for the benefit of hash tables such as those provided by
@@ -415,7 +648,7 @@ public final class DiagonalMatrix implements SquareMatrix {
      */
     @Override
     public int hashCode() {
-        return Arrays.hashCode(e);
+        return Long.hashCode(fingerprint());
     }
 
     /**
@@ -468,18 +701,10 @@ public final class DiagonalMatrix implements SquareMatrix {
      */
     @Override
     public boolean equals(final Object obj) {
-        if (obj == null) return false;
-
         if (this == obj) return true;
-        if (this.hashCode() == obj.hashCode()) return true;
-
-        final Matrix that = (Matrix) obj;
-        if (!Arrays.equals(size(), that.size())) return false;
-
-        if (obj instanceof DiagonalMatrix)
-            return Arrays.equals(e, that.getDiagonalEntries());
+        if (!(obj instanceof Matrix)) return false;
 
-        return Arrays.equals(this.toArray(), that.toArray());
+        return Elements.equal(this, (Matrix) obj);
     }
 
     /**
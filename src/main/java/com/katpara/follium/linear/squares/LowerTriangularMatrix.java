@@ -0,0 +1,71 @@
+package com.katpara.follium.linear.squares;
+
+import com.katpara.follium.linear.Matrix;
+
+import java.util.Arrays;
+
+/**
+ * The class is a lower triangular matrix, which packs its lower triangle
+ * row by row, i.e. the element at the row i and the column j &lt;= i is at i(i + 1)/2 + j.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class LowerTriangularMatrix extends TriangularMatrix {
+
+    /**
+     * The constructor creates the matrix of the packed elements, which are
+     * copied.
+     *
+     * @param e the packed elements
+     */
+    public LowerTriangularMatrix(final double[] e) {
+        this(e, true);
+    }
+
+    /**
+     * The constructor creates the matrix from a two-dimensional array, whose
+     * other triangle must hold only zeros.
+     *
+     * @param e the two-dimensional array
+     */
+    public LowerTriangularMatrix(final double[][] e) {
+        super(pack(new AnySquareMatrix(e), false), false);
+    }
+
+    /**
+     * The constructor creates the matrix of the packed elements, copying
+     * them unless the array is handed over.
+     *
+     * @param e    the packed elements
+     * @param copy true to copy the elements
+     */
+    private LowerTriangularMatrix(final double[] e, final boolean copy) {
+        super(copy ? Arrays.copyOf(e, e.length) : e, false);
+    }
+
+    /**
+     * The method returns a matrix on top of the packed elements, without
+     * copying them. The caller hands the array over and must not write it
+     * again.
+     *
+     * @param e the packed elements
+     *
+     * @return the matrix
+     */
+    static LowerTriangularMatrix wrap(final double[] e) {
+        return new LowerTriangularMatrix(e, false);
+    }
+
+    /**
+     * The method returns the lower triangular matrix of the elements of a
+     * square matrix, whose other triangle must hold only zeros.
+     *
+     * @param m the square matrix
+     *
+     * @return the lower triangular matrix
+     */
+    public static LowerTriangularMatrix of(final Matrix m) {
+        return wrap(pack(m, false));
+    }
+}
@@ -0,0 +1,736 @@
+package com.katpara.follium.linear.squares;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.exceptions.linears.ColumnOutOfBoundException;
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.exceptions.linears.RowOutOfBoundException;
+import com.katpara.follium.linear.DenseVector;
+import com.katpara.follium.linear.Elements;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.util.Rounding;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+/**
+ * The class is a permutation matrix, stored as the column of the one in
+ * each row, i.e. the row i of P A is the row p[i] of A. The inverse and the
+ * transpose are the inverse permutation, a product with another permutation
+ * is their composition, and a product with any other matrix moves its rows
+ * without any multiplication, all in time proportional to the elements
+ * moved.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class PermutationMatrix implements SquareMatrix {
+
+    /**
+     * Holds the column of the one in each row
+     */
+    private final int[] p;
+
+    /**
+     * Holds the matrix size
+     */
+    private final int[] s;
+
+    /**
+     * Holds the lazily computed fingerprint, 0 until it is computed
+     */
+    private volatile long f;
+
+    /**
+     * The constructor creates the matrix of the permutation, which is
+     * copied.
+     *
+     * @param p the column of the one in each row
+     */
+    public PermutationMatrix(final int[] p) {
+        if (p.length == 0)
+            throw new InvalidMatrixDimensionProvidedException();
+
+        var seen = new boolean[p.length];
+        for (var i : p) {
+            if (i < 0 || i >= p.length || seen[i])
+                throw new InvalidParameterProvidedException();
+            seen[i] = true;
+        }
+
+        this.p = p.clone();
+        this.s = new int[]{p.length, p.length};
+    }
+
+    /**
+     * The private constructor wraps a permutation known to be valid.
+     *
+     * @param p    the column of the one in each row
+     * @param wrap ignored, tells the constructors apart
+     */
+    private PermutationMatrix(final int[] p, final boolean wrap) {
+        this.p = p;
+        this.s = new int[]{p.length, p.length};
+    }
+
+    /**
+     * The method returns the column of the one in each row.
+     *
+     * @return the permutation
+     */
+    public int[] getPermutation() {
+        return p.clone();
+    }
+
+    /**
+     * The method returns the inverse permutation.
+     *
+     * @return the inverse permutation
+     */
+    private int[] inverse() {
+        var q = new int[p.length];
+        for (int i = 0; i < p.length; i++)
+            q[p[i]] = i;
+
+        return q;
+    }
+
+    /**
+     * The method returns the permuted vector, i.e. y[i] = x[p[i]].
+     *
+     * @param x the vector
+     *
+     * @return the permuted vector
+     */
+    public DenseVector multiply(final DenseVector x) {
+        return multiplyInto(x, new DenseVector(p.length));
+    }
+
+    /**
+     * The method writes the permuted vector into the destination, i.e.
+     * y = P * x. The destination must not share the storage of the vector.
+     *
+     * @param x the vector of columns() elements
+     * @param y the destination of rows() elements
+     *
+     * @return the destination
+     */
+    public DenseVector multiplyInto(final DenseVector x, final DenseVector y) {
+        if (x.size() != p.length || y.size() != p.length)
+            throw new MatrixDimensionMismatchException();
+        if (x.shares(y))
+            throw new InvalidParameterProvidedException();
+
+        for (int i = 0; i < p.length; i++)
+            y.set(i, x.get(p[i]));
+
+        return y;
+    }
+
+    /**
+     * The method writes the inversely permuted vector into the destination,
+     * i.e. y = P^T * x. The destination must not share the storage of the
+     * vector.
+     *
+     * @param x the vector of rows() elements
+     * @param y the destination of columns() elements
+     *
+     * @return the destination
+     */
+    public DenseVector multiplyTransposedInto(final DenseVector x, final DenseVector y) {
+        if (x.size() != p.length || y.size() != p.length)
+            throw new MatrixDimensionMismatchException();
+        if (x.shares(y))
+            throw new InvalidParameterProvidedException();
+
+        for (int i = 0; i < p.length; i++)
+            y.set(p[i], x.get(i));
+
+        return y;
+    }
+
+    /**
+     * The method returns the diagonal entries of the matrix.
+     *
+     * @return the diagonal entries
+     */
+    @Override
+    public double[] getDiagonalEntries() {
+        var n = new double[p.length];
+        for (int i = 0; i < p.length; i++)
+            n[i] = (p[i] == i) ? 1 : 0;
+
+        return n;
+    }
+
+    /**
+     * The method checks if the data is symmetric, i.e. the permutation is
+     * its own inverse.
+     *
+     * @return true if symmetric, otherwise false
+     */
+    @Override
+    public boolean isSymmetric() {
+        for (int i = 0; i < p.length; i++) {
+            if (p[p[i]] != i)
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * the method returns true if the matrix is a lower triangular matrix,
+     * which is only the identity permutation.
+     *
+     * @return true if it's a lower triangular
+     */
+    @Override
+    public boolean isLowerTriangular() {
+        return isDiagonal();
+    }
+
+    /**
+     * the method returns true if the matrix is an upper triangular matrix,
+     * which is only the identity permutation.
+     *
+     * @return true if it's a upper triangular
+     */
+    @Override
+    public boolean isUpperTriangular() {
+        return isDiagonal();
+    }
+
+    /**
+     * The method returns true if the matrix is diagonal, i.e. the identity
+     * permutation.
+     *
+     * @return true if the matrix is diagonal
+     */
+    @Override
+    public boolean isDiagonal() {
+        for (int i = 0; i < p.length; i++) {
+            if (p[i] != i)
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * A determinant is a scalar value computed for a square matrix; that
+     * encodes many properties of the linear algebra described by the matrix.
+     * It is denoted as det(A), where A is a matrix or |A|.
+     * It is the sign of the permutation.
+     *
+     * @return the determinant of the square matrix
+     */
+    @Override
+    public double determinant() {
+        return determinantSign();
+    }
+
+    /**
+     * A determinant is a scalar value computed for a square matrix; that
+     * encodes many properties of the linear algebra described by the matrix.
+     * It is denoted as det(A), where A is a matrix or |A|.
+     * This method rounds up the determinant to the given decimal accuracy.
+     *
+     * @param decimals accuracy to defined decimal points
+     *
+     * @return the determinant of the square matrix
+     */
+    @Override
+    public double determinant(final Rounding.Decimals decimals) {
+        return Double.parseDouble(Rounding.round(this.determinant(), decimals));
+    }
+
+    /**
+     * The method returns the natural logarithm of the absolute value of the
+     * determinant, which is always 0.
+     *
+     * @return the log of |det(A)|
+     */
+    @Override
+    public double logAbsDeterminant() {
+        return 0;
+    }
+
+    /**
+     * The method returns the sign of the permutation, -1 to the power of
+     * the number of even-length cycles.
+     *
+     * @return -1 or 1
+     */
+    @Override
+    public int determinantSign() {
+        var seen = new boolean[p.length];
+        var sign = 1;
+        for (int i = 0; i < p.length; i++) {
+            if (seen[i])
+                continue;
+
+            var l = 0;
+            for (int j = i; !seen[j]; j = p[j], l++)
+                seen[j] = true;
+            if ((l & 1) == 0)
+                sign = -sign;
+        }
+
+        return sign;
+    }
+
+    /**
+     * The method returns the dimension of a matrix.
+     *
+     * @return the dimension of the matrix
+     */
+    @Override
+    public int[] size() {
+        return Arrays.copyOf(s, 2);
+    }
+
+    /**
+     * The method returns the number of rows of the matrix.
+     *
+     * @return the number of rows
+     */
+    @Override
+    public int rows() {
+        return s[0];
+    }
+
+    /**
+     * The method returns the number of columns of the matrix.
+     *
+     * @return the number of columns
+     */
+    @Override
+    public int columns() {
+        return s[1];
+    }
+
+    /**
+     * The method returns true if the matrix is a
+     * row vector, i.e. the dimension is 1 x n.
+     *
+     * @return true if it is a row vector, otherwise false
+     */
+    @Override
+    public boolean isRowVector() {
+        return false;
+    }
+
+    /**
+     * The method returns true if the matrix is a
+     * column vector, i.e. the dimension is n x 1.
+     *
+     * @return true if it is a column vector, otherwise false
+     */
+    @Override
+    public boolean isColumnVector() {
+        return false;
+    }
+
+    /**
+     * The method returns true if the matrix is a square matrix.
+     *
+     * @return true if it is a square matrix, otherwise false
+     */
+    @Override
+    public boolean isSquareMatrix() {
+        return true;
+    }
+
+    /**
+     * The method returns all elements of the matrix.
+     *
+     * @return the matrix elements
+     */
+    @Override
+    public double[] toArray() {
+        var n = new double[p.length * p.length];
+        for (int i = 0; i < p.length; i++)
+            n[i * p.length + p[i]] = 1;
+
+        return n;
+    }
+
+    /**
+     * The method returns the element at the given position.
+     *
+     * @param r the row index
+     * @param c the column index
+     *
+     * @return the element
+     */
+    @Override
+    public double get(final int r, final int c) {
+        if (r < 0 || r >= s[0])
+            throw new RowOutOfBoundException();
+        if (c < 0 || c >= s[1])
+            throw new ColumnOutOfBoundException();
+
+        return (p[r] == c) ? 1 : 0;
+    }
+
+    /**
+     * The method copies all elements of the matrix in row-major order into
+     * the destination, starting at the offset.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    @Override
+    public void copyTo(final double[] dst, final int o) {
+        if (o < 0 || o > dst.length - p.length * p.length)
+            throw new InvalidMatrixDimensionProvidedException();
+
+        Arrays.fill(dst, o, o + p.length * p.length, 0);
+        for (int i = 0; i < p.length; i++)
+            dst[o + i * p.length + p[i]] = 1;
+    }
+
+    /**
+     * The method returns a read-only buffer of the elements, expanded
+     * into a new array.
+     *
+     * @return the read-only buffer of the elements
+     */
+    @Override
+    public DoubleBuffer asDoubleBuffer() {
+        return DoubleBuffer.wrap(toArray()).asReadOnlyBuffer();
+    }
+
+    /**
+     * The method returns the row elements of the Matrix.
+     *
+     * @param row the row index
+     *
+     * @return the matrix row elements
+     */
+    @Override
+    public double[] getRow(final int row) {
+        if (row < 0 || row >= s[0])
+            throw new RowOutOfBoundException();
+
+        var n = new double[p.length];
+        n[p[row]] = 1;
+
+        return n;
+    }
+
+    /**
+     * The method returns the column elements of a Matrix.
+     *
+     * @param column the column index
+     *
+     * @return the matrix column elements
+     */
+    @Override
+    public double[] getColumn(final int column) {
+        if (column < 0 || column >= s[1])
+            throw new ColumnOutOfBoundException();
+
+        var n = new double[p.length];
+        for (int i = 0; i < p.length; i++) {
+            if (p[i] == column) {
+                n[i] = 1;
+                break;
+            }
+        }
+
+        return n;
+    }
+
+    /**
+     * A rank of a matrix is independent rows of a matrix, which is the
+     * dimension for a permutation matrix.
+     *
+     * @return the rank of matrix
+     */
+    @Override
+    public int getRank() {
+        return p.length;
+    }
+
+    /**
+     * The method returns the transposed matrix, the inverse permutation.
+     *
+     * @return the transposed matrix
+     */
+    @Override
+    public Matrix getTransposed() {
+        return new PermutationMatrix(inverse(), true);
+    }
+
+    /**
+     * A fields can be added to another field of the same type.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix add(final Matrix m) {
+        return add(m, 1);
+    }
+
+    /**
+     * A fields can be subtracted from another field of the same type.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix subtract(final Matrix m) {
+        if (this == m)
+            return new ZeroMatrix(s[0], s[1]);
+
+        return add(m, -1);
+    }
+
+    /**
+     * The method adds the other matrix multiplied by a sign.
+     *
+     * @param m    the other matrix
+     * @param sign 1 to add, -1 to subtract
+     *
+     * @return the resulting matrix
+     */
+    private Matrix add(final Matrix m, final double sign) {
+        if (s[0] != m.rows() || s[1] != m.columns())
+            throw new MatrixDimensionMismatchException();
+
+        if (m instanceof ZeroMatrix)
+            return this;
+
+        var a = m.toArray();
+        for (int i = 0; i < a.length; i++)
+            a[i] *= sign;
+        for (int i = 0; i < p.length; i++)
+            a[i * p.length + p[i]] += 1;
+
+        return AnySquareMatrix.wrap(a);
+    }
+
+    /**
+     * A field can multiply with another of the same type. The product with a
+     * permutation is their composition, and the product with any other
+     * matrix moves its rows.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix multiply(final Matrix m) {
+        if (s[1] != m.rows())
+            throw new MatrixDimensionMismatchException();
+
+        if (m instanceof ZeroMatrix)
+            return new ZeroMatrix(s[0], m.columns());
+
+        if (m instanceof IdentityMatrix)
+            return this;
+
+        if (m instanceof PermutationMatrix) {
+            var q = ((PermutationMatrix) m).p;
+            var r = new int[p.length];
+            for (int i = 0; i < p.length; i++)
+                r[i] = q[p[i]];
+
+            return new PermutationMatrix(r, true);
+        }
+
+        var c = m.columns();
+        double[] a = m.toArray(), n = new double[a.length];
+        for (int i = 0; i < p.length; i++)
+            System.arraycopy(a, p[i] * c, n, i * c, c);
+
+        return (s[0] == c) ? AnySquareMatrix.wrap(n) : new AnyRectangularMatrix(n, s[0], c);
+    }
+
+    /**
+     * A field can divided by another field of the same type.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix divide(final Matrix m) {
+        if (s[1] != m.rows())
+            throw new MatrixDimensionMismatchException();
+
+        if (m instanceof IdentityMatrix)
+            return this;
+
+        return multiply(m.getMultiplicativeInverse());
+    }
+
+    /**
+     * The method returns the field with the given power, found by repeated
+     * squaring of the permutation.
+     *
+     * @param p the power
+     *
+     * @return the powered field
+     */
+    @Override
+    public Matrix power(final int p) {
+        if (p == 0)
+            return new IdentityMatrix(s[0]);
+        if (p < 0)
+            return getMultiplicativeInverse().power(-p);
+
+        Matrix r = null, b = this;
+        for (int _p = p; _p > 0; _p >>= 1) {
+            if ((_p & 1) == 1)
+                r = (r == null) ? b : r.multiply(b);
+            if (_p > 1)
+                b = b.multiply(b);
+        }
+
+        return r;
+    }
+
+    /**
+     * The method returns the additive inverse of the field.
+     *
+     * @return the additive inverse field
+     */
+    @Override
+    public Matrix getAdditiveInverse() {
+        var n = new double[p.length * p.length];
+        for (int i = 0; i < p.length; i++)
+            n[i * p.length + p[i]] = -1;
+
+        return AnySquareMatrix.wrap(n);
+    }
+
+    /**
+     * The method returns the multiplicative inverse of the field, the
+     * inverse permutation.
+     *
+     * @return the multiplicative inverse field
+     */
+    @Override
+    public Matrix getMultiplicativeInverse() {
+        return getTransposed();
+    }
+
+    /**
+     * The method returns a 64-bit fingerprint of the shape and the content
+     * of the matrix. It is computed from the permutation on the first call
+     * and cached.
+     *
+     * @return the fingerprint of the matrix
+     */
+    @Override
+    public long fingerprint() {
+        var _f = f;
+        if (_f == 0)
+            f = _f = Elements.permutationFingerprint(p);
+
+        return _f;
+    }
+
+    /**
+     * The method returns true if the other matrix has the same dimension and
+     * every pair of elements a, b satisfies
+     * |a - b| &lt;= max(absolute, relative * max(|a|, |b|)).
+     *
+     * @param m        the other matrix
+     * @param absolute the absolute tolerance
+     * @param relative the relative tolerance
+     *
+     * @return true if the matrices are approximately equal
+     */
+    @Override
+    public boolean approximatelyEquals(final Matrix m, final double absolute, final double relative) {
+        return Elements.approximatelyEqual(this, m, absolute, relative);
+    }
+
+    /**
+     * The method returns true if the other matrix has the same dimension and
+     * every pair of elements is at most the given number of representable
+     * doubles apart.
+     *
+     * @param m    the other matrix
+     * @param ulps the maximum distance in units in the last place
+     *
+     * @return true if the matrices are approximately equal
+     */
+    @Override
+    public boolean approximatelyEquals(final Matrix m, final int ulps) {
+        return Elements.approximatelyEqual(this, m, ulps);
+    }
+
+    /**
+     * Returns a hash code value for the elements of the matrix, equal to
+     * the one of any other representation of the same elements.
+     *
+     * @return a hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(fingerprint());
+    }
+
+    /**
+     * Indicates whether the other matrix holds the same elements, in any
+     * representation. Two permutation matrices are compared by their
+     * permutations.
+     *
+     * @param obj the reference object with which to compare.
+     *
+     * @return {@code true} if this object is the same as the obj
+     *         argument; {@code false} otherwise.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) return true;
+        if (obj instanceof PermutationMatrix) return Arrays.equals(p, ((PermutationMatrix) obj).p);
+        if (!(obj instanceof Matrix)) return false;
+
+        return Elements.equal(this, (Matrix) obj);
+    }
+
+    /**
+     * Returns a string representation of the matrix with four decimals.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return this.toString(Rounding.Decimals.FOUR);
+    }
+
+    /**
+     * The method returns a string representing the field upto
+     * specified decimal points.
+     *
+     * @param decimals the decimal precision
+     *
+     * @return the string representing the field
+     */
+    @Override
+    public String toString(final Rounding.Decimals decimals) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < s[0]; i++) {
+            sb.append("|");
+            for (int j = 0; j < s[1]; j++) {
+                sb.append(Rounding.round((p[i] == j) ? 1 : 0, decimals));
+                if (j != s[1] - 1)
+                    sb.append(" ");
+            }
+            sb.append("|\n");
+        }
+        return sb.toString();
+    }
+}
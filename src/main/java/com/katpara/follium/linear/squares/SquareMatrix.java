@@ -53,4 +53,26 @@ public interface SquareMatrix extends Matrix {
      * @return the determinant of the square matrix
      */
     double determinant(final Rounding.Decimals decimals);
+
+    /**
+     * The method returns the natural logarithm of the absolute value of the
+     * determinant, which stays finite when the determinant itself overflows
+     * or underflows. It is negative infinity for a singular matrix.
+     *
+     * @return the log of |det(A)|
+     */
+    default double logAbsDeterminant() {
+        return Math.log(Math.abs(determinant()));
+    }
+
+    /**
+     * The method returns the sign of the determinant, 0 for a singular
+     * matrix. Along with {@link #logAbsDeterminant()} it describes the
+     * determinant without overflow.
+     *
+     * @return -1, 0 or 1
+     */
+    default int determinantSign() {
+        return (int) Math.signum(determinant());
+    }
 }
@@ -0,0 +1,927 @@
+package com.katpara.follium.linear.squares;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.exceptions.linears.ColumnOutOfBoundException;
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.exceptions.linears.NotInvertibleException;
+import com.katpara.follium.exceptions.linears.RowOutOfBoundException;
+import com.katpara.follium.linear.DenseVector;
+import com.katpara.follium.linear.Elements;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.decompositions.LUDecomposition;
+import com.katpara.follium.linear.decompositions.RankRevealingQR;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.util.Rounding;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+/**
+ * The class is a symmetric matrix, which stores only the n(n + 1)/2
+ * elements of its lower triangle, packed row by row, i.e. the element at the
+ * row i and the column j &lt;= i is at i(i + 1)/2 + j.
+ * <p>
+ * The Gram matrices A^T * A and A * A^T are computed directly into the
+ * packed triangle by a symmetric rank-k update, which only computes one half
+ * of the product. The product with a dense matrix visits every packed
+ * element once and uses it for both of its mirrored positions.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class SymmetricMatrix implements SquareMatrix {
+
+    /**
+     * Holds the number of packed elements a block of rows of the rank-k
+     * update is sized to, so the block stays in the cache
+     */
+    private static final int BLOCK = 32768;
+
+    /**
+     * Holds the number of rows of a tile of the product with the transpose
+     */
+    private static final int TILE = 32;
+
+    /**
+     * Holds the packed elements
+     */
+    private final double[] e;
+
+    /**
+     * Holds the matrix size
+     */
+    private final int[] s;
+
+    /**
+     * Holds the lazily computed fingerprint, 0 until it is computed
+     */
+    private volatile long f;
+
+    /**
+     * Holds the lazily computed LU decomposition, null until it is computed
+     */
+    private volatile LUDecomposition lu;
+
+    /**
+     * The constructor creates the matrix of the packed lower triangle,
+     * which is copied.
+     *
+     * @param e the packed elements
+     */
+    public SymmetricMatrix(final double[] e) {
+        this(e, true);
+    }
+
+    /**
+     * The constructor creates the matrix from a symmetric two-dimensional
+     * array.
+     *
+     * @param e the two-dimensional array
+     */
+    public SymmetricMatrix(final double[][] e) {
+        this(pack(new AnySquareMatrix(e), true), false);
+    }
+
+    /**
+     * The constructor creates the matrix of the packed lower triangle,
+     * copying it unless the array is handed over.
+     *
+     * @param e    the packed elements
+     * @param copy true to copy the elements
+     */
+    private SymmetricMatrix(final double[] e, final boolean copy) {
+        var n = TriangularMatrix.dimension(e.length);
+        this.e = copy ? Arrays.copyOf(e, e.length) : e;
+        this.s = new int[]{n, n};
+    }
+
+    /**
+     * The method returns a matrix on top of the packed lower triangle,
+     * without copying it. The caller hands the array over and must not
+     * write it again.
+     *
+     * @param e the packed elements
+     *
+     * @return the matrix
+     */
+    static SymmetricMatrix wrap(final double[] e) {
+        return new SymmetricMatrix(e, false);
+    }
+
+    /**
+     * The method returns the symmetric matrix of the elements of a symmetric
+     * square matrix.
+     *
+     * @param m the square matrix
+     *
+     * @return the symmetric matrix
+     */
+    public static SymmetricMatrix of(final Matrix m) {
+        return wrap(pack(m, true));
+    }
+
+    /**
+     * The method returns A^T * A, the Gram matrix of the columns, computed
+     * by a symmetric rank-k update. The rows of A are added one after
+     * another, each to a block of rows of the packed triangle small enough to
+     * stay in the cache.
+     *
+     * @param a the matrix
+     *
+     * @return the product of the transpose and the matrix
+     */
+    public static SymmetricMatrix transposeTimes(final Matrix a) {
+        int r = a.rows(), c = a.columns();
+        var x = a.toArray();
+        var p = new double[c * (c + 1) / 2];
+
+        var b = Math.max(1, BLOCK / c);
+        for (int _i = 0; _i < c; _i += b) {
+            var _t = Math.min(c, _i + b);
+            for (int k = 0; k < r; k++) {
+                var o = k * c;
+                for (int i = _i; i < _t; i++) {
+                    var v = x[o + i];
+                    if (v == 0)
+                        continue;
+
+                    var _o = TriangularMatrix.at(i, 0);
+                    for (int j = 0; j <= i; j++)
+                        p[_o + j] += v * x[o + j];
+                }
+            }
+        }
+
+        return wrap(p);
+    }
+
+    /**
+     * The method returns A * A^T, the Gram matrix of the rows, computed by a
+     * symmetric rank-k update. Every packed element is the dot product of two
+     * rows, and the rows are visited in tiles, so a tile of rows is read
+     * from the cache by the next.
+     *
+     * @param a the matrix
+     *
+     * @return the product of the matrix and the transpose
+     */
+    public static SymmetricMatrix timesTranspose(final Matrix a) {
+        int r = a.rows(), c = a.columns();
+        var x = a.toArray();
+        var p = new double[r * (r + 1) / 2];
+
+        for (int _i = 0; _i < r; _i += TILE) {
+            var _t = Math.min(r, _i + TILE);
+            for (int _j = 0; _j <= _i; _j += TILE) {
+                for (int i = _i; i < _t; i++) {
+                    var o = TriangularMatrix.at(i, 0);
+                    for (int j = _j, _u = Math.min(i, _j + TILE - 1); j <= _u; j++)
+                        p[o + j] = dot(x, i * c, j * c, c);
+                }
+            }
+        }
+
+        return wrap(p);
+    }
+
+    /**
+     * The method returns the dot product of two rows, with four independent
+     * partial sums.
+     *
+     * @param x the row-major elements
+     * @param a the offset of the first row
+     * @param b the offset of the second row
+     * @param n the number of elements of a row
+     *
+     * @return the dot product
+     */
+    private static double dot(final double[] x, final int a, final int b, final int n) {
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        var j = 0;
+        for (; j + 3 < n; j += 4) {
+            s0 += x[a + j] * x[b + j];
+            s1 += x[a + j + 1] * x[b + j + 1];
+            s2 += x[a + j + 2] * x[b + j + 2];
+            s3 += x[a + j + 3] * x[b + j + 3];
+        }
+        for (; j < n; j++)
+            s0 += x[a + j] * x[b + j];
+
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * The method packs the lower triangle of a square matrix.
+     *
+     * @param m     the square matrix
+     * @param check true to check that the matrix is symmetric
+     *
+     * @return the packed elements
+     */
+    private static double[] pack(final Matrix m, final boolean check) {
+        if (m.rows() != m.columns())
+            throw new InvalidMatrixDimensionProvidedException();
+
+        int n = m.rows();
+        var a = m.toArray();
+        var p = new double[n * (n + 1) / 2];
+        for (int i = 0, k = 0; i < n; i++) {
+            for (int j = 0; j <= i; j++, k++) {
+                if (check && a[i * n + j] != a[j * n + i])
+                    throw new InvalidParameterProvidedException();
+
+                p[k] = a[i * n + j];
+            }
+        }
+
+        return p;
+    }
+
+    /**
+     * The method returns the diagonal entries of the matrix.
+     *
+     * @return the diagonal entries
+     */
+    @Override
+    public double[] getDiagonalEntries() {
+        var n = new double[s[0]];
+        for (int i = 0; i < n.length; i++)
+            n[i] = e[TriangularMatrix.at(i, i)];
+
+        return n;
+    }
+
+    /**
+     * The method checks if the data is symmetric.
+     *
+     * @return true if symmetric, otherwise false
+     */
+    @Override
+    public boolean isSymmetric() {
+        return true;
+    }
+
+    /**
+     * the method returns true if the matrix is a lower triangular matrix,
+     * which a symmetric matrix only is if it is diagonal.
+     *
+     * @return true if it's a lower triangular
+     */
+    @Override
+    public boolean isLowerTriangular() {
+        return isDiagonal();
+    }
+
+    /**
+     * the method returns true if the matrix is an upper triangular matrix,
+     * which a symmetric matrix only is if it is diagonal.
+     *
+     * @return true if it's a upper triangular
+     */
+    @Override
+    public boolean isUpperTriangular() {
+        return isDiagonal();
+    }
+
+    /**
+     * The method returns true if the elements off the diagonal are all zeros.
+     *
+     * @return true if the matrix is diagonal
+     */
+    @Override
+    public boolean isDiagonal() {
+        for (int i = 1; i < s[0]; i++) {
+            for (int k = TriangularMatrix.at(i, 0), _t = k + i; k < _t; k++) {
+                if (e[k] != 0)
+                    return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * The method returns the LU decomposition, computed once.
+     *
+     * @return the LU decomposition
+     */
+    private LUDecomposition lu() {
+        var _lu = lu;
+        if (_lu == null)
+            lu = _lu = LUDecomposition.of(this);
+
+        return _lu;
+    }
+
+    /**
+     * A determinant is a scalar value computed for a square matrix; that
+     * encodes many properties of the linear algebra described by the matrix.
+     * It is denoted as det(A), where A is a matrix or |A|.
+     * It is found by a LU decomposition, which is computed once.
+     *
+     * @return the determinant of the square matrix
+     */
+    @Override
+    public double determinant() {
+        return lu().getDeterminant();
+    }
+
+    /**
+     * A determinant is a scalar value computed for a square matrix; that
+     * encodes many properties of the linear algebra described by the matrix.
+     * It is denoted as det(A), where A is a matrix or |A|.
+     * This method rounds up the determinant to the given decimal accuracy.
+     *
+     * @param decimals accuracy to defined decimal points
+     *
+     * @return the determinant of the square matrix
+     */
+    @Override
+    public double determinant(final Rounding.Decimals decimals) {
+        return Double.parseDouble(Rounding.round(this.determinant(), decimals));
+    }
+
+    /**
+     * The method returns the natural logarithm of the absolute value of the
+     * determinant.
+     *
+     * @return the log of |det(A)|
+     */
+    @Override
+    public double logAbsDeterminant() {
+        return lu().getLogAbsDeterminant();
+    }
+
+    /**
+     * The method returns the sign of the determinant, 0 for a singular
+     * matrix.
+     *
+     * @return -1, 0 or 1
+     */
+    @Override
+    public int determinantSign() {
+        return lu().getDeterminantSign();
+    }
+
+    /**
+     * The method returns the dimension of a matrix.
+     *
+     * @return the dimension of the matrix
+     */
+    @Override
+    public int[] size() {
+        return Arrays.copyOf(s, 2);
+    }
+
+    /**
+     * The method returns the number of rows of the matrix.
+     *
+     * @return the number of rows
+     */
+    @Override
+    public int rows() {
+        return s[0];
+    }
+
+    /**
+     * The method returns the number of columns of the matrix.
+     *
+     * @return the number of columns
+     */
+    @Override
+    public int columns() {
+        return s[1];
+    }
+
+    /**
+     * The method returns true if the matrix is a
+     * row vector, i.e. the dimension is 1 x n.
+     *
+     * @return true if it is a row vector, otherwise false
+     */
+    @Override
+    public boolean isRowVector() {
+        return false;
+    }
+
+    /**
+     * The method returns true if the matrix is a
+     * column vector, i.e. the dimension is n x 1.
+     *
+     * @return true if it is a column vector, otherwise false
+     */
+    @Override
+    public boolean isColumnVector() {
+        return false;
+    }
+
+    /**
+     * The method returns true if the matrix is a square matrix.
+     *
+     * @return true if it is a square matrix, otherwise false
+     */
+    @Override
+    public boolean isSquareMatrix() {
+        return true;
+    }
+
+    /**
+     * The method returns all elements of the matrix, expanded from the
+     * packed triangle.
+     *
+     * @return the matrix elements
+     */
+    @Override
+    public double[] toArray() {
+        var n = new double[s[0] * s[1]];
+        expand(n, 0);
+
+        return n;
+    }
+
+    /**
+     * The method writes the packed triangle and its mirror into a row-major
+     * array.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    private void expand(final double[] dst, final int o) {
+        var n = s[0];
+        for (int i = 0, k = 0; i < n; i++) {
+            for (int j = 0; j <= i; j++, k++) {
+                dst[o + i * n + j] = e[k];
+                dst[o + j * n + i] = e[k];
+            }
+        }
+    }
+
+    /**
+     * The method returns the element at the given position.
+     *
+     * @param r the row index
+     * @param c the column index
+     *
+     * @return the element
+     */
+    @Override
+    public double get(final int r, final int c) {
+        if (r < 0 || r >= s[0])
+            throw new RowOutOfBoundException();
+        if (c < 0 || c >= s[1])
+            throw new ColumnOutOfBoundException();
+
+        return (c <= r) ? e[TriangularMatrix.at(r, c)] : e[TriangularMatrix.at(c, r)];
+    }
+
+    /**
+     * The method copies all elements of the matrix in row-major order into
+     * the destination, starting at the offset.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    @Override
+    public void copyTo(final double[] dst, final int o) {
+        if (o < 0 || o > dst.length - s[0] * s[1])
+            throw new InvalidMatrixDimensionProvidedException();
+
+        expand(dst, o);
+    }
+
+    /**
+     * The method returns a read-only buffer of the elements, expanded
+     * from the packed triangle into a new array.
+     *
+     * @return the read-only buffer of the elements
+     */
+    @Override
+    public DoubleBuffer asDoubleBuffer() {
+        return DoubleBuffer.wrap(toArray()).asReadOnlyBuffer();
+    }
+
+    /**
+     * The method returns the row elements of the Matrix.
+     *
+     * @param row the row index
+     *
+     * @return the matrix row elements
+     */
+    @Override
+    public double[] getRow(final int row) {
+        if (row < 0 || row >= s[0])
+            throw new RowOutOfBoundException();
+
+        return line(row);
+    }
+
+    /**
+     * The method returns the column elements of a Matrix, which are the
+     * elements of the row of the same index.
+     *
+     * @param column the column index
+     *
+     * @return the matrix column elements
+     */
+    @Override
+    public double[] getColumn(final int column) {
+        if (column < 0 || column >= s[1])
+            throw new ColumnOutOfBoundException();
+
+        return line(column);
+    }
+
+    /**
+     * The method returns a row of the matrix, from the packed row up to the
+     * diagonal and the packed column below it.
+     *
+     * @param k the row index
+     *
+     * @return the elements
+     */
+    private double[] line(final int k) {
+        var n = new double[s[0]];
+        System.arraycopy(e, TriangularMatrix.at(k, 0), n, 0, k + 1);
+        for (int i = k + 1; i < s[0]; i++)
+            n[i] = e[TriangularMatrix.at(i, k)];
+
+        return n;
+    }
+
+    /**
+     * A rank of a matrix is independent rows of a matrix. That shows that how many
+     * rows of a matrix are totally independent, or co-dependent on other rows.
+     * It is found by a QR decomposition with column pivoting.
+     *
+     * @return the rank of matrix
+     */
+    @Override
+    public int getRank() {
+        return RankRevealingQR.rank(this);
+    }
+
+    /**
+     * The method returns the transposed matrix, which is the matrix itself.
+     *
+     * @return the transposed matrix
+     */
+    @Override
+    public Matrix getTransposed() {
+        return this;
+    }
+
+    /**
+     * A fields can be added to another field of the same type. The sum with
+     * a symmetric or a diagonal matrix stays symmetric.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix add(final Matrix m) {
+        return add(m, 1);
+    }
+
+    /**
+     * A fields can be subtracted from another field of the same type. The
+     * difference with a symmetric or a diagonal matrix stays symmetric.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix subtract(final Matrix m) {
+        if (this == m)
+            return new ZeroMatrix(s[0], s[1]);
+
+        return add(m, -1);
+    }
+
+    /**
+     * The method adds the other matrix multiplied by a sign.
+     *
+     * @param m    the other matrix
+     * @param sign 1 to add, -1 to subtract
+     *
+     * @return the resulting matrix
+     */
+    private Matrix add(final Matrix m, final double sign) {
+        if (s[0] != m.rows() || s[1] != m.columns())
+            throw new MatrixDimensionMismatchException();
+
+        if (m instanceof ZeroMatrix)
+            return this;
+
+        if (m instanceof SymmetricMatrix) {
+            double[] n = Arrays.copyOf(e, e.length), _e = ((SymmetricMatrix) m).e;
+            for (int i = 0; i < n.length; i++)
+                n[i] += sign * _e[i];
+
+            return wrap(n);
+        }
+
+        if (m instanceof DiagonalMatrix || m instanceof IdentityMatrix) {
+            double[] n = Arrays.copyOf(e, e.length), _d = m.getDiagonalEntries();
+            for (int i = 0; i < s[0]; i++)
+                n[TriangularMatrix.at(i, i)] += sign * _d[i];
+
+            return wrap(n);
+        }
+
+        var n = m.toArray();
+        for (int i = 0; i < n.length; i++)
+            n[i] *= sign;
+        for (int i = 0, k = 0; i < s[0]; i++) {
+            for (int j = 0; j <= i; j++, k++) {
+                n[i * s[0] + j] += e[k];
+                if (j < i)
+                    n[j * s[0] + i] += e[k];
+            }
+        }
+
+        return AnySquareMatrix.wrap(n);
+    }
+
+    /**
+     * A field can multiply with another of the same type. Every packed
+     * element is read once and added to the two rows of the product it
+     * contributes to.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix multiply(final Matrix m) {
+        if (s[1] != m.rows())
+            throw new MatrixDimensionMismatchException();
+
+        if (m instanceof ZeroMatrix)
+            return new ZeroMatrix(s[0], m.columns());
+
+        if (m instanceof IdentityMatrix)
+            return this;
+
+        int r = s[0], c = m.columns();
+        var n = new double[r * c];
+        symm(m.toArray(), c, n);
+
+        return (r == c) ? AnySquareMatrix.wrap(n) : new AnyRectangularMatrix(n, r, c);
+    }
+
+    /**
+     * The method writes the product of the matrix and the vector into the
+     * destination, i.e. y = A * x, applying each packed element to both of
+     * its rows without any temporary. The destination must not share the
+     * storage of the vector.
+     *
+     * @param x the vector of columns() elements
+     * @param y the destination of rows() elements
+     *
+     * @return the destination
+     */
+    public DenseVector multiplyInto(final DenseVector x, final DenseVector y) {
+        if (x.size() != s[1] || y.size() != s[0])
+            throw new MatrixDimensionMismatchException();
+        if (x.shares(y))
+            throw new InvalidParameterProvidedException();
+
+        for (int i = 0, k = 0; i < s[0]; i++) {
+            var _x = x.get(i);
+            var t = 0.0;
+            for (int j = 0; j < i; j++, k++) {
+                t += e[k] * x.get(j);
+                y.set(j, y.get(j) + e[k] * _x);
+            }
+            y.set(i, t + e[k++] * _x);
+        }
+
+        return y;
+    }
+
+    /**
+     * The method adds the product of the matrix and the row-major dense
+     * elements to the destination.
+     *
+     * @param b   the row-major elements
+     * @param c   the number of columns of the elements
+     * @param dst the destination
+     */
+    private void symm(final double[] b, final int c, final double[] dst) {
+        for (int i = 0, k = 0; i < s[0]; i++) {
+            for (int j = 0; j <= i; j++, k++) {
+                var a = e[k];
+                if (a == 0)
+                    continue;
+
+                int _i = i * c, _j = j * c;
+                for (int l = 0; l < c; l++)
+                    dst[_i + l] += a * b[_j + l];
+                if (j < i) {
+                    for (int l = 0; l < c; l++)
+                        dst[_j + l] += a * b[_i + l];
+                }
+            }
+        }
+    }
+
+    /**
+     * A field can divided by another field of the same type.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix divide(final Matrix m) {
+        if (s[1] != m.rows())
+            throw new MatrixDimensionMismatchException();
+
+        if (m instanceof IdentityMatrix)
+            return this;
+
+        return multiply(m.getMultiplicativeInverse());
+    }
+
+    /**
+     * The method returns the field with the given power, which stays
+     * symmetric. It is found by repeated squaring, and a square is computed
+     * as A * A^T by the symmetric rank-k update.
+     *
+     * @param p the power
+     *
+     * @return the powered field
+     */
+    @Override
+    public Matrix power(final int p) {
+        if (p == 0)
+            return new IdentityMatrix(s[0]);
+        if (p < 0)
+            return getMultiplicativeInverse().power(-p);
+
+        SymmetricMatrix r = null, b = this;
+        for (int _p = p; _p > 0; _p >>= 1) {
+            if ((_p & 1) == 1)
+                r = (r == null) ? b : wrap(pack(r.multiply(b), false));
+            if (_p > 1)
+                b = timesTranspose(b);
+        }
+
+        return r;
+    }
+
+    /**
+     * The method returns the additive inverse of the field.
+     *
+     * @return the additive inverse field
+     */
+    @Override
+    public Matrix getAdditiveInverse() {
+        var n = new double[e.length];
+        for (int i = 0; i < e.length; i++)
+            n[i] = -e[i];
+
+        return wrap(n);
+    }
+
+    /**
+     * The method returns the multiplicative inverse of the field, which is
+     * symmetric. It is found column by column from the LU decomposition, and
+     * only the lower triangle of every column is kept.
+     *
+     * @return the multiplicative inverse field
+     */
+    @Override
+    public Matrix getMultiplicativeInverse() {
+        var _lu = lu();
+        if (_lu.isSingular())
+            throw new NotInvertibleException();
+
+        var n = s[0];
+        var p = new double[e.length];
+        for (int j = 0; j < n; j++) {
+            var u = new DenseVector(n);
+            u.set(j, 1);
+
+            var x = _lu.solve(u);
+            for (int i = j; i < n; i++)
+                p[TriangularMatrix.at(i, j)] = x.get(i);
+        }
+
+        return wrap(p);
+    }
+
+    /**
+     * The method returns a 64-bit fingerprint of the shape and the content
+     * of the matrix. It is computed from the packed elements on the first
+     * call and cached.
+     *
+     * @return the fingerprint of the matrix
+     */
+    @Override
+    public long fingerprint() {
+        var _f = f;
+        if (_f == 0)
+            f = _f = Elements.symmetricFingerprint(e, s[0]);
+
+        return _f;
+    }
+
+    /**
+     * The method returns true if the other matrix has the same dimension and
+     * every pair of elements a, b satisfies
+     * |a - b| &lt;= max(absolute, relative * max(|a|, |b|)).
+     *
+     * @param m        the other matrix
+     * @param absolute the absolute tolerance
+     * @param relative the relative tolerance
+     *
+     * @return true if the matrices are approximately equal
+     */
+    @Override
+    public boolean approximatelyEquals(final Matrix m, final double absolute, final double relative) {
+        return Elements.approximatelyEqual(this, m, absolute, relative);
+    }
+
+    /**
+     * The method returns true if the other matrix has the same dimension and
+     * every pair of elements is at most the given number of representable
+     * doubles apart.
+     *
+     * @param m    the other matrix
+     * @param ulps the maximum distance in units in the last place
+     *
+     * @return true if the matrices are approximately equal
+     */
+    @Override
+    public boolean approximatelyEquals(final Matrix m, final int ulps) {
+        return Elements.approximatelyEqual(this, m, ulps);
+    }
+
+    /**
+     * Returns a hash code value for the elements of the matrix, equal to
+     * the one of any other representation of the same elements.
+     *
+     * @return a hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(fingerprint());
+    }
+
+    /**
+     * Indicates whether the other matrix holds the same elements, in any
+     * representation.
+     *
+     * @param obj the reference object with which to compare.
+     *
+     * @return {@code true} if this object is the same as the obj
+     *         argument; {@code false} otherwise.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof Matrix)) return false;
+
+        return Elements.equal(this, (Matrix) obj);
+    }
+
+    /**
+     * Returns a string representation of the matrix with four decimals.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return this.toString(Rounding.Decimals.FOUR);
+    }
+
+    /**
+     * The method returns a string representing the field upto
+     * specified decimal points.
+     *
+     * @param decimals the decimal precision
+     *
+     * @return the string representing the field
+     */
+    @Override
+    public String toString(final Rounding.Decimals decimals) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < s[0]; i++) {
+            sb.append("|");
+            for (int j = 0; j < s[1]; j++) {
+                sb.append(Rounding.round(get(i, j), decimals));
+                if (j != s[1] - 1)
+                    sb.append(" ");
+            }
+            sb.append("|\n");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,985 @@
+package com.katpara.follium.linear.squares;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.exceptions.linears.ColumnOutOfBoundException;
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.exceptions.linears.NotInvertibleException;
+import com.katpara.follium.exceptions.linears.RowOutOfBoundException;
+import com.katpara.follium.linear.DenseVector;
+import com.katpara.follium.linear.Elements;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.decompositions.RankRevealingQR;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.util.Rounding;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+/**
+ * The class is a triangular matrix, which stores only the n(n + 1)/2
+ * elements of its triangle. A lower triangular matrix packs its lower
+ * triangle row by row, and an upper triangular matrix packs its upper
+ * triangle column by column, so both store the same array as their
+ * transposes and a transpose is free.
+ * <p>
+ * The products, the solves and the inverse only visit the packed triangle,
+ * so they cost about half of their dense counterparts, and the determinant
+ * is the product of the diagonal.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public abstract class TriangularMatrix implements SquareMatrix {
+
+    /**
+     * Holds the packed elements
+     */
+    protected final double[] e;
+
+    /**
+     * Holds the matrix size
+     */
+    protected final int[] s;
+
+    /**
+     * Holds true if the upper triangle is packed
+     */
+    private final boolean upper;
+
+    /**
+     * Holds the lazily computed fingerprint, 0 until it is computed
+     */
+    private volatile long f;
+
+    /**
+     * The constructor creates the matrix on top of the packed elements,
+     * without copying them.
+     *
+     * @param e     the packed elements
+     * @param upper true if the upper triangle is packed
+     */
+    TriangularMatrix(final double[] e, final boolean upper) {
+        var n = dimension(e.length);
+        this.e = e;
+        this.s = new int[]{n, n};
+        this.upper = upper;
+    }
+
+    /**
+     * The method returns the dimension of a matrix with the given number of
+     * packed elements.
+     *
+     * @param l the number of packed elements
+     *
+     * @return the dimension
+     */
+    static int dimension(final int l) {
+        var n = (int) Math.round((Math.sqrt(8.0 * l + 1) - 1) / 2);
+        if (l == 0 || (long) n * (n + 1) / 2 != l)
+            throw new InvalidMatrixDimensionProvidedException();
+
+        return n;
+    }
+
+    /**
+     * The method packs the triangle of a square matrix, checking that the
+     * other triangle holds only zeros.
+     *
+     * @param m     the square matrix
+     * @param upper true if the upper triangle is packed
+     *
+     * @return the packed elements
+     */
+    static double[] pack(final Matrix m, final boolean upper) {
+        if (m.rows() != m.columns())
+            throw new InvalidMatrixDimensionProvidedException();
+
+        int n = m.rows();
+        var a = m.toArray();
+        var p = new double[n * (n + 1) / 2];
+        for (int i = 0, k = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                var v = upper ? a[j * n + i] : a[i * n + j];
+                if (j <= i)
+                    p[k++] = v;
+                else if (v != 0)
+                    throw new InvalidParameterProvidedException();
+            }
+        }
+
+        return p;
+    }
+
+    /**
+     * The method returns the index of the packed element at the row i and
+     * the column j of the lower triangle, j &lt;= i.
+     *
+     * @param i the row index
+     * @param j the column index
+     *
+     * @return the index of the packed element
+     */
+    static int at(final int i, final int j) {
+        return i * (i + 1) / 2 + j;
+    }
+
+    /**
+     * The method returns a triangular matrix of the same kind on top of the
+     * packed elements.
+     *
+     * @param p the packed elements
+     *
+     * @return the triangular matrix
+     */
+    private TriangularMatrix triangular(final double[] p) {
+        return upper ? UpperTriangularMatrix.wrap(p) : LowerTriangularMatrix.wrap(p);
+    }
+
+    /**
+     * The method returns true if the elements off the diagonal are all zeros.
+     *
+     * @return true if the matrix is diagonal
+     */
+    @Override
+    public final boolean isDiagonal() {
+        for (int i = 1; i < s[0]; i++) {
+            for (int k = at(i, 0), _t = k + i; k < _t; k++) {
+                if (e[k] != 0)
+                    return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * The method checks if the data is symmetric, which a triangular matrix
+     * only is if it is diagonal.
+     *
+     * @return true if symmetric, otherwise false
+     */
+    @Override
+    public final boolean isSymmetric() {
+        return isDiagonal();
+    }
+
+    /**
+     * the method returns true if the matrix is a lower triangular matrix
+     *
+     * @return true if it's a lower triangular
+     */
+    @Override
+    public final boolean isLowerTriangular() {
+        return !upper || isDiagonal();
+    }
+
+    /**
+     * the method returns true if the matrix is an upper triangular matrix
+     *
+     * @return true if it's a upper triangular
+     */
+    @Override
+    public final boolean isUpperTriangular() {
+        return upper || isDiagonal();
+    }
+
+    /**
+     * A determinant is a scalar value computed for a square matrix; that
+     * encodes many properties of the linear algebra described by the matrix.
+     * It is denoted as det(A), where A is a matrix or |A|.
+     * The determinant of a triangular matrix is the product of its diagonal.
+     *
+     * @return the determinant of the square matrix
+     */
+    @Override
+    public final double determinant() {
+        var det = 1.0;
+        for (int i = 0; i < s[0]; i++)
+            det *= e[at(i, i)];
+
+        return det;
+    }
+
+    /**
+     * A determinant is a scalar value computed for a square matrix; that
+     * encodes many properties of the linear algebra described by the matrix.
+     * It is denoted as det(A), where A is a matrix or |A|.
+     * This method rounds up the determinant to the given decimal accuracy.
+     *
+     * @param decimals accuracy to defined decimal points
+     *
+     * @return the determinant of the square matrix
+     */
+    @Override
+    public final double determinant(final Rounding.Decimals decimals) {
+        return Double.parseDouble(Rounding.round(this.determinant(), decimals));
+    }
+
+    /**
+     * The method returns the natural logarithm of the absolute value of the
+     * determinant, as the sum of the logarithms of the diagonal.
+     *
+     * @return the log of |det(A)|
+     */
+    @Override
+    public final double logAbsDeterminant() {
+        var l = 0.0;
+        for (int i = 0; i < s[0]; i++)
+            l += Math.log(Math.abs(e[at(i, i)]));
+
+        return l;
+    }
+
+    /**
+     * The method returns the sign of the determinant, 0 for a singular
+     * matrix, from the signs of the diagonal.
+     *
+     * @return -1, 0 or 1
+     */
+    @Override
+    public final int determinantSign() {
+        var sign = 1;
+        for (int i = 0; i < s[0]; i++)
+            sign *= (int) Math.signum(e[at(i, i)]);
+
+        return sign;
+    }
+
+    /**
+     * The method returns the dimension of a matrix.
+     *
+     * @return the dimension of the matrix
+     */
+    @Override
+    public final int[] size() {
+        return Arrays.copyOf(s, 2);
+    }
+
+    /**
+     * The method returns the number of rows of the matrix.
+     *
+     * @return the number of rows
+     */
+    @Override
+    public final int rows() {
+        return s[0];
+    }
+
+    /**
+     * The method returns the number of columns of the matrix.
+     *
+     * @return the number of columns
+     */
+    @Override
+    public final int columns() {
+        return s[1];
+    }
+
+    /**
+     * The method returns true if the matrix is a
+     * row vector, i.e. the dimension is 1 x n.
+     *
+     * @return true if it is a row vector, otherwise false
+     */
+    @Override
+    public final boolean isRowVector() {
+        return false;
+    }
+
+    /**
+     * The method returns true if the matrix is a
+     * column vector, i.e. the dimension is n x 1.
+     *
+     * @return true if it is a column vector, otherwise false
+     */
+    @Override
+    public final boolean isColumnVector() {
+        return false;
+    }
+
+    /**
+     * The method returns true if the matrix is a square matrix.
+     *
+     * @return true if it is a square matrix, otherwise false
+     */
+    @Override
+    public final boolean isSquareMatrix() {
+        return true;
+    }
+
+    /**
+     * The method returns all elements of the matrix, expanded from the
+     * packed triangle.
+     *
+     * @return the matrix elements
+     */
+    @Override
+    public final double[] toArray() {
+        var n = new double[s[0] * s[1]];
+        expand(n, 0);
+
+        return n;
+    }
+
+    /**
+     * The method writes the packed triangle into a row-major array, whose
+     * other elements must be zeros.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    private void expand(final double[] dst, final int o) {
+        var n = s[0];
+        for (int i = 0, k = 0; i < n; i++) {
+            for (int j = 0; j <= i; j++, k++)
+                dst[o + (upper ? j * n + i : i * n + j)] = e[k];
+        }
+    }
+
+    /**
+     * The method returns the element at the given position.
+     *
+     * @param r the row index
+     * @param c the column index
+     *
+     * @return the element
+     */
+    @Override
+    public final double get(final int r, final int c) {
+        if (r < 0 || r >= s[0])
+            throw new RowOutOfBoundException();
+        if (c < 0 || c >= s[1])
+            throw new ColumnOutOfBoundException();
+
+        int i = upper ? c : r, j = upper ? r : c;
+        return (j <= i) ? e[at(i, j)] : 0;
+    }
+
+    /**
+     * The method copies all elements of the matrix in row-major order into
+     * the destination, starting at the offset.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    @Override
+    public final void copyTo(final double[] dst, final int o) {
+        if (o < 0 || o > dst.length - s[0] * s[1])
+            throw new InvalidMatrixDimensionProvidedException();
+
+        Arrays.fill(dst, o, o + s[0] * s[1], 0);
+        expand(dst, o);
+    }
+
+    /**
+     * The method returns a read-only buffer of the elements, expanded
+     * from the packed triangle into a new array.
+     *
+     * @return the read-only buffer of the elements
+     */
+    @Override
+    public final DoubleBuffer asDoubleBuffer() {
+        return DoubleBuffer.wrap(toArray()).asReadOnlyBuffer();
+    }
+
+    /**
+     * The method returns the row elements of the Matrix.
+     *
+     * @param row the row index
+     *
+     * @return the matrix row elements
+     */
+    @Override
+    public final double[] getRow(final int row) {
+        if (row < 0 || row >= s[0])
+            throw new RowOutOfBoundException();
+
+        return line(row, !upper);
+    }
+
+    /**
+     * The method returns the column elements of a Matrix.
+     *
+     * @param column the column index
+     *
+     * @return the matrix column elements
+     */
+    @Override
+    public final double[] getColumn(final int column) {
+        if (column < 0 || column >= s[1])
+            throw new ColumnOutOfBoundException();
+
+        return line(column, upper);
+    }
+
+    /**
+     * The method returns a row or a column of the packed lower triangle.
+     *
+     * @param k   the index of the row or the column
+     * @param row true for the row
+     *
+     * @return the elements
+     */
+    private double[] line(final int k, final boolean row) {
+        var n = new double[s[0]];
+        if (row)
+            System.arraycopy(e, at(k, 0), n, 0, k + 1);
+        else {
+            for (int i = k; i < s[0]; i++)
+                n[i] = e[at(i, k)];
+        }
+
+        return n;
+    }
+
+    /**
+     * The method returns the diagonal entries of the matrix.
+     *
+     * @return the diagonal entries
+     */
+    @Override
+    public final double[] getDiagonalEntries() {
+        var n = new double[s[0]];
+        for (int i = 0; i < n.length; i++)
+            n[i] = e[at(i, i)];
+
+        return n;
+    }
+
+    /**
+     * A rank of a matrix is independent rows of a matrix. That shows that how many
+     * rows of a matrix are totally independent, or co-dependent on other rows.
+     * It is found by a QR decomposition with column pivoting.
+     *
+     * @return the rank of matrix
+     */
+    @Override
+    public final int getRank() {
+        return RankRevealingQR.rank(this);
+    }
+
+    /**
+     * The method returns the transposed matrix, which shares the packed
+     * elements of this matrix.
+     *
+     * @return the transposed matrix
+     */
+    @Override
+    public final Matrix getTransposed() {
+        return upper ? LowerTriangularMatrix.wrap(e) : UpperTriangularMatrix.wrap(e);
+    }
+
+    /**
+     * A fields can be added to another field of the same type. The sum with
+     * a triangular matrix of the same kind or with a diagonal matrix stays
+     * triangular.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public final Matrix add(final Matrix m) {
+        return add(m, 1);
+    }
+
+    /**
+     * A fields can be subtracted from another field of the same type. The
+     * difference with a triangular matrix of the same kind or with a diagonal
+     * matrix stays triangular.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public final Matrix subtract(final Matrix m) {
+        if (this == m)
+            return new ZeroMatrix(s[0], s[1]);
+
+        return add(m, -1);
+    }
+
+    /**
+     * The method adds the other matrix multiplied by a sign.
+     *
+     * @param m    the other matrix
+     * @param sign 1 to add, -1 to subtract
+     *
+     * @return the resulting matrix
+     */
+    private Matrix add(final Matrix m, final double sign) {
+        if (s[0] != m.rows() || s[1] != m.columns())
+            throw new MatrixDimensionMismatchException();
+
+        if (m instanceof ZeroMatrix)
+            return this;
+
+        if (m instanceof TriangularMatrix && ((TriangularMatrix) m).upper == upper) {
+            double[] n = Arrays.copyOf(e, e.length), _e = ((TriangularMatrix) m).e;
+            for (int i = 0; i < n.length; i++)
+                n[i] += sign * _e[i];
+
+            return triangular(n);
+        }
+
+        if (m instanceof DiagonalMatrix || m instanceof IdentityMatrix) {
+            double[] n = Arrays.copyOf(e, e.length), _d = m.getDiagonalEntries();
+            for (int i = 0; i < s[0]; i++)
+                n[at(i, i)] += sign * _d[i];
+
+            return triangular(n);
+        }
+
+        var n = m.toArray();
+        for (int i = 0; i < n.length; i++)
+            n[i] *= sign;
+        for (int i = 0, k = 0; i < s[0]; i++) {
+            for (int j = 0; j <= i; j++, k++)
+                n[upper ? j * s[0] + i : i * s[0] + j] += e[k];
+        }
+
+        return AnySquareMatrix.wrap(n);
+    }
+
+    /**
+     * A field can multiply with another of the same type. Only the packed
+     * triangle is visited, and the product with a triangular matrix of the
+     * same kind or with a diagonal matrix stays triangular.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public final Matrix multiply(final Matrix m) {
+        if (s[1] != m.rows())
+            throw new MatrixDimensionMismatchException();
+
+        if (m instanceof ZeroMatrix)
+            return new ZeroMatrix(s[0], m.columns());
+
+        if (m instanceof IdentityMatrix)
+            return this;
+
+        if (m instanceof TriangularMatrix && ((TriangularMatrix) m).upper == upper) {
+            var _e = ((TriangularMatrix) m).e;
+            return triangular(upper ? product(_e, e, s[0]) : product(e, _e, s[0]));
+        }
+
+        if (m instanceof DiagonalMatrix) {
+            var d = m.getDiagonalEntries();
+            var n = new double[e.length];
+            for (int i = 0, k = 0; i < s[0]; i++) {
+                for (int j = 0; j <= i; j++, k++)
+                    n[k] = e[k] * d[upper ? i : j];
+            }
+
+            return triangular(n);
+        }
+
+        int c = m.columns(), r = s[0];
+        double[] b = m.toArray(), n = new double[r * c];
+        for (int i = 0, k = 0; i < r; i++) {
+            for (int j = 0; j <= i; j++, k++) {
+                var a = e[k];
+                if (a == 0)
+                    continue;
+
+                int _d = (upper ? j : i) * c, _s = (upper ? i : j) * c;
+                for (int l = 0; l < c; l++)
+                    n[_d + l] += a * b[_s + l];
+            }
+        }
+
+        return (r == c) ? AnySquareMatrix.wrap(n) : new AnyRectangularMatrix(n, r, c);
+    }
+
+    /**
+     * The method writes the product of the matrix and the vector into the
+     * destination, i.e. y = A * x, visiting only the packed triangle. The
+     * destination must not share the storage of the vector.
+     *
+     * @param x the vector of columns() elements
+     * @param y the destination of rows() elements
+     *
+     * @return the destination
+     */
+    public final DenseVector multiplyInto(final DenseVector x, final DenseVector y) {
+        return multiplyInto(x, y, false);
+    }
+
+    /**
+     * The method writes the product of the transposed matrix and the vector
+     * into the destination, i.e. y = A^T * x, visiting only the packed
+     * triangle. The destination must not share the storage of the vector.
+     *
+     * @param x the vector of rows() elements
+     * @param y the destination of columns() elements
+     *
+     * @return the destination
+     */
+    public final DenseVector multiplyTransposedInto(final DenseVector x, final DenseVector y) {
+        return multiplyInto(x, y, true);
+    }
+
+    /**
+     * The method writes the product of the matrix or its transpose and the
+     * vector into the destination, without any temporary. A packed row is
+     * gathered into its element of the destination when it is a row of the
+     * product, and scattered over the destination when it is a column.
+     *
+     * @param x          the vector
+     * @param y          the destination
+     * @param transposed true for the transpose
+     *
+     * @return the destination
+     */
+    private DenseVector multiplyInto(final DenseVector x, final DenseVector y, final boolean transposed) {
+        var n = s[0];
+        if (x.size() != n || y.size() != n)
+            throw new MatrixDimensionMismatchException();
+        if (x.shares(y))
+            throw new InvalidParameterProvidedException();
+
+        if (upper == transposed) {
+            for (int i = 0, k = 0; i < n; i++) {
+                var t = 0.0;
+                for (int j = 0; j <= i; j++, k++)
+                    t += e[k] * x.get(j);
+                y.set(i, t);
+            }
+        } else {
+            y.fill(0);
+            for (int i = 0, k = 0; i < n; i++) {
+                var _x = x.get(i);
+                for (int j = 0; j <= i; j++, k++)
+                    y.set(j, y.get(j) + e[k] * _x);
+            }
+        }
+
+        return y;
+    }
+
+    /**
+     * The method returns the product of two packed lower triangular matrices,
+     * which is lower triangular.
+     *
+     * @param x the packed left matrix
+     * @param y the packed right matrix
+     * @param n the dimension
+     *
+     * @return the packed product
+     */
+    private static double[] product(final double[] x, final double[] y, final int n) {
+        var z = new double[x.length];
+        for (int i = 0; i < n; i++) {
+            var o = at(i, 0);
+            for (int k = 0; k <= i; k++) {
+                var a = x[o + k];
+                if (a == 0)
+                    continue;
+
+                var _o = at(k, 0);
+                for (int j = 0; j <= k; j++)
+                    z[o + j] += a * y[_o + j];
+            }
+        }
+
+        return z;
+    }
+
+    /**
+     * A field can divided by another field of the same type.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public final Matrix divide(final Matrix m) {
+        if (s[1] != m.rows())
+            throw new MatrixDimensionMismatchException();
+
+        if (m instanceof IdentityMatrix)
+            return this;
+
+        return multiply(m.getMultiplicativeInverse());
+    }
+
+    /**
+     * The method returns the field with the given power. The powers stay
+     * triangular and are found by repeated squaring.
+     *
+     * @param p the power
+     *
+     * @return the powered field
+     */
+    @Override
+    public final Matrix power(final int p) {
+        if (p == 0)
+            return new IdentityMatrix(s[0]);
+        if (p < 0)
+            return getMultiplicativeInverse().power(-p);
+
+        Matrix r = null, b = this;
+        for (int _p = p; _p > 0; _p >>= 1) {
+            if ((_p & 1) == 1)
+                r = (r == null) ? b : r.multiply(b);
+            if (_p > 1)
+                b = b.multiply(b);
+        }
+
+        return r;
+    }
+
+    /**
+     * The method returns the additive inverse of the field.
+     *
+     * @return the additive inverse field
+     */
+    @Override
+    public final Matrix getAdditiveInverse() {
+        var n = new double[e.length];
+        for (int i = 0; i < e.length; i++)
+            n[i] = -e[i];
+
+        return triangular(n);
+    }
+
+    /**
+     * The method returns the multiplicative inverse of the field, which is
+     * triangular of the same kind. It is found column by column by forward
+     * substitution on the packed lower triangle, as the inverse of the
+     * transpose is the transpose of the inverse.
+     *
+     * @return the multiplicative inverse field
+     */
+    @Override
+    public final Matrix getMultiplicativeInverse() {
+        var n = s[0];
+        var x = new double[e.length];
+        for (int j = 0; j < n; j++) {
+            x[at(j, j)] = 1 / diagonal(j);
+            for (int i = j + 1; i < n; i++) {
+                var o = at(i, 0);
+                var _s = 0.0;
+                for (int k = j; k < i; k++)
+                    _s += e[o + k] * x[at(k, j)];
+
+                x[o + j] = -_s / e[o + i];
+            }
+        }
+
+        return triangular(x);
+    }
+
+    /**
+     * The method returns the diagonal element at the index, checking that it
+     * is not zero.
+     *
+     * @param i the index
+     *
+     * @return the diagonal element
+     */
+    private double diagonal(final int i) {
+        var d = e[at(i, i)];
+        if (d == 0)
+            throw new NotInvertibleException();
+
+        return d;
+    }
+
+    /**
+     * The method solves A x = b by forward substitution for a lower
+     * triangular matrix, or back substitution for an upper triangular one.
+     *
+     * @param b the right-hand side
+     *
+     * @return the solution
+     */
+    public final DenseVector solve(final DenseVector b) {
+        if (b.size() != s[0])
+            throw new MatrixDimensionMismatchException();
+
+        var x = b.toArray();
+        substitute(x, 1);
+
+        return new DenseVector(x);
+    }
+
+    /**
+     * The method solves A X = B for all the columns of B at once, by forward
+     * substitution for a lower triangular matrix, or back substitution for
+     * an upper triangular one.
+     *
+     * @param b the right-hand sides, one per column
+     *
+     * @return the solutions, one per column
+     */
+    public final Matrix solve(final Matrix b) {
+        if (b.rows() != s[0])
+            throw new MatrixDimensionMismatchException();
+
+        int r = s[0], c = b.columns();
+        var x = b.toArray();
+        substitute(x, c);
+
+        return (r == c) ? AnySquareMatrix.wrap(x) : new AnyRectangularMatrix(x, r, c);
+    }
+
+    /**
+     * The method overwrites the right-hand sides by the solutions. The rows
+     * of the right-hand sides are updated whole, so a row of the packed
+     * triangle is read once for all the columns.
+     *
+     * @param x the row-major right-hand sides
+     * @param c the number of right-hand sides
+     */
+    private void substitute(final double[] x, final int c) {
+        var n = s[0];
+        if (!upper) {
+            for (int i = 0; i < n; i++) {
+                var o = at(i, 0);
+                for (int k = 0; k < i; k++) {
+                    var a = e[o + k];
+                    if (a != 0) {
+                        for (int l = 0; l < c; l++)
+                            x[i * c + l] -= a * x[k * c + l];
+                    }
+                }
+
+                var d = diagonal(i);
+                for (int l = 0; l < c; l++)
+                    x[i * c + l] /= d;
+            }
+        } else {
+            for (int i = n - 1; i >= 0; i--) {
+                var d = diagonal(i);
+                for (int l = 0; l < c; l++)
+                    x[i * c + l] /= d;
+
+                var o = at(i, 0);
+                for (int k = 0; k < i; k++) {
+                    var a = e[o + k];
+                    if (a != 0) {
+                        for (int l = 0; l < c; l++)
+                            x[k * c + l] -= a * x[i * c + l];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The method returns a 64-bit fingerprint of the shape and the content
+     * of the matrix. It is computed from the packed elements on the first
+     * call and cached.
+     *
+     * @return the fingerprint of the matrix
+     */
+    @Override
+    public final long fingerprint() {
+        var _f = f;
+        if (_f == 0)
+            f = _f = Elements.triangularFingerprint(e, s[0], upper);
+
+        return _f;
+    }
+
+    /**
+     * The method returns true if the other matrix has the same dimension and
+     * every pair of elements a, b satisfies
+     * |a - b| &lt;= max(absolute, relative * max(|a|, |b|)).
+     *
+     * @param m        the other matrix
+     * @param absolute the absolute tolerance
+     * @param relative the relative tolerance
+     *
+     * @return true if the matrices are approximately equal
+     */
+    @Override
+    public final boolean approximatelyEquals(final Matrix m, final double absolute, final double relative) {
+        return Elements.approximatelyEqual(this, m, absolute, relative);
+    }
+
+    /**
+     * The method returns true if the other matrix has the same dimension and
+     * every pair of elements is at most the given number of representable
+     * doubles apart.
+     *
+     * @param m    the other matrix
+     * @param ulps the maximum distance in units in the last place
+     *
+     * @return true if the matrices are approximately equal
+     */
+    @Override
+    public final boolean approximatelyEquals(final Matrix m, final int ulps) {
+        return Elements.approximatelyEqual(this, m, ulps);
+    }
+
+    /**
+     * Returns a hash code value for the elements of the matrix, equal to
+     * the one of any other representation of the same elements.
+     *
+     * @return a hash code value for this object.
+     */
+    @Override
+    public final int hashCode() {
+        return Long.hashCode(fingerprint());
+    }
+
+    /**
+     * Indicates whether the other matrix holds the same elements, in any
+     * representation.
+     *
+     * @param obj the reference object with which to compare.
+     *
+     * @return {@code true} if this object is the same as the obj
+     *         argument; {@code false} otherwise.
+     */
+    @Override
+    public final boolean equals(final Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof Matrix)) return false;
+
+        return Elements.equal(this, (Matrix) obj);
+    }
+
+    /**
+     * Returns a string representation of the matrix with four decimals.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public final String toString() {
+        return this.toString(Rounding.Decimals.FOUR);
+    }
+
+    /**
+     * The method returns a string representing the field upto
+     * specified decimal points.
+     *
+     * @param decimals the decimal precision
+     *
+     * @return the string representing the field
+     */
+    @Override
+    public final String toString(final Rounding.Decimals decimals) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < s[0]; i++) {
+            sb.append("|");
+            for (int j = 0; j < s[1]; j++) {
+                sb.append(Rounding.round(get(i, j), decimals));
+                if (j != s[1] - 1)
+                    sb.append(" ");
+            }
+            sb.append("|\n");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,124 @@
+package com.katpara.follium.linear.squares;
+
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.linear.DenseVector;
+
+/**
+ * The class is a tridiagonal matrix, a band matrix with one diagonal below
+ * and one above the diagonal. A system is solved by the Thomas algorithm in
+ * linear time, falling back to the band LU decomposition with partial
+ * pivoting when a pivot of the elimination is zero.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class TridiagonalMatrix extends BandMatrix {
+
+    /**
+     * The constructor creates the matrix of the band elements, three per
+     * row, which are copied.
+     *
+     * @param e the band elements
+     */
+    public TridiagonalMatrix(final double[] e) {
+        this(e, true);
+    }
+
+    /**
+     * The constructor creates the matrix from its three diagonals.
+     *
+     * @param lower    the n - 1 elements below the diagonal
+     * @param diagonal the n elements of the diagonal
+     * @param upper    the n - 1 elements above the diagonal
+     */
+    public TridiagonalMatrix(final double[] lower, final double[] diagonal, final double[] upper) {
+        this(band(lower, diagonal, upper), false);
+    }
+
+    /**
+     * The constructor creates the matrix of the band elements, copying them
+     * unless the array is handed over.
+     *
+     * @param e    the band elements
+     * @param copy true to copy the elements
+     */
+    private TridiagonalMatrix(final double[] e, final boolean copy) {
+        super(e, 1, 1, copy);
+    }
+
+    /**
+     * The method returns a matrix on top of the band elements, without
+     * copying them. The caller hands the array over and must not write it
+     * again.
+     *
+     * @param e the band elements
+     *
+     * @return the matrix
+     */
+    static TridiagonalMatrix wrap(final double[] e) {
+        return new TridiagonalMatrix(e, false);
+    }
+
+    /**
+     * The method interleaves the three diagonals into the band elements.
+     *
+     * @param lower    the elements below the diagonal
+     * @param diagonal the elements of the diagonal
+     * @param upper    the elements above the diagonal
+     *
+     * @return the band elements
+     */
+    private static double[] band(final double[] lower, final double[] diagonal, final double[] upper) {
+        var n = diagonal.length;
+        if (n < 2 || lower.length != n - 1 || upper.length != n - 1)
+            throw new InvalidMatrixDimensionProvidedException();
+
+        var b = new double[3 * n];
+        for (int i = 0; i < n; i++) {
+            if (i > 0)
+                b[3 * i] = lower[i - 1];
+            b[3 * i + 1] = diagonal[i];
+            if (i < n - 1)
+                b[3 * i + 2] = upper[i];
+        }
+
+        return b;
+    }
+
+    /**
+     * The method solves A x = b by the Thomas algorithm, without pivoting.
+     * A zero pivot falls back to the band LU decomposition.
+     *
+     * @param b the right-hand side
+     *
+     * @return the solution
+     */
+    @Override
+    public DenseVector solve(final DenseVector b) {
+        var n = s[0];
+        if (b.size() != n)
+            throw new MatrixDimensionMismatchException();
+
+        var x = b.toArray();
+        var c = new double[n];
+        var d = e[1];
+        if (d == 0)
+            return super.solve(b);
+
+        x[0] /= d;
+        for (int i = 1; i < n; i++) {
+            c[i - 1] = e[3 * (i - 1) + 2] / d;
+            d = e[3 * i + 1] - e[3 * i] * c[i - 1];
+            if (d == 0)
+                return super.solve(b);
+
+            x[i] = (x[i] - e[3 * i] * x[i - 1]) / d;
+        }
+
+        for (int i = n - 2; i >= 0; i--)
+            x[i] -= c[i] * x[i + 1];
+
+        return new DenseVector(x);
+    }
+}
@@ -0,0 +1,71 @@
+package com.katpara.follium.linear.squares;
+
+import com.katpara.follium.linear.Matrix;
+
+import java.util.Arrays;
+
+/**
+ * The class is a upper triangular matrix, which packs its upper triangle
+ * column by column, i.e. the element at the row i &lt;= j and the column j is at j(j + 1)/2 + i, the packed layout of LAPACK.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class UpperTriangularMatrix extends TriangularMatrix {
+
+    /**
+     * The constructor creates the matrix of the packed elements, which are
+     * copied.
+     *
+     * @param e the packed elements
+     */
+    public UpperTriangularMatrix(final double[] e) {
+        this(e, true);
+    }
+
+    /**
+     * The constructor creates the matrix from a two-dimensional array, whose
+     * other triangle must hold only zeros.
+     *
+     * @param e the two-dimensional array
+     */
+    public UpperTriangularMatrix(final double[][] e) {
+        super(pack(new AnySquareMatrix(e), true), true);
+    }
+
+    /**
+     * The constructor creates the matrix of the packed elements, copying
+     * them unless the array is handed over.
+     *
+     * @param e    the packed elements
+     * @param copy true to copy the elements
+     */
+    private UpperTriangularMatrix(final double[] e, final boolean copy) {
+        super(copy ? Arrays.copyOf(e, e.length) : e, true);
+    }
+
+    /**
+     * The method returns a matrix on top of the packed elements, without
+     * copying them. The caller hands the array over and must not write it
+     * again.
+     *
+     * @param e the packed elements
+     *
+     * @return the matrix
+     */
+    static UpperTriangularMatrix wrap(final double[] e) {
+        return new UpperTriangularMatrix(e, false);
+    }
+
+    /**
+     * The method returns the upper triangular matrix of the elements of a
+     * square matrix, whose other triangle must hold only zeros.
+     *
+     * @param m the square matrix
+     *
+     * @return the upper triangular matrix
+     */
+    public static UpperTriangularMatrix of(final Matrix m) {
+        return wrap(pack(m, true));
+    }
+}
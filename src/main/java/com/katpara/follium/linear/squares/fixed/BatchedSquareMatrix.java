@@ -0,0 +1,166 @@
+package com.katpara.follium.linear.squares.fixed;
+
+import com.katpara.follium.exceptions.linears.ColumnOutOfBoundException;
+import com.katpara.follium.exceptions.linears.NotInvertibleException;
+import com.katpara.follium.exceptions.linears.RowOutOfBoundException;
+
+/**
+ * The class is a single matrix of any order, stored in the layout of a
+ * {@link SquareMatrixBatch}. It is either a view of a matrix of a batch,
+ * which reads the batch array, so creating it copies nothing and it
+ * reflects later changes of the batch, or the only matrix of a batch of
+ * its own, whose elements are never written.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+final class BatchedSquareMatrix extends FixedSquareMatrix {
+
+    /**
+     * Holds the order of the matrix
+     */
+    private final int n;
+
+    /**
+     * Holds the number of matrices of the batch
+     */
+    private final int N;
+
+    /**
+     * Holds the elements of the batch
+     */
+    private final double[] d;
+
+    /**
+     * Holds the index of the matrix in the batch
+     */
+    private final int k;
+
+    /**
+     * Holds true if the matrix is a view of a batch, whose elements can change
+     */
+    private final boolean view;
+
+    /**
+     * The constructor creates the matrix k of a batch, either as a view of
+     * the batch or taking ownership of its elements.
+     *
+     * @param n    the order of the matrix
+     * @param N    the number of matrices of the batch
+     * @param d    the elements of the batch
+     * @param k    the index of the matrix
+     * @param view true if the matrix is a view of a batch
+     */
+    BatchedSquareMatrix(final int n, final int N, final double[] d, final int k, final boolean view) {
+        this.n = n;
+        this.N = N;
+        this.d = d;
+        this.k = k;
+        this.view = view;
+    }
+
+    /**
+     * The method returns true if the matrix is a view of a batch.
+     *
+     * @return true if a view
+     */
+    @Override
+    public boolean isView() {
+        return view;
+    }
+
+    /**
+     * The method returns the number of rows of the matrix.
+     *
+     * @return the number of rows
+     */
+    @Override
+    public int rows() {
+        return n;
+    }
+
+    /**
+     * The method returns the element at the given position.
+     *
+     * @param r the row index
+     * @param c the column index
+     *
+     * @return the element
+     */
+    @Override
+    public double get(final int r, final int c) {
+        if (r < 0 || r >= n)
+            throw new RowOutOfBoundException();
+        if (c < 0 || c >= n)
+            throw new ColumnOutOfBoundException();
+
+        return d[(r * n + c) * N + k];
+    }
+
+    /**
+     * The method writes all elements in row-major order into the destination.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    @Override
+    public void copyInto(final double[] dst, final int o) {
+        checkDestination(dst, o, n * n);
+        for (int q = 0; q < n * n; q++)
+            dst[o + q] = d[q * N + k];
+    }
+
+    /**
+     * The method returns a matrix of the same order holding the elements,
+     * as the only matrix of a new batch.
+     *
+     * @param n the elements
+     *
+     * @return the matrix
+     */
+    @Override
+    BatchedSquareMatrix of(final double[] n) {
+        return new BatchedSquareMatrix(this.n, 1, n, 0, false);
+    }
+
+    /**
+     * The method returns the transposed matrix.
+     *
+     * @return the transposed matrix
+     */
+    @Override
+    public BatchedSquareMatrix getTransposed() {
+        var _n = new double[n * n];
+        SquareMatrixBatch.transpose(n, 1, toArray(), _n, 0, 1);
+        return of(_n);
+    }
+
+    /**
+     * A determinant is a scalar value computed for a square matrix; that
+     * encodes many properties of the linear algebra described by the matrix.
+     * It is denoted as det(A), where A is a matrix or |A|.
+     *
+     * @return the determinant of the square matrix
+     */
+    @Override
+    public double determinant() {
+        var det = new double[1];
+        SquareMatrixBatch.determinant(n, 1, toArray(), det, 0, 1, new double[n * n]);
+        return det[0];
+    }
+
+    /**
+     * The method returns the multiplicative inverse of the field.
+     *
+     * @return the multiplicative inverse field
+     */
+    @Override
+    public BatchedSquareMatrix getMultiplicativeInverse() {
+        var _n = new double[n * n];
+        SquareMatrixBatch.inverse(n, 1, toArray(), _n, 0, 1, new double[2 * n * n + 1]);
+        if (Double.isNaN(_n[0]))
+            throw new NotInvertibleException();
+
+        return of(_n);
+    }
+}
@@ -0,0 +1,312 @@
+package com.katpara.follium.linear.squares.fixed;
+
+import com.katpara.follium.exceptions.linears.ColumnOutOfBoundException;
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.exceptions.linears.NotInvertibleException;
+import com.katpara.follium.exceptions.linears.RowOutOfBoundException;
+import com.katpara.follium.linear.Matrix;
+
+/**
+ * The class represents a 2 x 2 matrix held in 4 fields. All operations
+ * between two matrices of this class are unrolled and allocate nothing
+ * but the result; the {@code ...Into} variants write the result into a
+ * destination array in row-major order and allocate nothing at all.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class Fixed2x2Matrix extends FixedSquareMatrix {
+
+    /**
+     * Holds the elements, named by their row and column
+     */
+    private final double m00, m01,
+            m10, m11;
+
+    /**
+     * The constructor takes the elements in row-major order.
+     *
+     * @param m00 the element at row 0 and column 0
+     * @param m01 the element at row 0 and column 1
+     * @param m10 the element at row 1 and column 0
+     * @param m11 the element at row 1 and column 1
+     */
+    public Fixed2x2Matrix(final double m00, final double m01,
+                          final double m10, final double m11) {
+        this.m00 = m00;
+        this.m01 = m01;
+        this.m10 = m10;
+        this.m11 = m11;
+    }
+
+    /**
+     * The constructor takes the elements from a row-major array.
+     *
+     * @param e the 4 elements
+     */
+    public Fixed2x2Matrix(final double[] e) {
+        this(e, 0);
+    }
+
+    /**
+     * The constructor takes the elements from a row-major array,
+     * starting at the given offset.
+     *
+     * @param e the array holding the 4 elements
+     * @param o the offset of the first element
+     */
+    public Fixed2x2Matrix(final double[] e, final int o) {
+        if (o < 0 || o > e.length - 4)
+            throw new InvalidMatrixDimensionProvidedException();
+
+        this.m00 = e[o];
+        this.m01 = e[o + 1];
+        this.m10 = e[o + 2];
+        this.m11 = e[o + 3];
+    }
+
+    /**
+     * The method returns the number of rows of the matrix.
+     *
+     * @return the number of rows
+     */
+    @Override
+    public int rows() {
+        return 2;
+    }
+
+    /**
+     * The method returns the element at the given position.
+     *
+     * @param r the row index
+     * @param c the column index
+     *
+     * @return the element
+     */
+    @Override
+    public double get(final int r, final int c) {
+        if (r < 0 || r >= 2)
+            throw new RowOutOfBoundException();
+        if (c < 0 || c >= 2)
+            throw new ColumnOutOfBoundException();
+
+        switch (r * 2 + c) {
+            case 0:
+                return m00;
+            case 1:
+                return m01;
+            case 2:
+                return m10;
+            default:
+                return m11;
+        }
+    }
+
+    /**
+     * The method writes all elements in row-major order into the destination.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    @Override
+    public void copyInto(final double[] dst, final int o) {
+        checkDestination(dst, o, 4);
+        dst[o] = m00;
+        dst[o + 1] = m01;
+        dst[o + 2] = m10;
+        dst[o + 3] = m11;
+    }
+
+    /**
+     * The method returns a matrix of the same order holding the elements.
+     *
+     * @param n the elements
+     *
+     * @return the matrix
+     */
+    @Override
+    Fixed2x2Matrix of(final double[] n) {
+        return new Fixed2x2Matrix(n);
+    }
+
+    /**
+     * A fields can be added to another field of the same type.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix add(final Matrix m) {
+        if (m instanceof Fixed2x2Matrix)
+            return add((Fixed2x2Matrix) m);
+
+        return super.add(m);
+    }
+
+    /**
+     * The method returns the element-wise sum of two matrices.
+     *
+     * @param m the other matrix
+     *
+     * @return the sum
+     */
+    public Fixed2x2Matrix add(final Fixed2x2Matrix m) {
+        return new Fixed2x2Matrix(m00 + m.m00, m01 + m.m01,
+                m10 + m.m10, m11 + m.m11);
+    }
+
+    /**
+     * A fields can be subtracted from another field of the same type.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix subtract(final Matrix m) {
+        if (m instanceof Fixed2x2Matrix)
+            return subtract((Fixed2x2Matrix) m);
+
+        return super.subtract(m);
+    }
+
+    /**
+     * The method returns the element-wise difference of two matrices.
+     *
+     * @param m the other matrix
+     *
+     * @return the difference
+     */
+    public Fixed2x2Matrix subtract(final Fixed2x2Matrix m) {
+        return new Fixed2x2Matrix(m00 - m.m00, m01 - m.m01,
+                m10 - m.m10, m11 - m.m11);
+    }
+
+    /**
+     * A field can multiply with another of the same type.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix multiply(final Matrix m) {
+        if (m instanceof Fixed2x2Matrix)
+            return multiply((Fixed2x2Matrix) m);
+
+        return super.multiply(m);
+    }
+
+    /**
+     * The method returns the product of two matrices.
+     *
+     * @param m the multiplying matrix
+     *
+     * @return the product
+     */
+    public Fixed2x2Matrix multiply(final Fixed2x2Matrix m) {
+        return new Fixed2x2Matrix(m00 * m.m00 + m01 * m.m10,
+                m00 * m.m01 + m01 * m.m11,
+                m10 * m.m00 + m11 * m.m10,
+                m10 * m.m01 + m11 * m.m11);
+    }
+
+    /**
+     * The method writes the product of two matrices into the destination in
+     * row-major order.
+     *
+     * @param m   the multiplying matrix
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    public void multiplyInto(final Fixed2x2Matrix m, final double[] dst, final int o) {
+        checkDestination(dst, o, 4);
+        dst[o] = m00 * m.m00 + m01 * m.m10;
+        dst[o + 1] = m00 * m.m01 + m01 * m.m11;
+        dst[o + 2] = m10 * m.m00 + m11 * m.m10;
+        dst[o + 3] = m10 * m.m01 + m11 * m.m11;
+    }
+
+    /**
+     * The method returns the transposed matrix.
+     *
+     * @return the transposed matrix
+     */
+    @Override
+    public Fixed2x2Matrix getTransposed() {
+        return new Fixed2x2Matrix(m00, m10,
+                m01, m11);
+    }
+
+    /**
+     * The method writes the transposed matrix into the destination in
+     * row-major order.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    public void transposeInto(final double[] dst, final int o) {
+        checkDestination(dst, o, 4);
+        dst[o] = m00;
+        dst[o + 1] = m10;
+        dst[o + 2] = m01;
+        dst[o + 3] = m11;
+    }
+
+    /**
+     * The method returns the additive inverse of the field.
+     *
+     * @return the additive inverse field
+     */
+    @Override
+    public Fixed2x2Matrix getAdditiveInverse() {
+        return new Fixed2x2Matrix(-m00, -m01,
+                -m10, -m11);
+    }
+
+    /**
+     * A determinant is a scalar value computed for a square matrix; that
+     * encodes many properties of the linear algebra described by the matrix.
+     * It is denoted as det(A), where A is a matrix or |A|.
+     *
+     * @return the determinant of the square matrix
+     */
+    @Override
+    public double determinant() {
+        return m00 * m11 - m01 * m10;
+    }
+
+    /**
+     * The method returns the multiplicative inverse of the field, computed
+     * in closed form from the adjugate.
+     *
+     * @return the multiplicative inverse field
+     */
+    @Override
+    public Fixed2x2Matrix getMultiplicativeInverse() {
+        var n = new double[4];
+        inverseInto(n, 0);
+        return new Fixed2x2Matrix(n);
+    }
+
+    /**
+     * The method writes the inverse matrix into the destination in row-major
+     * order.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    public void inverseInto(final double[] dst, final int o) {
+        checkDestination(dst, o, 4);
+        var d = m00 * m11 - m01 * m10;
+        if (d == 0 || !Double.isFinite(d))
+            throw new NotInvertibleException();
+
+        d = 1 / d;
+        dst[o] = m11 * d;
+        dst[o + 1] = -m01 * d;
+        dst[o + 2] = -m10 * d;
+        dst[o + 3] = m00 * d;
+    }
+}
@@ -0,0 +1,372 @@
+package com.katpara.follium.linear.squares.fixed;
+
+import com.katpara.follium.exceptions.linears.ColumnOutOfBoundException;
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.exceptions.linears.NotInvertibleException;
+import com.katpara.follium.exceptions.linears.RowOutOfBoundException;
+import com.katpara.follium.linear.Matrix;
+
+/**
+ * The class represents a 3 x 3 matrix held in 9 fields. All operations
+ * between two matrices of this class are unrolled and allocate nothing
+ * but the result; the {@code ...Into} variants write the result into a
+ * destination array in row-major order and allocate nothing at all.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class Fixed3x3Matrix extends FixedSquareMatrix {
+
+    /**
+     * Holds the elements, named by their row and column
+     */
+    private final double m00, m01, m02,
+            m10, m11, m12,
+            m20, m21, m22;
+
+    /**
+     * The constructor takes the elements in row-major order.
+     *
+     * @param m00 the element at row 0 and column 0
+     * @param m01 the element at row 0 and column 1
+     * @param m02 the element at row 0 and column 2
+     * @param m10 the element at row 1 and column 0
+     * @param m11 the element at row 1 and column 1
+     * @param m12 the element at row 1 and column 2
+     * @param m20 the element at row 2 and column 0
+     * @param m21 the element at row 2 and column 1
+     * @param m22 the element at row 2 and column 2
+     */
+    public Fixed3x3Matrix(final double m00, final double m01, final double m02,
+                          final double m10, final double m11, final double m12,
+                          final double m20, final double m21, final double m22) {
+        this.m00 = m00;
+        this.m01 = m01;
+        this.m02 = m02;
+        this.m10 = m10;
+        this.m11 = m11;
+        this.m12 = m12;
+        this.m20 = m20;
+        this.m21 = m21;
+        this.m22 = m22;
+    }
+
+    /**
+     * The constructor takes the elements from a row-major array.
+     *
+     * @param e the 9 elements
+     */
+    public Fixed3x3Matrix(final double[] e) {
+        this(e, 0);
+    }
+
+    /**
+     * The constructor takes the elements from a row-major array,
+     * starting at the given offset.
+     *
+     * @param e the array holding the 9 elements
+     * @param o the offset of the first element
+     */
+    public Fixed3x3Matrix(final double[] e, final int o) {
+        if (o < 0 || o > e.length - 9)
+            throw new InvalidMatrixDimensionProvidedException();
+
+        this.m00 = e[o];
+        this.m01 = e[o + 1];
+        this.m02 = e[o + 2];
+        this.m10 = e[o + 3];
+        this.m11 = e[o + 4];
+        this.m12 = e[o + 5];
+        this.m20 = e[o + 6];
+        this.m21 = e[o + 7];
+        this.m22 = e[o + 8];
+    }
+
+    /**
+     * The method returns the number of rows of the matrix.
+     *
+     * @return the number of rows
+     */
+    @Override
+    public int rows() {
+        return 3;
+    }
+
+    /**
+     * The method returns the element at the given position.
+     *
+     * @param r the row index
+     * @param c the column index
+     *
+     * @return the element
+     */
+    @Override
+    public double get(final int r, final int c) {
+        if (r < 0 || r >= 3)
+            throw new RowOutOfBoundException();
+        if (c < 0 || c >= 3)
+            throw new ColumnOutOfBoundException();
+
+        switch (r * 3 + c) {
+            case 0:
+                return m00;
+            case 1:
+                return m01;
+            case 2:
+                return m02;
+            case 3:
+                return m10;
+            case 4:
+                return m11;
+            case 5:
+                return m12;
+            case 6:
+                return m20;
+            case 7:
+                return m21;
+            default:
+                return m22;
+        }
+    }
+
+    /**
+     * The method writes all elements in row-major order into the destination.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    @Override
+    public void copyInto(final double[] dst, final int o) {
+        checkDestination(dst, o, 9);
+        dst[o] = m00;
+        dst[o + 1] = m01;
+        dst[o + 2] = m02;
+        dst[o + 3] = m10;
+        dst[o + 4] = m11;
+        dst[o + 5] = m12;
+        dst[o + 6] = m20;
+        dst[o + 7] = m21;
+        dst[o + 8] = m22;
+    }
+
+    /**
+     * The method returns a matrix of the same order holding the elements.
+     *
+     * @param n the elements
+     *
+     * @return the matrix
+     */
+    @Override
+    Fixed3x3Matrix of(final double[] n) {
+        return new Fixed3x3Matrix(n);
+    }
+
+    /**
+     * A fields can be added to another field of the same type.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix add(final Matrix m) {
+        if (m instanceof Fixed3x3Matrix)
+            return add((Fixed3x3Matrix) m);
+
+        return super.add(m);
+    }
+
+    /**
+     * The method returns the element-wise sum of two matrices.
+     *
+     * @param m the other matrix
+     *
+     * @return the sum
+     */
+    public Fixed3x3Matrix add(final Fixed3x3Matrix m) {
+        return new Fixed3x3Matrix(m00 + m.m00, m01 + m.m01, m02 + m.m02,
+                m10 + m.m10, m11 + m.m11, m12 + m.m12,
+                m20 + m.m20, m21 + m.m21, m22 + m.m22);
+    }
+
+    /**
+     * A fields can be subtracted from another field of the same type.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix subtract(final Matrix m) {
+        if (m instanceof Fixed3x3Matrix)
+            return subtract((Fixed3x3Matrix) m);
+
+        return super.subtract(m);
+    }
+
+    /**
+     * The method returns the element-wise difference of two matrices.
+     *
+     * @param m the other matrix
+     *
+     * @return the difference
+     */
+    public Fixed3x3Matrix subtract(final Fixed3x3Matrix m) {
+        return new Fixed3x3Matrix(m00 - m.m00, m01 - m.m01, m02 - m.m02,
+                m10 - m.m10, m11 - m.m11, m12 - m.m12,
+                m20 - m.m20, m21 - m.m21, m22 - m.m22);
+    }
+
+    /**
+     * A field can multiply with another of the same type.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix multiply(final Matrix m) {
+        if (m instanceof Fixed3x3Matrix)
+            return multiply((Fixed3x3Matrix) m);
+
+        return super.multiply(m);
+    }
+
+    /**
+     * The method returns the product of two matrices.
+     *
+     * @param m the multiplying matrix
+     *
+     * @return the product
+     */
+    public Fixed3x3Matrix multiply(final Fixed3x3Matrix m) {
+        return new Fixed3x3Matrix(m00 * m.m00 + m01 * m.m10 + m02 * m.m20,
+                m00 * m.m01 + m01 * m.m11 + m02 * m.m21,
+                m00 * m.m02 + m01 * m.m12 + m02 * m.m22,
+                m10 * m.m00 + m11 * m.m10 + m12 * m.m20,
+                m10 * m.m01 + m11 * m.m11 + m12 * m.m21,
+                m10 * m.m02 + m11 * m.m12 + m12 * m.m22,
+                m20 * m.m00 + m21 * m.m10 + m22 * m.m20,
+                m20 * m.m01 + m21 * m.m11 + m22 * m.m21,
+                m20 * m.m02 + m21 * m.m12 + m22 * m.m22);
+    }
+
+    /**
+     * The method writes the product of two matrices into the destination in
+     * row-major order.
+     *
+     * @param m   the multiplying matrix
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    public void multiplyInto(final Fixed3x3Matrix m, final double[] dst, final int o) {
+        checkDestination(dst, o, 9);
+        dst[o] = m00 * m.m00 + m01 * m.m10 + m02 * m.m20;
+        dst[o + 1] = m00 * m.m01 + m01 * m.m11 + m02 * m.m21;
+        dst[o + 2] = m00 * m.m02 + m01 * m.m12 + m02 * m.m22;
+        dst[o + 3] = m10 * m.m00 + m11 * m.m10 + m12 * m.m20;
+        dst[o + 4] = m10 * m.m01 + m11 * m.m11 + m12 * m.m21;
+        dst[o + 5] = m10 * m.m02 + m11 * m.m12 + m12 * m.m22;
+        dst[o + 6] = m20 * m.m00 + m21 * m.m10 + m22 * m.m20;
+        dst[o + 7] = m20 * m.m01 + m21 * m.m11 + m22 * m.m21;
+        dst[o + 8] = m20 * m.m02 + m21 * m.m12 + m22 * m.m22;
+    }
+
+    /**
+     * The method returns the transposed matrix.
+     *
+     * @return the transposed matrix
+     */
+    @Override
+    public Fixed3x3Matrix getTransposed() {
+        return new Fixed3x3Matrix(m00, m10, m20,
+                m01, m11, m21,
+                m02, m12, m22);
+    }
+
+    /**
+     * The method writes the transposed matrix into the destination in
+     * row-major order.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    public void transposeInto(final double[] dst, final int o) {
+        checkDestination(dst, o, 9);
+        dst[o] = m00;
+        dst[o + 1] = m10;
+        dst[o + 2] = m20;
+        dst[o + 3] = m01;
+        dst[o + 4] = m11;
+        dst[o + 5] = m21;
+        dst[o + 6] = m02;
+        dst[o + 7] = m12;
+        dst[o + 8] = m22;
+    }
+
+    /**
+     * The method returns the additive inverse of the field.
+     *
+     * @return the additive inverse field
+     */
+    @Override
+    public Fixed3x3Matrix getAdditiveInverse() {
+        return new Fixed3x3Matrix(-m00, -m01, -m02,
+                -m10, -m11, -m12,
+                -m20, -m21, -m22);
+    }
+
+    /**
+     * A determinant is a scalar value computed for a square matrix; that
+     * encodes many properties of the linear algebra described by the matrix.
+     * It is denoted as det(A), where A is a matrix or |A|.
+     *
+     * @return the determinant of the square matrix
+     */
+    @Override
+    public double determinant() {
+        return m00 * (m11 * m22 - m12 * m21) + m01 * (m12 * m20 - m10 * m22)
+                       + m02 * (m10 * m21 - m11 * m20);
+    }
+
+    /**
+     * The method returns the multiplicative inverse of the field, computed
+     * in closed form from the adjugate.
+     *
+     * @return the multiplicative inverse field
+     */
+    @Override
+    public Fixed3x3Matrix getMultiplicativeInverse() {
+        var n = new double[9];
+        inverseInto(n, 0);
+        return new Fixed3x3Matrix(n);
+    }
+
+    /**
+     * The method writes the inverse matrix into the destination in row-major
+     * order.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    public void inverseInto(final double[] dst, final int o) {
+        checkDestination(dst, o, 9);
+        var c00 = m11 * m22 - m12 * m21;
+        var c01 = m12 * m20 - m10 * m22;
+        var c02 = m10 * m21 - m11 * m20;
+        var d = m00 * c00 + m01 * c01 + m02 * c02;
+        if (d == 0 || !Double.isFinite(d))
+            throw new NotInvertibleException();
+
+        d = 1 / d;
+        dst[o] = c00 * d;
+        dst[o + 1] = (m02 * m21 - m01 * m22) * d;
+        dst[o + 2] = (m01 * m12 - m02 * m11) * d;
+        dst[o + 3] = c01 * d;
+        dst[o + 4] = (m00 * m22 - m02 * m20) * d;
+        dst[o + 5] = (m02 * m10 - m00 * m12) * d;
+        dst[o + 6] = c02 * d;
+        dst[o + 7] = (m01 * m20 - m00 * m21) * d;
+        dst[o + 8] = (m00 * m11 - m01 * m10) * d;
+    }
+}
@@ -0,0 +1,461 @@
+package com.katpara.follium.linear.squares.fixed;
+
+import com.katpara.follium.exceptions.linears.ColumnOutOfBoundException;
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.exceptions.linears.NotInvertibleException;
+import com.katpara.follium.exceptions.linears.RowOutOfBoundException;
+import com.katpara.follium.linear.Matrix;
+
+/**
+ * The class represents a 4 x 4 matrix held in 16 fields. All operations
+ * between two matrices of this class are unrolled and allocate nothing
+ * but the result; the {@code ...Into} variants write the result into a
+ * destination array in row-major order and allocate nothing at all.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class Fixed4x4Matrix extends FixedSquareMatrix {
+
+    /**
+     * Holds the elements, named by their row and column
+     */
+    private final double m00, m01, m02, m03,
+            m10, m11, m12, m13,
+            m20, m21, m22, m23,
+            m30, m31, m32, m33;
+
+    /**
+     * The constructor takes the elements in row-major order.
+     *
+     * @param m00 the element at row 0 and column 0
+     * @param m01 the element at row 0 and column 1
+     * @param m02 the element at row 0 and column 2
+     * @param m03 the element at row 0 and column 3
+     * @param m10 the element at row 1 and column 0
+     * @param m11 the element at row 1 and column 1
+     * @param m12 the element at row 1 and column 2
+     * @param m13 the element at row 1 and column 3
+     * @param m20 the element at row 2 and column 0
+     * @param m21 the element at row 2 and column 1
+     * @param m22 the element at row 2 and column 2
+     * @param m23 the element at row 2 and column 3
+     * @param m30 the element at row 3 and column 0
+     * @param m31 the element at row 3 and column 1
+     * @param m32 the element at row 3 and column 2
+     * @param m33 the element at row 3 and column 3
+     */
+    public Fixed4x4Matrix(final double m00, final double m01, final double m02, final double m03,
+                          final double m10, final double m11, final double m12, final double m13,
+                          final double m20, final double m21, final double m22, final double m23,
+                          final double m30, final double m31, final double m32, final double m33) {
+        this.m00 = m00;
+        this.m01 = m01;
+        this.m02 = m02;
+        this.m03 = m03;
+        this.m10 = m10;
+        this.m11 = m11;
+        this.m12 = m12;
+        this.m13 = m13;
+        this.m20 = m20;
+        this.m21 = m21;
+        this.m22 = m22;
+        this.m23 = m23;
+        this.m30 = m30;
+        this.m31 = m31;
+        this.m32 = m32;
+        this.m33 = m33;
+    }
+
+    /**
+     * The constructor takes the elements from a row-major array.
+     *
+     * @param e the 16 elements
+     */
+    public Fixed4x4Matrix(final double[] e) {
+        this(e, 0);
+    }
+
+    /**
+     * The constructor takes the elements from a row-major array,
+     * starting at the given offset.
+     *
+     * @param e the array holding the 16 elements
+     * @param o the offset of the first element
+     */
+    public Fixed4x4Matrix(final double[] e, final int o) {
+        if (o < 0 || o > e.length - 16)
+            throw new InvalidMatrixDimensionProvidedException();
+
+        this.m00 = e[o];
+        this.m01 = e[o + 1];
+        this.m02 = e[o + 2];
+        this.m03 = e[o + 3];
+        this.m10 = e[o + 4];
+        this.m11 = e[o + 5];
+        this.m12 = e[o + 6];
+        this.m13 = e[o + 7];
+        this.m20 = e[o + 8];
+        this.m21 = e[o + 9];
+        this.m22 = e[o + 10];
+        this.m23 = e[o + 11];
+        this.m30 = e[o + 12];
+        this.m31 = e[o + 13];
+        this.m32 = e[o + 14];
+        this.m33 = e[o + 15];
+    }
+
+    /**
+     * The method returns the number of rows of the matrix.
+     *
+     * @return the number of rows
+     */
+    @Override
+    public int rows() {
+        return 4;
+    }
+
+    /**
+     * The method returns the element at the given position.
+     *
+     * @param r the row index
+     * @param c the column index
+     *
+     * @return the element
+     */
+    @Override
+    public double get(final int r, final int c) {
+        if (r < 0 || r >= 4)
+            throw new RowOutOfBoundException();
+        if (c < 0 || c >= 4)
+            throw new ColumnOutOfBoundException();
+
+        switch (r * 4 + c) {
+            case 0:
+                return m00;
+            case 1:
+                return m01;
+            case 2:
+                return m02;
+            case 3:
+                return m03;
+            case 4:
+                return m10;
+            case 5:
+                return m11;
+            case 6:
+                return m12;
+            case 7:
+                return m13;
+            case 8:
+                return m20;
+            case 9:
+                return m21;
+            case 10:
+                return m22;
+            case 11:
+                return m23;
+            case 12:
+                return m30;
+            case 13:
+                return m31;
+            case 14:
+                return m32;
+            default:
+                return m33;
+        }
+    }
+
+    /**
+     * The method writes all elements in row-major order into the destination.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    @Override
+    public void copyInto(final double[] dst, final int o) {
+        checkDestination(dst, o, 16);
+        dst[o] = m00;
+        dst[o + 1] = m01;
+        dst[o + 2] = m02;
+        dst[o + 3] = m03;
+        dst[o + 4] = m10;
+        dst[o + 5] = m11;
+        dst[o + 6] = m12;
+        dst[o + 7] = m13;
+        dst[o + 8] = m20;
+        dst[o + 9] = m21;
+        dst[o + 10] = m22;
+        dst[o + 11] = m23;
+        dst[o + 12] = m30;
+        dst[o + 13] = m31;
+        dst[o + 14] = m32;
+        dst[o + 15] = m33;
+    }
+
+    /**
+     * The method returns a matrix of the same order holding the elements.
+     *
+     * @param n the elements
+     *
+     * @return the matrix
+     */
+    @Override
+    Fixed4x4Matrix of(final double[] n) {
+        return new Fixed4x4Matrix(n);
+    }
+
+    /**
+     * A fields can be added to another field of the same type.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix add(final Matrix m) {
+        if (m instanceof Fixed4x4Matrix)
+            return add((Fixed4x4Matrix) m);
+
+        return super.add(m);
+    }
+
+    /**
+     * The method returns the element-wise sum of two matrices.
+     *
+     * @param m the other matrix
+     *
+     * @return the sum
+     */
+    public Fixed4x4Matrix add(final Fixed4x4Matrix m) {
+        return new Fixed4x4Matrix(m00 + m.m00, m01 + m.m01, m02 + m.m02, m03 + m.m03,
+                m10 + m.m10, m11 + m.m11, m12 + m.m12, m13 + m.m13,
+                m20 + m.m20, m21 + m.m21, m22 + m.m22, m23 + m.m23,
+                m30 + m.m30, m31 + m.m31, m32 + m.m32, m33 + m.m33);
+    }
+
+    /**
+     * A fields can be subtracted from another field of the same type.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix subtract(final Matrix m) {
+        if (m instanceof Fixed4x4Matrix)
+            return subtract((Fixed4x4Matrix) m);
+
+        return super.subtract(m);
+    }
+
+    /**
+     * The method returns the element-wise difference of two matrices.
+     *
+     * @param m the other matrix
+     *
+     * @return the difference
+     */
+    public Fixed4x4Matrix subtract(final Fixed4x4Matrix m) {
+        return new Fixed4x4Matrix(m00 - m.m00, m01 - m.m01, m02 - m.m02, m03 - m.m03,
+                m10 - m.m10, m11 - m.m11, m12 - m.m12, m13 - m.m13,
+                m20 - m.m20, m21 - m.m21, m22 - m.m22, m23 - m.m23,
+                m30 - m.m30, m31 - m.m31, m32 - m.m32, m33 - m.m33);
+    }
+
+    /**
+     * A field can multiply with another of the same type.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix multiply(final Matrix m) {
+        if (m instanceof Fixed4x4Matrix)
+            return multiply((Fixed4x4Matrix) m);
+
+        return super.multiply(m);
+    }
+
+    /**
+     * The method returns the product of two matrices.
+     *
+     * @param m the multiplying matrix
+     *
+     * @return the product
+     */
+    public Fixed4x4Matrix multiply(final Fixed4x4Matrix m) {
+        return new Fixed4x4Matrix(m00 * m.m00 + m01 * m.m10 + m02 * m.m20 + m03 * m.m30,
+                m00 * m.m01 + m01 * m.m11 + m02 * m.m21 + m03 * m.m31,
+                m00 * m.m02 + m01 * m.m12 + m02 * m.m22 + m03 * m.m32,
+                m00 * m.m03 + m01 * m.m13 + m02 * m.m23 + m03 * m.m33,
+                m10 * m.m00 + m11 * m.m10 + m12 * m.m20 + m13 * m.m30,
+                m10 * m.m01 + m11 * m.m11 + m12 * m.m21 + m13 * m.m31,
+                m10 * m.m02 + m11 * m.m12 + m12 * m.m22 + m13 * m.m32,
+                m10 * m.m03 + m11 * m.m13 + m12 * m.m23 + m13 * m.m33,
+                m20 * m.m00 + m21 * m.m10 + m22 * m.m20 + m23 * m.m30,
+                m20 * m.m01 + m21 * m.m11 + m22 * m.m21 + m23 * m.m31,
+                m20 * m.m02 + m21 * m.m12 + m22 * m.m22 + m23 * m.m32,
+                m20 * m.m03 + m21 * m.m13 + m22 * m.m23 + m23 * m.m33,
+                m30 * m.m00 + m31 * m.m10 + m32 * m.m20 + m33 * m.m30,
+                m30 * m.m01 + m31 * m.m11 + m32 * m.m21 + m33 * m.m31,
+                m30 * m.m02 + m31 * m.m12 + m32 * m.m22 + m33 * m.m32,
+                m30 * m.m03 + m31 * m.m13 + m32 * m.m23 + m33 * m.m33);
+    }
+
+    /**
+     * The method writes the product of two matrices into the destination in
+     * row-major order.
+     *
+     * @param m   the multiplying matrix
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    public void multiplyInto(final Fixed4x4Matrix m, final double[] dst, final int o) {
+        checkDestination(dst, o, 16);
+        dst[o] = m00 * m.m00 + m01 * m.m10 + m02 * m.m20 + m03 * m.m30;
+        dst[o + 1] = m00 * m.m01 + m01 * m.m11 + m02 * m.m21 + m03 * m.m31;
+        dst[o + 2] = m00 * m.m02 + m01 * m.m12 + m02 * m.m22 + m03 * m.m32;
+        dst[o + 3] = m00 * m.m03 + m01 * m.m13 + m02 * m.m23 + m03 * m.m33;
+        dst[o + 4] = m10 * m.m00 + m11 * m.m10 + m12 * m.m20 + m13 * m.m30;
+        dst[o + 5] = m10 * m.m01 + m11 * m.m11 + m12 * m.m21 + m13 * m.m31;
+        dst[o + 6] = m10 * m.m02 + m11 * m.m12 + m12 * m.m22 + m13 * m.m32;
+        dst[o + 7] = m10 * m.m03 + m11 * m.m13 + m12 * m.m23 + m13 * m.m33;
+        dst[o + 8] = m20 * m.m00 + m21 * m.m10 + m22 * m.m20 + m23 * m.m30;
+        dst[o + 9] = m20 * m.m01 + m21 * m.m11 + m22 * m.m21 + m23 * m.m31;
+        dst[o + 10] = m20 * m.m02 + m21 * m.m12 + m22 * m.m22 + m23 * m.m32;
+        dst[o + 11] = m20 * m.m03 + m21 * m.m13 + m22 * m.m23 + m23 * m.m33;
+        dst[o + 12] = m30 * m.m00 + m31 * m.m10 + m32 * m.m20 + m33 * m.m30;
+        dst[o + 13] = m30 * m.m01 + m31 * m.m11 + m32 * m.m21 + m33 * m.m31;
+        dst[o + 14] = m30 * m.m02 + m31 * m.m12 + m32 * m.m22 + m33 * m.m32;
+        dst[o + 15] = m30 * m.m03 + m31 * m.m13 + m32 * m.m23 + m33 * m.m33;
+    }
+
+    /**
+     * The method returns the transposed matrix.
+     *
+     * @return the transposed matrix
+     */
+    @Override
+    public Fixed4x4Matrix getTransposed() {
+        return new Fixed4x4Matrix(m00, m10, m20, m30,
+                m01, m11, m21, m31,
+                m02, m12, m22, m32,
+                m03, m13, m23, m33);
+    }
+
+    /**
+     * The method writes the transposed matrix into the destination in
+     * row-major order.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    public void transposeInto(final double[] dst, final int o) {
+        checkDestination(dst, o, 16);
+        dst[o] = m00;
+        dst[o + 1] = m10;
+        dst[o + 2] = m20;
+        dst[o + 3] = m30;
+        dst[o + 4] = m01;
+        dst[o + 5] = m11;
+        dst[o + 6] = m21;
+        dst[o + 7] = m31;
+        dst[o + 8] = m02;
+        dst[o + 9] = m12;
+        dst[o + 10] = m22;
+        dst[o + 11] = m32;
+        dst[o + 12] = m03;
+        dst[o + 13] = m13;
+        dst[o + 14] = m23;
+        dst[o + 15] = m33;
+    }
+
+    /**
+     * The method returns the additive inverse of the field.
+     *
+     * @return the additive inverse field
+     */
+    @Override
+    public Fixed4x4Matrix getAdditiveInverse() {
+        return new Fixed4x4Matrix(-m00, -m01, -m02, -m03,
+                -m10, -m11, -m12, -m13,
+                -m20, -m21, -m22, -m23,
+                -m30, -m31, -m32, -m33);
+    }
+
+    /**
+     * A determinant is a scalar value computed for a square matrix; that
+     * encodes many properties of the linear algebra described by the matrix.
+     * It is denoted as det(A), where A is a matrix or |A|.
+     *
+     * @return the determinant of the square matrix
+     */
+    @Override
+    public double determinant() {
+        return (m00 * m11 - m10 * m01) * (m22 * m33 - m32 * m23)
+                       - (m00 * m12 - m10 * m02) * (m21 * m33 - m31 * m23)
+                       + (m00 * m13 - m10 * m03) * (m21 * m32 - m31 * m22)
+                       + (m01 * m12 - m11 * m02) * (m20 * m33 - m30 * m23)
+                       - (m01 * m13 - m11 * m03) * (m20 * m32 - m30 * m22)
+                       + (m02 * m13 - m12 * m03) * (m20 * m31 - m30 * m21);
+    }
+
+    /**
+     * The method returns the multiplicative inverse of the field, computed
+     * in closed form from the adjugate.
+     *
+     * @return the multiplicative inverse field
+     */
+    @Override
+    public Fixed4x4Matrix getMultiplicativeInverse() {
+        var n = new double[16];
+        inverseInto(n, 0);
+        return new Fixed4x4Matrix(n);
+    }
+
+    /**
+     * The method writes the inverse matrix into the destination in row-major
+     * order.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    public void inverseInto(final double[] dst, final int o) {
+        checkDestination(dst, o, 16);
+        var s0 = m00 * m11 - m10 * m01;
+        var s1 = m00 * m12 - m10 * m02;
+        var s2 = m00 * m13 - m10 * m03;
+        var s3 = m01 * m12 - m11 * m02;
+        var s4 = m01 * m13 - m11 * m03;
+        var s5 = m02 * m13 - m12 * m03;
+        var c5 = m22 * m33 - m32 * m23;
+        var c4 = m21 * m33 - m31 * m23;
+        var c3 = m21 * m32 - m31 * m22;
+        var c2 = m20 * m33 - m30 * m23;
+        var c1 = m20 * m32 - m30 * m22;
+        var c0 = m20 * m31 - m30 * m21;
+        var d = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+        if (d == 0 || !Double.isFinite(d))
+            throw new NotInvertibleException();
+
+        d = 1 / d;
+        dst[o] = (m11 * c5 - m12 * c4 + m13 * c3) * d;
+        dst[o + 1] = (-m01 * c5 + m02 * c4 - m03 * c3) * d;
+        dst[o + 2] = (m31 * s5 - m32 * s4 + m33 * s3) * d;
+        dst[o + 3] = (-m21 * s5 + m22 * s4 - m23 * s3) * d;
+        dst[o + 4] = (-m10 * c5 + m12 * c2 - m13 * c1) * d;
+        dst[o + 5] = (m00 * c5 - m02 * c2 + m03 * c1) * d;
+        dst[o + 6] = (-m30 * s5 + m32 * s2 - m33 * s1) * d;
+        dst[o + 7] = (m20 * s5 - m22 * s2 + m23 * s1) * d;
+        dst[o + 8] = (m10 * c4 - m11 * c2 + m13 * c0) * d;
+        dst[o + 9] = (-m00 * c4 + m01 * c2 - m03 * c0) * d;
+        dst[o + 10] = (m30 * s4 - m31 * s2 + m33 * s0) * d;
+        dst[o + 11] = (-m20 * s4 + m21 * s2 - m23 * s0) * d;
+        dst[o + 12] = (-m10 * c3 + m11 * c1 - m12 * c0) * d;
+        dst[o + 13] = (m00 * c3 - m01 * c1 + m02 * c0) * d;
+        dst[o + 14] = (-m30 * s3 + m31 * s1 - m32 * s0) * d;
+        dst[o + 15] = (m20 * s3 - m21 * s1 + m22 * s0) * d;
+    }
+}
@@ -0,0 +1,584 @@
+package com.katpara.follium.linear.squares.fixed;
+
+import com.katpara.follium.exceptions.linears.ColumnOutOfBoundException;
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.exceptions.linears.RowOutOfBoundException;
+import com.katpara.follium.linear.Elements;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.linear.squares.SquareMatrix;
+import com.katpara.follium.util.Rounding;
+
+import java.nio.DoubleBuffer;
+import java.util.HashMap;
+
+/**
+ * The class is the base of the fixed size square matrices, which hold
+ * their elements in fields instead of an array.
+ * <p>
+ * The subclasses implement the hot operations (multiplication, transpose,
+ * determinant and inverse) fully unrolled, together with variants writing
+ * into a destination array. This class implements everything else on top
+ * of {@link #get(int, int)}, so a fixed size matrix works with every other
+ * {@link Matrix}.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public abstract class FixedSquareMatrix implements SquareMatrix {
+
+    /**
+     * Holds the lazily computed fingerprint, 0 until it is computed
+     */
+    private volatile long f;
+
+    FixedSquareMatrix() {
+    }
+
+    /**
+     * The method writes all elements in row-major order into the destination.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    public abstract void copyInto(final double[] dst, final int o);
+
+    /**
+     * The method returns a fixed size matrix of the same order holding the
+     * given row-major elements.
+     *
+     * @param n the elements
+     *
+     * @return the matrix
+     */
+    abstract FixedSquareMatrix of(final double[] n);
+
+    /**
+     * The method returns true if the matrix is a view of elements which can
+     * change, e.g. a matrix of a {@link SquareMatrixBatch}. The fingerprint
+     * of a view is computed from its current elements on every call.
+     *
+     * @return true if a view
+     */
+    public boolean isView() {
+        return false;
+    }
+
+    /**
+     * The method checks that the destination has room for n elements.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     * @param n   the number of elements
+     */
+    static void checkDestination(final double[] dst, final int o, final int n) {
+        if (o < 0 || o > dst.length - n)
+            throw new InvalidMatrixDimensionProvidedException();
+    }
+
+    /**
+     * The method returns the dimension of a matrix.
+     *
+     * @return the dimension of the matrix
+     */
+    @Override
+    public final int[] size() {
+        return new int[]{rows(), rows()};
+    }
+
+    /**
+     * The method returns the number of columns of the matrix.
+     *
+     * @return the number of columns
+     */
+    @Override
+    public final int columns() {
+        return rows();
+    }
+
+    /**
+     * The method returns all elements of the matrix.
+     *
+     * @return the matrix elements
+     */
+    @Override
+    public final double[] toArray() {
+        var n = new double[rows() * rows()];
+        copyInto(n, 0);
+        return n;
+    }
+
+    /**
+     * The method copies all elements of the matrix in row-major order into
+     * the destination, starting at the offset.
+     *
+     * @param dst the destination array
+     * @param o   the offset of the first element
+     */
+    @Override
+    public final void copyTo(final double[] dst, final int o) {
+        copyInto(dst, o);
+    }
+
+    /**
+     * The method returns a read-only buffer of a copy of the elements, as a
+     * fixed size matrix holds its elements in fields.
+     *
+     * @return the read-only buffer of the elements
+     */
+    @Override
+    public final DoubleBuffer asDoubleBuffer() {
+        return DoubleBuffer.wrap(toArray()).asReadOnlyBuffer();
+    }
+
+    /**
+     * The method returns true if the matrix is a
+     * row vector, i.e. the dimension is 1 x n.
+     *
+     * @return true if it is a row vector, otherwise false
+     */
+    @Override
+    public final boolean isRowVector() {
+        return false;
+    }
+
+    /**
+     * The method returns true if the matrix is a
+     * column vector, i.e. the dimension is n x 1.
+     *
+     * @return true if it is a column vector, otherwise false
+     */
+    @Override
+    public final boolean isColumnVector() {
+        return false;
+    }
+
+    /**
+     * The method returns true if the matrix is a square matrix.
+     *
+     * @return true if it is a square matrix, otherwise false
+     */
+    @Override
+    public final boolean isSquareMatrix() {
+        return true;
+    }
+
+    /**
+     * The method returns true if the matrix is diagonal.
+     *
+     * @return true if the matrix is diagonal
+     */
+    @Override
+    public final boolean isDiagonal() {
+        return isLowerTriangular() && isUpperTriangular();
+    }
+
+    /**
+     * The method checks if the data is symmetric.
+     *
+     * @return true if symmetric, otherwise false
+     */
+    @Override
+    public final boolean isSymmetric() {
+        for (int i = 1; i < rows(); i++)
+            for (int j = 0; j < i; j++)
+                if (get(i, j) != get(j, i)) return false;
+
+        return true;
+    }
+
+    /**
+     * the method returns true if the matrix is a lower triangular matrix
+     *
+     * @return true if it's a lower triangular
+     */
+    @Override
+    public final boolean isLowerTriangular() {
+        for (int i = 0; i < rows(); i++)
+            for (int j = i + 1; j < rows(); j++)
+                if (get(i, j) != 0) return false;
+
+        return true;
+    }
+
+    /**
+     * the method returns true if the matrix is an upper triangular matrix
+     *
+     * @return true if it's a upper triangular
+     */
+    @Override
+    public final boolean isUpperTriangular() {
+        for (int i = 1; i < rows(); i++)
+            for (int j = 0; j < i; j++)
+                if (get(i, j) != 0) return false;
+
+        return true;
+    }
+
+    /**
+     * A determinant is a scalar value computed for a square matrix; that
+     * encodes many properties of the linear algebra described by the matrix.
+     * It is denoted as det(A), where A is a matrix or |A|.
+     * This method rounds up the determinant to the given decimal accuracy.
+     *
+     * @param decimals accuracy to defined decimal points
+     *
+     * @return the determinant of the square matrix
+     */
+    @Override
+    public final double determinant(final Rounding.Decimals decimals) {
+        return Double.parseDouble(Rounding.round(determinant(), decimals));
+    }
+
+    /**
+     * The method returns the row elements of the Matrix.
+     *
+     * @param r the row index
+     *
+     * @return the matrix row elements
+     */
+    @Override
+    public final double[] getRow(final int r) {
+        if (r < 0 || r >= rows())
+            throw new RowOutOfBoundException();
+
+        var n = new double[rows()];
+        for (int j = 0; j < n.length; j++)
+            n[j] = get(r, j);
+
+        return n;
+    }
+
+    /**
+     * The method returns the column elements of a Matrix.
+     *
+     * @param c the column index
+     *
+     * @return the matrix column elements
+     */
+    @Override
+    public final double[] getColumn(final int c) {
+        if (c < 0 || c >= rows())
+            throw new ColumnOutOfBoundException();
+
+        var n = new double[rows()];
+        for (int i = 0; i < n.length; i++)
+            n[i] = get(i, c);
+
+        return n;
+    }
+
+    /**
+     * The method returns the diagonal entries of the matrix.
+     *
+     * @return the diagonal entries
+     */
+    @Override
+    public final double[] getDiagonalEntries() {
+        var n = new double[rows()];
+        for (int i = 0; i < n.length; i++)
+            n[i] = get(i, i);
+
+        return n;
+    }
+
+    /**
+     * A rank of a matrix is independent rows of a matrix. That shows that how many
+     * rows of a matrix are totally independent, or co-dependent on other rows.
+     * The rank is found by gaussian elimination with partial pivoting, treating
+     * pivots below a tolerance relative to the largest element as zero.
+     *
+     * @return the rank of matrix
+     */
+    @Override
+    public final int getRank() {
+        int n = rows(), r = 0;
+        var a = toArray();
+
+        var t = 0.0;
+        for (final double _a : a)
+            t = Math.max(t, Math.abs(_a));
+        t *= n * Math.ulp(1.0);
+
+        for (int j = 0; j < n && r < n; j++) {
+            var p = r;
+            for (int i = r + 1; i < n; i++)
+                if (Math.abs(a[i * n + j]) > Math.abs(a[p * n + j])) p = i;
+
+            if (Math.abs(a[p * n + j]) <= t)
+                continue;
+
+            for (int k = j; k < n; k++) {
+                var _t = a[p * n + k];
+                a[p * n + k] = a[r * n + k];
+                a[r * n + k] = _t;
+            }
+
+            for (int i = r + 1; i < n; i++) {
+                var f = a[i * n + j] / a[r * n + j];
+                for (int k = j; k < n; k++)
+                    a[i * n + k] -= f * a[r * n + k];
+            }
+            r++;
+        }
+
+        return r;
+    }
+
+    /**
+     * A fields can be added to another field of the same type.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix add(final Matrix m) {
+        if (rows() != m.rows() || rows() != m.columns())
+            throw new MatrixDimensionMismatchException();
+
+        if (m instanceof ZeroMatrix)
+            return this;
+
+        double[] n = toArray(), _e = m.toArray();
+        for (int i = 0; i < n.length; i++)
+            n[i] += _e[i];
+
+        return of(n);
+    }
+
+    /**
+     * A fields can be subtracted from another field of the same type.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix subtract(final Matrix m) {
+        if (rows() != m.rows() || rows() != m.columns())
+            throw new MatrixDimensionMismatchException();
+
+        if (m instanceof ZeroMatrix)
+            return this;
+
+        double[] n = toArray(), _e = m.toArray();
+        for (int i = 0; i < n.length; i++)
+            n[i] -= _e[i];
+
+        return of(n);
+    }
+
+    /**
+     * A field can multiply with another of the same type. A product with a
+     * square matrix of the same order stays a fixed size matrix.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix multiply(final Matrix m) {
+        var n = rows();
+        if (n != m.rows())
+            throw new MatrixDimensionMismatchException();
+
+        var c = m.columns();
+        if (m instanceof ZeroMatrix)
+            return new ZeroMatrix(n, c);
+
+        if (m instanceof IdentityMatrix)
+            return this;
+
+        double[] _e = m.toArray(), _n = new double[n * c];
+        for (int i = 0; i < n; i++) {
+            for (int k = 0; k < n; k++) {
+                var a = get(i, k);
+                for (int j = 0; j < c; j++)
+                    _n[i * c + j] += a * _e[k * c + j];
+            }
+        }
+
+        return (c == n) ? of(_n) : new AnyRectangularMatrix(_n, n, c);
+    }
+
+    /**
+     * A field can divided by another field of the same type.
+     *
+     * @param m the other field
+     *
+     * @return the resulting field
+     */
+    @Override
+    public Matrix divide(final Matrix m) {
+        if (rows() != m.rows())
+            throw new MatrixDimensionMismatchException();
+
+        if (m instanceof IdentityMatrix)
+            return this;
+
+        return multiply(m.getMultiplicativeInverse());
+    }
+
+    /**
+     * The method returns the field with the given power, using repeated
+     * squaring. A negative power raises the inverse.
+     *
+     * @param p the power
+     *
+     * @return the powered field
+     */
+    @Override
+    public Matrix power(final int p) {
+        var n = new double[rows() * rows()];
+        for (int i = 0; i < rows(); i++)
+            n[i * rows() + i] = 1;
+
+        Matrix r = of(n);
+        Matrix b = (p < 0) ? getMultiplicativeInverse() : this;
+
+        for (long k = Math.abs((long) p); k > 0; k >>= 1) {
+            if ((k & 1) == 1)
+                r = r.multiply(b);
+            if (k > 1)
+                b = b.multiply(b);
+        }
+
+        return r;
+    }
+
+    /**
+     * The method returns the additive inverse of the field.
+     *
+     * @return the additive inverse field
+     */
+    @Override
+    public Matrix getAdditiveInverse() {
+        var n = toArray();
+        for (int i = 0; i < n.length; i++)
+            n[i] = -n[i];
+
+        return of(n);
+    }
+
+    /**
+     * The method returns a 64-bit fingerprint of the shape and the content
+     * of the matrix. It is computed on the first call and cached, as the
+     * elements never change, except for a view, whose fingerprint is
+     * computed on every call.
+     *
+     * @return the fingerprint of the matrix
+     */
+    @Override
+    public final long fingerprint() {
+        if (isView())
+            return Elements.fingerprint(toArray(), rows(), rows());
+
+        var _f = f;
+        if (_f == 0)
+            f = _f = Elements.fingerprint(toArray(), rows(), rows());
+
+        return _f;
+    }
+
+    /**
+     * The method returns true if the other matrix has the same dimension and
+     * every pair of elements a, b satisfies
+     * |a - b| &lt;= max(absolute, relative * max(|a|, |b|)).
+     *
+     * @param m        the other matrix
+     * @param absolute the absolute tolerance
+     * @param relative the relative tolerance
+     *
+     * @return true if the matrices are approximately equal
+     */
+    @Override
+    public final boolean approximatelyEquals(final Matrix m, final double absolute, final double relative) {
+        return Elements.approximatelyEqual(this, m, absolute, relative);
+    }
+
+    /**
+     * The method returns true if the other matrix has the same dimension and
+     * every pair of elements is at most the given number of representable
+     * doubles apart.
+     *
+     * @param m    the other matrix
+     * @param ulps the maximum distance in units in the last place
+     *
+     * @return true if the matrices are approximately equal
+     */
+    @Override
+    public final boolean approximatelyEquals(final Matrix m, final int ulps) {
+        return Elements.approximatelyEqual(this, m, ulps);
+    }
+
+    /**
+     * Returns a hash code value for the object, derived from the
+     * fingerprint, for the benefit of hash tables such as those
+     * provided by {@link HashMap}.
+     *
+     * @return a hash code value for this object.
+     *
+     * @see Object#equals(Object)
+     */
+    @Override
+    public final int hashCode() {
+        return Long.hashCode(fingerprint());
+    }
+
+    /**
+     * Indicates whether some other matrix of any representation holds
+     * the same elements.
+     *
+     * @param obj the reference object with which to compare.
+     *
+     * @return {@code true} if this object is the same as the obj
+     *         argument; {@code false} otherwise.
+     *
+     * @see #hashCode()
+     */
+    @Override
+    public final boolean equals(final Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof Matrix)) return false;
+
+        return Elements.equal(this, (Matrix) obj);
+    }
+
+    /**
+     * Returns a string representation of the matrix with four decimals.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public final String toString() {
+        return toString(Rounding.Decimals.FOUR);
+    }
+
+    /**
+     * The method returns a string representing the field upto
+     * specified decimal points.
+     *
+     * @param decimals the decimal precision
+     *
+     * @return the string representing the field
+     */
+    @Override
+    public final String toString(final Rounding.Decimals decimals) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < rows(); i++) {
+            sb.append("|");
+            for (int j = 0; j < rows(); j++) {
+                sb.append(Rounding.round(get(i, j), decimals));
+                if (j != rows() - 1)
+                    sb.append(" ");
+            }
+            sb.append("|\n");
+        }
+        return sb.toString();
+    }
+}
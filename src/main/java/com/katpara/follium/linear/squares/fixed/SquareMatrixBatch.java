@@ -0,0 +1,667 @@
+package com.katpara.follium.linear.squares.fixed;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.exceptions.linears.ColumnOutOfBoundException;
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.exceptions.linears.RowOutOfBoundException;
+import com.katpara.follium.linear.Matrix;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * The class holds a batch of small square matrices of the same order in a
+ * single array, in a structure-of-arrays layout. The element (i, j) of the
+ * matrix k is stored at {@code (i * order + j) * count + k}, so the same
+ * element of all matrices is contiguous.
+ * <p>
+ * The kernels walk the batch in blocks of matrices and keep the batch index
+ * innermost, so the loop bodies are the same arithmetic on consecutive
+ * elements, which the compiler vectorizes across the matrices. A parallel
+ * batch splits the blocks over the common fork join pool. A single matrix
+ * is viewed as a {@link FixedSquareMatrix} reading the batch directly, so
+ * the batch never needs an object per matrix, or copied out on request.
+ * </p>
+ * <p>
+ * The batch is mutable, views and kernels see the changes immediately. The
+ * destination of a kernel may be one of its operands.
+ * </p>
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class SquareMatrixBatch {
+
+    /**
+     * Holds the number of matrices a kernel processes at once
+     */
+    private static final int BLOCK = 128;
+
+    /**
+     * Holds the order of every matrix
+     */
+    private final int n;
+
+    /**
+     * Holds the number of matrices
+     */
+    private final int N;
+
+    /**
+     * Holds the elements in structure-of-arrays layout
+     */
+    private final double[] d;
+
+    /**
+     * Holds true if the kernels run in parallel
+     */
+    private final boolean parallel;
+
+    /**
+     * The constructor creates a batch of matrices holding zeros.
+     *
+     * @param order the order of every matrix
+     * @param count the number of matrices
+     */
+    public SquareMatrixBatch(final int order, final int count) {
+        this(order, count, new double[length(order, count)], false);
+    }
+
+    /**
+     * The constructor creates a batch on top of the given elements, without
+     * copying them. The element (i, j) of the matrix k must be stored at
+     * {@code (i * order + j) * count + k}.
+     *
+     * @param order the order of every matrix
+     * @param count the number of matrices
+     * @param e     the elements
+     */
+    public SquareMatrixBatch(final int order, final int count, final double[] e) {
+        this(order, count, e, false);
+        if (e.length != length(order, count))
+            throw new InvalidMatrixDimensionProvidedException();
+    }
+
+    /**
+     * The constructor creates a batch.
+     *
+     * @param n        the order of every matrix
+     * @param N        the number of matrices
+     * @param d        the elements
+     * @param parallel true if the kernels run in parallel
+     */
+    private SquareMatrixBatch(final int n, final int N, final double[] d, final boolean parallel) {
+        this.n = n;
+        this.N = N;
+        this.d = d;
+        this.parallel = parallel;
+    }
+
+    /**
+     * The method returns the number of elements of a batch.
+     *
+     * @param order the order of every matrix
+     * @param count the number of matrices
+     *
+     * @return the number of elements
+     */
+    private static int length(final int order, final int count) {
+        if (order < 1 || count < 1 || (long) order * order * count > Integer.MAX_VALUE)
+            throw new InvalidMatrixDimensionProvidedException();
+
+        return order * order * count;
+    }
+
+    /**
+     * The method returns the order of every matrix.
+     *
+     * @return the order
+     */
+    public int order() {
+        return n;
+    }
+
+    /**
+     * The method returns the number of matrices.
+     *
+     * @return the number of matrices
+     */
+    public int count() {
+        return N;
+    }
+
+    /**
+     * The method returns the elements in structure-of-arrays layout. The
+     * array is not a copy, so writing it changes the batch.
+     *
+     * @return the elements
+     */
+    public double[] array() {
+        return d;
+    }
+
+    /**
+     * The method returns a copy of the elements in structure-of-arrays
+     * layout.
+     *
+     * @return the elements
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(d, d.length);
+    }
+
+    /**
+     * The method returns true if the kernels run in parallel.
+     *
+     * @return true if parallel
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * The method returns a batch sharing the elements, whose kernels run
+     * in parallel. The batches it creates are parallel as well.
+     *
+     * @return the parallel batch
+     */
+    public SquareMatrixBatch parallel() {
+        return parallel ? this : new SquareMatrixBatch(n, N, d, true);
+    }
+
+    /**
+     * The method returns a batch sharing the elements, whose kernels run
+     * in the calling thread.
+     *
+     * @return the sequential batch
+     */
+    public SquareMatrixBatch sequential() {
+        return parallel ? new SquareMatrixBatch(n, N, d, false) : this;
+    }
+
+    /**
+     * The method returns a view of the matrix k. The view reads the batch,
+     * so it reflects later changes of the batch, and its equality and hash
+     * code follow its current elements.
+     *
+     * @param k the index of the matrix
+     *
+     * @return the matrix view
+     */
+    public FixedSquareMatrix get(final int k) {
+        checkIndex(k);
+        return new BatchedSquareMatrix(n, N, d, k, true);
+    }
+
+    /**
+     * The method returns a copy of the matrix k, which does not change with
+     * the batch.
+     *
+     * @param k the index of the matrix
+     *
+     * @return the matrix
+     */
+    public FixedSquareMatrix copy(final int k) {
+        checkIndex(k);
+
+        var e = new double[n * n];
+        for (int q = 0; q < e.length; q++)
+            e[q] = d[q * N + k];
+
+        return new BatchedSquareMatrix(n, 1, e, 0, false);
+    }
+
+    /**
+     * The method returns an element of the matrix k.
+     *
+     * @param k the index of the matrix
+     * @param r the row index
+     * @param c the column index
+     *
+     * @return the element
+     */
+    public double get(final int k, final int r, final int c) {
+        return d[index(k, r, c)];
+    }
+
+    /**
+     * The method sets an element of the matrix k.
+     *
+     * @param k the index of the matrix
+     * @param r the row index
+     * @param c the column index
+     * @param v the element
+     */
+    public void set(final int k, final int r, final int c, final double v) {
+        d[index(k, r, c)] = v;
+    }
+
+    /**
+     * The method copies the elements of the matrix into the matrix k.
+     *
+     * @param k the index of the matrix
+     * @param m the matrix
+     */
+    public void set(final int k, final Matrix m) {
+        checkIndex(k);
+        if (m.rows() != n || m.columns() != n)
+            throw new MatrixDimensionMismatchException();
+
+        var _e = m.toArray();
+        for (int q = 0; q < _e.length; q++)
+            d[q * N + k] = _e[q];
+    }
+
+    /**
+     * The method returns the batch of the products of the matrices with the
+     * matrices of the same index in the other batch.
+     *
+     * @param b the other batch
+     *
+     * @return the batch of products
+     */
+    public SquareMatrixBatch multiply(final SquareMatrixBatch b) {
+        var r = new SquareMatrixBatch(n, N, new double[d.length], parallel);
+        multiplyInto(b, r);
+        return r;
+    }
+
+    /**
+     * The method writes the products of the matrices with the matrices of
+     * the same index in the other batch into the destination batch.
+     *
+     * @param b   the other batch
+     * @param dst the destination batch
+     */
+    public void multiplyInto(final SquareMatrixBatch b, final SquareMatrixBatch dst) {
+        checkShape(b);
+        checkShape(dst);
+        run(n * n, (s, l, w) -> multiply(n, N, d, b.d, dst.d, s, l, w));
+    }
+
+    /**
+     * The method returns the batch of the transposed matrices.
+     *
+     * @return the transposed batch
+     */
+    public SquareMatrixBatch getTransposed() {
+        var r = new SquareMatrixBatch(n, N, new double[d.length], parallel);
+        transposeInto(r);
+        return r;
+    }
+
+    /**
+     * The method writes the transposed matrices into the destination batch.
+     *
+     * @param dst the destination batch
+     */
+    public void transposeInto(final SquareMatrixBatch dst) {
+        checkShape(dst);
+        run(0, (s, l, w) -> transpose(n, N, d, dst.d, s, l));
+    }
+
+    /**
+     * The method returns the determinants of all matrices.
+     *
+     * @return the determinants
+     */
+    public double[] determinants() {
+        var r = new double[N];
+        determinantsInto(r);
+        return r;
+    }
+
+    /**
+     * The method writes the determinants of all matrices into the destination.
+     *
+     * @param dst the destination array, one element per matrix
+     */
+    public void determinantsInto(final double[] dst) {
+        if (dst.length != N)
+            throw new InvalidMatrixDimensionProvidedException();
+
+        run(n * n, (s, l, w) -> determinant(n, N, d, dst, s, l, w));
+    }
+
+    /**
+     * The method returns the batch of the inverse matrices. The inverse of
+     * a singular matrix is filled with not-a-number, so one singular matrix
+     * does not fail the whole batch.
+     *
+     * @return the batch of inverses
+     */
+    public SquareMatrixBatch getMultiplicativeInverse() {
+        var r = new SquareMatrixBatch(n, N, new double[d.length], parallel);
+        inverseInto(r);
+        return r;
+    }
+
+    /**
+     * The method writes the inverse matrices into the destination batch. The
+     * inverse of a singular matrix is filled with not-a-number.
+     *
+     * @param dst the destination batch
+     */
+    public void inverseInto(final SquareMatrixBatch dst) {
+        checkShape(dst);
+        run(2 * n * n + 1, (s, l, w) -> inverse(n, N, d, dst.d, s, l, w));
+    }
+
+    /**
+     * The method checks the index of a matrix.
+     *
+     * @param k the index of the matrix
+     */
+    private void checkIndex(final int k) {
+        if (k < 0 || k >= N)
+            throw new InvalidParameterProvidedException();
+    }
+
+    /**
+     * The method returns the position of an element in the array.
+     *
+     * @param k the index of the matrix
+     * @param r the row index
+     * @param c the column index
+     *
+     * @return the position
+     */
+    private int index(final int k, final int r, final int c) {
+        checkIndex(k);
+        if (r < 0 || r >= n)
+            throw new RowOutOfBoundException();
+        if (c < 0 || c >= n)
+            throw new ColumnOutOfBoundException();
+
+        return (r * n + c) * N + k;
+    }
+
+    /**
+     * The method checks that the other batch holds as many matrices of the
+     * same order.
+     *
+     * @param b the other batch
+     */
+    private void checkShape(final SquareMatrixBatch b) {
+        if (b.n != n || b.N != N)
+            throw new MatrixDimensionMismatchException();
+    }
+
+    /**
+     * The method runs the kernel over all blocks of matrices, in parallel
+     * if the batch is parallel. Every task owns its scratch array.
+     *
+     * @param slots the number of scratch elements per matrix
+     * @param k     the kernel
+     */
+    private void run(final int slots, final Kernel k) {
+        var blocks = (N + BLOCK - 1) / BLOCK;
+        var tasks = parallel ? Math.min(blocks, 4 * ForkJoinPool.getCommonPoolParallelism()) : 1;
+
+        if (tasks <= 1) {
+            run(0, blocks, slots, k);
+            return;
+        }
+
+        IntStream.range(0, tasks).parallel()
+                 .forEach(t -> run(blocks * t / tasks, blocks * (t + 1) / tasks, slots, k));
+    }
+
+    /**
+     * The method runs the kernel over a range of blocks of matrices.
+     *
+     * @param from  the first block
+     * @param to    the block after the last
+     * @param slots the number of scratch elements per matrix
+     * @param k     the kernel
+     */
+    private void run(final int from, final int to, final int slots, final Kernel k) {
+        var w = new double[slots * BLOCK];
+        for (int b = from; b < to; b++)
+            k.apply(b * BLOCK, Math.min(N, (b + 1) * BLOCK), w);
+    }
+
+    /**
+     * The method multiplies the matrices s to l - 1 of two batches. The
+     * products are accumulated in the scratch array, so the destination
+     * may be an operand.
+     *
+     * @param n the order of every matrix
+     * @param N the number of matrices
+     * @param a the elements of the left operands
+     * @param b the elements of the right operands
+     * @param c the elements of the products
+     * @param s the first matrix
+     * @param l the matrix after the last
+     * @param w the scratch array of n * n slots
+     */
+    static void multiply(final int n, final int N, final double[] a, final double[] b, final double[] c,
+                         final int s, final int l, final double[] w) {
+        int W = w.length / (n * n), m = l - s;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                var o = (i * n + j) * W;
+                Arrays.fill(w, o, o + m, 0);
+                for (int p = 0; p < n; p++) {
+                    int _a = (i * n + p) * N + s, _b = (p * n + j) * N + s;
+                    for (int t = 0; t < m; t++)
+                        w[o + t] += a[_a + t] * b[_b + t];
+                }
+            }
+        }
+
+        for (int q = 0; q < n * n; q++)
+            System.arraycopy(w, q * W, c, q * N + s, m);
+    }
+
+    /**
+     * The method transposes the matrices s to l - 1 of a batch. The
+     * destination may be the source.
+     *
+     * @param n the order of every matrix
+     * @param N the number of matrices
+     * @param a the elements of the matrices
+     * @param c the elements of the transposed matrices
+     * @param s the first matrix
+     * @param l the matrix after the last
+     */
+    static void transpose(final int n, final int N, final double[] a, final double[] c,
+                          final int s, final int l) {
+        var m = l - s;
+        for (int i = 0; i < n; i++) {
+            if (a != c)
+                System.arraycopy(a, (i * n + i) * N + s, c, (i * n + i) * N + s, m);
+
+            for (int j = i + 1; j < n; j++) {
+                int _u = (i * n + j) * N + s, _v = (j * n + i) * N + s;
+                for (int t = 0; t < m; t++) {
+                    double x = a[_u + t], y = a[_v + t];
+                    c[_u + t] = y;
+                    c[_v + t] = x;
+                }
+            }
+        }
+    }
+
+    /**
+     * The method computes the determinants of the matrices s to l - 1 of a
+     * batch by an LU decomposition with partial pivoting. The pivot search
+     * and the row swaps are done matrix by matrix, the elimination across
+     * the matrices.
+     *
+     * @param n   the order of every matrix
+     * @param N   the number of matrices
+     * @param a   the elements of the matrices
+     * @param det the determinants
+     * @param s   the first matrix
+     * @param l   the matrix after the last
+     * @param w   the scratch array of n * n slots
+     */
+    static void determinant(final int n, final int N, final double[] a, final double[] det,
+                            final int s, final int l, final double[] w) {
+        int W = w.length / (n * n), m = l - s;
+        for (int q = 0; q < n * n; q++)
+            System.arraycopy(a, q * N + s, w, q * W, m);
+        Arrays.fill(det, s, l, 1);
+
+        for (int j = 0; j < n; j++) {
+            for (int t = 0; t < m; t++) {
+                if (pivot(w, n, W, j, t, false))
+                    det[s + t] = -det[s + t];
+            }
+
+            var _j = (j * n + j) * W;
+            for (int t = 0; t < m; t++)
+                det[s + t] *= w[_j + t];
+
+            for (int i = j + 1; i < n; i++) {
+                var _i = (i * n + j) * W;
+                for (int t = 0; t < m; t++)
+                    w[_i + t] = (w[_j + t] == 0) ? 0 : w[_i + t] / w[_j + t];
+
+                for (int q = j + 1; q < n; q++) {
+                    int _u = (i * n + q) * W, _v = (j * n + q) * W;
+                    for (int t = 0; t < m; t++)
+                        w[_u + t] -= w[_i + t] * w[_v + t];
+                }
+            }
+        }
+    }
+
+    /**
+     * The method inverts the matrices s to l - 1 of a batch by a gauss jordan
+     * elimination with partial pivoting. The inverse of a singular matrix is
+     * filled with not-a-number. The destination may be the source.
+     *
+     * @param n the order of every matrix
+     * @param N the number of matrices
+     * @param a the elements of the matrices
+     * @param c the elements of the inverses
+     * @param s the first matrix
+     * @param l the matrix after the last
+     * @param w the scratch array of 2 * n * n + 1 slots
+     */
+    static void inverse(final int n, final int N, final double[] a, final double[] c,
+                        final int s, final int l, final double[] w) {
+        int W = w.length / (2 * n * n + 1), m = l - s, V = n * n * W, R = 2 * V;
+        for (int q = 0; q < n * n; q++)
+            System.arraycopy(a, q * N + s, w, q * W, m);
+
+        Arrays.fill(w, V, R, 0);
+        for (int i = 0; i < n; i++)
+            Arrays.fill(w, V + (i * n + i) * W, V + (i * n + i) * W + m, 1);
+
+        for (int j = 0; j < n; j++) {
+            for (int t = 0; t < m; t++)
+                pivot(w, n, W, j, t, true);
+
+            var _j = (j * n + j) * W;
+            for (int t = 0; t < m; t++)
+                w[R + t] = 1 / w[_j + t];
+
+            for (int q = j + 1; q < n; q++) {
+                var _v = (j * n + q) * W;
+                for (int t = 0; t < m; t++)
+                    w[_v + t] *= w[R + t];
+            }
+            for (int q = 0; q < n; q++) {
+                var _v = V + (j * n + q) * W;
+                for (int t = 0; t < m; t++)
+                    w[_v + t] *= w[R + t];
+            }
+
+            for (int i = 0; i < n; i++) {
+                if (i == j) continue;
+
+                var _i = (i * n + j) * W;
+                for (int q = j + 1; q < n; q++) {
+                    int _u = (i * n + q) * W, _v = (j * n + q) * W;
+                    for (int t = 0; t < m; t++)
+                        w[_u + t] -= w[_i + t] * w[_v + t];
+                }
+                for (int q = 0; q < n; q++) {
+                    int _u = V + (i * n + q) * W, _v = V + (j * n + q) * W;
+                    for (int t = 0; t < m; t++)
+                        w[_u + t] -= w[_i + t] * w[_v + t];
+                }
+            }
+        }
+
+        for (int q = 0; q < n * n; q++)
+            System.arraycopy(w, V + q * W, c, q * N + s, m);
+
+        for (int t = 0; t < m; t++) {
+            for (int j = 0; j < n; j++) {
+                var p = w[(j * n + j) * W + t];
+                if (p == 0 || !Double.isFinite(p)) {
+                    for (int q = 0; q < n * n; q++)
+                        c[q * N + s + t] = Double.NaN;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * The method swaps the row holding the largest element of the column j,
+     * at or below the diagonal, into the row j of a single matrix. The rows
+     * of the augmented identity, stored after the matrices, are swapped along.
+     *
+     * @param w the scratch array
+     * @param n the order of every matrix
+     * @param W the number of matrices between two elements
+     * @param j the column
+     * @param t the matrix
+     * @param a true if the scratch array holds an augmented identity
+     *
+     * @return true if rows were swapped
+     */
+    private static boolean pivot(final double[] w, final int n, final int W, final int j, final int t,
+                                 final boolean a) {
+        var p = j;
+        for (int i = j + 1; i < n; i++)
+            if (Math.abs(w[(i * n + j) * W + t]) > Math.abs(w[(p * n + j) * W + t])) p = i;
+
+        if (p == j) return false;
+
+        for (int q = j; q < n; q++)
+            swap(w, (j * n + q) * W + t, (p * n + q) * W + t);
+
+        if (a) {
+            var V = n * n * W;
+            for (int q = 0; q < n; q++)
+                swap(w, V + (j * n + q) * W + t, V + (p * n + q) * W + t);
+        }
+
+        return true;
+    }
+
+    /**
+     * The method swaps two elements of an array.
+     *
+     * @param w the array
+     * @param u the position of an element
+     * @param v the position of another element
+     */
+    private static void swap(final double[] w, final int u, final int v) {
+        var _t = w[u];
+        w[u] = w[v];
+        w[v] = _t;
+    }
+
+    /**
+     * The interface of a kernel processing a block of matrices.
+     */
+    private interface Kernel {
+        /**
+         * The method processes the matrices s to l - 1.
+         *
+         * @param s the first matrix
+         * @param l the matrix after the last
+         * @param w the scratch array
+         */
+        void apply(final int s, final int l, final double[] w);
+    }
+}
@@ -0,0 +1,136 @@
+package com.katpara.follium.io;
+
+import com.katpara.follium.exceptions.io.InvalidMatrixFormatException;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryMatrixFormatTest {
+
+    private static Matrix roundTrip(final Matrix m) throws IOException {
+        Path p = Files.createTempFile("follium", ".flmx");
+        try {
+            BinaryMatrixFormat.write(m, p);
+            return BinaryMatrixFormat.read(p);
+        } finally {
+            Files.deleteIfExists(p);
+        }
+    }
+
+    private static long length(final Matrix m) throws IOException {
+        Path p = Files.createTempFile("follium", ".flmx");
+        try {
+            BinaryMatrixFormat.write(m, p);
+            return Files.size(p);
+        } finally {
+            Files.deleteIfExists(p);
+        }
+    }
+
+    @Test
+    void dense() throws IOException {
+        Matrix m1 = new AnySquareMatrix(new double[][]{
+                {1.123456789, 2, 3},
+                {4, -5.5, 6},
+                {7, 8, 1e-300}
+        });
+
+        Matrix m2 = new AnyRectangularMatrix(new double[][]{
+                {0, 1, 2, 3},
+                {1, 2, 3, 4}
+        });
+
+        Matrix r1 = roundTrip(m1), r2 = roundTrip(m2);
+
+        assertAll(
+                () -> assertEquals("AnySquareMatrix", r1.getClass().getSimpleName()),
+                () -> assertArrayEquals(m1.toArray(), r1.toArray()),
+                () -> assertEquals("AnyRectangularMatrix", r2.getClass().getSimpleName()),
+                () -> assertArrayEquals(new int[]{2, 4}, r2.size()),
+                () -> assertArrayEquals(m2.toArray(), r2.toArray()),
+                () -> assertEquals(16 + 9 * 8, length(m1))
+        );
+    }
+
+    @Test
+    void structured() throws IOException {
+        Matrix m1 = new DiagonalMatrix(new double[]{1, 2, 3, 4});
+        Matrix m2 = new IdentityMatrix(1000);
+        Matrix m3 = new ZeroMatrix(300, 2);
+
+        Matrix r1 = roundTrip(m1), r2 = roundTrip(m2), r3 = roundTrip(m3);
+
+        assertAll(
+                () -> assertEquals("DiagonalMatrix", r1.getClass().getSimpleName()),
+                () -> assertArrayEquals(new double[]{1, 2, 3, 4}, r1.getDiagonalEntries()),
+                () -> assertEquals(16 + 4 * 8, length(m1)),
+                () -> assertEquals("IdentityMatrix", r2.getClass().getSimpleName()),
+                () -> assertArrayEquals(new int[]{1000, 1000}, r2.size()),
+                () -> assertEquals(16, length(m2)),
+                () -> assertEquals("ZeroMatrix", r3.getClass().getSimpleName()),
+                () -> assertArrayEquals(new int[]{300, 2}, r3.size()),
+                () -> assertEquals(16, length(m3))
+        );
+    }
+
+    @Test
+    void large() throws IOException {
+        Matrix m1 = new ZeroMatrix(100_000, 100_000);
+        Matrix m2 = new IdentityMatrix(100_000);
+        var d = new double[100_000];
+        Arrays.fill(d, 2);
+        Matrix m3 = new DiagonalMatrix(d);
+
+        assertAll(
+                () -> assertEquals(m1, roundTrip(m1)),
+                () -> assertEquals(m2, roundTrip(m2)),
+                () -> assertEquals(m3, roundTrip(m3))
+        );
+    }
+
+    @Test
+    void stream() throws IOException {
+        var n = new double[500 * 300];
+        for (int i = 0; i < n.length; i++)
+            n[i] = i * 0.5;
+
+        Matrix m = new AnyRectangularMatrix(n, 500, 300);
+        var o = new ByteArrayOutputStream();
+        BinaryMatrixFormat.write(m, Channels.newChannel(o));
+
+        Matrix r = BinaryMatrixFormat.read(Channels.newChannel(new ByteArrayInputStream(o.toByteArray())));
+        assertArrayEquals(n, r.toArray());
+    }
+
+    @Test
+    void invalid() throws IOException {
+        var o = new ByteArrayOutputStream();
+        BinaryMatrixFormat.write(new AnySquareMatrix(new double[]{1, 2, 3, 4}), Channels.newChannel(o));
+        var b = o.toByteArray();
+
+        var c1 = b.clone();
+        c1[0] = 'X';
+        var c2 = Arrays.copyOf(b, b.length - 8);
+
+        assertAll(
+                () -> assertThrows(InvalidMatrixFormatException.class,
+                        () -> BinaryMatrixFormat.read(Channels.newChannel(new ByteArrayInputStream(c1)))),
+                () -> assertThrows(InvalidMatrixFormatException.class,
+                        () -> BinaryMatrixFormat.read(Channels.newChannel(new ByteArrayInputStream(c2))))
+        );
+    }
+}
@@ -0,0 +1,116 @@
+package com.katpara.follium.io;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.exceptions.io.InvalidMatrixFormatException;
+import com.katpara.follium.linear.Matrix;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvMatrixReaderTest {
+
+    private static Matrix read(final String s, final char d, final boolean parallel) throws IOException {
+        Path p = Files.createTempFile("follium", ".csv");
+        try {
+            Files.write(p, s.getBytes(StandardCharsets.US_ASCII));
+            return CsvMatrixReader.read(p, d, parallel);
+        } finally {
+            Files.deleteIfExists(p);
+        }
+    }
+
+    private static Matrix stream(final String s) throws IOException {
+        return CsvMatrixReader.read(Channels.newChannel(
+                new ByteArrayInputStream(s.getBytes(StandardCharsets.US_ASCII))), ',');
+    }
+
+    @Test
+    void dense() throws IOException {
+        var s = "1, 2.5, -3\r\n4e2,+5,6.25E-1\n\n  7,8,9  \n";
+        var a = new double[]{1, 2.5, -3, 400, 5, 0.625, 7, 8, 9};
+
+        Matrix m1 = read(s, ',', false), m2 = read(s, ',', true), m3 = stream(s);
+        Matrix m4 = read("1;2\n3;4\n5;6", ';', false);
+
+        assertAll(
+                () -> assertEquals("AnySquareMatrix", m1.getClass().getSimpleName()),
+                () -> assertArrayEquals(a, m1.toArray()),
+                () -> assertArrayEquals(a, m2.toArray()),
+                () -> assertArrayEquals(a, m3.toArray()),
+                () -> assertEquals("AnyRectangularMatrix", m4.getClass().getSimpleName()),
+                () -> assertArrayEquals(new int[]{3, 2}, m4.size()),
+                () -> assertArrayEquals(new double[]{1, 2, 3, 4, 5, 6}, m4.toArray())
+        );
+    }
+
+    @Test
+    void numbers() throws IOException {
+        var s = "0.1,1e-5,123456789012345678901234,0.30000000000000004,-0.0,NaN,-Infinity,1.7976931348623157E308\n";
+        var m = stream(s).toArray();
+
+        assertAll(
+                () -> assertEquals(0.1, m[0]),
+                () -> assertEquals(1e-5, m[1]),
+                () -> assertEquals(123456789012345678901234.0, m[2]),
+                () -> assertEquals(0.30000000000000004, m[3]),
+                () -> assertEquals(-0.0, m[4]),
+                () -> assertTrue(Double.isNaN(m[5])),
+                () -> assertEquals(Double.NEGATIVE_INFINITY, m[6]),
+                () -> assertEquals(Double.MAX_VALUE, m[7])
+        );
+    }
+
+    @Test
+    void structure() throws IOException {
+        Matrix m1 = read("0,0\n0,0\n0,0\n", ',', false);
+        Matrix m2 = read("2,0,0\n0,3,0\n0,0,4\n", ',', false);
+        Matrix m3 = stream("1,0\n0,1\n");
+
+        assertAll(
+                () -> assertEquals("ZeroMatrix", m1.getClass().getSimpleName()),
+                () -> assertArrayEquals(new int[]{3, 2}, m1.size()),
+                () -> assertEquals("DiagonalMatrix", m2.getClass().getSimpleName()),
+                () -> assertArrayEquals(new double[]{2, 3, 4}, m2.getDiagonalEntries()),
+                () -> assertEquals("IdentityMatrix", m3.getClass().getSimpleName())
+        );
+    }
+
+    @Test
+    void parallel() throws IOException {
+        int r = 3000, c = 40;
+        var sb = new StringBuilder();
+        var a = new double[r * c];
+        for (int i = 0; i < r; i++) {
+            for (int j = 0; j < c; j++) {
+                a[i * c + j] = (i * 31 + j * 7) % 1000 / 8.0;
+                if (j > 0) sb.append(',');
+                sb.append(a[i * c + j]);
+            }
+            sb.append('\n');
+        }
+
+        Matrix m = read(sb.toString(), ',', true);
+        assertAll(
+                () -> assertArrayEquals(new int[]{r, c}, m.size()),
+                () -> assertArrayEquals(a, m.toArray())
+        );
+    }
+
+    @Test
+    void invalid() {
+        assertAll(
+                () -> assertThrows(InvalidMatrixFormatException.class, () -> read("1,2\n3\n", ',', false)),
+                () -> assertThrows(InvalidMatrixFormatException.class, () -> read("1,2\n3,x\n", ',', false)),
+                () -> assertThrows(InvalidMatrixFormatException.class, () -> stream("1,2\n3,4,5\n")),
+                () -> assertThrows(InvalidMatrixFormatException.class, () -> read("\n\n", ',', false)),
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> read("1 2", ' ', false))
+        );
+    }
+}
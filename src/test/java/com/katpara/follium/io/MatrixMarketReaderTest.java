@@ -0,0 +1,122 @@
+package com.katpara.follium.io;
+
+import com.katpara.follium.exceptions.io.InvalidMatrixFormatException;
+import com.katpara.follium.linear.Matrix;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatrixMarketReaderTest {
+
+    private static Matrix read(final String s) throws IOException {
+        return MatrixMarketReader.read(Channels.newChannel(
+                new ByteArrayInputStream(s.getBytes(StandardCharsets.US_ASCII))));
+    }
+
+    @Test
+    void coordinate() throws IOException {
+        Matrix m1 = read("%%MatrixMarket matrix coordinate real general\n"
+                                 + "% a comment\n"
+                                 + "%\n"
+                                 + "2 3 3\n"
+                                 + "1 1 1.5\n"
+                                 + "2 3 -2\n"
+                                 + "1 2 4e1\n");
+
+        Matrix m2 = read("%%MatrixMarket matrix coordinate integer symmetric\n"
+                                 + "3 3 3\n"
+                                 + "1 1 1\n"
+                                 + "3 1 5\n"
+                                 + "2 2 2\n");
+
+        Matrix m3 = read("%%MatrixMarket matrix coordinate pattern skew-symmetric\n"
+                                 + "2 2 1\n"
+                                 + "2 1\n");
+
+        assertAll(
+                () -> assertEquals("AnyRectangularMatrix", m1.getClass().getSimpleName()),
+                () -> assertArrayEquals(new double[]{1.5, 40, 0, 0, 0, -2}, m1.toArray()),
+                () -> assertArrayEquals(new double[]{1, 0, 5, 0, 2, 0, 5, 0, 0}, m2.toArray()),
+                () -> assertArrayEquals(new double[]{0, -1, 1, 0}, m3.toArray())
+        );
+    }
+
+    @Test
+    void structure() throws IOException {
+        Matrix m1 = read("%%MatrixMarket matrix coordinate real general\n"
+                                 + "3 3 3\n"
+                                 + "1 1 2\n"
+                                 + "2 2 3\n"
+                                 + "3 3 4\n");
+
+        Matrix m2 = read("%%MatrixMarket matrix coordinate real general\n"
+                                 + "2 2 2\n"
+                                 + "1 1 1\n"
+                                 + "2 2 1\n");
+
+        Matrix m3 = read("%%MatrixMarket matrix coordinate real general\n"
+                                 + "4 2 0\n");
+
+        Matrix m4 = read("%%MatrixMarket matrix coordinate real symmetric\n"
+                                 + "100000 100000 2\n"
+                                 + "1 1 5\n"
+                                 + "100000 100000 6\n");
+
+        assertAll(
+                () -> assertEquals("DiagonalMatrix", m1.getClass().getSimpleName()),
+                () -> assertArrayEquals(new double[]{2, 3, 4}, m1.getDiagonalEntries()),
+                () -> assertEquals("IdentityMatrix", m2.getClass().getSimpleName()),
+                () -> assertEquals("ZeroMatrix", m3.getClass().getSimpleName()),
+                () -> assertArrayEquals(new int[]{4, 2}, m3.size()),
+                () -> assertEquals("DiagonalMatrix", m4.getClass().getSimpleName()),
+                () -> assertEquals(6, m4.get(99_999, 99_999))
+        );
+    }
+
+    @Test
+    void array() throws IOException {
+        Matrix m1 = read("%%MatrixMarket matrix array real general\n"
+                                 + "2 3\n"
+                                 + "1\n2\n3\n4\n5\n6\n");
+
+        Matrix m2 = read("%%MatrixMarket matrix array real symmetric\n"
+                                 + "2 2\n"
+                                 + "1\n2\n3\n");
+
+        assertAll(
+                () -> assertArrayEquals(new double[]{1, 3, 5, 2, 4, 6}, m1.toArray()),
+                () -> assertArrayEquals(new double[]{1, 2, 2, 3}, m2.toArray())
+        );
+    }
+
+    @Test
+    void file() throws IOException {
+        Path p = Files.createTempFile("follium", ".mtx");
+        try {
+            Files.write(p, ("%%MatrixMarket matrix coordinate real general\n"
+                                    + "2 2 2\n"
+                                    + "1 2 7\n"
+                                    + "2 1 8\n").getBytes(StandardCharsets.US_ASCII));
+            assertArrayEquals(new double[]{0, 7, 8, 0}, MatrixMarketReader.read(p).toArray());
+        } finally {
+            Files.deleteIfExists(p);
+        }
+    }
+
+    @Test
+    void invalid() {
+        assertAll(
+                () -> assertThrows(InvalidMatrixFormatException.class, () -> read("%%Matrix matrix array real general\n1 1\n1\n")),
+                () -> assertThrows(InvalidMatrixFormatException.class, () -> read("%%MatrixMarket matrix array complex general\n1 1\n1 1\n")),
+                () -> assertThrows(InvalidMatrixFormatException.class, () -> read("%%MatrixMarket matrix coordinate real general\n2 2 1\n3 1 1\n")),
+                () -> assertThrows(InvalidMatrixFormatException.class, () -> read("%%MatrixMarket matrix coordinate real general\n2 2 2\n1 1 1\n"))
+        );
+    }
+}
@@ -0,0 +1,195 @@
+package com.katpara.follium.io;
+
+import com.katpara.follium.exceptions.io.InvalidMatrixFormatException;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NumpyFormatTest {
+
+    private static byte[] npy(final int version, final String header, final ByteBuffer payload) {
+        var h = header.getBytes(StandardCharsets.US_ASCII);
+        var w = version == 1 ? 2 : 4;
+        var b = ByteBuffer.allocate(8 + w + h.length + payload.limit()).order(ByteOrder.LITTLE_ENDIAN);
+        b.put(new byte[]{(byte) 0x93, 'N', 'U', 'M', 'P', 'Y', (byte) version, 0});
+        if (version == 1) b.putShort((short) h.length);
+        else b.putInt(h.length);
+        b.put(h).put(payload.rewind());
+        return b.array();
+    }
+
+    private static Matrix read(final byte[] n) throws IOException {
+        return NumpyFormat.read(Channels.newChannel(new ByteArrayInputStream(n)));
+    }
+
+    private static Matrix readFile(final byte[] n) throws IOException {
+        Path p = Files.createTempFile("follium", ".npy");
+        try {
+            Files.write(p, n);
+            return NumpyFormat.read(p);
+        } finally {
+            Files.deleteIfExists(p);
+        }
+    }
+
+    @Test
+    void roundTrip() throws IOException {
+        Matrix m1 = new AnySquareMatrix(new double[][]{
+                {1.5, 2, 3},
+                {4, -5.25, 6},
+                {7, 8, 1e-300}
+        });
+
+        Matrix m2 = new AnyRectangularMatrix(new double[][]{
+                {0, 1, 2, 3},
+                {1, 2, 3, 4}
+        });
+
+        Path p = Files.createTempFile("follium", ".npy");
+        try {
+            NumpyFormat.write(m1, p);
+            var r1 = NumpyFormat.read(p);
+            var l1 = Files.size(p);
+
+            var o = new ByteArrayOutputStream();
+            NumpyFormat.write(m2, Channels.newChannel(o));
+            var r2 = read(o.toByteArray());
+            var t = new String(o.toByteArray(), 10, 118, StandardCharsets.US_ASCII);
+
+            NumpyFormat.write(new IdentityMatrix(2), p);
+            var r3 = NumpyFormat.read(p);
+
+            assertAll(
+                    () -> assertEquals("AnySquareMatrix", r1.getClass().getSimpleName()),
+                    () -> assertArrayEquals(m1.toArray(), r1.toArray()),
+                    () -> assertEquals(128 + 9 * 8, l1),
+                    () -> assertEquals("AnyRectangularMatrix", r2.getClass().getSimpleName()),
+                    () -> assertArrayEquals(new int[]{2, 4}, r2.size()),
+                    () -> assertArrayEquals(m2.toArray(), r2.toArray()),
+                    () -> assertTrue(t.contains("'descr': '<f8', 'fortran_order': False, 'shape': (2, 4)")),
+                    () -> assertEquals("AnySquareMatrix", r3.getClass().getSimpleName()),
+                    () -> assertArrayEquals(new double[]{1, 0, 0, 1}, r3.toArray())
+            );
+        } finally {
+            Files.deleteIfExists(p);
+        }
+    }
+
+    @Test
+    void layouts() throws IOException {
+        var fortran = ByteBuffer.allocate(6 * 8).order(ByteOrder.LITTLE_ENDIAN);
+        for (final double _d : new double[]{1, 4, 2, 5, 3, 6})
+            fortran.putDouble(_d);
+
+        var single = ByteBuffer.allocate(4 * 4).order(ByteOrder.BIG_ENDIAN);
+        for (final float _f : new float[]{1.5f, 2, 3, 4})
+            single.putFloat(_f);
+
+        var vector = ByteBuffer.allocate(3 * 4).order(ByteOrder.LITTLE_ENDIAN);
+        for (final float _f : new float[]{1, 2, 3})
+            vector.putFloat(_f);
+
+        var scalar = ByteBuffer.allocate(8).order(ByteOrder.BIG_ENDIAN).putDouble(42);
+
+        var m1 = readFile(npy(1, "{'descr': '<f8', 'fortran_order': True, 'shape': (2, 3), }\n", fortran));
+        var m2 = read(npy(2, "{'descr': '>f4', 'fortran_order': False, 'shape': (2, 2), }\n", single));
+        var m3 = readFile(npy(3, "{\"descr\": \"<f4\", \"fortran_order\": True, \"shape\": (3,)}\n", vector));
+        var m4 = read(npy(1, "{'descr': '>f8', 'fortran_order': False, 'shape': (), }\n", scalar));
+
+        assertAll(
+                () -> assertArrayEquals(new int[]{2, 3}, m1.size()),
+                () -> assertArrayEquals(new double[]{1, 2, 3, 4, 5, 6}, m1.toArray()),
+                () -> assertEquals("AnySquareMatrix", m2.getClass().getSimpleName()),
+                () -> assertArrayEquals(new double[]{1.5, 2, 3, 4}, m2.toArray()),
+                () -> assertArrayEquals(new int[]{1, 3}, m3.size()),
+                () -> assertArrayEquals(new double[]{1, 2, 3}, m3.toArray()),
+                () -> assertArrayEquals(new double[]{42}, m4.toArray())
+        );
+    }
+
+    @Test
+    void fortranBlocks() throws IOException {
+        int r = 150, c = 97;
+        var b = ByteBuffer.allocate(r * c * 4).order(ByteOrder.LITTLE_ENDIAN);
+        for (int j = 0; j < c; j++)
+            for (int i = 0; i < r; i++)
+                b.putFloat(i * 1000 + j);
+
+        var m = readFile(npy(1, "{'descr': '<f4', 'fortran_order': True, 'shape': (150, 97), }\n", b));
+        var e = m.toArray();
+        var expected = new double[r * c];
+        for (int i = 0; i < r; i++)
+            for (int j = 0; j < c; j++)
+                expected[i * c + j] = i * 1000 + j;
+
+        assertArrayEquals(expected, e);
+    }
+
+    @Test
+    void archive() throws IOException {
+        var a = ByteBuffer.allocate(4 * 8).order(ByteOrder.LITTLE_ENDIAN);
+        for (final double _d : new double[]{1, 2, 3, 4})
+            a.putDouble(_d);
+
+        var o = new ByteArrayOutputStream();
+        NumpyFormat.write(new AnyRectangularMatrix(new double[][]{{1, 2, 3}, {4, 5, 6}}), Channels.newChannel(o));
+
+        Path p = Files.createTempFile("follium", ".npz");
+        try {
+            try (var z = new ZipOutputStream(Files.newOutputStream(p))) {
+                z.putNextEntry(new ZipEntry("weights.npy"));
+                z.write(npy(1, "{'descr': '<f8', 'fortran_order': False, 'shape': (2, 2), }\n", a));
+                z.closeEntry();
+                z.putNextEntry(new ZipEntry("bias.npy"));
+                z.write(o.toByteArray());
+                z.closeEntry();
+            }
+
+            var n = NumpyFormat.readArchive(p);
+
+            assertAll(
+                    () -> assertArrayEquals(new String[]{"weights", "bias"}, n.keySet().toArray(new String[0])),
+                    () -> assertArrayEquals(new double[]{1, 2, 3, 4}, n.get("weights").toArray()),
+                    () -> assertArrayEquals(new double[]{1, 2, 3, 4, 5, 6}, n.get("bias").toArray())
+            );
+        } finally {
+            Files.deleteIfExists(p);
+        }
+    }
+
+    @Test
+    void invalid() {
+        var b = ByteBuffer.allocate(8);
+
+        assertAll(
+                () -> assertThrows(InvalidMatrixFormatException.class,
+                        () -> read("not a numpy file".getBytes(StandardCharsets.US_ASCII))),
+                () -> assertThrows(InvalidMatrixFormatException.class,
+                        () -> read(npy(1, "{'descr': '<i8', 'fortran_order': False, 'shape': (1, 1), }\n", b))),
+                () -> assertThrows(InvalidMatrixFormatException.class,
+                        () -> read(npy(1, "{'descr': '<f8', 'fortran_order': False, 'shape': (1, 1, 1), }\n", b))),
+                () -> assertThrows(InvalidMatrixFormatException.class,
+                        () -> read(npy(1, "{'descr': '<f8', 'fortran_order': False, 'shape': (2, 2), }\n", b))),
+                () -> assertThrows(InvalidMatrixFormatException.class,
+                        () -> readFile(npy(1, "{'descr': '<f8', 'fortran_order': False, 'shape': (2, 2), }\n", b))),
+                () -> assertThrows(InvalidMatrixFormatException.class,
+                        () -> read(npy(1, "{'descr': '<f8', 'shape': (1, 1), }\n", b)))
+        );
+    }
+}
@@ -0,0 +1,65 @@
+package com.katpara.follium.linear;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DenseVectorTest {
+
+    @Test
+    void create() {
+        var v = new DenseVector(1, 2, 3);
+
+        assertAll(
+                () -> assertEquals(3, v.size()),
+                () -> assertEquals(2, v.get(1)),
+                () -> assertArrayEquals(new double[]{1, 2, 3}, v.toArray()),
+                () -> assertEquals(v, DenseVector.of(new AnyRectangularMatrix(new double[][]{{1, 2, 3}}))),
+                () -> assertEquals(v, DenseVector.of(new AnyRectangularMatrix(new double[][]{{1}, {2}, {3}}))),
+                () -> assertEquals(new AnyRectangularMatrix(new double[][]{{1}, {2}, {3}}), v.toColumnMatrix()),
+                () -> assertEquals(new DenseVector(3), new DenseVector(0, 0, 0)),
+                () -> assertThrows(InvalidMatrixDimensionProvidedException.class, () -> new DenseVector(0)),
+                () -> assertThrows(InvalidMatrixDimensionProvidedException.class,
+                        () -> DenseVector.of(new AnySquareMatrix(new double[][]{{1, 2}, {3, 4}}))),
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> v.get(3))
+        );
+    }
+
+    @Test
+    void inPlace() {
+        var v = new DenseVector(1, 2, 3);
+        var x = new DenseVector(1, 1, 1);
+
+        assertAll(
+                () -> assertEquals(new DenseVector(3, 4, 5), v.axpy(2, x)),
+                () -> assertEquals(new DenseVector(7, 9, 11), v.xpby(x, 2)),
+                () -> assertEquals(new DenseVector(-7, -9, -11), v.scale(-1)),
+                () -> assertEquals(x, v.assign(x)),
+                () -> assertEquals(new DenseVector(5, 5, 5), v.fill(5)),
+                () -> assertThrows(MatrixDimensionMismatchException.class, () -> v.axpy(1, new DenseVector(2)))
+        );
+    }
+
+    @Test
+    void reductions() {
+        var v = new DenseVector(3, -4, 0, 12, 0);
+        var big = new DenseVector(3e200, 4e200);
+        var small = new DenseVector(3e-200, 4e-200);
+
+        assertAll(
+                () -> assertEquals(169, v.dot(v)),
+                () -> assertEquals(-1, v.dot(new DenseVector(1, 1, 0, 0, 0))),
+                () -> assertEquals(19, v.norm1()),
+                () -> assertEquals(13, v.norm2()),
+                () -> assertEquals(12, v.normInf()),
+                () -> assertEquals(5e200, big.norm2(), 1e186),
+                () -> assertEquals(5e-200, small.norm2(), 1e-214),
+                () -> assertEquals(0, new DenseVector(4).norm2())
+        );
+    }
+}
@@ -0,0 +1,159 @@
+package com.katpara.follium.linear;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ElementsTest {
+
+    @Test
+    void fingerprint() {
+        Matrix m1 = new AnySquareMatrix(new double[][]{{1, 0, 0}, {0, 5, 0}, {0, 0, 9}});
+        Matrix m2 = new DiagonalMatrix(new double[]{1, 5, 9});
+        Matrix m3 = new IdentityMatrix(3);
+        Matrix m4 = new AnySquareMatrix(new double[]{1, 0, 0, 0, 1, 0, 0, 0, 1});
+        Matrix m5 = new ZeroMatrix(2, 3);
+        Matrix m6 = new AnyRectangularMatrix(new double[6], 2, 3);
+        Matrix m7 = new AnyRectangularMatrix(new double[6], 3, 2);
+        Matrix m8 = new AnySquareMatrix(new double[][]{{0, 1, 0}, {1, 5, 0}, {0, 0, 9}});
+
+        assertAll(
+                () -> assertEquals(m1.fingerprint(), m2.fingerprint()),
+                () -> assertEquals(m3.fingerprint(), m4.fingerprint()),
+                () -> assertEquals(m5.fingerprint(), m6.fingerprint()),
+                () -> assertNotEquals(m6.fingerprint(), m7.fingerprint()),
+                () -> assertNotEquals(m1.fingerprint(), m8.fingerprint()),
+                () -> assertEquals(m1.hashCode(), m2.hashCode()),
+                () -> assertEquals(m1.fingerprint(), m1.fingerprint())
+        );
+    }
+
+    @Test
+    void equals() {
+        Matrix m1 = new AnySquareMatrix(new double[][]{{1, 0}, {0, 1}});
+        Matrix m2 = new IdentityMatrix(2);
+        Matrix m3 = new DiagonalMatrix(new double[]{1, 1});
+        Matrix m4 = new AnySquareMatrix(new double[][]{{1, 0}, {-0.0, 1}});
+        Matrix m5 = new AnySquareMatrix(new double[][]{{Double.NaN, 2}, {3, 4}});
+        Matrix m6 = new AnySquareMatrix(new double[][]{{Double.NaN, 2}, {3, 4}});
+        Matrix m7 = new ZeroMatrix(2, 3);
+        Matrix m8 = new AnyRectangularMatrix(new double[][]{{0, 0, 0}, {0, 0, 1e-300}});
+
+        assertAll(
+                () -> assertEquals(m1, m2),
+                () -> assertEquals(m2, m1),
+                () -> assertEquals(m2, m3),
+                () -> assertEquals(m3, m1),
+                () -> assertEquals(m1, m4),
+                () -> assertEquals(m1.fingerprint(), m4.fingerprint()),
+                () -> assertEquals(m5, m6),
+                () -> assertNotEquals(m7, m8),
+                () -> assertNotEquals(m1, new ZeroMatrix(2)),
+                () -> assertNotEquals(m1, "matrix"),
+                () -> assertNotEquals(m1, null)
+        );
+    }
+
+    @Test
+    void keys() {
+        var cache = new HashMap<Matrix, String>();
+        cache.put(new AnySquareMatrix(new double[][]{{2, 0}, {0, 3}}), "diagonal");
+        cache.put(new IdentityMatrix(3), "identity");
+
+        assertAll(
+                () -> assertEquals("diagonal", cache.get(new DiagonalMatrix(new double[]{2, 3}))),
+                () -> assertEquals("identity", cache.get(new DiagonalMatrix(new double[]{1, 1, 1}))),
+                () -> assertNull(cache.get(new DiagonalMatrix(new double[]{3, 2})))
+        );
+    }
+
+    @Test
+    void subtract() {
+        Matrix m1 = new AnySquareMatrix(new double[][]{{1, 2}, {3, 4}});
+        Matrix m2 = new AnySquareMatrix(new double[][]{{1, 2}, {3, 4}});
+        Matrix m3 = new AnySquareMatrix(new double[][]{{1, 2}, {3, 5}});
+
+        assertAll(
+                () -> assertEquals("ZeroMatrix", m1.subtract(m1).getClass().getSimpleName()),
+                () -> assertEquals("ZeroMatrix", m1.subtract(m2).getClass().getSimpleName()),
+                () -> assertEquals(new AnySquareMatrix(new double[]{0, 0, 0, -1}), m1.subtract(m3))
+        );
+    }
+
+    @Test
+    void approximatelyEquals() {
+        Matrix m1 = new AnySquareMatrix(new double[][]{{1, 2}, {3, 4}});
+        Matrix m2 = new AnySquareMatrix(new double[][]{{1 + 1e-10, 2}, {3, 4 - 1e-10}});
+        Matrix m3 = new AnySquareMatrix(new double[][]{{1000, 0}, {0, 1}});
+        Matrix m4 = new AnySquareMatrix(new double[][]{{1001, 0}, {0, 1}});
+        Matrix m5 = new AnyRectangularMatrix(new double[][]{{1, 2, 3}, {4, 5, 6}});
+
+        var l = new double[1000];
+        for (int i = 0; i < l.length; i++) l[i] = i;
+        var k = l.clone();
+        k[999] += 1;
+        Matrix m6 = new AnyRectangularMatrix(l, 10, 100);
+        Matrix m7 = new AnyRectangularMatrix(k, 10, 100);
+
+        assertAll(
+                () -> assertTrue(m1.approximatelyEquals(m2, 1e-9, 0)),
+                () -> assertFalse(m1.approximatelyEquals(m2, 1e-11, 0)),
+                () -> assertTrue(m3.approximatelyEquals(m4, 0, 1e-3)),
+                () -> assertFalse(m3.approximatelyEquals(m4, 0, 1e-4)),
+                () -> assertFalse(m1.approximatelyEquals(m5, 1, 1)),
+                () -> assertTrue(m6.approximatelyEquals(m7, 1, 0)),
+                () -> assertFalse(m6.approximatelyEquals(m7, 0.5, 0)),
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> m1.approximatelyEquals(m2, -1, 0)),
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> m1.approximatelyEquals(m2, 0, Double.NaN)),
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> m1.approximatelyEquals(m2, -1))
+        );
+    }
+
+    @Test
+    void approximatelyEqualsStructured() {
+        Matrix m1 = new AnySquareMatrix(new double[][]{{1 + 1e-12, 1e-13}, {0, 1}});
+        Matrix m2 = new IdentityMatrix(2);
+        Matrix m3 = new DiagonalMatrix(new double[]{1, 1 - 1e-12});
+        Matrix m4 = new ZeroMatrix(2, 3);
+        Matrix m5 = new AnyRectangularMatrix(new double[][]{{0, 1e-9, 0}, {0, 0, 0}});
+
+        assertAll(
+                () -> assertTrue(m1.approximatelyEquals(m2, 1e-11, 0)),
+                () -> assertTrue(m2.approximatelyEquals(m1, 1e-11, 0)),
+                () -> assertFalse(m2.approximatelyEquals(m1, 1e-13, 0)),
+                () -> assertTrue(m2.approximatelyEquals(m3, 1e-11, 0)),
+                () -> assertTrue(m3.approximatelyEquals(m1, 1e-11, 0)),
+                () -> assertTrue(m4.approximatelyEquals(m5, 1e-8, 0)),
+                () -> assertFalse(m5.approximatelyEquals(m4, 1e-10, 0.5)),
+                () -> assertFalse(m2.approximatelyEquals(new ZeroMatrix(2), 0.5, 0))
+        );
+    }
+
+    @Test
+    void approximatelyEqualsUlps() {
+        var a = 1.0;
+        var b = Math.nextUp(Math.nextUp(a));
+        Matrix m1 = new AnySquareMatrix(new double[]{a, 0, -0.0, Double.POSITIVE_INFINITY});
+        Matrix m2 = new AnySquareMatrix(new double[]{b, -0.0, Double.MIN_VALUE, Double.POSITIVE_INFINITY});
+        Matrix m3 = new AnySquareMatrix(new double[]{Double.NaN, 0, 0, 1});
+        Matrix m4 = new AnySquareMatrix(new double[]{-Double.MAX_VALUE, 0, 0, 1});
+        Matrix m5 = new AnySquareMatrix(new double[]{Double.MAX_VALUE, 0, 0, 1});
+
+        assertAll(
+                () -> assertTrue(m1.approximatelyEquals(m2, 2)),
+                () -> assertFalse(m1.approximatelyEquals(m2, 1)),
+                () -> assertFalse(m3.approximatelyEquals(m3, Integer.MAX_VALUE)),
+                () -> assertFalse(m4.approximatelyEquals(m5, Integer.MAX_VALUE)),
+                () -> assertTrue(new IdentityMatrix(2).approximatelyEquals(
+                        new DiagonalMatrix(new double[]{Math.nextDown(1.0), 1}), 1))
+        );
+    }
+}
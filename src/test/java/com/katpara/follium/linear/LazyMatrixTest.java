@@ -0,0 +1,84 @@
+package com.katpara.follium.linear;
+
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyMatrixTest {
+
+    @Test
+    void fused() {
+        var e = new double[3000];
+        for (int i = 0; i < e.length; i++) e[i] = i;
+        Matrix a = new AnyRectangularMatrix(e, 30, 100);
+        Matrix b = a.add(a);
+        Matrix c = new AnyRectangularMatrix(new double[3000], 30, 100).add(new ZeroMatrix(30, 100));
+
+        var l = LazyMatrix.of(a).add(b).subtract(c).getAdditiveInverse();
+        var expected = a.add(b).subtract(c).getAdditiveInverse();
+
+        assertAll(
+                () -> assertEquals(expected, l),
+                () -> assertEquals(l, expected),
+                () -> assertEquals(expected.hashCode(), l.hashCode()),
+                () -> assertEquals(-3 * 2999, l.get(29, 99)),
+                () -> assertSame(l.evaluate(), l.evaluate()),
+                () -> assertEquals("AnyRectangularMatrix", l.evaluate().getClass().getSimpleName())
+        );
+    }
+
+    @Test
+    void structured() {
+        Matrix a = new AnySquareMatrix(new double[][]{{1, 2}, {3, 4}});
+        Matrix d = new DiagonalMatrix(new double[]{5, 6});
+        Matrix i = new IdentityMatrix(2);
+
+        var l1 = LazyMatrix.of(a).add(d).subtract(i).scale(2);
+        var l2 = LazyMatrix.of(d).add(i).add(new ZeroMatrix(2));
+        var l3 = LazyMatrix.of(a).subtract(a);
+
+        assertAll(
+                () -> assertEquals(new AnySquareMatrix(new double[][]{{10, 4}, {6, 18}}), l1),
+                () -> assertEquals(new DiagonalMatrix(new double[]{6, 7}), l2),
+                () -> assertEquals("DiagonalMatrix", l2.evaluate().getClass().getSimpleName()),
+                () -> assertEquals("ZeroMatrix", l3.evaluate().getClass().getSimpleName()),
+                () -> assertEquals(a.multiply(a).multiply(i.add(i)), LazyMatrix.of(a).add(a).multiply(a)),
+                () -> assertThrows(MatrixDimensionMismatchException.class, () -> LazyMatrix.of(a).add(new IdentityMatrix(3)))
+        );
+    }
+
+    @Test
+    void rectangularZeros() {
+        var z = LazyMatrix.of(new ZeroMatrix(2, 3)).evaluate();
+        var s = LazyMatrix.of(new ZeroMatrix(3, 2)).scale(2).evaluate();
+        var a = new AnyRectangularMatrix(new double[]{1, 2, 3, 4, 5, 6}, 3, 2);
+
+        assertAll(
+                () -> assertTrue(z instanceof ZeroMatrix),
+                () -> assertArrayEquals(new int[]{2, 3}, z.size()),
+                () -> assertTrue(s instanceof ZeroMatrix),
+                () -> assertArrayEquals(new int[]{3, 2}, s.size()),
+                () -> assertEquals(a, LazyMatrix.of(new ZeroMatrix(3, 2)).add(a).evaluate())
+        );
+    }
+
+    @Test
+    void evaluateInto() {
+        var m = new MutableMatrix(new double[]{1, 2, 3, 4}, 2, 2);
+        Matrix b = new AnySquareMatrix(new double[][]{{1, 1}, {1, 1}});
+
+        LazyMatrix.of(b).subtract(m).add(new IdentityMatrix(2)).evaluateInto(m);
+
+        assertAll(
+                () -> assertEquals(new AnySquareMatrix(new double[][]{{1, -1}, {-2, -2}}), m),
+                () -> assertThrows(MatrixDimensionMismatchException.class,
+                        () -> LazyMatrix.of(b).evaluateInto(new MutableMatrix(2, 3)))
+        );
+    }
+}
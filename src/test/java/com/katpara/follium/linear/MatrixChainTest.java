@@ -0,0 +1,76 @@
+package com.katpara.follium.linear;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatrixChainTest {
+
+    private static double[] random(final int n, final long seed) {
+        var r = new Random(seed);
+        var e = new double[n];
+        for (int i = 0; i < n; i++) e[i] = r.nextInt(7) - 3;
+        return e;
+    }
+
+    @Test
+    void vector() {
+        Matrix a = new AnySquareMatrix(random(100, 1));
+        Matrix b = new AnySquareMatrix(random(100, 2));
+        Matrix c = new AnySquareMatrix(random(100, 3));
+        Matrix v = new AnyRectangularMatrix(random(10, 4), 10, 1);
+        var chain = MatrixChain.of(a, b).multiply(c).multiply(v);
+
+        assertAll(
+                () -> assertEquals("(M0 (M1 (M2 M3)))", chain.parenthesization()),
+                () -> assertEquals(2 * 300, chain.estimatedFlops()),
+                () -> assertEquals(2 * (1000 + 1000 + 100), chain.leftToRightFlops()),
+                () -> assertEquals(2 * 1800, chain.estimatedSavings()),
+                () -> assertEquals(a.multiply(b).multiply(c).multiply(v), chain.evaluate())
+        );
+    }
+
+    @Test
+    void classic() {
+        Matrix a = new AnyRectangularMatrix(random(10 * 30, 5), 10, 30);
+        Matrix b = new AnyRectangularMatrix(random(30 * 5, 6), 30, 5);
+        Matrix c = new AnyRectangularMatrix(random(5 * 60, 7), 5, 60);
+        var chain = MatrixChain.of(a, b, c);
+
+        assertAll(
+                () -> assertEquals("((M0 M1) M2)", chain.parenthesization()),
+                () -> assertEquals(2 * 4500, chain.estimatedFlops()),
+                () -> assertEquals(0, chain.estimatedSavings()),
+                () -> assertEquals(a.multiply(b).multiply(c), chain.evaluate())
+        );
+    }
+
+    @Test
+    void structured() {
+        Matrix a = new AnyRectangularMatrix(random(8 * 4, 8), 8, 4);
+        Matrix d = new DiagonalMatrix(new double[]{1, 2, 3, 4});
+        Matrix e = new DiagonalMatrix(new double[]{2, 2, 2, 2});
+        Matrix b = new AnyRectangularMatrix(random(4 * 8, 9), 4, 8);
+        var chain = MatrixChain.of(a, d, new IdentityMatrix(4), e, b);
+
+        var dense = a.multiply(new AnySquareMatrix(new double[]{2, 0, 0, 0, 0, 4, 0, 0, 0, 0, 6, 0, 0, 0, 0, 8})).multiply(b);
+
+        assertAll(
+                () -> assertEquals(dense, chain.evaluate()),
+                () -> assertEquals(2 * (4 + 32 + 256), chain.estimatedFlops()),
+                () -> assertEquals(new ZeroMatrix(8), MatrixChain.of(a, new ZeroMatrix(4), b).evaluate()),
+                () -> assertEquals(0, MatrixChain.of(a, new ZeroMatrix(4), b).estimatedFlops()),
+                () -> assertThrows(MatrixDimensionMismatchException.class, () -> MatrixChain.of(a, a)),
+                () -> assertThrows(InvalidParameterProvidedException.class, MatrixChain::of)
+        );
+    }
+}
@@ -0,0 +1,75 @@
+package com.katpara.follium.linear;
+
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import com.katpara.follium.linear.squares.BandMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+import com.katpara.follium.linear.squares.LowerTriangularMatrix;
+import com.katpara.follium.linear.squares.PermutationMatrix;
+import com.katpara.follium.linear.squares.SymmetricMatrix;
+import com.katpara.follium.linear.squares.TridiagonalMatrix;
+import com.katpara.follium.linear.squares.UpperTriangularMatrix;
+import com.katpara.follium.linear.squares.SquareMatrix;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatrixFactoryTest {
+
+    @Test
+    void of() {
+        var zero = MatrixFactory.of(new double[6], 2, 3);
+        var identity = MatrixFactory.of(new double[][]{{1, 0}, {0, 1}});
+        var diagonal = MatrixFactory.of(new double[][]{{1, 0}, {0, 2}});
+        var lower = MatrixFactory.of(new double[][]{{1, 0}, {3, 2}});
+        var dense = MatrixFactory.of(new double[][]{{1, 2}, {3, 2}});
+        var rectangular = MatrixFactory.of(new double[]{1, 0, 0, 0, 2, 0}, 2, 3);
+
+        assertAll(
+                () -> assertThrows(InvalidMatrixDimensionProvidedException.class, () -> MatrixFactory.of(new double[5], 2, 3)),
+                () -> assertThrows(InvalidMatrixDimensionProvidedException.class, () -> MatrixFactory.of(new double[][]{{1, 2}, {3}})),
+                () -> assertTrue(zero instanceof ZeroMatrix),
+                () -> assertArrayEquals(new int[]{2, 3}, zero.size()),
+                () -> assertTrue(identity instanceof IdentityMatrix),
+                () -> assertTrue(diagonal instanceof DiagonalMatrix),
+                () -> assertEquals(new AnySquareMatrix(new double[][]{{1, 0}, {0, 2}}), diagonal),
+                () -> assertTrue(lower instanceof LowerTriangularMatrix),
+                () -> assertEquals(new AnySquareMatrix(new double[][]{{1, 0}, {3, 2}}), lower),
+                () -> assertTrue(MatrixFactory.of(new double[]{1, 2, 0, 3}, 2, 2) instanceof UpperTriangularMatrix),
+                () -> assertTrue(dense instanceof AnySquareMatrix),
+                () -> assertFalse(((SquareMatrix) dense).isLowerTriangular()),
+                () -> assertTrue(rectangular instanceof AnyRectangularMatrix),
+                () -> assertTrue(rectangular.isDiagonal())
+        );
+    }
+
+    @Test
+    void compact() {
+        var dense = new AnySquareMatrix(new double[][]{{1, 2}, {3, 4}});
+        Matrix difference = new AnySquareMatrix(new double[][]{{5, 2}, {3, 4}}).subtract(dense);
+        var mutable = new MutableMatrix(new double[]{1, 0, 0, 1}, 2, 2);
+        var symmetric = new SymmetricMatrix(new double[]{1, 0, 2});
+        var lower = new LowerTriangularMatrix(new double[]{1, 0, 1});
+        var band = new BandMatrix(new double[]{0, 1, 0, 0, 1, 0}, 1, 1);
+        var tridiagonal = new TridiagonalMatrix(new double[]{0}, new double[]{1, 1}, new double[]{0});
+        var permutation = new PermutationMatrix(new int[]{0, 1});
+
+        assertAll(
+                () -> assertSame(dense, dense.compact()),
+                () -> assertTrue(difference.compact() instanceof DiagonalMatrix),
+                () -> assertEquals(difference, difference.compact()),
+                () -> assertTrue(mutable.compact() instanceof IdentityMatrix),
+                () -> assertTrue(new DiagonalMatrix(new double[]{0, 0}).compact() instanceof ZeroMatrix),
+                () -> assertTrue(new DiagonalMatrix(new double[]{1, 1}).compact() instanceof IdentityMatrix),
+                () -> assertTrue(dense.multiply(new ZeroMatrix(2)).compact() instanceof ZeroMatrix),
+                () -> assertSame(symmetric, symmetric.compact()),
+                () -> assertSame(lower, lower.compact()),
+                () -> assertSame(band, band.compact()),
+                () -> assertSame(tridiagonal, tridiagonal.compact()),
+                () -> assertSame(permutation, permutation.compact())
+        );
+    }
+}
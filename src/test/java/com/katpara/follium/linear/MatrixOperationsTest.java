@@ -0,0 +1,95 @@
+package com.katpara.follium.linear;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatrixOperationsTest {
+
+    @Test
+    void multiplyInto() {
+        Matrix m1 = new AnyRectangularMatrix(new double[][]{{1, 2, 3}, {4, 5, 6}});
+        Matrix m2 = new AnyRectangularMatrix(new double[][]{{1, 0}, {0, 1}, {2, -1}});
+        Matrix m3 = new DiagonalMatrix(new double[]{2, 3});
+        var dst = new MutableMatrix(2, 2);
+
+        assertAll(
+                () -> assertEquals(new AnySquareMatrix(new double[][]{{7, -1}, {16, -1}}), MatrixOperations.multiplyInto(m1, m2, dst)),
+                () -> assertEquals(new AnySquareMatrix(new double[][]{{14, -3}, {32, -3}}), MatrixOperations.multiplyInto(dst.toImmutable(), m3, dst)),
+                () -> assertEquals(new AnySquareMatrix(new double[][]{{2, 0}, {0, 3}}), MatrixOperations.multiplyInto(m3, new IdentityMatrix(2), dst)),
+                () -> assertEquals(new ZeroMatrix(2), MatrixOperations.multiplyInto(m1, new ZeroMatrix(3, 2), dst)),
+                () -> assertEquals(new AnyRectangularMatrix(new double[][]{{2, 4, 6}, {12, 15, 18}}),
+                        MatrixOperations.multiplyInto(m3, m1, new MutableMatrix(2, 3))),
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> MatrixOperations.multiplyInto(dst, dst, dst)),
+                () -> assertThrows(MatrixDimensionMismatchException.class, () -> MatrixOperations.multiplyInto(m1, m1, dst)),
+                () -> assertThrows(MatrixDimensionMismatchException.class, () -> MatrixOperations.multiplyInto(m1, m2, new MutableMatrix(3, 3)))
+        );
+    }
+
+    @Test
+    void matrixVector() {
+        var e = new double[600 * 7];
+        for (int i = 0; i < e.length; i++) e[i] = i % 11 - 5;
+        Matrix m1 = new AnyRectangularMatrix(e, 600, 7);
+        var x = new DenseVector(1, -2, 3, 0, 1, 2, -1);
+        var y = DenseVector.of(m1.multiply(x.toColumnMatrix()));
+        var z = new DenseVector(600);
+        for (int i = 0; i < 600; i++) z.set(i, i % 3);
+        var t = DenseVector.of(z.toColumnMatrix().getTransposed().multiply(m1));
+        Matrix m2 = new AnySquareMatrix(new double[][]{{1, 2}, {3, 4}});
+
+        assertAll(
+                () -> assertEquals(y, MatrixOperations.multiplyInto(m1, x, new DenseVector(600))),
+                () -> assertEquals(y, MatrixOperations.multiplyInto(m1, x, new DenseVector(600), true)),
+                () -> assertEquals(t, MatrixOperations.multiplyTransposedInto(m1, z, new DenseVector(7))),
+                () -> assertEquals(new DenseVector(5, 11), MatrixOperations.multiplyInto(m2, new DenseVector(1, 2), new DenseVector(2))),
+                () -> assertEquals(new DenseVector(7, 10), MatrixOperations.multiplyTransposedInto(m2, new DenseVector(1, 2), new DenseVector(2))),
+                () -> assertEquals(new AnyRectangularMatrix(new double[][]{{5}, {11}}), m2.multiply(new AnyRectangularMatrix(new double[][]{{1}, {2}}))),
+                () -> assertEquals(new AnyRectangularMatrix(new double[][]{{7, 10}}), new AnyRectangularMatrix(new double[][]{{1, 2}}).multiply(m2)),
+                () -> assertEquals(new DenseVector(2, 6), MatrixOperations.multiplyInto(new DiagonalMatrix(new double[]{2, 3}), new DenseVector(1, 2), new DenseVector(2))),
+                () -> assertEquals(new DenseVector(1, 2), MatrixOperations.multiplyTransposedInto(new IdentityMatrix(2), new DenseVector(1, 2), new DenseVector(2))),
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> { var v = new DenseVector(1, 2); MatrixOperations.multiplyInto(m2, v, v); }),
+                () -> assertThrows(MatrixDimensionMismatchException.class, () -> MatrixOperations.multiplyInto(m2, x, new DenseVector(2)))
+        );
+    }
+
+    @Test
+    void elementWise() {
+        Matrix m1 = new AnySquareMatrix(new double[][]{{1, 2}, {3, 4}});
+        Matrix m2 = new IdentityMatrix(2);
+        var dst = new MutableMatrix(2, 2);
+
+        assertAll(
+                () -> assertEquals(new AnySquareMatrix(new double[][]{{2, 2}, {3, 5}}), MatrixOperations.addInto(m1, m2, dst)),
+                () -> assertEquals(m2, MatrixOperations.subtractInto(dst, m1, dst)),
+                () -> assertEquals(new AnySquareMatrix(new double[][]{{0, 2}, {3, 3}}), MatrixOperations.subtractInto(m1, dst, dst)),
+                () -> assertEquals(new AnySquareMatrix(new double[][]{{3, 6}, {9, 12}}), MatrixOperations.scaleInto(m1, 3, dst)),
+                () -> assertEquals(m1.getAdditiveInverse(), MatrixOperations.negateInto(m1, dst)),
+                () -> assertEquals(m1.getTransposed(), MatrixOperations.transposeInto(m1, dst)),
+                () -> assertEquals(m1, MatrixOperations.transposeInto(dst, dst))
+        );
+    }
+
+    @Test
+    void transposeInto() {
+        var e = new double[70 * 45];
+        for (int i = 0; i < e.length; i++) e[i] = i;
+        Matrix m1 = new AnyRectangularMatrix(e, 70, 45);
+        var dst = MatrixOperations.transposeInto(m1, new MutableMatrix(45, 70));
+
+        assertAll(
+                () -> assertEquals(m1.getTransposed(), dst),
+                () -> assertEquals(e[69 * 45 + 44], dst.get(44, 69)),
+                () -> assertEquals(e[3 * 45 + 40], dst.get(40, 3)),
+                () -> assertThrows(InvalidParameterProvidedException.class,
+                        () -> MatrixOperations.transposeInto(new MutableMatrix(e, 45, 70), new MutableMatrix(e, 70, 45)))
+        );
+    }
+}
@@ -0,0 +1,75 @@
+package com.katpara.follium.linear;
+
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.exceptions.linears.NotSquareMatrixException;
+import com.katpara.follium.exceptions.linears.RowOutOfBoundException;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MutableMatrixTest {
+
+    @Test
+    void inPlace() {
+        var m1 = new MutableMatrix(new AnySquareMatrix(new double[][]{{1, 2}, {3, 4}}));
+        var b = m1.asDoubleBuffer();
+
+        m1.addInPlace(new IdentityMatrix(2))
+          .scaleInPlace(2)
+          .addInPlace(-1, new DiagonalMatrix(new double[]{4, 0}))
+          .subtractInPlace(new AnySquareMatrix(new double[][]{{0, 1}, {1, 0}}))
+          .negateInPlace()
+          .transposeInPlace();
+
+        assertAll(
+                () -> assertEquals(new AnySquareMatrix(new double[][]{{0, -5}, {-3, -10}}), m1),
+                () -> assertEquals(-5, b.get(1)),
+                () -> assertTrue(b.isReadOnly()),
+                () -> assertEquals(-5, m1.get(0, 1)),
+                () -> assertEquals(new AnySquareMatrix(new double[][]{{0, 0}, {0, 0}}), m1.subtractInPlace(m1))
+        );
+    }
+
+    @Test
+    void assign() {
+        var m1 = new MutableMatrix(2, 3);
+        Matrix m2 = new AnyRectangularMatrix(new double[][]{{1, 2, 3}, {4, 5, 6}});
+        m1.assign(m2);
+        var h = m1.hashCode();
+        m1.set(1, 2, 7);
+
+        assertAll(
+                () -> assertEquals(m2.hashCode(), h),
+                () -> assertNotEquals(m2, m1),
+                () -> assertEquals(new AnyRectangularMatrix(new double[][]{{1, 2, 3}, {4, 5, 7}}), m1.toImmutable()),
+                () -> assertEquals(new AnySquareMatrix(new double[]{1, 1, 1, 1}), new MutableMatrix(2, 2).fill(1)),
+                () -> assertThrows(MatrixDimensionMismatchException.class, () -> m1.assign(m2.getTransposed())),
+                () -> assertThrows(NotSquareMatrixException.class, m1::transposeInPlace),
+                () -> assertThrows(RowOutOfBoundException.class, () -> m1.get(2, 0)),
+                () -> assertThrows(InvalidMatrixDimensionProvidedException.class, () -> new MutableMatrix(new double[5], 2, 3))
+        );
+    }
+
+    @Test
+    void field() {
+        var m1 = new MutableMatrix(new double[]{1, 2, 3, 4}, 2, 2);
+        Matrix m2 = new AnySquareMatrix(new double[][]{{1, 2}, {3, 4}});
+        var sum = m1.add(m2);
+        var product = m1.multiply(m2);
+        var transposed = m1.getTransposed();
+        m1.fill(0);
+
+        assertAll(
+                () -> assertEquals(new AnySquareMatrix(new double[][]{{2, 4}, {6, 8}}), sum),
+                () -> assertEquals(new AnySquareMatrix(new double[][]{{7, 10}, {15, 22}}), product),
+                () -> assertEquals(m2.getTransposed(), transposed),
+                () -> assertEquals(m2.getAdditiveInverse(), new MutableMatrix(m2).getAdditiveInverse()),
+                () -> assertEquals(2, m1.rows())
+        );
+    }
+}
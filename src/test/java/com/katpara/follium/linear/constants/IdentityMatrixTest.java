@@ -196,4 +196,14 @@ class IdentityMatrixTest {
                 () -> assertEquals("AnySquareMatrix", m1.subtract(m5).getClass().getSimpleName())
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void rowsAndColumns() {
+        Matrix m = new IdentityMatrix(4);
+
+        assertAll(
+                () -> assertEquals(4, m.rows()),
+                () -> assertEquals(4, m.columns())
+        );
+    }
+}
@@ -138,4 +138,14 @@ class ZeroMatrixTest {
                 () -> assertEquals(m1, m1.divide(m3))
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void rowsAndColumns() {
+        Matrix m = new ZeroMatrix(2, 5);
+
+        assertAll(
+                () -> assertEquals(2, m.rows()),
+                () -> assertEquals(5, m.columns())
+        );
+    }
+}
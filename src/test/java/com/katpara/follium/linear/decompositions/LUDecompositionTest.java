@@ -0,0 +1,36 @@
+package com.katpara.follium.linear.decompositions;
+
+import com.katpara.follium.exceptions.linears.NotInvertibleException;
+import com.katpara.follium.exceptions.linears.NotSquareMatrixException;
+import com.katpara.follium.linear.DenseVector;
+import com.katpara.follium.linear.MatrixOperations;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import org.junit.jupiter.api.Test;
+
+import static com.katpara.follium.linear.decompositions.SingularValueDecompositionTest.random;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LUDecompositionTest {
+
+    @Test
+    void decompose() {
+        var a = new AnySquareMatrix(new double[][]{{0, 2, 1}, {1, 1, 1}, {2, 1, 0}});
+        var lu = LUDecomposition.of(a);
+        var b = random(80, 80, 3);
+        var x = new DenseVector(80).fill(1);
+        var y = MatrixOperations.multiplyInto(b, x, new DenseVector(80));
+
+        assertAll(
+                () -> assertEquals(3, lu.getDeterminant(), 1e-14),
+                () -> assertEquals(1, lu.getDeterminantSign()),
+                () -> assertEquals(Math.log(3), lu.getLogAbsDeterminant(), 1e-14),
+                () -> assertFalse(lu.isSingular()),
+                () -> assertArrayEquals(a.getRow(lu.getPivots()[0]), lu.getPermutation().multiply(a).getRow(0), 0),
+                () -> assertEquals(new DenseVector(1, 1, 1), lu.solve(new DenseVector(3, 3, 3))),
+                () -> assertEquals(0, LUDecomposition.of(b).solve(y).axpy(-1, x).normInf(), 1e-10),
+                () -> assertThrows(NotInvertibleException.class,
+                        () -> LUDecomposition.of(new AnySquareMatrix(new double[][]{{1, 2}, {2, 4}})).solve(new DenseVector(2))),
+                () -> assertThrows(NotSquareMatrixException.class, () -> LUDecomposition.of(random(2, 3, 4)))
+        );
+    }
+}
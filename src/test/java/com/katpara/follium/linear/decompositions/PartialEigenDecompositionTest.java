@@ -0,0 +1,47 @@
+package com.katpara.follium.linear.decompositions;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.linear.DenseVector;
+import com.katpara.follium.linear.MatrixOperations;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+import org.junit.jupiter.api.Test;
+
+import static com.katpara.follium.linear.decompositions.SymmetricEigenDecompositionTest.symmetric;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PartialEigenDecompositionTest {
+
+    @Test
+    void largest() {
+        var a = symmetric(200, 3);
+        var all = SymmetricEigenDecomposition.eigenvalues(a);
+        var ped = PartialEigenDecomposition.largest(a, 5);
+        var ev = ped.getEigenvalues();
+        var v = ped.getEigenvector(0);
+        var av = MatrixOperations.multiplyInto(a, v, new DenseVector(200));
+
+        assertAll(
+                () -> assertTrue(ped.isConverged()),
+                () -> {
+                    for (int i = 0; i < 5; i++) assertEquals(all[199 - i], ev[i], 1e-8);
+                },
+                () -> assertEquals(0, av.axpy(-ev[0], v).norm2(), 1e-6),
+                () -> assertEquals(200, ped.getV().rows()),
+                () -> assertEquals(5, ped.getV().columns())
+        );
+    }
+
+    @Test
+    void diagonal() {
+        var d = new double[1000];
+        for (int i = 0; i < d.length; i++) d[i] = i;
+        var ped = PartialEigenDecomposition.largest(new DiagonalMatrix(d), 3);
+
+        assertAll(
+                () -> assertArrayEquals(new double[]{999, 998, 997}, ped.getEigenvalues(), 1e-8),
+                () -> assertEquals(1, Math.abs(ped.getEigenvector(0).get(999)), 1e-8),
+                () -> assertThrows(InvalidParameterProvidedException.class,
+                        () -> PartialEigenDecomposition.largest(new DiagonalMatrix(d), 0))
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package com.katpara.follium.linear.decompositions;
+
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+import com.katpara.follium.linear.squares.TridiagonalMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PartialSingularValueDecompositionTest {
+
+    /**
+     * A matrix of 150 x 60 with the singular values 2^-i.
+     */
+    static Matrix decaying() {
+        var r = new Random(5);
+        var a = SymmetricEigenDecomposition.of(SymmetricEigenDecompositionTest.symmetric(150, 11)).getV();
+        var b = SymmetricEigenDecomposition.of(SymmetricEigenDecompositionTest.symmetric(60, 13)).getV();
+        var e = new double[150 * 60];
+        for (int i = 0; i < 60; i++) e[i * 60 + i] = Math.pow(2, -i);
+        return a.multiply(new AnyRectangularMatrix(e, 150, 60)).multiply(b.getTransposed());
+    }
+
+    static void assertDecomposes(final Matrix a, final PartialSingularValueDecomposition svd, final int k) {
+        var s = svd.getSingularValues();
+        for (int i = 0; i < k; i++)
+            assertEquals(Math.pow(2, -i), s[i], 1e-8);
+
+        var e = new double[k];
+        for (int i = 0; i < k; i++) e[i] = s[i];
+        var approx = svd.getU().multiply(new DiagonalMatrix(e)).multiply(svd.getV().getTransposed());
+        assertTrue(approx.approximatelyEquals(a, 2 * Math.pow(2, -k), 0));
+    }
+
+    @Test
+    void lanczos() {
+        var a = decaying();
+
+        assertAll(
+                () -> assertDecomposes(a, PartialSingularValueDecomposition.lanczos(a, 6), 6),
+                () -> assertDecomposes(a.getTransposed(), PartialSingularValueDecomposition.lanczos(a.getTransposed(), 6), 6)
+        );
+    }
+
+    @Test
+    void randomized() {
+        var a = decaying();
+        var t = new TridiagonalMatrix(new double[3], new double[]{1, -5, 2, 4}, new double[3]);
+
+        assertAll(
+                () -> assertDecomposes(a, PartialSingularValueDecomposition.randomized(a, 6), 6),
+                () -> assertArrayEquals(new double[]{5, 4}, PartialSingularValueDecomposition.randomized(
+                        new DiagonalMatrix(new double[]{1, -5, 2, 4}), 2).getSingularValues(), 1e-10),
+                () -> assertArrayEquals(new double[]{5, 4},
+                        PartialSingularValueDecomposition.randomized(t, 2).getSingularValues(), 1e-10)
+        );
+    }
+}
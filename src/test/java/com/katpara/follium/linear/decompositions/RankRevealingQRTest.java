@@ -0,0 +1,49 @@
+package com.katpara.follium.linear.decompositions;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+import org.junit.jupiter.api.Test;
+
+import static com.katpara.follium.linear.decompositions.SingularValueDecompositionTest.random;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RankRevealingQRTest {
+
+    @Test
+    void rank() {
+        var low = random(300, 7, 1).multiply(random(7, 120, 2));
+        var qr = RankRevealingQR.of(low);
+        var d = qr.getRDiagonal();
+
+        assertAll(
+                () -> assertEquals(7, qr.getRank()),
+                () -> assertEquals(7, RankRevealingQR.rank(low.getTransposed())),
+                () -> assertEquals(120, qr.getPivots().length),
+                () -> {
+                    for (int i = 1; i < d.length; i++) assertTrue(Math.abs(d[i - 1]) >= Math.abs(d[i]) * (1 - 1e-12));
+                },
+                () -> assertEquals(50, RankRevealingQR.rank(random(50, 50, 3))),
+                () -> assertEquals(2, RankRevealingQR.rank(new AnySquareMatrix(new double[][]{{1, 2, 3}, {4, 5, 6}, {7, 8, 9}}))),
+                () -> assertEquals(0, RankRevealingQR.rank(new AnyRectangularMatrix(new double[6], 2, 3))),
+                () -> assertEquals(4, RankRevealingQR.rank(new IdentityMatrix(4))),
+                () -> assertEquals(1, RankRevealingQR.of(new DiagonalMatrix(new double[]{1, 1e-9}), 1e-6).getRank()),
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> RankRevealingQR.of(low, -1))
+        );
+    }
+
+    @Test
+    void estimateRank() {
+        var low = random(400, 5, 4).multiply(random(5, 200, 5));
+        var mid = random(60, 30, 6).multiply(random(30, 60, 7));
+
+        assertAll(
+                () -> assertEquals(5, RankRevealingQR.estimateRank(low)),
+                () -> assertEquals(30, RankRevealingQR.estimateRank(mid)),
+                () -> assertEquals(60, RankRevealingQR.estimateRank(random(60, 80, 8))),
+                () -> assertEquals(3, RankRevealingQR.estimateRank(random(3, 3, 9)))
+        );
+    }
+}
@@ -0,0 +1,86 @@
+package com.katpara.follium.linear.decompositions;
+
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingularValueDecompositionTest {
+
+    static Matrix random(final int r, final int c, final long seed) {
+        var random = new Random(seed);
+        var e = new double[r * c];
+        for (int i = 0; i < e.length; i++) e[i] = random.nextGaussian();
+        return SingularValueDecomposition.matrix(e, r, c);
+    }
+
+    static void assertDecomposes(final Matrix a) {
+        var svd = SingularValueDecomposition.of(a);
+        var k = Math.min(a.rows(), a.columns());
+        var u = svd.getU();
+        var v = svd.getV();
+        var s = svd.getSingularValues();
+
+        assertEquals(a.rows(), u.rows());
+        assertEquals(k, u.columns());
+        assertEquals(a.columns(), v.rows());
+        assertTrue(u.multiply(svd.getS()).multiply(v.getTransposed()).approximatelyEquals(a, 1e-11, 0));
+        assertTrue(u.getTransposed().multiply(u).approximatelyEquals(new IdentityMatrix(k), 1e-12, 0));
+        assertTrue(v.getTransposed().multiply(v).approximatelyEquals(new IdentityMatrix(k), 1e-12, 0));
+        for (int i = 1; i < k; i++) assertTrue(s[i - 1] >= s[i]);
+        assertArrayEquals(s, SingularValueDecomposition.singularValues(a), 1e-12);
+    }
+
+    @Test
+    void decompose() {
+        assertAll(
+                () -> assertDecomposes(random(7, 7, 1)),
+                () -> assertDecomposes(random(12, 8, 2)),
+                () -> assertDecomposes(random(8, 12, 3)),
+                () -> assertDecomposes(random(300, 20, 4)),
+                () -> assertDecomposes(random(20, 300, 5)),
+                () -> assertDecomposes(random(1, 5, 6)),
+                () -> assertArrayEquals(new double[]{5, 4, 3},
+                        SingularValueDecomposition.singularValues(new DiagonalMatrix(new double[]{3, -5, 4})), 1e-14)
+        );
+    }
+
+    @Test
+    void rank() {
+        var a = random(200, 10, 7);
+        var b = random(10, 30, 8);
+        var low = a.multiply(b);
+        var svd = SingularValueDecomposition.of(low);
+
+        assertAll(
+                () -> assertEquals(10, svd.getRank()),
+                () -> assertEquals(10, low.getRank()),
+                () -> assertEquals(30, svd.getSingularValues().length),
+                () -> assertTrue(Double.isInfinite(svd.getConditionNumber()) || svd.getConditionNumber() > 1e12),
+                () -> assertEquals(2, new AnySquareMatrix(new double[][]{{1, 2, 3}, {4, 5, 6}, {7, 8, 9}}).getRank()),
+                () -> assertEquals(2, new DiagonalMatrix(new double[]{1, 0, 3}).getRank()),
+                () -> assertEquals(0, SingularValueDecomposition.rank(new AnyRectangularMatrix(new double[6], 2, 3)))
+        );
+    }
+
+    @Test
+    void pseudoInverse() {
+        var a = random(40, 6, 9);
+        var p = SingularValueDecomposition.of(a).getPseudoInverse();
+        var low = random(8, 2, 10).multiply(random(2, 5, 11));
+        var q = SingularValueDecomposition.of(low).getPseudoInverse();
+
+        assertAll(
+                () -> assertTrue(p.multiply(a).approximatelyEquals(new IdentityMatrix(6), 1e-12, 0)),
+                () -> assertTrue(low.multiply(q).multiply(low).approximatelyEquals(low, 1e-11, 0)),
+                () -> assertTrue(q.multiply(low).multiply(q).approximatelyEquals(q, 1e-11, 0)),
+                () -> assertEquals(0, SingularValueDecomposition.of(a).getRank(Double.MAX_VALUE))
+        );
+    }
+}
@@ -0,0 +1,69 @@
+package com.katpara.follium.linear.decompositions;
+
+import com.katpara.follium.exceptions.linears.NotSquareMatrixException;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SymmetricEigenDecompositionTest {
+
+    static Matrix symmetric(final int n, final long seed) {
+        var r = new Random(seed);
+        var e = new double[n * n];
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j <= i; j++)
+                e[i * n + j] = e[j * n + i] = r.nextDouble() - 0.5;
+        return new AnySquareMatrix(e);
+    }
+
+    @Test
+    void decompose() {
+        var a = new AnySquareMatrix(new double[][]{{2, 1, 0}, {1, 2, 1}, {0, 1, 2}});
+        var ed = SymmetricEigenDecomposition.of(a);
+        var s = Math.sqrt(2);
+
+        assertAll(
+                () -> assertArrayEquals(new double[]{2 - s, 2, 2 + s}, ed.getEigenvalues(), 1e-12),
+                () -> assertEquals(0.5, Math.abs(ed.getEigenvector(0).get(0)), 1e-12),
+                () -> assertEquals(1, ed.getEigenvector(2).norm2(), 1e-12),
+                () -> assertTrue(ed.getV().multiply(ed.getD()).multiply(ed.getV().getTransposed()).approximatelyEquals(a, 1e-12, 0))
+        );
+    }
+
+    @Test
+    void random() {
+        var a = symmetric(300, 7);
+        var ed = SymmetricEigenDecomposition.of(a, true);
+        var v = ed.getV();
+        var d = ed.getEigenvalues();
+
+        assertAll(
+                () -> assertTrue(v.multiply(ed.getD()).multiply(v.getTransposed()).approximatelyEquals(a, 1e-10, 0)),
+                () -> assertTrue(v.getTransposed().multiply(v).approximatelyEquals(new IdentityMatrix(300), 1e-10, 0)),
+                () -> assertArrayEquals(d, SymmetricEigenDecomposition.eigenvalues(a), 1e-10),
+                () -> {
+                    for (int i = 1; i < d.length; i++) assertTrue(d[i - 1] <= d[i]);
+                }
+        );
+    }
+
+    @Test
+    void lowerTriangle() {
+        var lower = new AnySquareMatrix(new double[][]{{4, 0}, {1, 4}});
+
+        assertAll(
+                () -> assertArrayEquals(new double[]{3, 5}, SymmetricEigenDecomposition.eigenvalues(lower), 1e-12),
+                () -> assertArrayEquals(new double[]{7}, SymmetricEigenDecomposition.eigenvalues(new AnySquareMatrix(new double[]{7})), 0),
+                () -> assertArrayEquals(new double[]{1, 2, 3}, SymmetricEigenDecomposition.eigenvalues(new DiagonalMatrix(new double[]{3, 1, 2})), 0),
+                () -> assertThrows(NotSquareMatrixException.class,
+                        () -> SymmetricEigenDecomposition.of(new AnyRectangularMatrix(new double[][]{{1, 2}})))
+        );
+    }
+}
@@ -333,7 +333,12 @@ class AnyRectangularMatrixTest {
 
     @Test
     void constructor() {
+        var e = new double[]{1, 2, 3, 4, 5, 6};
+        var c = new AnyRectangularMatrix(e, 2, 3);
+        e[0] = 7;
+
         assertAll(
+                () -> assertEquals(1, c.get(0, 0)),
                 () -> assertThrows(InvalidMatrixDimensionProvidedException.class, () -> new AnyRectangularMatrix(new double[0], new int[]{1, 2, 3})),
                 () -> assertThrows(InvalidMatrixDimensionProvidedException.class, () -> new AnyRectangularMatrix(new double[0], new int[]{0, 2})),
                 () -> assertThrows(InvalidMatrixDimensionProvidedException.class, () -> new AnyRectangularMatrix(new double[0], new int[]{1, 0})),
@@ -371,4 +376,53 @@ class AnyRectangularMatrixTest {
 
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void rowsAndColumns() {
+        Matrix m1 = new AnyRectangularMatrix(new double[][]{
+                {0, 1, 2},
+                {1, 2, 3}
+        });
+        Matrix m2 = m1.getTransposed();
+
+        assertAll(
+                () -> assertEquals(2, m1.rows()),
+                () -> assertEquals(3, m1.columns()),
+                () -> assertEquals(3, m2.rows()),
+                () -> assertEquals(2, m2.columns())
+        );
+    }
+
+    @Test
+    void rankAndPseudoInverse() {
+        var m1 = new AnyRectangularMatrix(new double[][]{
+                {1, 2},
+                {2, 4},
+                {3, 6}
+        });
+        var m2 = new AnyRectangularMatrix(new double[][]{
+                {1, 0},
+                {0, 1},
+                {1, 1}
+        });
+
+        assertAll(
+                () -> assertEquals(1, m1.getRank()),
+                () -> assertEquals(2, m2.getRank()),
+                () -> assertEquals(2, m2.getTransposed().getRank()),
+                () -> assertTrue(new AnyRectangularMatrix(new double[][]{
+                        {2, -1, -1},
+                        {-1, 2, -1}
+                }).getPseudoInverse().multiply(new AnyRectangularMatrix(new double[][]{{2, -1, -1}, {-1, 2, -1}}))
+                        .approximatelyEquals(new AnySquareMatrix(new double[][]{
+                                {2.0 / 3, -1.0 / 3, -1.0 / 3},
+                                {-1.0 / 3, 2.0 / 3, -1.0 / 3},
+                                {-1.0 / 3, -1.0 / 3, 2.0 / 3}
+                        }), 1e-12, 0)),
+                () -> assertTrue(m1.getPseudoInverse().approximatelyEquals(new AnyRectangularMatrix(new double[][]{
+                        {1.0 / 70, 2.0 / 70, 3.0 / 70},
+                        {2.0 / 70, 4.0 / 70, 6.0 / 70}
+                }), 1e-14, 0))
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package com.katpara.follium.linear.solvers;
+
+import org.junit.jupiter.api.Test;
+
+import static com.katpara.follium.linear.solvers.ConjugateGradientSolverTest.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BiCGStabSolverTest {
+
+    @Test
+    void solve() {
+        var a = laplacian(60, -1.3, -0.6);
+        var b = rhs(60);
+
+        assertAll(
+                () -> assertSolves(a, b, new BiCGStabSolver(1e-10, 500).solve(a, b)),
+                () -> assertSolves(a, b, new BiCGStabSolver(1e-10, 500, new JacobiPreconditioner(a)).solve(a, b))
+        );
+    }
+}
@@ -0,0 +1,111 @@
+package com.katpara.follium.linear.solvers;
+
+import com.katpara.follium.exceptions.linears.CholeskyDecompositionNotPossibleException;
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.linear.DenseVector;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.MatrixOperations;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConjugateGradientSolverTest {
+
+    static Matrix laplacian(final int n, final double lower, final double upper) {
+        var e = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            e[i * n + i] = 2 + i % 3;
+            if (i > 0) e[i * n + i - 1] = lower;
+            if (i < n - 1) e[i * n + i + 1] = upper;
+        }
+        return new AnySquareMatrix(e);
+    }
+
+    static void assertSolves(final Matrix a, final DenseVector b, final SolverResult r) {
+        var ax = MatrixOperations.multiplyInto(a, r.getSolution(), new DenseVector(b.size()));
+        assertTrue(r.isConverged());
+        assertEquals(0, ax.axpy(-1, b).norm2() / b.norm2(), 1e-8);
+    }
+
+    static DenseVector rhs(final int n) {
+        var b = new DenseVector(n);
+        for (int i = 0; i < n; i++) b.set(i, Math.sin(i + 1));
+        return b;
+    }
+
+    @Test
+    void solve() {
+        var a = laplacian(60, -1, -1);
+        var b = rhs(60);
+        var plain = new ConjugateGradientSolver(1e-10, 500).solve(a, b);
+        var jacobi = new ConjugateGradientSolver(1e-10, 500, new JacobiPreconditioner(a)).solve(a, b);
+        var cholesky = new ConjugateGradientSolver(1e-10, 500, new IncompleteCholeskyPreconditioner(a)).solve(a, b);
+
+        assertAll(
+                () -> assertSolves(a, b, plain),
+                () -> assertSolves(a, b, jacobi),
+                () -> assertSolves(a, b, cholesky),
+                () -> assertEquals(1, cholesky.getIterations()),
+                () -> assertTrue(jacobi.getIterations() <= plain.getIterations()),
+                () -> assertEquals(0, new ConjugateGradientSolver(1e-10, 5).solve(a, new DenseVector(60)).getSolution().norm2())
+        );
+    }
+
+    @Test
+    void sharedPreconditioner() {
+        var a = laplacian(200, -1, -1);
+        var m = new IncompleteCholeskyPreconditioner(a);
+        var expected = new DenseVector(200);
+        m.apply(rhs(200), expected);
+
+        assertTrue(IntStream.range(0, 64).parallel().allMatch(t -> {
+            var z = new DenseVector(200);
+            m.apply(rhs(200), z);
+            return z.equals(expected);
+        }));
+    }
+
+    @Test
+    void diagonal() {
+        Matrix a = new DiagonalMatrix(new double[]{1, 2, 4, 8});
+        var b = new DenseVector(1, 1, 1, 1);
+        var r = new ConjugateGradientSolver(1e-12, 10).solve(a, b);
+
+        assertAll(
+                () -> assertSolves(a, b, r),
+                () -> assertEquals(0.125, r.getSolution().get(3), 1e-12)
+        );
+    }
+
+    @Test
+    void listener() {
+        var a = laplacian(60, -1, -1);
+        var count = new AtomicInteger();
+        var stopped = new ConjugateGradientSolver(1e-14, 500).setIterationListener((k, res) -> count.incrementAndGet() < 3)
+                                                             .solve(a, rhs(60));
+
+        assertAll(
+                () -> assertFalse(stopped.isConverged()),
+                () -> assertEquals(3, stopped.getIterations()),
+                () -> assertEquals(3, count.get()),
+                () -> assertFalse(new ConjugateGradientSolver(1e-14, 2).solve(a, rhs(60)).isConverged())
+        );
+    }
+
+    @Test
+    void invalid() {
+        var indefinite = new AnySquareMatrix(new double[][]{{1, 2}, {2, 1}});
+
+        assertAll(
+                () -> assertThrows(CholeskyDecompositionNotPossibleException.class,
+                        () -> new IncompleteCholeskyPreconditioner(indefinite)),
+                () -> assertThrows(MatrixDimensionMismatchException.class,
+                        () -> new ConjugateGradientSolver(1e-8, 10).solve(indefinite, new DenseVector(3)))
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package com.katpara.follium.linear.solvers;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.linear.DenseVector;
+import org.junit.jupiter.api.Test;
+
+import static com.katpara.follium.linear.solvers.ConjugateGradientSolverTest.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GmresSolverTest {
+
+    @Test
+    void solve() {
+        var a = laplacian(60, -1.3, -0.6);
+        var b = rhs(60);
+        var full = new GmresSolver(1e-10, 500, 60).solve(a, b);
+
+        assertAll(
+                () -> assertSolves(a, b, full),
+                () -> assertSolves(a, b, new GmresSolver(1e-10, 2000, 10).solve(a, b)),
+                () -> assertSolves(a, b, new GmresSolver(1e-10, 500, 20, new JacobiPreconditioner(a)).solve(a, b)),
+                () -> assertSolves(a, b, new GmresSolver(1e-10, 500, 20).solve(a, b, new DenseVector(60).fill(1))),
+                () -> assertTrue(full.getIterations() <= 60),
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> new GmresSolver(1e-8, 10, 0))
+        );
+    }
+}
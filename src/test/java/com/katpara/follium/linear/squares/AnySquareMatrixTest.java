@@ -5,15 +5,23 @@ import com.katpara.follium.linear.Matrix;
 import com.katpara.follium.linear.constants.IdentityMatrix;
 import com.katpara.follium.linear.constants.ZeroMatrix;
 import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.util.Rounding;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ReadOnlyBufferException;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class AnySquareMatrixTest {
 
     @Test
     void constructor() {
+        var e = new double[]{1, 2, 3, 4};
+        var c = new AnySquareMatrix(e);
+        e[0] = 7;
+
         assertAll(
+                () -> assertEquals(1, c.get(0, 0)),
                 () -> assertThrows(InvalidMatrixDimensionProvidedException.class, () -> new AnySquareMatrix(new double[0])),
                 () -> assertThrows(InvalidMatrixDimensionProvidedException.class, () -> new AnySquareMatrix(new double[]{})),
                 () -> assertThrows(InvalidMatrixDimensionProvidedException.class, () -> new AnySquareMatrix(new double[]{1, 2})),
@@ -387,6 +395,28 @@ class AnySquareMatrixTest {
         );
     }
 
+    @Test
+    void elementAccess() {
+        var e = new double[]{1, 2, 3, 4};
+        Matrix m = new AnySquareMatrix(e);
+        m.toArray()[0] = 9;
+        var b = m.asDoubleBuffer();
+        var dst = new double[5];
+        m.copyTo(dst, 1);
+
+        assertAll(
+                () -> assertEquals(1, m.get(0, 0)),
+                () -> assertEquals(3, m.get(1, 0)),
+                () -> assertTrue(b.isReadOnly()),
+                () -> assertEquals(4, b.get(3)),
+                () -> assertThrows(ReadOnlyBufferException.class, () -> b.put(0, 5)),
+                () -> assertArrayEquals(new double[]{0, 1, 2, 3, 4}, dst),
+                () -> assertThrows(RowOutOfBoundException.class, () -> m.get(2, 0)),
+                () -> assertThrows(ColumnOutOfBoundException.class, () -> m.get(0, -1)),
+                () -> assertThrows(InvalidMatrixDimensionProvidedException.class, () -> m.copyTo(dst, 2))
+        );
+    }
+
     @Test
     void additiveInverse() {
         Matrix m1 = new AnySquareMatrix(new double[][]{
@@ -402,7 +432,12 @@ class AnySquareMatrixTest {
                 {-12, -13, -14, -15}
         });
 
-        assertEquals(r1, m1.getAdditiveInverse());
+        Matrix m2 = new AnySquareMatrix(new double[][]{{3, -1}, {0, 2}});
+
+        assertAll(
+                () -> assertEquals(r1, m1.getAdditiveInverse()),
+                () -> assertEquals(new AnySquareMatrix(new double[][]{{-3, 1}, {0, -2}}), m2.getAdditiveInverse())
+        );
     }
 
     @Test
@@ -440,4 +475,95 @@ class AnySquareMatrixTest {
                 () -> assertEquals(r2, m2.power(5))
         );
     }
+
+    @Test
+    void rowsAndColumns() {
+        Matrix m = new AnySquareMatrix(new double[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+
+        assertAll(
+                () -> assertEquals(3, m.rows()),
+                () -> assertEquals(3, m.columns())
+        );
+    }
+
+    @Test
+    void determinant() {
+        var m1 = new AnySquareMatrix(new double[][]{{4, 3}, {6, 3}});
+        var m2 = new AnySquareMatrix(new double[][]{{2, -3, 1}, {2, 0, -1}, {1, 4, 5}});
+        var m3 = new AnySquareMatrix(new double[][]{{1, 0, 2, -1}, {3, 0, 0, 5}, {2, 1, 4, -3}, {1, 0, 5, 0}});
+        var e = new double[36];
+        for (int i = 0; i < 6; i++)
+            for (int j = 0; j < 6; j++)
+                e[i * 6 + j] = (i == j) ? 2 : 1.0 / (i + j + 1);
+        var m4 = new AnySquareMatrix(e);
+        var upper = new double[100 * 100];
+        for (int i = 0; i < 100; i++)
+            for (int j = i; j < 100; j++)
+                upper[i * 100 + j] = (i == j) ? ((i % 2 == 0) ? 1e5 : -1e5) : 1;
+        var m5 = new AnySquareMatrix(upper);
+
+        assertAll(
+                () -> assertEquals(-6, m1.determinant()),
+                () -> assertEquals(49, m2.determinant(), 1e-12),
+                () -> assertEquals(30, m3.determinant(), 1e-12),
+                () -> assertEquals(((SquareMatrix) m4.getTransposed()).determinant(), m4.determinant(), 1e-12),
+                () -> assertEquals(1, m4.determinantSign()),
+                () -> assertEquals(Math.log(m4.determinant()), m4.logAbsDeterminant(), 1e-12),
+                () -> assertEquals(0, new AnySquareMatrix(new double[][]{{1, 2, 3, 4, 5}, {2, 4, 6, 8, 10}, {0, 1, 0, 0, 0},
+                        {0, 0, 1, 0, 0}, {0, 0, 0, 1, 0}}).determinant()),
+                () -> assertEquals(Double.POSITIVE_INFINITY, m5.determinant()),
+                () -> assertEquals(100 * Math.log(1e5), m5.logAbsDeterminant(), 1e-9),
+                () -> assertEquals(1, m5.determinantSign()),
+                () -> assertEquals(-6, m1.determinant(Rounding.Decimals.TWO))
+        );
+    }
+
+    @Test
+    void properties() {
+        var lower = new AnySquareMatrix(new double[][]{{1, 0, 0}, {2, 3, 0}, {4, 5, 6}});
+        var symmetric = new AnySquareMatrix(new double[][]{{1, 2, 3}, {2, 4, 5}, {3, 5, 6}});
+        var diagonal = new AnySquareMatrix(new double[][]{{1, 0, 0}, {0, 2, 0}, {0, 0, 3}});
+
+        assertAll(
+                () -> assertTrue(lower.isLowerTriangular()),
+                () -> assertFalse(lower.isUpperTriangular()),
+                () -> assertFalse(lower.isSymmetric()),
+                () -> assertFalse(lower.isDiagonal()),
+                () -> assertTrue(symmetric.isSymmetric()),
+                () -> assertFalse(symmetric.isLowerTriangular()),
+                () -> assertTrue(diagonal.isDiagonal()),
+                () -> assertTrue(diagonal.isSymmetric()),
+                () -> assertTrue(diagonal.isLowerTriangular() && diagonal.isUpperTriangular()),
+                () -> assertEquals(3, lower.getRank()),
+                () -> assertEquals(lower.getRank(), lower.getRank()),
+                () -> assertEquals(lower.hashCode(), new AnySquareMatrix(lower.toArray()).hashCode())
+        );
+    }
+
+    @Test
+    void propagatedProperties() {
+        var upper = new AnySquareMatrix(new double[][]{{1, 2, 3}, {0, 4, 5}, {0, 0, 6}});
+        var symmetric = new AnySquareMatrix(new double[][]{{1, 2, 3}, {2, 4, 5}, {3, 5, 6}});
+        var diagonal = new AnySquareMatrix(new double[][]{{1, 0, 0}, {0, 2, 0}, {0, 0, 3}});
+        assertTrue(upper.isUpperTriangular());
+        assertTrue(symmetric.isSymmetric());
+        assertTrue(diagonal.isDiagonal());
+
+        var sum = (SquareMatrix) upper.add(upper);
+        var transposed = (SquareMatrix) upper.getTransposed();
+        var product = diagonal.multiply(diagonal);
+
+        assertAll(
+                () -> assertSame(symmetric, symmetric.getTransposed()),
+                () -> assertTrue(sum.isUpperTriangular()),
+                () -> assertEquals(new AnySquareMatrix(new double[][]{{2, 4, 6}, {0, 8, 10}, {0, 0, 12}}), sum),
+                () -> assertTrue(transposed.isLowerTriangular()),
+                () -> assertFalse(transposed.isUpperTriangular()),
+                () -> assertEquals(new AnySquareMatrix(new double[][]{{1, 0, 0}, {2, 4, 0}, {3, 5, 6}}), transposed),
+                () -> assertTrue(product.isDiagonal()),
+                () -> assertEquals(new AnySquareMatrix(new double[][]{{1, 0, 0}, {0, 4, 0}, {0, 0, 9}}), product),
+                () -> assertTrue(((SquareMatrix) symmetric.getAdditiveInverse()).isSymmetric()),
+                () -> assertFalse(((SquareMatrix) upper.add(symmetric)).isUpperTriangular())
+        );
+    }
 }
@@ -0,0 +1,167 @@
+package com.katpara.follium.linear.squares.bands;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.exceptions.linears.NotInvertibleException;
+import com.katpara.follium.linear.DenseVector;
+import com.katpara.follium.linear.MatrixFactory;
+import com.katpara.follium.linear.MatrixOperations;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import com.katpara.follium.linear.squares.BandMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+import com.katpara.follium.linear.squares.TridiagonalMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BandMatrixTest {
+
+    /**
+     * The method returns a random band matrix.
+     *
+     * @param n    the dimension
+     * @param kl   the number of diagonals below the diagonal
+     * @param ku   the number of diagonals above the diagonal
+     * @param seed the seed
+     *
+     * @return the matrix
+     */
+    static BandMatrix random(final int n, final int kl, final int ku, final long seed) {
+        return new BandMatrix(new Random(seed).doubles(n * (kl + ku + 1), -1, 1).toArray(), kl, ku);
+    }
+
+    @Test
+    void constructor() {
+        var m = new BandMatrix(new double[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15}, 1, 2);
+
+        var e = new double[]{0, 1, 2, 3, 4, 0};
+        var c = new BandMatrix(e, 1, 1);
+        e[1] = 7;
+
+        assertAll(
+                () -> assertEquals(1, c.get(0, 0)),
+                () -> assertThrows(InvalidMatrixDimensionProvidedException.class, () -> new BandMatrix(new double[5], 1, 1)),
+                () -> assertThrows(InvalidMatrixDimensionProvidedException.class, () -> new BandMatrix(new double[4], 2, 1)),
+                () -> assertThrows(InvalidParameterProvidedException.class,
+                        () -> BandMatrix.of(new AnySquareMatrix(new double[][]{{1, 0, 1}, {0, 1, 0}, {0, 0, 1}}), 0, 1)),
+                () -> assertArrayEquals(new double[]{1, 2, 3, 0, 4, 5, 6, 7, 0, 8, 9, 10, 0, 0, 12, 13}, m.toArray()),
+                () -> assertEquals(7, m.get(1, 3)),
+                () -> assertEquals(0, m.get(3, 1)),
+                () -> assertArrayEquals(new double[]{0, 8, 9, 10}, m.getRow(2)),
+                () -> assertArrayEquals(new double[]{0, 7, 10, 13}, m.getColumn(3)),
+                () -> assertArrayEquals(new double[]{1, 5, 9, 13}, m.getDiagonalEntries()),
+                () -> assertEquals(m, BandMatrix.of(new AnySquareMatrix(m.toArray()), 1, 2)),
+                () -> assertEquals(new AnySquareMatrix(m.toArray()), m),
+                () -> assertEquals(new AnySquareMatrix(m.toArray()).hashCode(), m.hashCode()),
+                () -> assertEquals(new AnySquareMatrix(m.toArray()).getTransposed(), m.getTransposed()),
+                () -> assertEquals(m, m.getTransposed().getTransposed()),
+                () -> assertTrue(MatrixFactory.compact(new AnySquareMatrix(random(9, 1, 2, 1).toArray())) instanceof BandMatrix)
+        );
+    }
+
+    @Test
+    void properties() {
+        var d = new BandMatrix(new double[]{0, 1, 0, 0, 2, 0, 0, 3, 0}, 1, 1);
+        var u = new BandMatrix(new double[]{1, 2, 3, 0, 0, 0, 0, 0, 0}, 0, 2);
+
+        assertAll(
+                () -> assertTrue(d.isDiagonal() && d.isSymmetric()),
+                () -> assertEquals(new DiagonalMatrix(new double[]{1, 2, 3}), d),
+                () -> assertTrue(u.isUpperTriangular()),
+                () -> assertFalse(u.isLowerTriangular()),
+                () -> assertEquals(0, u.determinant()),
+                () -> assertEquals(6, d.determinant()),
+                () -> assertEquals(Math.log(6), d.logAbsDeterminant(), 1e-15),
+                () -> assertEquals(1, d.determinantSign()),
+                () -> assertEquals(1, u.getRank())
+        );
+    }
+
+    @Test
+    void add() {
+        var m = random(8, 2, 1, 2);
+        var n = random(8, 0, 3, 3);
+        var dm = new AnySquareMatrix(m.toArray());
+        var d = new DiagonalMatrix(new double[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertAll(
+                () -> assertThrows(MatrixDimensionMismatchException.class, () -> m.add(new IdentityMatrix(2))),
+                () -> assertSame(m, m.add(new ZeroMatrix(8))),
+                () -> assertTrue(m.subtract(m) instanceof ZeroMatrix),
+                () -> assertEquals(3, ((BandMatrix) m.add(n)).getUpperBandwidth()),
+                () -> assertTrue(dm.add(new AnySquareMatrix(n.toArray())).approximatelyEquals(m.add(n), 1e-15, 0)),
+                () -> assertTrue(dm.subtract(new AnySquareMatrix(n.toArray())).approximatelyEquals(m.subtract(n), 1e-15, 0)),
+                () -> assertTrue(m.add(d) instanceof BandMatrix),
+                () -> assertEquals(dm.add(new AnySquareMatrix(d.toArray())), m.add(d)),
+                () -> assertEquals(dm.add(new IdentityMatrix(8)), m.add(new IdentityMatrix(8))),
+                () -> assertEquals(dm.add(dm), m.add(dm)),
+                () -> assertEquals(dm.getAdditiveInverse(), m.getAdditiveInverse())
+        );
+    }
+
+    @Test
+    void multiply() {
+        var m = random(10, 2, 1, 4);
+        var n = random(10, 1, 3, 5);
+        var dm = new AnySquareMatrix(m.toArray());
+        var b = new AnyRectangularMatrix(new Random(6).doubles(30).toArray(), 10, 3);
+        var d = new DiagonalMatrix(new Random(7).doubles(10).toArray());
+        var x = new DenseVector(new Random(8).doubles(10).toArray());
+
+        assertAll(
+                () -> assertThrows(MatrixDimensionMismatchException.class, () -> m.multiply(new IdentityMatrix(2))),
+                () -> assertSame(m, m.multiply(new IdentityMatrix(10))),
+                () -> assertTrue(m.multiply(new ZeroMatrix(10, 2)) instanceof ZeroMatrix),
+                () -> assertTrue(m.multiply(n) instanceof BandMatrix),
+                () -> assertEquals(4, ((BandMatrix) m.multiply(n)).getUpperBandwidth()),
+                () -> assertTrue(dm.multiply(new AnySquareMatrix(n.toArray())).approximatelyEquals(m.multiply(n), 1e-12, 1e-12)),
+                () -> assertTrue(dm.multiply(new AnySquareMatrix(d.toArray())).approximatelyEquals(m.multiply(d), 1e-12, 1e-12)),
+                () -> assertTrue(dm.multiply(b).approximatelyEquals(m.multiply(b), 1e-12, 1e-12)),
+                () -> assertTrue(dm.multiply(dm).multiply(dm).approximatelyEquals(m.power(3), 1e-12, 1e-12)),
+                () -> assertArrayEquals(MatrixOperations.multiplyInto(dm, x, new DenseVector(10)).toArray(),
+                        MatrixOperations.multiplyInto(m, x, new DenseVector(10)).toArray(), 1e-12),
+                () -> assertArrayEquals(MatrixOperations.multiplyTransposedInto(dm, x, new DenseVector(10)).toArray(),
+                        MatrixOperations.multiplyTransposedInto(m, x, new DenseVector(10)).toArray(), 1e-12),
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> m.multiplyInto(x, x)),
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> m.multiplyTransposedInto(x, x))
+        );
+    }
+
+    @Test
+    void solve() {
+        var m = random(40, 3, 2, 9);
+        var dm = new AnySquareMatrix(m.toArray());
+        var b = new DenseVector(new Random(10).doubles(40).toArray());
+        var x = m.solve(b);
+
+        assertAll(
+                () -> assertThrows(MatrixDimensionMismatchException.class, () -> m.solve(new DenseVector(3))),
+                () -> assertThrows(NotInvertibleException.class,
+                        () -> new BandMatrix(new double[]{0, 1, 2, 0, 0, 0}, 0, 1).solve(new DenseVector(1, 1, 1))),
+                () -> assertArrayEquals(b.toArray(), m.multiplyInto(x, new DenseVector(40)).toArray(), 1e-10),
+                () -> assertEquals(dm.determinant(), m.determinant(), Math.abs(m.determinant()) * 1e-10),
+                () -> assertEquals(dm.determinantSign(), m.determinantSign()),
+                () -> assertEquals(dm.logAbsDeterminant(), m.logAbsDeterminant(), 1e-10),
+                () -> assertTrue(m.multiply(m.getMultiplicativeInverse()).approximatelyEquals(new IdentityMatrix(40), 1e-10, 1e-10)),
+                () -> assertTrue(m.divide(m).approximatelyEquals(new IdentityMatrix(40), 1e-10, 1e-10))
+        );
+    }
+
+    @Test
+    void large() {
+        var n = 1_000_000;
+        var m = new TridiagonalMatrix(new double[n - 1], new double[n], new double[n - 1]).add(new IdentityMatrix(n));
+        var b = new DenseVector(new Random(11).doubles(n).toArray());
+
+        assertAll(
+                () -> assertTrue(m instanceof TridiagonalMatrix),
+                () -> assertArrayEquals(b.toArray(), ((BandMatrix) m).solve(b).toArray(), 0)
+        );
+    }
+}
@@ -0,0 +1,54 @@
+package com.katpara.follium.linear.squares.bands;
+
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.exceptions.linears.NotInvertibleException;
+import com.katpara.follium.linear.DenseVector;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import com.katpara.follium.linear.squares.BandMatrix;
+import com.katpara.follium.linear.squares.TridiagonalMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TridiagonalMatrixTest {
+
+    @Test
+    void constructor() {
+        var m = new TridiagonalMatrix(new double[]{1, 2}, new double[]{3, 4, 5}, new double[]{6, 7});
+
+        assertAll(
+                () -> assertThrows(InvalidMatrixDimensionProvidedException.class,
+                        () -> new TridiagonalMatrix(new double[]{1}, new double[]{3, 4, 5}, new double[]{6, 7})),
+                () -> assertArrayEquals(new double[]{3, 6, 0, 1, 4, 7, 0, 2, 5}, m.toArray()),
+                () -> assertEquals(new TridiagonalMatrix(new double[]{0, 3, 6, 1, 4, 7, 2, 5, 0}), m),
+                () -> assertTrue(m.getTransposed() instanceof TridiagonalMatrix),
+                () -> assertEquals(new AnySquareMatrix(m.toArray()).getTransposed(), m.getTransposed()),
+                () -> assertTrue(m.add(new IdentityMatrix(3)) instanceof TridiagonalMatrix),
+                () -> assertTrue(m.multiply(m) instanceof BandMatrix),
+                () -> assertEquals(new AnySquareMatrix(m.toArray()).determinant(), m.determinant(), 1e-12)
+        );
+    }
+
+    @Test
+    void solve() {
+        var r = new Random(1);
+        int n = 200;
+        double[] l = r.doubles(n - 1).toArray(), d = r.doubles(n).map(v -> v + 3).toArray(), u = r.doubles(n - 1).toArray();
+        var m = new TridiagonalMatrix(l, d, u);
+        var b = new DenseVector(r.doubles(n).toArray());
+        var x = m.solve(b);
+
+        assertAll(
+                () -> assertArrayEquals(b.toArray(), m.multiplyInto(x, new DenseVector(n)).toArray(), 1e-12),
+                () -> assertArrayEquals(new double[]{2, 1},
+                        new TridiagonalMatrix(new double[]{1}, new double[]{0, 0}, new double[]{1})
+                                .solve(new DenseVector(1, 2)).toArray(), 0),
+                () -> assertThrows(NotInvertibleException.class,
+                        () -> new TridiagonalMatrix(new double[]{1}, new double[]{1, 1}, new double[]{1})
+                                .solve(new DenseVector(1, 2)))
+        );
+    }
+}
@@ -1,9 +1,13 @@
 package com.katpara.follium.linear.squares.diagonals;
 
 import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
 import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
 import com.katpara.follium.exceptions.linears.NotSquareMatrixException;
 import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
 import com.katpara.follium.linear.squares.AnySquareMatrix;
 import com.katpara.follium.linear.squares.DiagonalMatrix;
 import com.katpara.follium.linear.squares.SquareMatrix;
@@ -20,7 +24,12 @@ class DiagonalMatrixTest {
 
     @Test
     void constructor() {
+        var e = new double[]{1, 2, 3};
+        var c = new DiagonalMatrix(e);
+        e[0] = 7;
+
         assertAll(
+                () -> assertEquals(1, c.get(0, 0)),
                 () -> assertThrows(NotSquareMatrixException.class, () -> new DiagonalMatrix(new double[][]{
                         {1, 2, 3},
                         {1, 2, 3}
@@ -47,7 +56,16 @@ class DiagonalMatrixTest {
                 {0, 0, 3}}
         );
 
-        assertEquals(6, m.determinant());
+        SquareMatrix tiny = new DiagonalMatrix(new double[]{1e-200, -1e-200, -1e-200});
+
+        assertAll(
+                () -> assertEquals(6, m.determinant()),
+                () -> assertEquals(0, tiny.determinant()),
+                () -> assertEquals(1, tiny.determinantSign()),
+                () -> assertEquals(-600 * Math.log(10), tiny.logAbsDeterminant(), 1e-9),
+                () -> assertEquals(-1, new DiagonalMatrix(new double[]{-1e-200, 1e-200}).determinantSign()),
+                () -> assertEquals(0, new DiagonalMatrix(new double[]{1e-200, 0}).determinantSign())
+        );
     }
 
     @Test
@@ -56,6 +74,22 @@ class DiagonalMatrixTest {
         assertArrayEquals(new double[]{1, 0, 0, 0, 2, 0, 0, 0, 3}, m.toArray());
     }
 
+    @Test
+    void elementAccess() {
+        Matrix m = new DiagonalMatrix(new double[]{1, 2, 3});
+        m.getDiagonalEntries()[1] = 7;
+        var dst = new double[11];
+        m.copyTo(dst, 2);
+
+        assertAll(
+                () -> assertEquals(2, m.get(1, 1)),
+                () -> assertEquals(0, m.get(1, 2)),
+                () -> assertArrayEquals(new double[]{0, 0, 1, 0, 0, 0, 2, 0, 0, 0, 3}, dst),
+                () -> assertEquals(3, m.asDoubleBuffer().get(8)),
+                () -> assertThrows(InvalidMatrixDimensionProvidedException.class, () -> m.copyTo(dst, 3))
+        );
+    }
+
     @Test
     void getRowAndColumn() {
         Matrix m = new DiagonalMatrix(new double[]{1, 2, 3});
@@ -109,4 +143,33 @@ class DiagonalMatrixTest {
                 () -> assertEquals(r2, m6.subtract(m1))
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void rowsAndColumns() {
+        Matrix m = new DiagonalMatrix(new double[]{1, 2, 3});
+
+        assertAll(
+                () -> assertEquals(3, m.rows()),
+                () -> assertEquals(3, m.columns())
+        );
+    }
+
+    @Test
+    void multiply() {
+        Matrix m1 = new DiagonalMatrix(new double[]{1, 2, 3});
+        Matrix m2 = new DiagonalMatrix(new double[]{4, 5, 6});
+        Matrix m3 = new AnySquareMatrix(new double[][]{{1, 2, 3}, {4, 5, 6}, {7, 8, 9}});
+        Matrix m4 = new AnyRectangularMatrix(new double[]{1, 2, 3, 4, 5, 6}, 3, 2);
+
+        assertAll(
+                () -> assertThrows(MatrixDimensionMismatchException.class, () -> m1.multiply(new DiagonalMatrix(new double[]{1, 2}))),
+                () -> assertEquals(new DiagonalMatrix(new double[]{4, 10, 18}), m1.multiply(m2)),
+                () -> assertTrue(m1.multiply(m2) instanceof DiagonalMatrix),
+                () -> assertSame(m1, m1.multiply(new IdentityMatrix(3))),
+                () -> assertTrue(m1.multiply(new ZeroMatrix(3, 2)) instanceof ZeroMatrix),
+                () -> assertEquals(new AnySquareMatrix(new double[][]{{1, 2, 3}, {8, 10, 12}, {21, 24, 27}}), m1.multiply(m3)),
+                () -> assertEquals(new AnyRectangularMatrix(new double[]{1, 2, 6, 8, 15, 18}, 3, 2), m1.multiply(m4)),
+                () -> assertEquals(new DiagonalMatrix(new double[]{-1, -2, -3}), m1.getAdditiveInverse())
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package com.katpara.follium.linear.squares.fixed;
+
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.exceptions.linears.NotInvertibleException;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import com.katpara.follium.util.Rounding;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Fixed2x2MatrixTest {
+
+    @Test
+    void operations() {
+        var m1 = new Fixed2x2Matrix(1, 2, 3, 4);
+        var m2 = new Fixed2x2Matrix(new double[]{0, 1, 1, 0});
+
+        assertAll(
+                () -> assertEquals(new Fixed2x2Matrix(2, 1, 4, 3), m1.multiply(m2)),
+                () -> assertEquals(new Fixed2x2Matrix(1, 3, 2, 4), m1.getTransposed()),
+                () -> assertEquals(-2, m1.determinant()),
+                () -> assertEquals(new Fixed2x2Matrix(-2, 1, 1.5, -0.5), m1.getMultiplicativeInverse()),
+                () -> assertEquals(new AnySquareMatrix(new double[]{1, 3, 4, 4}), m1.add(m2)),
+                () -> assertEquals("|1.00 2.00|\n|3.00 4.00|\n", m1.toString(Rounding.Decimals.TWO)),
+                () -> assertThrows(NotInvertibleException.class, () -> new Fixed2x2Matrix(1, 2, 2, 4).getMultiplicativeInverse()),
+                () -> assertThrows(InvalidMatrixDimensionProvidedException.class, () -> new Fixed2x2Matrix(new double[3]))
+        );
+    }
+}
@@ -0,0 +1,57 @@
+package com.katpara.follium.linear.squares.fixed;
+
+import com.katpara.follium.exceptions.linears.NotInvertibleException;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Fixed3x3MatrixTest {
+
+    @Test
+    void multiply() {
+        var m1 = new Fixed3x3Matrix(1, 2, 3, 4, 5, 6, 7, 8, 9);
+        var m2 = new Fixed3x3Matrix(9, 8, 7, 6, 5, 4, 3, 2, 1);
+        var dst = new double[9];
+        m1.multiplyInto(m2, dst, 0);
+
+        assertAll(
+                () -> assertEquals(new AnySquareMatrix(new double[]{30, 24, 18, 84, 69, 54, 138, 114, 90}), m1.multiply(m2)),
+                () -> assertArrayEquals(new double[]{30, 24, 18, 84, 69, 54, 138, 114, 90}, dst),
+                () -> assertEquals(new Fixed3x3Matrix(1, 4, 7, 2, 5, 8, 3, 6, 9), m1.getTransposed())
+        );
+    }
+
+    @Test
+    void inverse() {
+        var m = new Fixed3x3Matrix(2, -1, 0, -1, 2, -1, 0, -1, 2);
+        var dst = new double[9];
+        m.inverseInto(dst, 0);
+
+        assertAll(
+                () -> assertEquals(4, m.determinant(), 1e-15),
+                () -> assertTrue(new Fixed3x3Matrix(0.75, 0.5, 0.25, 0.5, 1, 0.5, 0.25, 0.5, 0.75)
+                                         .approximatelyEquals(m.getMultiplicativeInverse(), 1e-15, 0)),
+                () -> assertTrue(m.multiply(new Fixed3x3Matrix(dst)).approximatelyEquals(new IdentityMatrix(3), 1e-15, 0)),
+                () -> assertTrue(m.isSymmetric()),
+                () -> assertEquals(2, new Fixed3x3Matrix(1, 2, 3, 4, 5, 6, 7, 8, 9).getRank()),
+                () -> assertThrows(NotInvertibleException.class,
+                        () -> new Fixed3x3Matrix(1, 2, 3, 2, 4, 6, 0, 0, 1).getMultiplicativeInverse())
+        );
+    }
+
+    @Test
+    void interoperate() {
+        Matrix m = new Fixed3x3Matrix(1, 0, 0, 0, 2, 0, 0, 0, 3);
+
+        assertAll(
+                () -> assertTrue(m.isDiagonal()),
+                () -> assertEquals(new AnySquareMatrix(new double[]{1, 0, 0, 0, 2, 0, 0, 0, 3}), m),
+                () -> assertEquals(new AnySquareMatrix(new double[]{0, 0, 0, 0, 0, 0, 0, 0, 0}), m.subtract(m)),
+                () -> assertEquals(new AnySquareMatrix(new double[]{-1, 0, 0, 0, -2, 0, 0, 0, -3}), m.getAdditiveInverse()),
+                () -> assertEquals(m, m.divide(new IdentityMatrix(3)))
+        );
+    }
+}
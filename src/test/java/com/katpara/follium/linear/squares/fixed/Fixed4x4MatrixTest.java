@@ -0,0 +1,125 @@
+package com.katpara.follium.linear.squares.fixed;
+
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.exceptions.linears.NotInvertibleException;
+import com.katpara.follium.exceptions.linears.RowOutOfBoundException;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Fixed4x4MatrixTest {
+
+    private static final double[] A = {
+            2, -1, 0, 3,
+            1, 4, -2, 0,
+            0, 5, 1, -1,
+            3, 0, 2, 6
+    };
+
+    private static final double[] B = {
+            1, 0, 2, -1,
+            3, 1, 0, 2,
+            -2, 4, 1, 0,
+            0, 1, 5, 3
+    };
+
+    @Test
+    void multiply() {
+        var m1 = new Fixed4x4Matrix(A);
+        var m2 = new Fixed4x4Matrix(B);
+        Matrix expected = new AnySquareMatrix(A.clone()).multiply(new AnySquareMatrix(B.clone()));
+
+        var dst = new double[20];
+        m1.multiplyInto(m2, dst, 4);
+        var into = new double[16];
+        System.arraycopy(dst, 4, into, 0, 16);
+
+        Matrix r = new AnyRectangularMatrix(new double[]{1, 2, 3, 4, 5, 6, 7, 8}, 4, 2);
+
+        assertAll(
+                () -> assertArrayEquals(expected.toArray(), m1.multiply(m2).toArray()),
+                () -> assertArrayEquals(expected.toArray(), into),
+                () -> assertEquals("Fixed4x4Matrix", m1.multiply((Matrix) m2).getClass().getSimpleName()),
+                () -> assertEquals(expected, m1.multiply(new AnySquareMatrix(B.clone()))),
+                () -> assertEquals(new AnySquareMatrix(A.clone()).multiply(r), m1.multiply(r)),
+                () -> assertSame(m1, m1.multiply(new IdentityMatrix(4))),
+                () -> assertThrows(MatrixDimensionMismatchException.class, () -> m1.multiply(new IdentityMatrix(3))),
+                () -> assertThrows(InvalidMatrixDimensionProvidedException.class, () -> m1.multiplyInto(m2, dst, 5))
+        );
+    }
+
+    @Test
+    void inverse() {
+        var m = new Fixed4x4Matrix(A);
+        var i = m.getMultiplicativeInverse();
+        var singular = new Fixed4x4Matrix(1, 2, 3, 4, 2, 4, 6, 8, 0, 1, 0, 1, 1, 0, 0, 1);
+
+        assertAll(
+                () -> assertTrue(m.multiply(i).approximatelyEquals(new IdentityMatrix(4), 1e-12, 0)),
+                () -> assertTrue(i.multiply(m).approximatelyEquals(new IdentityMatrix(4), 1e-12, 0)),
+                () -> assertEquals(1 / m.determinant(), i.determinant(), 1e-15),
+                () -> assertThrows(NotInvertibleException.class, singular::getMultiplicativeInverse),
+                () -> assertEquals(0, singular.determinant()),
+                () -> assertEquals(3, singular.getRank()),
+                () -> assertEquals(4, m.getRank()),
+                () -> assertTrue(m.power(-2).multiply(m.power(2)).approximatelyEquals(new IdentityMatrix(4), 1e-12, 0))
+        );
+    }
+
+    @Test
+    void determinant() {
+        var m = new Fixed4x4Matrix(A);
+
+        // the cofactor expansion along the first column
+        assertAll(
+                () -> assertEquals(new Fixed3x3Matrix(4, -2, 0, 5, 1, -1, 0, 2, 6).determinant() * 2
+                                           - new Fixed3x3Matrix(-1, 0, 3, 5, 1, -1, 0, 2, 6).determinant()
+                                           - new Fixed3x3Matrix(-1, 0, 3, 4, -2, 0, 5, 1, -1).determinant() * 3,
+                        m.determinant(), 1e-12),
+                () -> assertEquals(m.determinant(), m.getTransposed().determinant(), 1e-12)
+        );
+    }
+
+    @Test
+    void transposeAndAccess() {
+        var m = new Fixed4x4Matrix(A);
+        var t = m.getTransposed();
+        var dst = new double[16];
+        m.transposeInto(dst, 0);
+
+        assertAll(
+                () -> assertEquals(new AnySquareMatrix(A.clone()).getTransposed(), t),
+                () -> assertArrayEquals(t.toArray(), dst),
+                () -> assertEquals(-2, m.get(1, 2)),
+                () -> assertArrayEquals(new double[]{1, 4, -2, 0}, m.getRow(1)),
+                () -> assertArrayEquals(new double[]{3, 0, -1, 6}, m.getColumn(3)),
+                () -> assertArrayEquals(new double[]{2, 4, 1, 6}, m.getDiagonalEntries()),
+                () -> assertThrows(RowOutOfBoundException.class, () -> m.get(4, 0)),
+                () -> assertArrayEquals(new int[]{4, 4}, m.size()),
+                () -> assertFalse(m.isSymmetric()),
+                () -> assertTrue(m.add(t).isSymmetric())
+        );
+    }
+
+    @Test
+    void interoperate() {
+        var m = new Fixed4x4Matrix(A);
+        Matrix d = new AnySquareMatrix(A.clone());
+
+        assertAll(
+                () -> assertEquals(d, m),
+                () -> assertEquals(m, d),
+                () -> assertEquals(d.hashCode(), m.hashCode()),
+                () -> assertEquals(d.add(d), m.add(d)),
+                () -> assertEquals(d.add(d), m.add(m)),
+                () -> assertEquals("ZeroMatrix", d.subtract(m).getClass().getSimpleName()),
+                () -> assertEquals(new IdentityMatrix(4), m.power(0)),
+                () -> assertEquals(m.multiply(m).multiply(m), m.power(3))
+        );
+    }
+}
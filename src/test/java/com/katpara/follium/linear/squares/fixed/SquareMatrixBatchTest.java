@@ -0,0 +1,123 @@
+package com.katpara.follium.linear.squares.fixed;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.exceptions.linears.NotInvertibleException;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SquareMatrixBatchTest {
+
+    private static SquareMatrixBatch random(final int n, final int N, final long seed) {
+        var b = new SquareMatrixBatch(n, N);
+        var r = new Random(seed);
+        var d = b.array();
+        for (int i = 0; i < d.length; i++)
+            d[i] = r.nextDouble() * 2 - 1;
+
+        return b;
+    }
+
+    @Test
+    void multiply() {
+        var a = random(6, 300, 1);
+        var b = random(6, 300, 2);
+        var c = a.multiply(b);
+        var p = a.parallel().multiply(b);
+
+        for (int k = 0; k < 300; k += 37) {
+            Matrix expected = new AnySquareMatrix(a.get(k).toArray()).multiply(new AnySquareMatrix(b.get(k).toArray()));
+            assertTrue(c.get(k).approximatelyEquals(expected, 1e-12, 0));
+        }
+        assertArrayEquals(c.toArray(), p.toArray());
+        assertTrue(p.isParallel());
+    }
+
+    @Test
+    void transpose() {
+        var a = random(4, 130, 3);
+        var t = a.getTransposed();
+        var d = a.toArray();
+        a.transposeInto(a);
+
+        assertAll(
+                () -> assertEquals(a.get(129).getTransposed(), new AnySquareMatrix(new SquareMatrixBatch(4, 130, d).get(129).toArray())),
+                () -> assertEquals(t.get(7), a.get(7)),
+                () -> assertEquals(d[1 * 130 + 5], t.get(5, 1, 0))
+        );
+    }
+
+    @Test
+    void determinants() {
+        var a = random(4, 200, 4);
+        a.set(10, new AnySquareMatrix(new double[]{1, 2, 3, 4, 2, 4, 6, 8, 0, 1, 0, 1, 5, 0, 2, 1}));
+        var det = a.determinants();
+        var p = a.parallel().determinants();
+
+        for (int k = 0; k < 200; k += 19)
+            assertEquals(new Fixed4x4Matrix(a.get(k).toArray()).determinant(), det[k], 1e-12);
+        assertEquals(0, det[10]);
+        assertArrayEquals(det, p);
+        assertThrows(InvalidMatrixDimensionProvidedException.class, () -> a.determinantsInto(new double[199]));
+    }
+
+    @Test
+    void inverse() {
+        var a = random(6, 260, 5);
+        a.set(3, new AnySquareMatrix(new double[36]));
+        var i = a.getMultiplicativeInverse();
+        var p = a.parallel().getMultiplicativeInverse();
+        var x = a.multiply(i);
+
+        for (int k = 0; k < 260; k += 23)
+            if (k != 3) assertTrue(x.get(k).approximatelyEquals(new IdentityMatrix(6), 1e-9, 0));
+        for (final double v : i.get(3).toArray())
+            assertTrue(Double.isNaN(v));
+        assertArrayEquals(i.toArray(), p.toArray());
+
+        a.inverseInto(a);
+        assertArrayEquals(i.toArray(), a.toArray());
+    }
+
+    @Test
+    void get() {
+        var a = new SquareMatrixBatch(3, 5);
+        var v = a.get(2);
+        var z = a.copy(2);
+        var h = v.hashCode();
+        a.set(2, new AnySquareMatrix(new double[]{2, 0, 1, 1, 3, 0, 0, 1, 4}));
+        a.set(2, 0, 1, 5);
+        var c = a.copy(2);
+        a.toArray()[0] = 7;
+        var m = new AnySquareMatrix(new double[]{2, 5, 1, 1, 3, 0, 0, 1, 4});
+
+        assertAll(
+                () -> assertEquals(new ZeroMatrix(3), z),
+                () -> assertEquals(h, z.hashCode()),
+                () -> assertEquals(0, a.get(0, 0, 0)),
+                () -> assertEquals(m, v),
+                () -> assertEquals(m, c),
+                () -> assertEquals(m.hashCode(), v.hashCode()),
+                () -> assertTrue(v.isView()),
+                () -> assertFalse(c.isView()),
+                () -> assertNotSame(v, v.compact()),
+                () -> assertSame(c, c.compact()),
+                () -> assertEquals(5, v.get(0, 1)),
+                () -> assertEquals(2 * 12 - 5 * 4 + 1, v.determinant(), 1e-12),
+                () -> assertTrue(v.multiply(v.getMultiplicativeInverse()).approximatelyEquals(new IdentityMatrix(3), 1e-12, 0)),
+                () -> assertThrows(NotInvertibleException.class, () -> a.get(0).getMultiplicativeInverse()),
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> a.get(5)),
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> a.copy(5)),
+                () -> assertThrows(MatrixDimensionMismatchException.class, () -> a.multiply(new SquareMatrixBatch(3, 4))),
+                () -> assertThrows(InvalidMatrixDimensionProvidedException.class, () -> new SquareMatrixBatch(3, 2, new double[17]))
+        );
+    }
+}
@@ -0,0 +1,107 @@
+package com.katpara.follium.linear.squares.permutations;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.linear.DenseVector;
+import com.katpara.follium.linear.MatrixOperations;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import com.katpara.follium.linear.squares.PermutationMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PermutationMatrixTest {
+
+    @Test
+    void constructor() {
+        var m = new PermutationMatrix(new int[]{2, 0, 1});
+
+        assertAll(
+                () -> assertThrows(InvalidMatrixDimensionProvidedException.class, () -> new PermutationMatrix(new int[0])),
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> new PermutationMatrix(new int[]{0, 0, 1})),
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> new PermutationMatrix(new int[]{0, 3, 1})),
+                () -> assertArrayEquals(new double[]{0, 0, 1, 1, 0, 0, 0, 1, 0}, m.toArray()),
+                () -> assertEquals(1, m.get(0, 2)),
+                () -> assertEquals(0, m.get(2, 0)),
+                () -> assertArrayEquals(new double[]{1, 0, 0}, m.getRow(1)),
+                () -> assertArrayEquals(new double[]{0, 0, 1}, m.getColumn(1)),
+                () -> assertArrayEquals(new double[]{0, 0, 0}, m.getDiagonalEntries()),
+                () -> assertEquals(new AnySquareMatrix(m.toArray()), m),
+                () -> assertEquals(new AnySquareMatrix(m.toArray()).hashCode(), m.hashCode()),
+                () -> assertEquals(new IdentityMatrix(3), new PermutationMatrix(new int[]{0, 1, 2})),
+                () -> assertEquals(3, m.getRank()),
+                () -> assertFalse(new PermutationMatrix(new int[]{0}).isRowVector()),
+                () -> assertFalse(new PermutationMatrix(new int[]{0}).isColumnVector())
+        );
+    }
+
+    @Test
+    void properties() {
+        var m = new PermutationMatrix(new int[]{2, 0, 1, 4, 3});
+        var s = new PermutationMatrix(new int[]{1, 0, 3, 2});
+
+        assertAll(
+                () -> assertFalse(m.isSymmetric()),
+                () -> assertTrue(s.isSymmetric()),
+                () -> assertFalse(s.isLowerTriangular() || s.isUpperTriangular() || s.isDiagonal()),
+                () -> assertTrue(new PermutationMatrix(new int[]{0, 1}).isDiagonal()),
+                () -> assertEquals(-1, m.determinantSign()),
+                () -> assertEquals(1, s.determinant()),
+                () -> assertEquals(new AnySquareMatrix(m.toArray()).determinant(), m.determinant(), 1e-15),
+                () -> assertEquals(0, m.logAbsDeterminant())
+        );
+    }
+
+    @Test
+    void inverse() {
+        var m = new PermutationMatrix(new int[]{3, 0, 4, 1, 2});
+
+        assertAll(
+                () -> assertTrue(m.getTransposed() instanceof PermutationMatrix),
+                () -> assertEquals(new AnySquareMatrix(m.toArray()).getTransposed(), m.getTransposed()),
+                () -> assertEquals(m.getTransposed(), m.getMultiplicativeInverse()),
+                () -> assertEquals(new IdentityMatrix(5), m.multiply(m.getMultiplicativeInverse())),
+                () -> assertEquals(new IdentityMatrix(5), m.power(6)),
+                () -> assertEquals(m.getTransposed(), m.power(-1)),
+                () -> assertEquals(new IdentityMatrix(5), m.divide(m))
+        );
+    }
+
+    @Test
+    void multiply() {
+        var r = new Random(1);
+        var m = new PermutationMatrix(new int[]{3, 0, 4, 1, 2});
+        var n = new PermutationMatrix(new int[]{1, 2, 0, 4, 3});
+        var dm = new AnySquareMatrix(m.toArray());
+        var a = new AnySquareMatrix(r.doubles(25).toArray());
+        var b = new AnyRectangularMatrix(r.doubles(10).toArray(), 5, 2);
+        var x = new DenseVector(r.doubles(5).toArray());
+
+        assertAll(
+                () -> assertThrows(MatrixDimensionMismatchException.class, () -> m.multiply(new IdentityMatrix(2))),
+                () -> assertSame(m, m.multiply(new IdentityMatrix(5))),
+                () -> assertTrue(m.multiply(new ZeroMatrix(5, 2)) instanceof ZeroMatrix),
+                () -> assertTrue(m.multiply(n) instanceof PermutationMatrix),
+                () -> assertEquals(dm.multiply(new AnySquareMatrix(n.toArray())), m.multiply(n)),
+                () -> assertEquals(dm.multiply(a), m.multiply(a)),
+                () -> assertEquals(dm.multiply(b), m.multiply(b)),
+                () -> assertEquals(a.multiply(dm), a.multiply(m)),
+                () -> assertEquals(a.multiply(dm.getTransposed()), a.divide(m)),
+                () -> assertEquals(dm.add(a), m.add(a)),
+                () -> assertEquals(dm.subtract(a), m.subtract(a)),
+                () -> assertEquals(dm.getAdditiveInverse(), m.getAdditiveInverse()),
+                () -> assertArrayEquals(MatrixOperations.multiplyInto(dm, x, new DenseVector(5)).toArray(),
+                        MatrixOperations.multiplyInto(m, x, new DenseVector(5)).toArray(), 0),
+                () -> assertArrayEquals(MatrixOperations.multiplyTransposedInto(dm, x, new DenseVector(5)).toArray(),
+                        MatrixOperations.multiplyTransposedInto(m, x, new DenseVector(5)).toArray(), 0),
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> m.multiplyInto(x, x)),
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> m.multiplyTransposedInto(x, x))
+        );
+    }
+}
@@ -0,0 +1,121 @@
+package com.katpara.follium.linear.squares.symmetrics;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.linear.DenseVector;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.MatrixOperations;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.linear.solvers.ConjugateGradientSolver;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+import com.katpara.follium.linear.squares.SymmetricMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SymmetricMatrixTest {
+
+    @Test
+    void constructor() {
+        var m = new SymmetricMatrix(new double[][]{{1, 2, 4}, {2, 3, 5}, {4, 5, 6}});
+
+        var e = new double[]{1, 2, 3};
+        var c = new SymmetricMatrix(e);
+        e[0] = 7;
+
+        assertAll(
+                () -> assertEquals(1, c.get(0, 0)),
+                () -> assertThrows(InvalidMatrixDimensionProvidedException.class, () -> new SymmetricMatrix(new double[2])),
+                () -> assertThrows(InvalidParameterProvidedException.class,
+                        () -> new SymmetricMatrix(new double[][]{{1, 2}, {3, 4}})),
+                () -> assertEquals(new SymmetricMatrix(new double[]{1, 2, 3, 4, 5, 6}), m),
+                () -> assertArrayEquals(new double[]{1, 2, 4, 2, 3, 5, 4, 5, 6}, m.toArray()),
+                () -> assertEquals(5, m.get(1, 2)),
+                () -> assertEquals(5, m.get(2, 1)),
+                () -> assertArrayEquals(new double[]{2, 3, 5}, m.getRow(1)),
+                () -> assertArrayEquals(new double[]{2, 3, 5}, m.getColumn(1)),
+                () -> assertArrayEquals(new double[]{1, 3, 6}, m.getDiagonalEntries()),
+                () -> assertTrue(m.isSymmetric()),
+                () -> assertFalse(m.isLowerTriangular()),
+                () -> assertSame(m, m.getTransposed()),
+                () -> assertEquals(new AnySquareMatrix(m.toArray()).hashCode(), m.hashCode()),
+                () -> assertEquals(new AnySquareMatrix(m.toArray()).determinant(), m.determinant(), 1e-12),
+                () -> assertEquals(3, m.getRank())
+        );
+    }
+
+    @Test
+    void rankUpdate() {
+        var r = new Random(1);
+        var a = new AnyRectangularMatrix(r.doubles(300 * 7).toArray(), 300, 7);
+        var b = new AnyRectangularMatrix(r.doubles(70 * 90).toArray(), 70, 90);
+
+        assertAll(
+                () -> assertTrue(a.getTransposed().multiply(a).approximatelyEquals(SymmetricMatrix.transposeTimes(a), 1e-12, 1e-12)),
+                () -> assertTrue(a.multiply(a.getTransposed()).approximatelyEquals(SymmetricMatrix.timesTranspose(a), 1e-12, 1e-12)),
+                () -> assertTrue(b.getTransposed().multiply(b).approximatelyEquals(SymmetricMatrix.transposeTimes(b), 1e-12, 1e-12)),
+                () -> assertTrue(b.multiply(b.getTransposed()).approximatelyEquals(SymmetricMatrix.timesTranspose(b), 1e-12, 1e-12))
+        );
+    }
+
+    @Test
+    void multiply() {
+        var r = new Random(2);
+        var m = SymmetricMatrix.timesTranspose(new AnyRectangularMatrix(r.doubles(9 * 4).toArray(), 9, 4));
+        var dm = new AnySquareMatrix(m.toArray());
+        var b = new AnyRectangularMatrix(r.doubles(9 * 3).toArray(), 9, 3);
+        var x = new DenseVector(r.doubles(9).toArray());
+        var v = new double[9];
+
+        assertAll(
+                () -> assertThrows(MatrixDimensionMismatchException.class, () -> m.multiply(new IdentityMatrix(2))),
+                () -> assertSame(m, m.multiply(new IdentityMatrix(9))),
+                () -> assertTrue(m.multiply(new ZeroMatrix(9, 2)) instanceof ZeroMatrix),
+                () -> assertTrue(dm.multiply(b).approximatelyEquals(m.multiply(b), 1e-12, 1e-12)),
+                () -> assertTrue(dm.multiply(dm).approximatelyEquals(m.multiply(m), 1e-12, 1e-12)),
+                () -> assertArrayEquals(MatrixOperations.multiplyInto(dm, x, new DenseVector(9)).toArray(),
+                        MatrixOperations.multiplyInto(m, x, new DenseVector(9)).toArray(), 1e-12),
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> m.multiplyInto(x, x)),
+                () -> assertThrows(InvalidParameterProvidedException.class,
+                        () -> m.multiplyInto(new DenseVector(v), new DenseVector(v))),
+                () -> assertTrue(m.power(3) instanceof SymmetricMatrix),
+                () -> assertTrue(dm.multiply(dm).multiply(dm).approximatelyEquals(m.power(3), 1e-10, 1e-10))
+        );
+    }
+
+    @Test
+    void addAndInverse() {
+        var m = new SymmetricMatrix(new double[]{4, 1, 5, 2, 1, 6});
+        var d = new DiagonalMatrix(new double[]{1, 2, 3});
+        Matrix inverse = m.getMultiplicativeInverse();
+
+        assertAll(
+                () -> assertTrue(m.add(m) instanceof SymmetricMatrix),
+                () -> assertEquals(new SymmetricMatrix(new double[]{5, 1, 7, 2, 1, 9}), m.add(d)),
+                () -> assertEquals(new SymmetricMatrix(new double[]{3, 1, 3, 2, 1, 3}), m.subtract(d)),
+                () -> assertEquals(new AnySquareMatrix(new double[][]{{5, 2, 3}, {2, 6, 2}, {3, 2, 7}}),
+                        m.add(new AnySquareMatrix(new double[][]{{1, 1, 1}, {1, 1, 1}, {1, 1, 1}}))),
+                () -> assertTrue(m.subtract(m) instanceof ZeroMatrix),
+                () -> assertEquals(new SymmetricMatrix(new double[]{-4, -1, -5, -2, -1, -6}), m.getAdditiveInverse()),
+                () -> assertTrue(inverse instanceof SymmetricMatrix),
+                () -> assertTrue(m.multiply(inverse).approximatelyEquals(new IdentityMatrix(3), 1e-12, 1e-12))
+        );
+    }
+
+    @Test
+    void solve() {
+        var r = new Random(3);
+        var a = new AnyRectangularMatrix(r.doubles(80 * 40).toArray(), 80, 40);
+        var g = SymmetricMatrix.transposeTimes(a);
+        var b = new DenseVector(r.doubles(40).toArray());
+        var x = new ConjugateGradientSolver(1e-12, 200).solve(g, b).getSolution();
+
+        assertArrayEquals(b.toArray(), g.multiplyInto(x, new DenseVector(40)).toArray(), 1e-8);
+    }
+}
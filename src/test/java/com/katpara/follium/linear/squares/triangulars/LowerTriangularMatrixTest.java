@@ -0,0 +1,164 @@
+package com.katpara.follium.linear.squares.triangulars;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.exceptions.linears.InvalidMatrixDimensionProvidedException;
+import com.katpara.follium.exceptions.linears.MatrixDimensionMismatchException;
+import com.katpara.follium.exceptions.linears.NotInvertibleException;
+import com.katpara.follium.linear.DenseVector;
+import com.katpara.follium.linear.MatrixOperations;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.constants.ZeroMatrix;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+import com.katpara.follium.linear.squares.LowerTriangularMatrix;
+import com.katpara.follium.linear.squares.UpperTriangularMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LowerTriangularMatrixTest {
+
+    /**
+     * The method returns a random well conditioned lower triangular matrix.
+     *
+     * @param n    the dimension
+     * @param seed the seed
+     *
+     * @return the matrix
+     */
+    static LowerTriangularMatrix random(final int n, final long seed) {
+        var r = new Random(seed);
+        var p = new double[n * (n + 1) / 2];
+        for (int i = 0, k = 0; i < n; i++) {
+            for (int j = 0; j <= i; j++, k++)
+                p[k] = (i == j) ? 2 + r.nextDouble() : r.nextDouble() - 0.5;
+        }
+
+        return new LowerTriangularMatrix(p);
+    }
+
+    @Test
+    void constructor() {
+        var m = new LowerTriangularMatrix(new double[][]{{1, 0, 0}, {2, 3, 0}, {4, 5, 6}});
+
+        var e = new double[]{1, 2, 3};
+        var c = new LowerTriangularMatrix(e);
+        e[0] = 7;
+
+        assertAll(
+                () -> assertEquals(1, c.get(0, 0)),
+                () -> assertThrows(InvalidMatrixDimensionProvidedException.class, () -> new LowerTriangularMatrix(new double[0])),
+                () -> assertThrows(InvalidMatrixDimensionProvidedException.class, () -> new LowerTriangularMatrix(new double[4])),
+                () -> assertThrows(InvalidParameterProvidedException.class,
+                        () -> new LowerTriangularMatrix(new double[][]{{1, 2}, {3, 4}})),
+                () -> assertArrayEquals(new int[]{3, 3}, m.size()),
+                () -> assertEquals(new LowerTriangularMatrix(new double[]{1, 2, 3, 4, 5, 6}), m),
+                () -> assertArrayEquals(new double[]{1, 0, 0, 2, 3, 0, 4, 5, 6}, m.toArray()),
+                () -> assertEquals(5, m.get(2, 1)),
+                () -> assertEquals(0, m.get(1, 2)),
+                () -> assertArrayEquals(new double[]{2, 3, 0}, m.getRow(1)),
+                () -> assertArrayEquals(new double[]{0, 3, 5}, m.getColumn(1)),
+                () -> assertArrayEquals(new double[]{1, 3, 6}, m.getDiagonalEntries()),
+                () -> assertEquals(m, LowerTriangularMatrix.of(new AnySquareMatrix(m.toArray()))),
+                () -> assertEquals(new AnySquareMatrix(m.toArray()).hashCode(), m.hashCode())
+        );
+    }
+
+    @Test
+    void properties() {
+        var m = new LowerTriangularMatrix(new double[]{1, 2, 3, 4, 5, 6});
+        var d = new LowerTriangularMatrix(new double[]{1, 0, 3});
+
+        assertAll(
+                () -> assertTrue(m.isLowerTriangular()),
+                () -> assertFalse(m.isUpperTriangular()),
+                () -> assertFalse(m.isSymmetric()),
+                () -> assertFalse(m.isDiagonal()),
+                () -> assertTrue(d.isDiagonal() && d.isUpperTriangular() && d.isSymmetric()),
+                () -> assertEquals(18, m.determinant()),
+                () -> assertEquals(Math.log(18), m.logAbsDeterminant(), 1e-15),
+                () -> assertEquals(1, m.determinantSign()),
+                () -> assertEquals(3, m.getRank())
+        );
+    }
+
+    @Test
+    void transpose() {
+        var m = new LowerTriangularMatrix(new double[]{1, 2, 3, 4, 5, 6});
+        var t = m.getTransposed();
+
+        assertAll(
+                () -> assertTrue(t instanceof UpperTriangularMatrix),
+                () -> assertEquals(new AnySquareMatrix(m.toArray()).getTransposed(), t),
+                () -> assertEquals(m, t.getTransposed())
+        );
+    }
+
+    @Test
+    void add() {
+        var m = new LowerTriangularMatrix(new double[]{1, 2, 3, 4, 5, 6});
+        var o = new AnySquareMatrix(new double[][]{{1, 1, 1}, {1, 1, 1}, {1, 1, 1}});
+
+        assertAll(
+                () -> assertThrows(MatrixDimensionMismatchException.class, () -> m.add(new IdentityMatrix(2))),
+                () -> assertSame(m, m.add(new ZeroMatrix(3))),
+                () -> assertTrue(m.add(m) instanceof LowerTriangularMatrix),
+                () -> assertEquals(new LowerTriangularMatrix(new double[]{2, 4, 6, 8, 10, 12}), m.add(m)),
+                () -> assertEquals(new LowerTriangularMatrix(new double[]{2, 2, 4, 4, 5, 7}), m.add(new IdentityMatrix(3))),
+                () -> assertEquals(new AnySquareMatrix(new double[][]{{2, 1, 1}, {3, 4, 1}, {5, 6, 7}}), m.add(o)),
+                () -> assertEquals(new AnySquareMatrix(new double[][]{{0, -1, -1}, {1, 2, -1}, {3, 4, 5}}), m.subtract(o)),
+                () -> assertTrue(m.subtract(m) instanceof ZeroMatrix),
+                () -> assertEquals(new LowerTriangularMatrix(new double[]{-1, -2, -3, -4, -5, -6}), m.getAdditiveInverse())
+        );
+    }
+
+    @Test
+    void multiply() {
+        var m = random(7, 1);
+        var n = random(7, 2);
+        var dm = new AnySquareMatrix(m.toArray());
+        var b = new AnyRectangularMatrix(new Random(3).doubles(14).toArray(), 7, 2);
+        var d = new DiagonalMatrix(new double[]{1, 2, 3, 4, 5, 6, 7});
+        var x = new DenseVector(new Random(4).doubles(7).toArray());
+
+        assertAll(
+                () -> assertThrows(MatrixDimensionMismatchException.class, () -> m.multiply(new IdentityMatrix(2))),
+                () -> assertSame(m, m.multiply(new IdentityMatrix(7))),
+                () -> assertTrue(m.multiply(new ZeroMatrix(7, 2)) instanceof ZeroMatrix),
+                () -> assertTrue(m.multiply(n) instanceof LowerTriangularMatrix),
+                () -> assertTrue(dm.multiply(new AnySquareMatrix(n.toArray())).approximatelyEquals(m.multiply(n), 1e-12, 1e-12)),
+                () -> assertTrue(m.multiply(d) instanceof LowerTriangularMatrix),
+                () -> assertTrue(dm.multiply(new AnySquareMatrix(d.toArray())).approximatelyEquals(m.multiply(d), 1e-12, 1e-12)),
+                () -> assertTrue(dm.multiply(b).approximatelyEquals(m.multiply(b), 1e-12, 1e-12)),
+                () -> assertTrue(dm.multiply(dm).multiply(dm).approximatelyEquals(m.power(3), 1e-12, 1e-12)),
+                () -> assertArrayEquals(MatrixOperations.multiplyInto(dm, x, new DenseVector(7)).toArray(),
+                        MatrixOperations.multiplyInto(m, x, new DenseVector(7)).toArray(), 1e-12),
+                () -> assertArrayEquals(MatrixOperations.multiplyTransposedInto(dm, x, new DenseVector(7)).toArray(),
+                        MatrixOperations.multiplyTransposedInto(m, x, new DenseVector(7)).toArray(), 1e-12),
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> m.multiplyInto(x, x)),
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> m.multiplyTransposedInto(x, x))
+        );
+    }
+
+    @Test
+    void solve() {
+        var m = random(20, 4);
+        var b = new AnyRectangularMatrix(new Random(5).doubles(60).toArray(), 20, 3);
+        var x = m.solve(b);
+        var v = new DenseVector(b.getColumn(1));
+
+        assertAll(
+                () -> assertThrows(MatrixDimensionMismatchException.class, () -> m.solve(new DenseVector(3))),
+                () -> assertThrows(NotInvertibleException.class,
+                        () -> new LowerTriangularMatrix(new double[]{1, 2, 0}).solve(new DenseVector(1, 1))),
+                () -> assertTrue(m.multiply(x).approximatelyEquals(b, 1e-12, 1e-12)),
+                () -> assertArrayEquals(x.getColumn(1), m.solve(v).toArray(), 1e-12),
+                () -> assertTrue(m.getMultiplicativeInverse() instanceof LowerTriangularMatrix),
+                () -> assertTrue(m.multiply(m.getMultiplicativeInverse()).approximatelyEquals(new IdentityMatrix(20), 1e-12, 1e-12)),
+                () -> assertTrue(m.divide(m).approximatelyEquals(new IdentityMatrix(20), 1e-12, 1e-12))
+        );
+    }
+}
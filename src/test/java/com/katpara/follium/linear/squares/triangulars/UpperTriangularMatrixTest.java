@@ -0,0 +1,87 @@
+package com.katpara.follium.linear.squares.triangulars;
+
+import com.katpara.follium.exceptions.InvalidParameterProvidedException;
+import com.katpara.follium.linear.DenseVector;
+import com.katpara.follium.linear.MatrixOperations;
+import com.katpara.follium.linear.Matrix;
+import com.katpara.follium.linear.constants.IdentityMatrix;
+import com.katpara.follium.linear.rectangulars.AnyRectangularMatrix;
+import com.katpara.follium.linear.squares.AnySquareMatrix;
+import com.katpara.follium.linear.squares.DiagonalMatrix;
+import com.katpara.follium.linear.squares.LowerTriangularMatrix;
+import com.katpara.follium.linear.squares.UpperTriangularMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpperTriangularMatrixTest {
+
+    @Test
+    void constructor() {
+        var m = new UpperTriangularMatrix(new double[][]{{1, 2, 4}, {0, 3, 5}, {0, 0, 6}});
+
+        var e = new double[]{1, 2, 3};
+        var c = new UpperTriangularMatrix(e);
+        e[0] = 7;
+
+        assertAll(
+                () -> assertEquals(1, c.get(0, 0)),
+                () -> assertThrows(InvalidParameterProvidedException.class,
+                        () -> new UpperTriangularMatrix(new double[][]{{1, 2}, {3, 4}})),
+                () -> assertEquals(new UpperTriangularMatrix(new double[]{1, 2, 3, 4, 5, 6}), m),
+                () -> assertArrayEquals(new double[]{1, 2, 4, 0, 3, 5, 0, 0, 6}, m.toArray()),
+                () -> assertEquals(5, m.get(1, 2)),
+                () -> assertEquals(0, m.get(2, 1)),
+                () -> assertArrayEquals(new double[]{0, 3, 5}, m.getRow(1)),
+                () -> assertArrayEquals(new double[]{2, 3, 0}, m.getColumn(1)),
+                () -> assertTrue(m.isUpperTriangular()),
+                () -> assertFalse(m.isLowerTriangular()),
+                () -> assertEquals(18, m.determinant()),
+                () -> assertEquals(new AnySquareMatrix(m.toArray()).hashCode(), m.hashCode()),
+                () -> assertTrue(m.getTransposed() instanceof LowerTriangularMatrix)
+        );
+    }
+
+    @Test
+    void multiply() {
+        var m = (UpperTriangularMatrix) LowerTriangularMatrixTest.random(7, 6).getTransposed();
+        var n = (UpperTriangularMatrix) LowerTriangularMatrixTest.random(7, 7).getTransposed();
+        var dm = new AnySquareMatrix(m.toArray());
+        var b = new AnyRectangularMatrix(new Random(8).doubles(21).toArray(), 7, 3);
+        var d = new DiagonalMatrix(new double[]{1, 2, 3, 4, 5, 6, 7});
+        var x = new DenseVector(new Random(9).doubles(7).toArray());
+
+        assertAll(
+                () -> assertTrue(m.multiply(n) instanceof UpperTriangularMatrix),
+                () -> assertTrue(dm.multiply(new AnySquareMatrix(n.toArray())).approximatelyEquals(m.multiply(n), 1e-12, 1e-12)),
+                () -> assertTrue(m.multiply(d) instanceof UpperTriangularMatrix),
+                () -> assertTrue(dm.multiply(new AnySquareMatrix(d.toArray())).approximatelyEquals(m.multiply(d), 1e-12, 1e-12)),
+                () -> assertTrue(dm.multiply(b).approximatelyEquals(m.multiply(b), 1e-12, 1e-12)),
+                () -> assertTrue(m.add(n) instanceof UpperTriangularMatrix),
+                () -> assertFalse(m.add(n.getTransposed()) instanceof UpperTriangularMatrix),
+                () -> assertArrayEquals(MatrixOperations.multiplyInto(dm, x, new DenseVector(7)).toArray(),
+                        MatrixOperations.multiplyInto(m, x, new DenseVector(7)).toArray(), 1e-12),
+                () -> assertArrayEquals(MatrixOperations.multiplyTransposedInto(dm, x, new DenseVector(7)).toArray(),
+                        MatrixOperations.multiplyTransposedInto(m, x, new DenseVector(7)).toArray(), 1e-12),
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> m.multiplyInto(x, x)),
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> m.multiplyTransposedInto(x, x))
+        );
+    }
+
+    @Test
+    void solve() {
+        var m = (UpperTriangularMatrix) LowerTriangularMatrixTest.random(20, 9).getTransposed();
+        var b = new AnyRectangularMatrix(new Random(10).doubles(60).toArray(), 20, 3);
+        Matrix x = m.solve(b);
+        var v = new DenseVector(b.getColumn(2));
+
+        assertAll(
+                () -> assertTrue(m.multiply(x).approximatelyEquals(b, 1e-12, 1e-12)),
+                () -> assertArrayEquals(x.getColumn(2), m.solve(v).toArray(), 1e-12),
+                () -> assertTrue(m.getMultiplicativeInverse() instanceof UpperTriangularMatrix),
+                () -> assertTrue(m.getMultiplicativeInverse().multiply(m).approximatelyEquals(new IdentityMatrix(20), 1e-12, 1e-12))
+        );
+    }
+}